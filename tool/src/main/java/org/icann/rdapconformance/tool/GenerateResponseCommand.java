@@ -0,0 +1,82 @@
+package org.icann.rdapconformance.tool;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import org.icann.rdapconformance.validator.generator.RDAPResponseGenerator;
+import org.icann.rdapconformance.validator.generator.RDAPResponseGenerator.GeneratedResponse;
+import org.icann.rdapconformance.validator.generator.RDAPResponseGenerator.ResponseType;
+import org.icann.rdapconformance.validator.generator.Violation;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(name = "generate", mixinStandardHelpOptions = true,
+    description = "Generate a synthetic RDAP response, optionally with injected violations")
+public class GenerateResponseCommand implements Callable<Integer> {
+
+  @Option(names = {"--type"}, description = "Response type: ${COMPLETION-CANDIDATES}",
+      defaultValue = "DOMAIN")
+  ResponseType type = ResponseType.DOMAIN;
+  @Option(names = {"--entities"}, description = "Number of entities at each nesting level",
+      defaultValue = "5")
+  int entities = 5;
+  @Option(names = {"--entity-depth"}, description = "Nesting depth of the entities",
+      defaultValue = "2")
+  int entityDepth = 2;
+  @Option(names = {"--vcard-properties"},
+      description = "Number of vCard properties in addition to version and fn", defaultValue = "4")
+  int vcardProperties = 4;
+  @Option(names = {"--events"}, description = "Number of events per object", defaultValue = "3")
+  int events = 3;
+  @Option(names = {"--nameservers"}, description = "Number of nameservers in a domain",
+      defaultValue = "4")
+  int nameservers = 4;
+  @Option(names = {"--search-results"},
+      description = "Number of nameservers in a nameservers search", defaultValue = "100")
+  int searchResults = 100;
+  @Option(names = {"--violation-rate"},
+      description = "Probability that each event, entity or nameserver gets a violation",
+      defaultValue = "0")
+  double violationRate = 0;
+  @Option(names = {"--violations"}, split = ",",
+      description = "Violations to inject: ${COMPLETION-CANDIDATES} (default: all)")
+  Set<Violation> violations = EnumSet.allOf(Violation.class);
+  @Option(names = {"--seed"}, description = "Random seed", defaultValue = "0")
+  long seed = 0;
+  @Option(names = {"-o", "--output"}, description = "Output file (default: standard output)")
+  Path output;
+  PrintStream out = System.out;
+  PrintStream err = System.err;
+
+  @Override
+  public Integer call() throws IOException {
+    GeneratedResponse response = RDAPResponseGenerator.builder()
+        .type(type)
+        .entities(entities)
+        .entityDepth(entityDepth)
+        .vcardProperties(vcardProperties)
+        .events(events)
+        .nameservers(nameservers)
+        .searchResults(searchResults)
+        .violationRate(violationRate)
+        .violations(violations)
+        .seed(seed)
+        .build()
+        .generate();
+
+    String json = response.getJson().toString(2);
+    if (output == null) {
+      out.println(json);
+    } else {
+      Files.writeString(output, json, StandardCharsets.UTF_8);
+    }
+    response.getViolations().forEach((violation, count) ->
+        err.println(violation + " (" + violation.getExpectedCode() + "): " + count));
+    return 0;
+  }
+}
@@ -1,12 +1,29 @@
 package org.icann.rdapconformance.tool;
 
+import java.util.Arrays;
 import picocli.CommandLine;
 
 public class Main {
 
   public static void main(String[] args) {
-    int exitCode = new CommandLine(new RdapConformanceTool()).execute(args);
+    int exitCode = execute(args);
     System.exit(exitCode);
   }
 
+  /**
+   * The generate and sweep commands are dispatched separately since the validation command
+   * requires a URI.
+   */
+  static int execute(String[] args) {
+    if (args.length > 0 && args[0].equals("generate")) {
+      return new CommandLine(new GenerateResponseCommand())
+          .execute(Arrays.copyOfRange(args, 1, args.length));
+    }
+    if (args.length > 0 && args[0].equals("sweep")) {
+      return new CommandLine(new SweepCommand())
+          .execute(Arrays.copyOfRange(args, 1, args.length));
+    }
+    return new CommandLine(new RdapConformanceTool()).execute(args);
+  }
+
 }
@@ -4,9 +4,12 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import java.io.File;
 import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.Callable;
 import org.apache.commons.lang3.SystemUtils;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.jfr.RDAPFlightRecording;
 import org.icann.rdapconformance.validator.workflow.FileSystem;
 import org.icann.rdapconformance.validator.workflow.LocalFileSystem;
 import org.icann.rdapconformance.validator.workflow.ValidatorWorkflow;
@@ -42,6 +45,58 @@ public class RdapConformanceTool implements RDAPValidatorConfiguration, Callable
   private RDAPQueryType queryType;
   @Option(names = {"-v", "--verbose"}, description = "display all logs")
   private boolean isVerbose = false;
+  @Option(names = {"--metrics"},
+      description = "Record timing and allocation metrics in the results file",
+      defaultValue = "false")
+  private boolean recordMetrics = false;
+  @Option(names = {"--ndjson-results"},
+      description = "Write the results file as newline-delimited JSON, one line per result",
+      defaultValue = "false")
+  private boolean useNdjsonResults = false;
+  @Option(names = {"--max-result-value-length"}, paramLabel = "CHARS",
+      description = "Truncate longer result values in the results file, 0 for no limit "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "0")
+  private int maxResultValueLength = 0;
+  @Option(names = {"--domain-name-cache-size"}, paramLabel = "COUNT",
+      description = "Number of domain name classifications cached, 0 not to cache them "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "10000")
+  private int domainNameCacheSize = 10000;
+  @Option(names = {"--max-response-size"}, paramLabel = "BYTES",
+      description = "Stop reading RDAP responses larger than this, 0 for no limit "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "16777216")
+  private long maxResponseSize = 16777216;
+  @Option(names = {"--dns-resolver"}, paramLabel = "HOST[:PORT]",
+      description = "DNS server used to resolve the RDAP server hosts, may be repeated "
+          + "(default: system DNS servers)")
+  private List<String> dnsResolvers = List.of();
+  @Option(names = {"--result-cache"}, paramLabel = "DIR",
+      description = "Reuse the content validation results of responses already validated, "
+          + "cached in this directory")
+  private String resultCacheDirectory;
+  @Option(names = {"--max-errors"}, paramLabel = "COUNT",
+      description = "Stop the validations once this number of errors is found, 0 for no limit "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "0")
+  private int maxErrors = 0;
+  @Option(names = {"--time-budget"}, paramLabel = "SECONDS",
+      description = "Stop the validations after this time, 0 for no limit "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "0")
+  private int timeBudget = 0;
+  @Option(names = {"--host-request-rate"}, paramLabel = "PER_SECOND",
+      description = "Maximum number of HTTP requests per second to the same host, 0 for no limit "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "0")
+  private double hostRequestRate = 0;
+  @Option(names = {"--ip-request-rate"}, paramLabel = "PER_SECOND",
+      description = "Maximum number of HTTP requests per second to the same IP address, 0 for no "
+          + "limit (default: ${DEFAULT-VALUE})", defaultValue = "0")
+  private double ipRequestRate = 0;
+  @Option(names = {"--max-retries"}, paramLabel = "COUNT",
+      description = "Retry HTTP requests getting a 429 or 503 status or failing to connect "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "0")
+  private int maxRetries = 0;
+  @Option(names = {"--jfr"}, paramLabel = "FILE",
+      description = "Record a Java Flight Recorder file of the HTTP requests, DNS lookups, TLS "
+          + "handshakes, dataset loading and validations")
+  private Path jfrFile;
 
   @Override
   public Integer call() throws Exception {
@@ -56,7 +111,10 @@ public class RdapConformanceTool implements RDAPValidatorConfiguration, Callable
     } else {
       validator = new RDAPFileValidator(this, fileSystem);
     }
-    return validator.validate();
+    if (jfrFile == null) {
+      return validator.validate();
+    }
+    return RDAPFlightRecording.record(jfrFile, validator::validate);
   }
 
   @Override
@@ -113,6 +171,66 @@ public class RdapConformanceTool implements RDAPValidatorConfiguration, Callable
     return queryType;
   }
 
+  @Override
+  public boolean recordMetrics() {
+    return this.recordMetrics;
+  }
+
+  @Override
+  public boolean useNdjsonResults() {
+    return this.useNdjsonResults;
+  }
+
+  @Override
+  public int getMaxResultValueLength() {
+    return this.maxResultValueLength;
+  }
+
+  @Override
+  public int getDomainNameCacheSize() {
+    return this.domainNameCacheSize;
+  }
+
+  @Override
+  public List<String> getDnsResolvers() {
+    return this.dnsResolvers;
+  }
+
+  @Override
+  public long getMaxResponseSize() {
+    return this.maxResponseSize;
+  }
+
+  @Override
+  public String getResultCacheDirectory() {
+    return this.resultCacheDirectory;
+  }
+
+  @Override
+  public int getMaxErrors() {
+    return this.maxErrors;
+  }
+
+  @Override
+  public int getTimeBudget() {
+    return this.timeBudget;
+  }
+
+  @Override
+  public double getHostRequestRate() {
+    return this.hostRequestRate;
+  }
+
+  @Override
+  public double getIpRequestRate() {
+    return this.ipRequestRate;
+  }
+
+  @Override
+  public int getMaxRetries() {
+    return this.maxRetries;
+  }
+
   @Override
   public URI getUri() {
     return this.uri;
@@ -0,0 +1,243 @@
+package org.icann.rdapconformance.tool;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import java.io.File;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.apache.commons.lang3.SystemUtils;
+import org.icann.rdapconformance.validator.sweep.SweepOptions;
+import org.icann.rdapconformance.validator.sweep.SweepReport;
+import org.icann.rdapconformance.validator.sweep.SweepRunner;
+import org.icann.rdapconformance.validator.sweep.SweepTarget;
+import org.icann.rdapconformance.validator.sweep.SweepTargetConfiguration;
+import org.icann.rdapconformance.validator.sweep.SweepTemplate;
+import org.icann.rdapconformance.validator.workflow.FileSystem;
+import org.icann.rdapconformance.validator.workflow.LocalFileSystem;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetServiceImpl;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationStatus;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.BootstrapDomainNameSpace;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.RegistrarId;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPHttpValidator;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(name = "sweep", mixinStandardHelpOptions = true,
+    description = "Validate every gTLD registry and registrar RDAP server of the bootstrap and "
+        + "registrar id datasets")
+public class SweepCommand implements SweepOptions, Callable<Integer> {
+
+  @Option(names = {"-c", "--config"}, description = "Definition file", required = true)
+  String configurationFile;
+  @Option(names = {"--template"}, paramLabel = "FILE", required = true,
+      description = "Queries of the registries and registrars, relative to their base URLs")
+  Path template;
+  @Option(names = {"--report"}, paramLabel = "FILE",
+      description = "Report of the sweep, resumed if it exists (default: ${DEFAULT-VALUE})",
+      defaultValue = "sweep-report.ndjson")
+  Path report = Path.of("sweep-report.ndjson");
+  @Option(names = {"--restart"},
+      description = "Start the sweep over instead of resuming the report", defaultValue = "false")
+  boolean restart = false;
+  @Option(names = {"--concurrency"},
+      description = "Maximum number of validations in progress (default: ${DEFAULT-VALUE})",
+      defaultValue = "8")
+  int concurrency = 8;
+  @Option(names = {"--per-host-concurrency"},
+      description = "Maximum number of validations in progress on the same host "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "1")
+  int perHostConcurrency = 1;
+  @Option(names = {"--timeout"},
+      description = "Timeout for connecting to the server", defaultValue = "20")
+  private int timeout = 20;
+  @Option(names = {"--maximum-redirects"},
+      description = "Maximum number of redirects to follow", defaultValue = "3")
+  private int maxRedirects = 3;
+  @Option(names = {"--use-local-datasets"},
+      description = "Use locally-persisted datasets", defaultValue = "false")
+  private boolean useLocalDatasets = false;
+  @Option(names = {"--use-rdap-profile-february-2019"},
+      description = "Use RDAP Profile February 2019", defaultValue = "false")
+  private boolean useRdapProfileFeb2019 = false;
+  @Option(names = {"-v", "--verbose"}, description = "display all logs")
+  private boolean isVerbose = false;
+  @Option(names = {"--ndjson-results"},
+      description = "Write the results files as newline-delimited JSON, one line per result",
+      defaultValue = "false")
+  private boolean useNdjsonResults = false;
+  @Option(names = {"--max-result-value-length"}, paramLabel = "CHARS",
+      description = "Truncate longer result values in the results files, 0 for no limit "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "0")
+  private int maxResultValueLength = 0;
+  @Option(names = {"--domain-name-cache-size"}, paramLabel = "COUNT",
+      description = "Number of domain name classifications cached, 0 not to cache them "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "10000")
+  private int domainNameCacheSize = 10000;
+  @Option(names = {"--max-response-size"}, paramLabel = "BYTES",
+      description = "Stop reading RDAP responses larger than this, 0 for no limit "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "16777216")
+  private long maxResponseSize = 16777216;
+  @Option(names = {"--dns-resolver"}, paramLabel = "HOST[:PORT]",
+      description = "DNS server used to resolve the RDAP server hosts, may be repeated "
+          + "(default: system DNS servers)")
+  private List<String> dnsResolvers = List.of();
+  @Option(names = {"--result-cache"}, paramLabel = "DIR",
+      description = "Reuse the content validation results of responses already validated, "
+          + "cached in this directory")
+  private String resultCacheDirectory;
+  @Option(names = {"--host-request-rate"}, paramLabel = "PER_SECOND",
+      description = "Maximum number of HTTP requests per second to the same host, 0 for no limit "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "2")
+  private double hostRequestRate = 2;
+  @Option(names = {"--ip-request-rate"}, paramLabel = "PER_SECOND",
+      description = "Maximum number of HTTP requests per second to the same IP address, 0 for no "
+          + "limit (default: ${DEFAULT-VALUE})", defaultValue = "4")
+  private double ipRequestRate = 4;
+  @Option(names = {"--max-retries"}, paramLabel = "COUNT",
+      description = "Retry HTTP requests getting a 429 or 503 status or failing to connect "
+          + "(default: ${DEFAULT-VALUE})", defaultValue = "2")
+  private int maxRetries = 2;
+  FileSystem fileSystem = new LocalFileSystem();
+  PrintStream out = System.out;
+
+  @Override
+  public Integer call() throws Exception {
+    if (!isVerbose) {
+      Logger root = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+      root.setLevel(Level.OFF);
+    }
+
+    // the datasets are loaded once for all the targets:
+    RDAPDatasetService datasetService = new RDAPDatasetServiceImpl(fileSystem);
+    if (!datasetService.download(useLocalDatasets)) {
+      return RDAPValidationStatus.DATASET_UNAVAILABLE.getValue();
+    }
+    RDAPDatasetService sharedDatasetService = new SharedDatasetService(datasetService);
+    List<SweepTarget> targets = SweepTemplate.parse(
+            Files.readString(template, StandardCharsets.UTF_8))
+        .targets(datasetService.get(BootstrapDomainNameSpace.class),
+            datasetService.get(RegistrarId.class));
+
+    try (SweepReport sweepReport = SweepReport.open(report, restart)) {
+      new SweepRunner(sweepReport,
+          target -> new RDAPHttpValidator(new SweepTargetConfiguration(this, target),
+              fileSystem, sharedDatasetService),
+          concurrency, perHostConcurrency).run(targets);
+      sweepReport.getOutcomes().forEach((outcome, count) -> out.println(outcome + ": " + count));
+    }
+    return RDAPValidationStatus.SUCCESS.getValue();
+  }
+
+  @Override
+  public URI getConfigurationFile() {
+    try {
+      return URI.create(this.configurationFile);
+    } catch (IllegalArgumentException ex) {
+      // handle Windows uri without compromising remote file:
+      if (SystemUtils.IS_OS_WINDOWS) {
+        return new File(this.configurationFile).toURI();
+      }
+
+      throw ex;
+    }
+  }
+
+  @Override
+  public int getTimeout() {
+    return this.timeout;
+  }
+
+  @Override
+  public int getMaxRedirects() {
+    return this.maxRedirects;
+  }
+
+  @Override
+  public boolean useLocalDatasets() {
+    return this.useLocalDatasets;
+  }
+
+  @Override
+  public boolean useRdapProfileFeb2019() {
+    return this.useRdapProfileFeb2019;
+  }
+
+  @Override
+  public boolean useNdjsonResults() {
+    return this.useNdjsonResults;
+  }
+
+  @Override
+  public int getMaxResultValueLength() {
+    return this.maxResultValueLength;
+  }
+
+  @Override
+  public int getDomainNameCacheSize() {
+    return this.domainNameCacheSize;
+  }
+
+  @Override
+  public List<String> getDnsResolvers() {
+    return this.dnsResolvers;
+  }
+
+  @Override
+  public long getMaxResponseSize() {
+    return this.maxResponseSize;
+  }
+
+  @Override
+  public String getResultCacheDirectory() {
+    return this.resultCacheDirectory;
+  }
+
+  @Override
+  public double getHostRequestRate() {
+    return this.hostRequestRate;
+  }
+
+  @Override
+  public double getIpRequestRate() {
+    return this.ipRequestRate;
+  }
+
+  @Override
+  public int getMaxRetries() {
+    return this.maxRetries;
+  }
+
+  /**
+   * The datasets already downloaded by the sweep, not downloaded again by each validation.
+   */
+  private static class SharedDatasetService implements RDAPDatasetService {
+
+    private final RDAPDatasetService datasetService;
+
+    private SharedDatasetService(RDAPDatasetService datasetService) {
+      this.datasetService = datasetService;
+    }
+
+    @Override
+    public boolean download(boolean useLocalDatasets) {
+      return true;
+    }
+
+    @Override
+    public <T> T get(Class<T> clazz) {
+      return datasetService.get(clazz);
+    }
+
+    @Override
+    public String getGeneration() {
+      return datasetService.getGeneration();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package org.icann.rdapconformance.tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.icann.rdapconformance.validator.generator.RDAPResponseGenerator.ResponseType;
+import org.icann.rdapconformance.validator.generator.Violation;
+import org.json.JSONObject;
+import org.testng.annotations.Test;
+import picocli.CommandLine;
+
+public class GenerateResponseCommandTest {
+
+  @Test
+  public void testParseArgs() {
+    GenerateResponseCommand command = new GenerateResponseCommand();
+    new CommandLine(command).parseArgs("--type", "NAMESERVERS_SEARCH", "--violations",
+        "EVENT_DATE,NAMESERVER_IPV4");
+
+    assertThat(command.type).isEqualTo(ResponseType.NAMESERVERS_SEARCH);
+    assertThat(command.violations)
+        .containsExactlyInAnyOrder(Violation.EVENT_DATE, Violation.NAMESERVER_IPV4);
+  }
+
+  @Test
+  public void testMain_DispatchesGenerateWithoutValidationArgs() throws Exception {
+    Path output = Files.createTempFile("generated", ".json");
+
+    assertThat(Main.execute(new String[]{"generate", "--type", "NAMESERVER", "-o",
+        output.toString()})).isZero();
+    assertThat(new JSONObject(Files.readString(output)).getString("objectClassName"))
+        .isEqualTo("nameserver");
+    Files.delete(output);
+  }
+
+  @Test
+  public void testCall_WritesResponseAndReportsViolations() throws Exception {
+    Path output = Files.createTempFile("generated", ".json");
+    GenerateResponseCommand command = new GenerateResponseCommand();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+    command.err = new PrintStream(err, true, StandardCharsets.UTF_8);
+
+    int exitCode = new CommandLine(command).execute("--type", "ENTITY", "--violation-rate", "1",
+        "--violations", "ENTITY_UNKNOWN_KEY", "-o", output.toString());
+
+    assertThat(exitCode).isZero();
+    assertThat(new JSONObject(Files.readString(output)).getString("objectClassName"))
+        .isEqualTo("entity");
+    assertThat(err.toString(StandardCharsets.UTF_8)).startsWith("ENTITY_UNKNOWN_KEY (-12301): ");
+    Files.delete(output);
+  }
+}
@@ -1,5 +1,6 @@
 package org.icann.rdapconformance.tool;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
@@ -59,6 +60,23 @@ public class RdapConformanceToolArgsTest {
   }
 
 
+  @Test
+  public void testJfrArg_isOK() {
+    String[] args = "--config=/tmp/test --jfr /tmp/rdapct.jfr http://example.org".split(" ");
+
+    assertThatCode(() -> new CommandLine(new RdapConformanceTool()).parseArgs(args))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  public void testNdjsonResultsArg_isOK() {
+    String[] args = "--config=/tmp/test --ndjson-results http://example.org".split(" ");
+    RdapConformanceTool tool = new RdapConformanceTool();
+
+    new CommandLine(tool).parseArgs(args);
+    assertThat(tool.useNdjsonResults()).isTrue();
+  }
+
   @Test
   public void testGtldRegistryAndGtldRegistrarArgs_AreExclusive() {
     String[] args = "--config=/tmp/test --gtld-registry --gtld-registrar http://example.org"
@@ -0,0 +1,42 @@
+package org.icann.rdapconformance.tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.file.Path;
+import org.testng.annotations.Test;
+import picocli.CommandLine;
+import picocli.CommandLine.MissingParameterException;
+
+public class SweepCommandTest {
+
+  @Test
+  public void testParseArgs() {
+    SweepCommand command = new SweepCommand();
+    new CommandLine(command).parseArgs("--config=/tmp/test", "--template", "sweep.json",
+        "--concurrency", "16", "--per-host-concurrency", "2", "--restart",
+        "--use-rdap-profile-february-2019");
+
+    assertThat(command.template).isEqualTo(Path.of("sweep.json"));
+    assertThat(command.report).isEqualTo(Path.of("sweep-report.ndjson"));
+    assertThat(command.concurrency).isEqualTo(16);
+    assertThat(command.perHostConcurrency).isEqualTo(2);
+    assertThat(command.restart).isTrue();
+    assertThat(command.useRdapProfileFeb2019()).isTrue();
+    assertThat(command.getMaxResultValueLength()).isZero();
+    assertThat(command.getDomainNameCacheSize()).isEqualTo(10000);
+  }
+
+  @Test
+  public void testTemplateArg_IsRequired() {
+    assertThatExceptionOfType(MissingParameterException.class).isThrownBy(
+        () -> new CommandLine(new SweepCommand()).parseArgs("--config=/tmp/test"))
+        .withMessage("Missing required option: '--template=FILE'");
+  }
+
+  @Test
+  public void testMain_DispatchesSweepWithoutUri() {
+    assertThat(Main.execute(new String[]{"sweep", "--config=/tmp/test"}))
+        .isEqualTo(CommandLine.ExitCode.USAGE);
+  }
+}
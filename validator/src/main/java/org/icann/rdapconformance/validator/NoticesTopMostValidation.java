@@ -39,4 +39,12 @@ public class NoticesTopMostValidation extends ProfileJsonValidation {
     }
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    if (!schemaNode.containsErrorKey("noticesTopMost")) {
+      return Set.of();
+    }
+    return Set.of(schemaNode.getErrorCode("noticesTopMost"));
+  }
 }
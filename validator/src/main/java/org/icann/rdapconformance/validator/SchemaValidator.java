@@ -1,13 +1,19 @@
 package org.icann.rdapconformance.validator;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.everit.json.schema.FormatValidator;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.Validator;
 import org.everit.json.schema.loader.SchemaClient;
 import org.everit.json.schema.loader.SchemaLoader;
 import org.icann.rdapconformance.validator.customvalidator.DatasetValidator;
@@ -20,7 +26,11 @@ import org.icann.rdapconformance.validator.exception.ValidationExceptionNode;
 import org.icann.rdapconformance.validator.exception.parser.ExceptionParser;
 import org.icann.rdapconformance.validator.jcard.VcardArrayGeneralValidation;
 import org.icann.rdapconformance.validator.schema.SchemaNode;
+import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationBudget;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics.Timer;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
 import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.EventActionJsonValues;
@@ -48,11 +58,14 @@ public class SchemaValidator {
 
   private static final Logger logger = LoggerFactory.getLogger(SchemaValidator.class);
   static Pattern duplicateKeys = Pattern.compile("Duplicate key \"(.+)\" at");
+  private static final Validator FAIL_EARLY_VALIDATOR = Validator.builder().failEarly().build();
   private final RDAPDatasetService datasetService;
   private final JpathUtil jpathUtil;
   private JSONObject schemaObject;
   private Schema schema;
   private RDAPValidatorResults results;
+  private RDAPValidationBudget budget = RDAPValidationBudget.unlimited();
+  private Collection<Integer> ignoredCodes = Set.of();
 
   private SchemaNode schemaRootNode;
 
@@ -120,6 +133,38 @@ public class SchemaValidator {
     return schemaLoader.load().build();
   }
 
+  /**
+   * Stop the validation once the budget is exhausted: with a budget of one error, the schema
+   * validation stops at the first violation.
+   */
+  public void setBudget(RDAPValidationBudget budget) {
+    this.budget = budget;
+  }
+
+  public RDAPValidationBudget getBudget() {
+    return budget;
+  }
+
+  /**
+   * Do not run the checks whose result codes are all ignored: the dataset formats and the custom
+   * validations. The other violations of the schema are still reported.
+   */
+  public void setIgnoredCodes(Collection<Integer> ignoredCodes) {
+    this.ignoredCodes = ignoredCodes;
+    if (ignoredCodes.isEmpty()) {
+      return;
+    }
+    for (Map.Entry<FormatValidator, Set<Integer>> codesByFormat :
+        schemaRootNode.findCodesByFormat().entrySet()) {
+      if (codesByFormat.getKey() instanceof DatasetValidator
+          && ignoredCodes.containsAll(codesByFormat.getValue())) {
+        logger.info("Skipping the {} format: its result codes are all ignored",
+            codesByFormat.getKey().formatName());
+        ((DatasetValidator) codesByFormat.getKey()).disable();
+      }
+    }
+  }
+
   public Schema getSchema() {
     return schema;
   }
@@ -127,7 +172,7 @@ public class SchemaValidator {
   public boolean validate(String content) {
     results.addGroups(schemaRootNode.findAllValuesOf("validationName"));
     JSONObject jsonObject;
-    try {
+    try (Timer ignored = RDAPValidationMetrics.timer("SchemaValidator.parse")) {
       jsonObject = new JSONObject(content);
     } catch (JSONException e) {
       RDAPValidationResult result = parseJsonException(e, content);
@@ -135,24 +180,36 @@ public class SchemaValidator {
       return false;
     }
 
-    try {
-      schema.validate(jsonObject);
-    } catch (ValidationException e) {
-      parseException(e, jsonObject);
+    ValidationException validationException;
+    try (Timer ignored = RDAPValidationMetrics.timer("SchemaValidator.schema")) {
+      validationException = validateSchema(jsonObject);
+    }
+    if (validationException != null) {
+      if (budget.isFailEarly()) {
+        // the violations after the first one are unknown
+        budget.truncate(RDAPValidationBudget.MAX_ERRORS);
+      }
+      try (Timer ignored = RDAPValidationMetrics.timer("SchemaValidator.exceptionParsing")) {
+        parseException(validationException, jsonObject);
+      }
+    }
+    if (budget.isExhausted(results)) {
+      return false;
     }
 
-    try {
+    try (Timer ignored = RDAPValidationMetrics.timer("SchemaValidator.custom")) {
       // customs validations...
       verifyUnicityOfEventAction("events", -10912, jsonObject);
       verifyUnicityOfEventAction("asEventActor", -11310, jsonObject);
 
       // vcard
       if (content.contains("\"vcardArray\"")) {
-        new VcardArrayGeneralValidation(jsonObject.toString(), results).validate();
+        validateUnlessIgnored(new VcardArrayGeneralValidation(jsonObject.toString(), results));
       }
 
       if (content.contains("\"notices\"")) {
-        new NoticesTopMostValidation(jsonObject.toString(), results, schemaRootNode).validate();
+        validateUnlessIgnored(
+            new NoticesTopMostValidation(jsonObject.toString(), results, schemaRootNode));
       }
     } catch (Exception e) {
       logger.error("Exception during schema validation. This is likely caused by a schema deeply "
@@ -162,6 +219,30 @@ public class SchemaValidator {
     return results.isEmpty();
   }
 
+  /**
+   * The violations of the schema by the response, null if there are none.
+   */
+  protected ValidationException validateSchema(JSONObject jsonObject) {
+    try {
+      if (budget.isFailEarly()) {
+        FAIL_EARLY_VALIDATOR.performValidation(schema, jsonObject);
+      } else {
+        schema.validate(jsonObject);
+      }
+      return null;
+    } catch (ValidationException e) {
+      return e;
+    }
+  }
+
+  private void validateUnlessIgnored(ProfileValidation validation) {
+    if (validation.isIgnored(ignoredCodes)) {
+      validation.skip();
+    } else {
+      validation.validate();
+    }
+  }
+
   private void verifyUnicityOfEventAction(String schemaId, int errorCode, JSONObject jsonObject) {
     Set<String> eventsJsonPointers = jpathUtil.getPointerFromJPath(jsonObject,
         "$.." + schemaId);
@@ -221,17 +302,23 @@ public class SchemaValidator {
   }
 
   private void parseException(ValidationException e, JSONObject jsonObject) {
-    List<ExceptionParser> exceptionParsers = ExceptionParser.createParsers(e, schema, jsonObject,
-        results);
+    List<ValidationExceptionNode> validationExceptions = ValidationExceptionNode.flatten(e);
+    List<ExceptionParser> exceptionParsers = ExceptionParser.createParsers(validationExceptions,
+        schema, jsonObject, results);
+    // the parsers match a violation regardless of the violation they were created for
+    Set<ValidationExceptionNode> parsedExceptions = Collections.newSetFromMap(
+        new IdentityHashMap<>());
     for (ExceptionParser exceptionParser : exceptionParsers) {
-      exceptionParser.parse();
+      if (exceptionParser.parse()) {
+        parsedExceptions.add(exceptionParser.getException());
+        if (budget.isLimited() && budget.isExhausted(results)) {
+          return;
+        }
+      }
     }
 
-    List<ValidationExceptionNode> validationExceptions =
-        new ValidationExceptionNode(null, e).getAllExceptions();
     for (ValidationExceptionNode validationException : validationExceptions) {
-      if (exceptionParsers.stream()
-          .noneMatch(exceptionParser -> exceptionParser.matches(validationException))) {
+      if (!parsedExceptions.contains(validationException)) {
         logger.error(
             "We found this error with no exception parser {}", validationException.getMessage());
       }
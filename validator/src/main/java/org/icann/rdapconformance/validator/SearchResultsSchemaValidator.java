@@ -0,0 +1,181 @@
+package org.icann.rdapconformance.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.everit.json.schema.ArraySchema;
+import org.everit.json.schema.ObjectSchema;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Schema validation of a search response validating the elements of the search results array
+ * concurrently.
+ *
+ * <p>The search envelope, without the search results, is validated with the schema of the
+ * response, and each element with the item schema of the search results array. Their violations
+ * are assembled in the tree that the validation of the whole response produces, so that the
+ * violations are parsed, and the custom checks of the whole response run, once. Responses whose
+ * search results could not be validated apart from the envelope (no array, a schema constraining
+ * the array as a whole) are validated as a whole.</p>
+ */
+public class SearchResultsSchemaValidator extends SchemaValidator {
+
+  private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+  private static final Executor executor = newExecutor();
+
+  private final String searchResultsName;
+  private final String searchResultsPointer;
+  private final ArraySchema searchResultsSchema;
+
+  public SearchResultsSchemaValidator(String schemaName, String searchResultsName,
+      RDAPValidatorResults results, RDAPDatasetService datasetService) {
+    super(schemaName, results, datasetService);
+    this.searchResultsName = searchResultsName;
+    this.searchResultsPointer = "#/" + searchResultsName;
+    this.searchResultsSchema = findSearchResultsSchema(getSchema(), searchResultsName);
+  }
+
+  private static Executor newExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+          Thread thread = new Thread(r, "search-results-validation");
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * The schema of the search results array, null if the array cannot be validated apart from the
+   * rest of the response: a keyword depends on all its elements.
+   */
+  private static ArraySchema findSearchResultsSchema(Schema schema, String searchResultsName) {
+    if (!(schema instanceof ObjectSchema)
+        || !((ObjectSchema) schema).getPatternProperties().isEmpty()) {
+      return null;
+    }
+    Schema propertySchema = ((ObjectSchema) schema).getPropertySchemas().get(searchResultsName);
+    if (!(propertySchema instanceof ArraySchema)) {
+      return null;
+    }
+    ArraySchema arraySchema = (ArraySchema) propertySchema;
+    if (arraySchema.getAllItemSchema() == null
+        || arraySchema.getContainedItemSchema() != null
+        || arraySchema.needsUniqueItems()) {
+      return null;
+    }
+    return arraySchema;
+  }
+
+  @Override
+  protected ValidationException validateSchema(JSONObject jsonObject) {
+    Object searchResults = jsonObject.opt(searchResultsName);
+    if (getBudget().isFailEarly() || searchResultsSchema == null
+        || !(searchResults instanceof JSONArray)
+        || !hasValidLength((JSONArray) searchResults)) {
+      return super.validateSchema(jsonObject);
+    }
+
+    JSONArray elements = (JSONArray) searchResults;
+    Schema itemSchema = searchResultsSchema.getAllItemSchema();
+    List<CompletableFuture<ValidationException>> elementValidations = new ArrayList<>();
+    for (int i = 0; i < elements.length(); i++) {
+      Object element = elements.get(i);
+      String index = String.valueOf(i);
+      elementValidations.add(CompletableFuture.supplyAsync(RDAPValidationMetrics.propagate(() -> {
+        ValidationException e = validate(itemSchema, element);
+        return e == null ? null : e.prepend(index);
+      }), executor));
+    }
+
+    // the length of the array is valid: the violations of the empty array of the envelope are not
+    // violations of the response
+    JSONObject envelope = new JSONObject();
+    for (String key : jsonObject.keySet()) {
+      envelope.put(key, key.equals(searchResultsName) ? new JSONArray() : jsonObject.get(key));
+    }
+    List<ValidationException> failures = new ArrayList<>();
+    ValidationException envelopeFailure = validate(getSchema(), envelope);
+    if (envelopeFailure != null) {
+      for (ValidationException failure : isWrapping(envelopeFailure, getSchema())
+          ? envelopeFailure.getCausingExceptions()
+          : List.of(envelopeFailure)) {
+        if (!failure.getPointerToViolation().equals(searchResultsPointer)) {
+          failures.add(failure);
+        }
+      }
+    }
+
+    List<ValidationException> elementFailures = new ArrayList<>();
+    for (CompletableFuture<ValidationException> elementValidation : elementValidations) {
+      ValidationException elementFailure = join(elementValidation);
+      if (elementFailure != null) {
+        elementFailures.add(elementFailure);
+      }
+    }
+    if (!elementFailures.isEmpty()) {
+      failures.add(wrap(searchResultsSchema, elementFailures).prepend(searchResultsName));
+    }
+    return failures.isEmpty() ? null : wrap(getSchema(), failures);
+  }
+
+  private boolean hasValidLength(JSONArray elements) {
+    Integer minItems = searchResultsSchema.getMinItems();
+    Integer maxItems = searchResultsSchema.getMaxItems();
+    return (minItems == null || elements.length() >= minItems)
+        && (maxItems == null || elements.length() <= maxItems);
+  }
+
+  private static ValidationException validate(Schema schema, Object subject) {
+    try {
+      schema.validate(subject);
+      return null;
+    } catch (ValidationException e) {
+      return e;
+    }
+  }
+
+  private static ValidationException join(CompletableFuture<ValidationException> validation) {
+    try {
+      return validation.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Whether the exception wraps the violations of the properties of the response, as the schema
+   * validation does when there is more than one.
+   */
+  private static boolean isWrapping(ValidationException e, Schema schema) {
+    return e.getViolatedSchema() == schema
+        && "#".equals(e.getPointerToViolation())
+        && !e.getCausingExceptions().isEmpty();
+  }
+
+  private static ValidationException wrap(Schema schema, List<ValidationException> failures) {
+    if (failures.size() == 1) {
+      return failures.get(0);
+    }
+    int violationCount = failures.stream()
+        .mapToInt(ValidationException::getViolationCount)
+        .sum();
+    return new ValidationException(schema, violationCount + " schema violations found",
+        failures);
+  }
+}
@@ -3,6 +3,7 @@ package org.icann.rdapconformance.validator.configuration;
 import com.ibm.icu.text.IDNA;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +34,101 @@ public interface RDAPValidatorConfiguration {
 
   RDAPQueryType getQueryType();
 
+  /**
+   * Whether timing and allocation metrics are recorded and added to the results file.
+   */
+  default boolean recordMetrics() {
+    return false;
+  }
+
+  /**
+   * Whether the results file is newline-delimited JSON, with one line per result and a summary
+   * line, instead of a single JSON document.
+   */
+  default boolean useNdjsonResults() {
+    return false;
+  }
+
+  /**
+   * Maximum number of characters of a result value in the results file, longer values (e.g. whole
+   * response bodies) are truncated and referenced by their content hash. Not positive for no limit.
+   */
+  default int getMaxResultValueLength() {
+    return 0;
+  }
+
+  /**
+   * Number of domain names whose IDNA classification is cached, shared by the runs of the process;
+   * 0 not to cache them.
+   */
+  default int getDomainNameCacheSize() {
+    return 10_000;
+  }
+
+  /**
+   * DNS servers used to resolve the RDAP server hosts, as "host" or "host:port"; the system DNS
+   * servers if empty.
+   */
+  default List<String> getDnsResolvers() {
+    return List.of();
+  }
+
+  /**
+   * Maximum size in bytes of an RDAP response body, larger responses are not read. Not positive
+   * for no limit.
+   */
+  default long getMaxResponseSize() {
+    return 0;
+  }
+
+  /**
+   * Directory where the results of the response content validations are cached, reused when the
+   * same response is validated again; null for no cache.
+   */
+  default String getResultCacheDirectory() {
+    return null;
+  }
+
+  /**
+   * Number of errors after which the validations stop, for triage runs; the results file is then
+   * marked as truncated. Not positive for no limit.
+   */
+  default int getMaxErrors() {
+    return 0;
+  }
+
+  /**
+   * Wall-clock time in seconds after which the validations stop, for triage runs; the results
+   * file is then marked as truncated. Not positive for no limit.
+   */
+  default int getTimeBudget() {
+    return 0;
+  }
+
+  /**
+   * Maximum number of HTTP requests per second to the same host, shared by the validations of
+   * the process. Not positive for no limit.
+   */
+  default double getHostRequestRate() {
+    return 0;
+  }
+
+  /**
+   * Maximum number of HTTP requests per second to the same IP address, shared by the hosts it
+   * serves. Not positive for no limit.
+   */
+  default double getIpRequestRate() {
+    return 0;
+  }
+
+  /**
+   * Number of times an HTTP request is retried when it gets a 429 or 503 status or its
+   * connection fails.
+   */
+  default int getMaxRetries() {
+    return 0;
+  }
+
   default boolean check() {
     if (getUri().getScheme() != null && getUri().getScheme().startsWith("http")) {
       if (getQueryType() != null) {
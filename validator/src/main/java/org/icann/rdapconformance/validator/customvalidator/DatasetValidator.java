@@ -8,6 +8,7 @@ public class DatasetValidator implements FormatValidator {
 
   protected final DatasetValidatorModel datasetValidatorModel;
   private final String formatName;
+  private boolean enabled = true;
 
   public DatasetValidator(
       DatasetValidatorModel datasetValidatorModel,
@@ -20,9 +21,20 @@ public class DatasetValidator implements FormatValidator {
     return datasetValidatorModel;
   }
 
+  /**
+   * Accept any value, e.g. when the result codes of the format are all ignored.
+   */
+  public void disable() {
+    enabled = false;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
   @Override
   public Optional<String> validate(String s) {
-    if (datasetValidatorModel.isInvalid(s)) {
+    if (enabled && datasetValidatorModel.isInvalid(s)) {
       return Optional.of("Invalid value for dataset " + datasetValidatorModel.getClass().getSimpleName());
     }
     return Optional.empty();
@@ -0,0 +1,227 @@
+package org.icann.rdapconformance.validator.customvalidator;
+
+import com.ibm.icu.text.IDNA;
+import com.ibm.icu.text.IDNA.Error;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Domain Name validation [domainNameValidation] without a JSON schema: the UTS46 IDNA instance is
+ * built once and, being immutable, is shared by all the threads.
+ *
+ * <p>The same host names occur many times per response and across the runs of a batch, so the
+ * IDNA errors of the recently classified domains are kept in a cache shared by all the IDN-aware
+ * validators, {@value #CACHE_CAPACITY} domains by default (--domain-name-cache-size). Lookups take
+ * no lock: each entry records when it was last used, and when the cache exceeds its capacity one
+ * thread evicts the least recently used entries down to three quarters of the capacity.
+ * {@link #getStats()} reports how well it performs, written in the metrics of the results file.</p>
+ */
+public final class DomainNameClassifier {
+
+  static final int CACHE_CAPACITY = 10_000;
+
+  private static final IDNA idna = IDNA.getUTS46Instance(IDNA.NONTRANSITIONAL_TO_ASCII
+      | IDNA.NONTRANSITIONAL_TO_UNICODE
+      | IDNA.CHECK_BIDI
+      | IDNA.CHECK_CONTEXTJ
+      | IDNA.CHECK_CONTEXTO
+      | IDNA.USE_STD3_RULES);
+
+  private static final DomainNameClassifier INSTANCE = new DomainNameClassifier(CACHE_CAPACITY);
+
+  private final Map<String, Classification> cache = new ConcurrentHashMap<>();
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile int capacity;
+
+  DomainNameClassifier(int capacity) {
+    this.capacity = capacity;
+  }
+
+  public static DomainNameClassifier getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Number of domains kept in the cache, 0 not to cache them; a smaller capacity takes effect at
+   * the next classified domain.
+   */
+  public void setCapacity(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Names of the IDNA errors of the domain and of each of its labels, plus LESS_THAN_TWO_LABELS;
+   * empty if the domain is valid.
+   */
+  public Set<String> getErrors(String domain) {
+    Classification classification = classify(domain);
+    Set<String> errors = new HashSet<>();
+    classification.errors.forEach(error -> errors.add(error.toString()));
+    if (classification.lessThanTwoLabels) {
+      errors.add("LESS_THAN_TWO_LABELS");
+    }
+    return errors;
+  }
+
+  /**
+   * Whether the domain mixes A-labels and U-labels: it has an A-label ("xn--" prefix) and a label
+   * with non-ASCII characters, possibly the same one.
+   */
+  public static boolean hasMixedLabels(String domain) {
+    boolean aLabel = false;
+    boolean uLabel = false;
+    for (String label : domain.split("\\.")) {
+      aLabel |= label.regionMatches(true, 0, "xn--", 0, 4);
+      uLabel |= label.chars().anyMatch(c -> c >= 0x80);
+    }
+    return aLabel && uLabel;
+  }
+
+  /**
+   * Hits and misses of the cache since the process started.
+   */
+  public Stats getStats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum(), cache.size());
+  }
+
+  /**
+   * A domain classified concurrently by several threads is classified more than once, with the
+   * same result.
+   */
+  private Classification classify(String domain) {
+    Classification classification = cache.get(domain);
+    if (classification != null) {
+      classification.lastUsed = clock.incrementAndGet();
+      hits.increment();
+      return classification;
+    }
+    misses.increment();
+    String[] labels = domain.split("\\.");
+    EnumSet<Error> errors = EnumSet.noneOf(Error.class);
+    addErrors(domain, errors);
+    for (String label : labels) {
+      addErrors(label, errors);
+    }
+    classification = new Classification(errors, labels.length < 2);
+    int currentCapacity = capacity;
+    if (currentCapacity > 0) {
+      classification.lastUsed = clock.incrementAndGet();
+      cache.put(domain, classification);
+    }
+    if (cache.size() > currentCapacity) {
+      evict(currentCapacity);
+    }
+    return classification;
+  }
+
+  /**
+   * Evict the least recently used entries down to three quarters of the capacity, unless another
+   * thread is already evicting.
+   */
+  private void evict(int currentCapacity) {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      int excess = cache.size() - currentCapacity * 3 / 4;
+      if (excess > 0) {
+        // sorted on a snapshot of the last uses, which lookups keep updating
+        cache.entrySet().stream()
+            .map(e -> Map.entry(e.getValue().lastUsed, e))
+            .sorted(Map.Entry.comparingByKey())
+            .limit(excess)
+            .forEach(e -> {
+              if (cache.remove(e.getValue().getKey(), e.getValue().getValue())) {
+                evictions.increment();
+              }
+            });
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  private static void addErrors(String label, Set<Error> errors) {
+    StringBuilder asciiDomain = new StringBuilder();
+    IDNA.Info info = new IDNA.Info();
+    idna.nameToASCII(label, asciiDomain, info);
+    if (info.hasErrors()) {
+      errors.addAll(info.getErrors());
+    }
+  }
+
+  private static class Classification {
+
+    private final Set<Error> errors;
+    private final boolean lessThanTwoLabels;
+    private volatile long lastUsed;
+
+    private Classification(EnumSet<Error> errors, boolean lessThanTwoLabels) {
+      this.errors = errors;
+      this.lessThanTwoLabels = lessThanTwoLabels;
+    }
+  }
+
+  public static class Stats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+
+    Stats(long hits, long misses, long evictions, int size) {
+      this.hits = hits;
+      this.misses = misses;
+      this.evictions = evictions;
+      this.size = size;
+    }
+
+    /**
+     * Hits, misses and evictions since the earlier stats, with the current size.
+     */
+    public Stats since(Stats earlier) {
+      return new Stats(hits - earlier.hits, misses - earlier.misses,
+          evictions - earlier.evictions, size);
+    }
+
+    public long getHits() {
+      return hits;
+    }
+
+    public long getMisses() {
+      return misses;
+    }
+
+    public long getEvictions() {
+      return evictions;
+    }
+
+    public int getSize() {
+      return size;
+    }
+
+    /**
+     * Ratio of the lookups found in the cache, 0 if there was no lookup.
+     */
+    public double getHitRate() {
+      long lookups = hits + misses;
+      return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("hits=%d, misses=%d, hitRate=%.2f, evictions=%d, size=%d",
+          hits, misses, getHitRate(), evictions, size);
+    }
+  }
+}
@@ -9,6 +9,9 @@ import org.everit.json.schema.FormatValidator;
 
 public class HostNameInUriFormatValidator implements FormatValidator {
 
+  private static final IdnHostNameFormatValidator idnHostNameFormatValidator =
+      new IdnHostNameFormatValidator();
+
   private final Ipv4FormatValidator ipv4FormatValidator;
   private final Ipv6FormatValidator ipv6FormatValidator;
 
@@ -32,7 +35,7 @@ public class HostNameInUriFormatValidator implements FormatValidator {
         return ipv6FormatValidator.validate(hostName.getHost());
       }
 
-      return new IdnHostNameFormatValidator().validate(uri.getRawAuthority());
+      return idnHostNameFormatValidator.validate(uri.getRawAuthority());
     } catch (URISyntaxException e) {
       return Optional.of(e.getMessage());
     }
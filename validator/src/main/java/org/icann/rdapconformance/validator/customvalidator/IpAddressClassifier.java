@@ -0,0 +1,77 @@
+package org.icann.rdapconformance.validator.customvalidator;
+
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import java.net.InetAddress;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.IpAddressDatasetModel;
+
+/**
+ * Classify IP addresses against the IANA address space and special-purpose registries, directly
+ * from their bytes.
+ */
+public class IpAddressClassifier {
+
+  public enum Classification {
+    /**
+     * Part of the address space and not special-purpose.
+     */
+    ALLOCATED,
+    /**
+     * Not part of a prefix categorized as allocated (or legacy) in the address space.
+     */
+    NOT_ALLOCATED,
+    /**
+     * Part of the special-purpose registry.
+     */
+    SPECIAL,
+    /**
+     * Not an IP address.
+     */
+    INVALID
+  }
+
+  private final IpAddressDatasetModel addressSpace;
+  private final IpAddressDatasetModel specialAddresses;
+
+  public IpAddressClassifier(IpAddressDatasetModel addressSpace,
+      IpAddressDatasetModel specialAddresses) {
+    this.addressSpace = addressSpace;
+    this.specialAddresses = specialAddresses;
+  }
+
+  public IpAddressDatasetModel getAddressSpace() {
+    return addressSpace;
+  }
+
+  public IpAddressDatasetModel getSpecialAddresses() {
+    return specialAddresses;
+  }
+
+  public Classification classify(InetAddress address) {
+    return classify(address.getAddress());
+  }
+
+  /**
+   * Classify an IP address literal, without any DNS resolution.
+   */
+  public Classification classify(String address) {
+    IPAddress ipAddress = new IPAddressString(address).getAddress();
+    return ipAddress == null ? Classification.INVALID : classify(ipAddress.getBytes());
+  }
+
+  /**
+   * Classify an address of 4 bytes for IPv4 or 16 bytes for IPv6.
+   */
+  public Classification classify(byte[] address) {
+    if (address == null || (address.length != 4 && address.length != 16)) {
+      return Classification.INVALID;
+    }
+    if (addressSpace.isInvalid(address)) {
+      return Classification.NOT_ALLOCATED;
+    }
+    if (specialAddresses.isInvalid(address)) {
+      return Classification.SPECIAL;
+    }
+    return Classification.ALLOCATED;
+  }
+}
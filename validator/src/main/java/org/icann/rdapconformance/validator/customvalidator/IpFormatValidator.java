@@ -2,31 +2,29 @@ package org.icann.rdapconformance.validator.customvalidator;
 
 import java.util.Optional;
 import org.everit.json.schema.FormatValidator;
-import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.DatasetValidatorModel;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.IpAddressDatasetModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public abstract class IpFormatValidator implements FormatValidator {
 
   private static final Logger logger = LoggerFactory.getLogger(IpFormatValidator.class);
-  private final DatasetValidatorModel ipAddressesValidator;
-  private final DatasetValidatorModel specialIpAddresses;
+  private final IpAddressClassifier classifier;
   private final FormatValidator ipValidator;
 
-  public IpFormatValidator(DatasetValidatorModel datasetValidatorModel,
-      DatasetValidatorModel specialIpAddresses,
+  public IpFormatValidator(IpAddressDatasetModel datasetValidatorModel,
+      IpAddressDatasetModel specialIpAddresses,
       FormatValidator ipValidator) {
-    this.ipAddressesValidator = datasetValidatorModel;
-    this.specialIpAddresses = specialIpAddresses;
+    this.classifier = new IpAddressClassifier(datasetValidatorModel, specialIpAddresses);
     this.ipValidator = ipValidator;
   }
 
-  public DatasetValidatorModel getIpAddressesValidator() {
-    return ipAddressesValidator;
+  public IpAddressDatasetModel getIpAddressesValidator() {
+    return classifier.getAddressSpace();
   }
 
-  public DatasetValidatorModel getSpecialIpAddresses() {
-    return specialIpAddresses;
+  public IpAddressDatasetModel getSpecialIpAddresses() {
+    return classifier.getSpecialAddresses();
   }
 
   @Override
@@ -36,18 +34,24 @@ public abstract class IpFormatValidator implements FormatValidator {
       return invalidIpv4;
     }
 
-    if (ipAddressesValidator.isInvalid(subject)) {
-      logger.error("IP address " + subject + " is not part of a prefix categorized as ALLOCATED or "
-          + "LEGACY");
-      return Optional.of(getNotAllocatedNorLegacyError());
+    switch (classifier.classify(subject)) {
+      case INVALID:
+        // syntax accepted by everit but not by the classifier, check the datasets as strings:
+        if (getIpAddressesValidator().isInvalid(subject)) {
+          return Optional.of(getNotAllocatedNorLegacyError());
+        }
+        return getSpecialIpAddresses().isInvalid(subject)
+            ? Optional.of(getPartOfSpecialAddressesSpaceError()) : Optional.empty();
+      case NOT_ALLOCATED:
+        logger.error("IP address " + subject + " is not part of a prefix categorized as ALLOCATED or "
+            + "LEGACY");
+        return Optional.of(getNotAllocatedNorLegacyError());
+      case SPECIAL:
+        logger.error("IP address " + subject + " is part of the " + getSpecialIpAddresses().getClass().getSimpleName());
+        return Optional.of(getPartOfSpecialAddressesSpaceError());
+      default:
+        return Optional.empty();
     }
-
-    if (specialIpAddresses.isInvalid(subject)) {
-      logger.error("IP address " + subject + " is part of the " + specialIpAddresses.getClass().getSimpleName());
-      return Optional.of(getPartOfSpecialAddressesSpaceError());
-    }
-
-    return Optional.empty();
   }
 
   protected abstract String getPartOfSpecialAddressesSpaceError();
@@ -1,7 +1,7 @@
 package org.icann.rdapconformance.validator.customvalidator;
 
 import org.everit.json.schema.internal.IPV4Validator;
-import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.DatasetValidatorModel;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.IpAddressDatasetModel;
 
 public class Ipv4FormatValidator extends IpFormatValidator {
 
@@ -13,8 +13,8 @@ public class Ipv4FormatValidator extends IpFormatValidator {
       + "IPv4 Special-Purpose  Address Registry. Dataset: specialIPv4Addresses";
 
   public Ipv4FormatValidator(
-      DatasetValidatorModel datasetValidatorModel,
-      DatasetValidatorModel specialIpAddresses) {
+      IpAddressDatasetModel datasetValidatorModel,
+      IpAddressDatasetModel specialIpAddresses) {
     super(datasetValidatorModel, specialIpAddresses, new IPV4Validator());
   }
 
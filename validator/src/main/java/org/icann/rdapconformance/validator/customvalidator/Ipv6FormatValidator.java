@@ -1,7 +1,7 @@
 package org.icann.rdapconformance.validator.customvalidator;
 
 import org.everit.json.schema.internal.IPV6Validator;
-import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.DatasetValidatorModel;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.IpAddressDatasetModel;
 
 public class Ipv6FormatValidator extends IpFormatValidator {
 
@@ -10,8 +10,8 @@ public class Ipv6FormatValidator extends IpFormatValidator {
   public static final String PART_OF_SPECIAL_ADDRESSES = "The IPv6 address is included in the IANA IPv6 Special-Purpose Address Registry. Dataset: specialIPv6Addresses";
 
   public Ipv6FormatValidator(
-      DatasetValidatorModel datasetValidatorModel,
-      DatasetValidatorModel specialIpAddresses) {
+      IpAddressDatasetModel datasetValidatorModel,
+      IpAddressDatasetModel specialIpAddresses) {
     super(datasetValidatorModel, specialIpAddresses, new IPV6Validator());
   }
 
@@ -1,29 +1,53 @@
 package org.icann.rdapconformance.validator.exception;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.everit.json.schema.ArraySchema;
 import org.everit.json.schema.CombinedSchema;
 import org.everit.json.schema.ReferenceSchema;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
 
+/**
+ * A violation of the everit ValidationException tree, with a link to its parent violation.
+ *
+ * <p>Nested oneOf/anyOf failures produce large trees: the tree is flattened once per validation
+ * by {@link #flatten(ValidationException)} into its leaf violations, which the exception parsers
+ * share, and the message, keyword and pointer of each violation are read only once.</p>
+ */
 public class ValidationExceptionNode {
 
-  private final ValidationExceptionNode parentException;
-  private final ValidationException causingException;
-  private final Set<?> containerSchemas = Set.of(
+  private static final Set<Class<?>> containerSchemas = Set.of(
       ArraySchema.class,
       CombinedSchema.class,
       ReferenceSchema.class
   );
 
+  private final ValidationExceptionNode parentException;
+  private final ValidationException causingException;
+  private final String pointerToViolation;
+  private final String message;
+  private final String keyword;
+  private List<ValidationExceptionNode> children;
+
   public ValidationExceptionNode(ValidationExceptionNode parentException,
       ValidationException causingException) {
     this.parentException = parentException;
     this.causingException = causingException;
+    this.pointerToViolation = causingException.getPointerToViolation();
+    this.message = causingException.getMessage();
+    this.keyword = causingException.getKeyword();
+  }
+
+  /**
+   * The leaf violations of the exception tree, in depth-first order.
+   */
+  public static List<ValidationExceptionNode> flatten(ValidationException e) {
+    return new ValidationExceptionNode(null, e).getAllExceptions();
   }
 
   public ValidationExceptionNode getParentException() {
@@ -31,31 +55,36 @@ public class ValidationExceptionNode {
   }
 
   public List<ValidationExceptionNode> getChildren() {
-    return causingException
-        .getCausingExceptions()
-        .stream()
-        .map(c -> new ValidationExceptionNode(this, c))
-        .collect(Collectors.toList());
+    if (children == null) {
+      List<ValidationException> causingExceptions = causingException.getCausingExceptions();
+      List<ValidationExceptionNode> nodes = new ArrayList<>(causingExceptions.size());
+      for (ValidationException causing : causingExceptions) {
+        nodes.add(new ValidationExceptionNode(this, causing));
+      }
+      children = Collections.unmodifiableList(nodes);
+    }
+    return children;
   }
 
   public List<ValidationExceptionNode> getAllExceptions() {
-    List<ValidationExceptionNode> children = new ArrayList<>();
-    return getAllExceptionsRecursively(children);
-  }
-
-  List<ValidationExceptionNode> getAllExceptionsRecursively(List<ValidationExceptionNode> children) {
-    if (getChildren().isEmpty()) {
-      children.add(this);
-    } else {
-      for (ValidationExceptionNode child : getChildren()) {
-        child.getAllExceptionsRecursively(children);
+    List<ValidationExceptionNode> leaves = new ArrayList<>();
+    Deque<ValidationExceptionNode> nodes = new ArrayDeque<>();
+    nodes.push(this);
+    while (!nodes.isEmpty()) {
+      ValidationExceptionNode node = nodes.pop();
+      List<ValidationExceptionNode> nodeChildren = node.getChildren();
+      if (nodeChildren.isEmpty()) {
+        leaves.add(node);
+      }
+      for (int i = nodeChildren.size() - 1; i >= 0; i--) {
+        nodes.push(nodeChildren.get(i));
       }
     }
-    return children;
+    return Collections.unmodifiableList(leaves);
   }
 
   public String getPointerToViolation() {
-    return causingException.getPointerToViolation();
+    return pointerToViolation;
   }
 
   public Schema getViolatedSchema() {
@@ -71,11 +100,11 @@ public class ValidationExceptionNode {
   }
 
   public String getMessage() {
-    return causingException.getMessage();
+    return message;
   }
 
   public String getKeyword() {
-    return causingException.getKeyword();
+    return keyword;
   }
 
   public Object getPropertyFromViolatedSchema(String key) {
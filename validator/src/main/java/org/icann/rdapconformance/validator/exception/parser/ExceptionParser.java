@@ -6,7 +6,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 import org.everit.json.schema.Schema;
-import org.everit.json.schema.ValidationException;
 import org.icann.rdapconformance.validator.exception.ValidationExceptionNode;
 import org.icann.rdapconformance.validator.schema.SchemaNode;
 import org.icann.rdapconformance.validator.schema.ValidationNode;
@@ -21,7 +20,6 @@ public abstract class ExceptionParser {
   private static final Logger logger = LoggerFactory.getLogger(ExceptionParser.class);
   protected final ValidationExceptionNode e;
   protected final Schema schema;
-  protected final JSONObject schemaObject;
   protected final JSONObject jsonObject;
   protected final RDAPValidatorResults results;
   public final static int UNKNOWN_ERROR_CODE = -999;
@@ -30,19 +28,18 @@ public abstract class ExceptionParser {
       JSONObject jsonObject, RDAPValidatorResults results) {
     this.e = e;
     this.schema = schema;
-    this.schemaObject = new JSONObject(schema.toString());
     this.jsonObject = jsonObject;
     this.results = results;
   }
 
+  /**
+   * The parsers of the leaf violations, see {@link ValidationExceptionNode#flatten}.
+   */
   public static List<ExceptionParser> createParsers(
-      ValidationException e,
+      List<ValidationExceptionNode> basicExceptions,
       Schema schema,
       JSONObject object, RDAPValidatorResults results) {
     List<ExceptionParser> parsers = new ArrayList<>();
-
-    ValidationExceptionNode rootException = new ValidationExceptionNode(null, e);
-    List<ValidationExceptionNode> basicExceptions = rootException.getAllExceptions();
     for (ValidationExceptionNode basicException : basicExceptions) {
       parsers.add(new UnknowKeyExceptionParser(basicException, schema, object, results));
       parsers.add(new BasicTypeExceptionParser(basicException, schema, object, results));
@@ -79,14 +76,23 @@ public abstract class ExceptionParser {
 
   public abstract boolean matches(ValidationExceptionNode e);
 
-  public void parse() {
+  /**
+   * Parse the violation if the parser matches it, and return whether it did.
+   */
+  public boolean parse() {
     if (matches(e)) {
       doParse();
 
       if (e.getPointerToViolation() != null) {
         validateGroupTest(e.getPointerToViolation(), jsonObject, results, schema);
       }
+      return true;
     }
+    return false;
+  }
+
+  public ValidationExceptionNode getException() {
+    return e;
   }
 
   public static void validateGroupTest(String jsonPointer, JSONObject jsonObject,
@@ -0,0 +1,389 @@
+package org.icann.rdapconformance.validator.generator;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.icann.rdapconformance.validator.generator.Violation.Site;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Generates synthetic RDAP responses (domain, entity, nameserver and nameservers search) of a
+ * parameterized size and nesting depth, optionally with deliberate violations injected at a chosen
+ * rate.
+ *
+ * <p>Generation is deterministic for a given seed.</p>
+ */
+public class RDAPResponseGenerator {
+
+  public enum ResponseType {
+    DOMAIN,
+    ENTITY,
+    NAMESERVER,
+    NAMESERVERS_SEARCH
+  }
+
+  private static final List<String> CONTACT_ROLES = List.of("registrant", "administrative",
+      "technical", "billing");
+  private static final List<String> NESTED_ROLES = List.of("technical", "administrative",
+      "billing", "abuse", "noc", "notifications");
+  private static final List<String> EVENT_ACTIONS = List.of("registration", "last changed",
+      "transfer", "reregistration", "expiration", "locked", "unlocked");
+  private static final Instant EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+
+  private final ResponseType type;
+  private final int entities;
+  private final int entityDepth;
+  private final int vcardProperties;
+  private final int events;
+  private final int nameservers;
+  private final int searchResults;
+  private final double violationRate;
+  private final Set<Violation> violations;
+  private final Random random;
+  private final Map<Violation, Integer> injected = new EnumMap<>(Violation.class);
+  private int sequence;
+
+  private RDAPResponseGenerator(Builder builder) {
+    this.type = builder.type;
+    this.entities = builder.entities;
+    this.entityDepth = builder.entityDepth;
+    this.vcardProperties = builder.vcardProperties;
+    this.events = builder.events;
+    this.nameservers = builder.nameservers;
+    this.searchResults = builder.searchResults;
+    this.violationRate = builder.violationRate;
+    this.violations = builder.violations;
+    this.random = new Random(builder.seed);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Generate a new response, the violations injected so far are available in the result.
+   */
+  public GeneratedResponse generate() {
+    injected.clear();
+    sequence = 0;
+    JSONObject response;
+    switch (type) {
+      case ENTITY:
+        response = entity(entityDepth - 1, "registrant");
+        break;
+      case NAMESERVER:
+        response = nameserver(0);
+        break;
+      case NAMESERVERS_SEARCH:
+        response = nameserversSearch();
+        break;
+      case DOMAIN:
+      default:
+        response = domain();
+        break;
+    }
+    addTopMost(response);
+    return new GeneratedResponse(response, new EnumMap<>(injected));
+  }
+
+  private JSONObject domain() {
+    JSONObject domain = new JSONObject();
+    domain.put("objectClassName", "domain");
+    domain.put("handle", handle("DOMAIN"));
+    domain.put("ldhName", "EXAMPLE.COM");
+    domain.put("links", links("domain/EXAMPLE.COM"));
+    domain.put("status", new JSONArray().put("client transfer prohibited"));
+    domain.put("entities", entities());
+    domain.put("events", events(true));
+    domain.put("secureDNS", new JSONObject().put("delegationSigned", false));
+    JSONArray nameserverArray = new JSONArray();
+    for (int i = 0; i < nameservers; i++) {
+      nameserverArray.put(nameserver(i));
+    }
+    domain.put("nameservers", nameserverArray);
+    return domain;
+  }
+
+  private JSONObject nameserversSearch() {
+    JSONObject search = new JSONObject();
+    JSONArray results = new JSONArray();
+    for (int i = 0; i < searchResults; i++) {
+      results.put(nameserver(i));
+    }
+    search.put("nameserverSearchResults", results);
+    search.put("events", events(false));
+    return search;
+  }
+
+  private JSONArray entities() {
+    JSONArray entityArray = new JSONArray();
+    JSONObject registrar = entity(entityDepth - 1, "registrar");
+    registrar.put("publicIds", new JSONArray().put(new JSONObject()
+        .put("type", "IANA Registrar ID")
+        .put("identifier", "292")));
+    entityArray.put(registrar);
+    for (int i = 1; i < entities; i++) {
+      entityArray.put(entity(entityDepth - 1, CONTACT_ROLES.get(i % CONTACT_ROLES.size())));
+    }
+    return entityArray;
+  }
+
+  private JSONObject entity(int remainingDepth, String role) {
+    JSONObject entity = new JSONObject();
+    entity.put("objectClassName", "entity");
+    String handle = handle("ENTITY");
+    entity.put("handle", handle);
+    entity.put("roles", new JSONArray().put(role));
+    entity.put("vcardArray", vcardArray(handle));
+    entity.put("events", events(false));
+    if (remainingDepth > 0) {
+      JSONArray children = new JSONArray();
+      for (int i = 0; i < entities; i++) {
+        children.put(entity(remainingDepth - 1, NESTED_ROLES.get(i % NESTED_ROLES.size())));
+      }
+      entity.put("entities", children);
+    }
+    maybeInject(Site.ENTITY, entity);
+    return entity;
+  }
+
+  private JSONArray vcardArray(String handle) {
+    JSONArray properties = new JSONArray();
+    properties.put(vcardProperty("version", new JSONObject(), "text", "4.0"));
+    properties.put(vcardProperty("fn", new JSONObject(), "text", "Contact " + handle));
+    for (int i = 0; i < vcardProperties; i++) {
+      switch (i % 4) {
+        case 0:
+          properties.put(vcardProperty("tel", new JSONObject().put("type", "voice"), "uri",
+              "tel:+1.555555" + String.format("%04d", i % 10000)));
+          break;
+        case 1:
+          properties.put(vcardProperty("email", new JSONObject(), "text",
+              "contact" + i + "@example.com"));
+          break;
+        case 2:
+          properties.put(vcardProperty("adr", new JSONObject().put("type", "work"), "text",
+              new JSONArray(List.of("", "Suite " + i, "4321 Rue Somewhere", "Quebec", "QC",
+                  "G1V 2M2", ""))));
+          break;
+        default:
+          properties.put(vcardProperty("org", new JSONObject(), "text", "Example " + i));
+          break;
+      }
+    }
+    return new JSONArray().put("vcard").put(properties);
+  }
+
+  private static JSONArray vcardProperty(String name, JSONObject parameters, String type,
+      Object value) {
+    return new JSONArray().put(name).put(parameters).put(type).put(value);
+  }
+
+  private JSONObject nameserver(int index) {
+    JSONObject nameserver = new JSONObject();
+    String ldhName = "NS" + index + ".EXAMPLE.COM";
+    nameserver.put("objectClassName", "nameserver");
+    nameserver.put("handle", handle("NS"));
+    nameserver.put("ldhName", ldhName);
+    nameserver.put("status", new JSONArray().put("active"));
+    nameserver.put("ipAddresses", new JSONObject()
+        .put("v4", new JSONArray().put("216.239.32." + (index % 254 + 1)))
+        .put("v6", new JSONArray().put("2001:4860:4802:32:0:0:0:" + Integer.toHexString(
+            index % 0xffff + 1).toUpperCase())));
+    nameserver.put("links", links("nameserver/" + ldhName));
+    maybeInject(Site.NAMESERVER, nameserver);
+    return nameserver;
+  }
+
+  private JSONArray events(boolean withLastUpdate) {
+    JSONArray eventArray = new JSONArray();
+    for (int i = 0; i < events; i++) {
+      JSONObject event = new JSONObject()
+          .put("eventAction", EVENT_ACTIONS.get(i % EVENT_ACTIONS.size()))
+          .put("eventDate", EPOCH.plus(sequence + i, ChronoUnit.DAYS).toString());
+      maybeInject(Site.EVENT, event);
+      eventArray.put(event);
+    }
+    if (withLastUpdate) {
+      eventArray.put(new JSONObject()
+          .put("eventAction", "last update of RDAP database")
+          .put("eventDate", "2021-03-18T09:24:18Z"));
+    }
+    return eventArray;
+  }
+
+  private static JSONArray links(String path) {
+    String href = "https://rdap.example.com/" + path;
+    return new JSONArray().put(new JSONObject()
+        .put("value", href)
+        .put("rel", "self")
+        .put("href", href)
+        .put("type", "application/rdap+json"));
+  }
+
+  private static void addTopMost(JSONObject response) {
+    response.put("rdapConformance", new JSONArray(List.of("rdap_level_0",
+        "icann_rdap_technical_implementation_guide_0", "icann_rdap_response_profile_0")));
+    response.put("notices", new JSONArray().put(new JSONObject()
+        .put("title", "Terms of Use")
+        .put("description", new JSONArray().put("Service subject to Terms of Use."))
+        .put("links", new JSONArray().put(new JSONObject()
+            .put("href", "https://www.example.com/terms-service/index.xhtml")
+            .put("type", "text/html")))));
+  }
+
+  private String handle(String suffix) {
+    return ++sequence + "_" + suffix + "-EXMP";
+  }
+
+  private void maybeInject(Site site, JSONObject jsonObject) {
+    if (violationRate <= 0 || random.nextDouble() >= violationRate) {
+      return;
+    }
+    List<Violation> candidates = violations.stream()
+        .filter(v -> v.getSite() == site)
+        .collect(Collectors.toList());
+    if (candidates.isEmpty()) {
+      return;
+    }
+    Violation violation = candidates.get(random.nextInt(candidates.size()));
+    violation.inject(jsonObject);
+    injected.merge(violation, 1, Integer::sum);
+  }
+
+  /**
+   * A generated response and the violations it contains.
+   */
+  public static class GeneratedResponse {
+
+    private final JSONObject json;
+    private final Map<Violation, Integer> violations;
+
+    private GeneratedResponse(JSONObject json, Map<Violation, Integer> violations) {
+      this.json = json;
+      this.violations = violations;
+    }
+
+    public JSONObject getJson() {
+      return json;
+    }
+
+    /**
+     * Number of times each violation was injected.
+     */
+    public Map<Violation, Integer> getViolations() {
+      return violations;
+    }
+
+    /**
+     * Codes the schema validation is expected to report given the injected violations.
+     */
+    public Set<Integer> getExpectedCodes() {
+      return violations.keySet().stream()
+          .map(Violation::getExpectedCode)
+          .collect(Collectors.toSet());
+    }
+
+    @Override
+    public String toString() {
+      return json.toString();
+    }
+  }
+
+  public static class Builder {
+
+    private ResponseType type = ResponseType.DOMAIN;
+    private int entities = 5;
+    private int entityDepth = 2;
+    private int vcardProperties = 4;
+    private int events = 3;
+    private int nameservers = 4;
+    private int searchResults = 100;
+    private double violationRate = 0;
+    private Set<Violation> violations = EnumSet.allOf(Violation.class);
+    private long seed = 0;
+
+    public Builder type(ResponseType type) {
+      this.type = type;
+      return this;
+    }
+
+    /**
+     * Number of entities at each nesting level.
+     */
+    public Builder entities(int entities) {
+      this.entities = entities;
+      return this;
+    }
+
+    /**
+     * Nesting depth of the entities, 1 meaning no nested entities.
+     */
+    public Builder entityDepth(int entityDepth) {
+      this.entityDepth = entityDepth;
+      return this;
+    }
+
+    /**
+     * Number of vCard properties in addition to version and fn.
+     */
+    public Builder vcardProperties(int vcardProperties) {
+      this.vcardProperties = vcardProperties;
+      return this;
+    }
+
+    public Builder events(int events) {
+      this.events = events;
+      return this;
+    }
+
+    /**
+     * Number of nameservers in a domain response.
+     */
+    public Builder nameservers(int nameservers) {
+      this.nameservers = nameservers;
+      return this;
+    }
+
+    /**
+     * Number of nameservers in a nameservers search response.
+     */
+    public Builder searchResults(int searchResults) {
+      this.searchResults = searchResults;
+      return this;
+    }
+
+    /**
+     * Probability, between 0 and 1, that each event, entity or nameserver gets a violation.
+     */
+    public Builder violationRate(double violationRate) {
+      this.violationRate = violationRate;
+      return this;
+    }
+
+    /**
+     * The violations to choose from when injecting, all by default.
+     */
+    public Builder violations(Set<Violation> violations) {
+      this.violations = violations.isEmpty() ? EnumSet.noneOf(Violation.class)
+          : EnumSet.copyOf(violations);
+      return this;
+    }
+
+    public Builder seed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    public RDAPResponseGenerator build() {
+      return new RDAPResponseGenerator(this);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package org.icann.rdapconformance.validator.generator;
+
+import org.json.JSONObject;
+
+/**
+ * A deliberate schema violation that {@link RDAPResponseGenerator} can inject, together with the
+ * error code {@link org.icann.rdapconformance.validator.SchemaValidator} is expected to report for
+ * it.
+ */
+public enum Violation {
+
+  EVENT_DATE(Site.EVENT, -10908) {
+    @Override
+    void inject(JSONObject event) {
+      event.put("eventDate", "not-a-date");
+    }
+  },
+  EVENT_ACTION_MISSING(Site.EVENT, -10903) {
+    @Override
+    void inject(JSONObject event) {
+      event.remove("eventAction");
+    }
+  },
+  ENTITY_ROLE(Site.ENTITY, -11801) {
+    @Override
+    void inject(JSONObject entity) {
+      entity.getJSONArray("roles").put(0);
+    }
+  },
+  ENTITY_UNKNOWN_KEY(Site.ENTITY, -12301) {
+    @Override
+    void inject(JSONObject entity) {
+      entity.put("unknown", "value");
+    }
+  },
+  VCARD_ARRAY(Site.ENTITY, -12305) {
+    @Override
+    void inject(JSONObject entity) {
+      entity.getJSONArray("vcardArray").put(0, "not-a-vcard");
+    }
+  },
+  NAMESERVER_STATUS(Site.NAMESERVER, -11001) {
+    @Override
+    void inject(JSONObject nameserver) {
+      nameserver.getJSONArray("status").put(0);
+    }
+  },
+  NAMESERVER_IPV4(Site.NAMESERVER, -11404) {
+    @Override
+    void inject(JSONObject nameserver) {
+      nameserver.getJSONObject("ipAddresses").getJSONArray("v4").put("256.0.0.1");
+    }
+  };
+
+  /**
+   * The kind of JSON object a violation is injected into.
+   */
+  enum Site {
+    EVENT,
+    ENTITY,
+    NAMESERVER
+  }
+
+  private final Site site;
+  private final int expectedCode;
+
+  Violation(Site site, int expectedCode) {
+    this.site = site;
+    this.expectedCode = expectedCode;
+  }
+
+  Site getSite() {
+    return site;
+  }
+
+  public int getExpectedCode() {
+    return expectedCode;
+  }
+
+  abstract void inject(JSONObject jsonObject);
+}
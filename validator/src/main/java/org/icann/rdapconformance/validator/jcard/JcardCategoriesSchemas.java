@@ -1,40 +1,70 @@
 package org.icann.rdapconformance.validator.jcard;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.loader.SchemaClient;
 import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 
-public class JcardCategoriesSchemas {
+/**
+ * Schemas of the jCard categories, including the x- extension fallback. They are all compiled
+ * once, when the class is loaded; compiled schemas are immutable, hence shared by all the
+ * validations and threads.
+ */
+public final class JcardCategoriesSchemas {
 
-  private final JSONObject jsonSchema;
-  private final static Pattern extensionPattern = Pattern.compile("x-[a-z0-9-]*");
+  private static final String EXTENSION_CATEGORY = "x-[a-z0-9-]*";
+  private final static Pattern extensionPattern = Pattern.compile(EXTENSION_CATEGORY);
 
-  public JcardCategoriesSchemas() {
-    jsonSchema = new JSONObject(
+  private static final JcardCategoriesSchemas INSTANCE = new JcardCategoriesSchemas();
+
+  private final Map<String, Schema> schemas;
+
+  private JcardCategoriesSchemas() {
+    JSONObject jsonSchema = new JSONObject(
         new JSONTokener(
             Objects.requireNonNull(
                 getClass().getClassLoader().getResourceAsStream("json-schema/jcard_categories"
                     + ".json")))).getJSONObject("definitions");
+    Map<String, Schema> compiled = new HashMap<>();
+    for (String category : jsonSchema.keySet()) {
+      compiled.put(category, SchemaLoader.builder()
+          .schemaClient(SchemaClient.classPathAwareClient())
+          .schemaJson(jsonSchema.getJSONObject(category))
+          .resolutionScope("classpath://json-schema/")
+          .draftV7Support()
+          .build().load().build());
+    }
+    schemas = Map.copyOf(compiled);
+  }
+
+  public static JcardCategoriesSchemas getInstance() {
+    return INSTANCE;
   }
 
   public boolean hasCategory(String category) {
-    return jsonSchema.has(category);
+    return schemas.containsKey(category);
   }
 
+  /**
+   * The schema of the category, or of the extensions for an unknown category containing an
+   * extension name.
+   *
+   * @throws JSONException if the category is unknown
+   */
   public Schema getCategory(String category) {
-    if (!jsonSchema.has(category) && extensionPattern.matcher(category).find()) {
-      category = "x-[a-z0-9-]*";
+    Schema schema = schemas.get(category);
+    if (schema == null && extensionPattern.matcher(category).find()) {
+      schema = schemas.get(EXTENSION_CATEGORY);
     }
-
-    return SchemaLoader.builder()
-        .schemaClient(SchemaClient.classPathAwareClient())
-        .schemaJson(jsonSchema.getJSONObject(category))
-        .resolutionScope("classpath://json-schema/")
-        .draftV7Support()
-        .build().load().build();
+    if (schema == null) {
+      throw new JSONException("Unknown jCard category " + category);
+    }
+    return schema;
   }
 }
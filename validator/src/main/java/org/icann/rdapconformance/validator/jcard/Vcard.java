@@ -0,0 +1,90 @@
+package org.icann.rdapconformance.validator.jcard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.json.JSONArray;
+
+/**
+ * A vcardArray parsed once into its properties, indexed by name, so that the vcard validations do
+ * not walk the JSON arrays again.
+ *
+ * <p>A property which is not an array starting with a string name makes the vcard malformed,
+ * and is left out of the properties.</p>
+ */
+public final class Vcard {
+
+  private static final Vcard EMPTY = new Vcard(List.of(), true);
+
+  private final List<VcardProperty> properties;
+  private final Map<String, List<VcardProperty>> propertiesByName;
+  private final boolean wellFormed;
+
+  private Vcard(List<VcardProperty> properties, boolean wellFormed) {
+    this.properties = List.copyOf(properties);
+    Map<String, List<VcardProperty>> propertiesByName = new LinkedHashMap<>();
+    for (VcardProperty property : properties) {
+      propertiesByName.computeIfAbsent(property.getName(), name -> new ArrayList<>())
+          .add(property);
+    }
+    propertiesByName.replaceAll((name, namedProperties) -> List.copyOf(namedProperties));
+    this.propertiesByName = Collections.unmodifiableMap(propertiesByName);
+    this.wellFormed = wellFormed;
+  }
+
+  /**
+   * Parse the value of a vcardArray member found at the JSON pointer; a missing value gives an
+   * empty vcard, any other value than an array a malformed one.
+   */
+  public static Vcard parse(Object vcardArray, String jsonPointer) {
+    if (vcardArray == null) {
+      return EMPTY;
+    }
+    if (!(vcardArray instanceof JSONArray)) {
+      return new Vcard(List.of(), false);
+    }
+    List<VcardProperty> properties = new ArrayList<>();
+    boolean wellFormed = true;
+    JSONArray elements = (JSONArray) vcardArray;
+    for (int elementIndex = 0; elementIndex < elements.length(); elementIndex++) {
+      if (!(elements.get(elementIndex) instanceof JSONArray)) {
+        continue;
+      }
+      JSONArray element = elements.getJSONArray(elementIndex);
+      for (int propertyIndex = 0; propertyIndex < element.length(); propertyIndex++) {
+        JSONArray property = element.optJSONArray(propertyIndex);
+        if (property == null || !(property.opt(0) instanceof String)) {
+          wellFormed = false;
+          continue;
+        }
+        properties.add(new VcardProperty(property.getString(0), property,
+            jsonPointer + "/" + elementIndex + "/" + propertyIndex));
+      }
+    }
+    return new Vcard(properties, wellFormed);
+  }
+
+  /**
+   * All the properties, in order.
+   */
+  public List<VcardProperty> getProperties() {
+    return properties;
+  }
+
+  /**
+   * The properties with this name, in order; empty if there is none.
+   */
+  public List<VcardProperty> get(String name) {
+    return propertiesByName.getOrDefault(name, List.of());
+  }
+
+  public boolean has(String name) {
+    return propertiesByName.containsKey(name);
+  }
+
+  public boolean isWellFormed() {
+    return wellFormed;
+  }
+}
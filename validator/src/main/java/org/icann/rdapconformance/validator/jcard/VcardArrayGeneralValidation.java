@@ -1,10 +1,10 @@
 package org.icann.rdapconformance.validator.jcard;
 
+import java.util.Set;
 import org.everit.json.schema.ValidationException;
 import org.icann.rdapconformance.validator.workflow.profile.RDAPProfileVcardArrayValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
-import org.json.JSONArray;
 
 public class VcardArrayGeneralValidation extends RDAPProfileVcardArrayValidation {
 
@@ -17,16 +17,38 @@ public class VcardArrayGeneralValidation extends RDAPProfileVcardArrayValidation
     return "stdRdapEntityLookupValidation";
   }
 
+  /**
+   * The well-formed properties are validated by category, and a vcardArray with malformed
+   * properties is reported once, by this validation only.
+   */
   @Override
-  protected boolean validateVcardArray(String category, JSONArray categoryJsonArray,
-      String jsonExceptionPointer, JcardCategoriesSchemas jcardCategoriesSchemas) {
+  protected boolean doValidate() {
+    boolean isValid = super.doValidate();
+    for (String jsonPointer : getPointerFromJPath("$..entities..vcardArray")) {
+      if (!getVcard(jsonPointer).isWellFormed()) {
+        results.add(RDAPValidationResult.builder()
+            .code(-12305)
+            .value(getResultValue(jsonPointer))
+            .message(
+                "The value for the JSON name value is not a syntactically valid vcardArray.")
+            .build());
+        isValid = false;
+      }
+    }
+    return isValid;
+  }
+
+  @Override
+  protected boolean validateVcardProperty(VcardProperty property,
+      JcardCategoriesSchemas jcardCategoriesSchemas) {
+    String category = property.getName();
     if (jcardCategoriesSchemas.hasCategory(category)) {
       try {
-        jcardCategoriesSchemas.getCategory(category).validate(categoryJsonArray);
+        jcardCategoriesSchemas.getCategory(category).validate(property.getJson());
       } catch (ValidationException e) {
         results.add(RDAPValidationResult.builder()
             .code(-12305)
-            .value(jsonExceptionPointer + ":" + categoryJsonArray)
+            .value(property.getJsonPointer() + ":" + property)
             .message(
                 "The value for the JSON name value is not a syntactically valid vcardArray.")
             .build());
@@ -35,11 +57,16 @@ public class VcardArrayGeneralValidation extends RDAPProfileVcardArrayValidation
     } else {
       results.add(RDAPValidationResult.builder()
           .code(-12305)
-          .value(jsonExceptionPointer + ":" + category)
+          .value(property.getJsonPointer() + ":" + category)
           .message("unknown vcard category: \"" + category + "\".")
           .build());
       return false;
     }
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-12305);
+  }
 }
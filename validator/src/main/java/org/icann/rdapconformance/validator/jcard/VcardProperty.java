@@ -0,0 +1,96 @@
+package org.icann.rdapconformance.validator.jcard;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * A property of a jCard: ["name", {parameters}, "value type", value, ...].
+ */
+public final class VcardProperty {
+
+  private final String name;
+  private final JSONObject parameters;
+  private final String valueType;
+  private final List<Object> values;
+  private final JSONArray json;
+  private final String jsonPointer;
+
+  VcardProperty(String name, JSONArray json, String jsonPointer) {
+    this.name = name;
+    this.parameters = json.optJSONObject(1);
+    this.valueType = json.opt(2) instanceof String ? (String) json.opt(2) : null;
+    List<Object> values = new ArrayList<>();
+    for (int i = 3; i < json.length(); i++) {
+      values.add(json.get(i));
+    }
+    this.values = List.copyOf(values);
+    this.json = json;
+    this.jsonPointer = jsonPointer;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * The parameters object, null if it is missing or not an object.
+   */
+  public JSONObject getParameters() {
+    return parameters;
+  }
+
+  public boolean hasParameter(String parameter) {
+    return parameters != null && parameters.has(parameter);
+  }
+
+  /**
+   * First value of the parameter, which is either a string or an array of strings; null if the
+   * parameter is missing or empty.
+   */
+  public String getParameter(String parameter) {
+    Object value = parameters == null ? null : parameters.opt(parameter);
+    if (value instanceof JSONArray) {
+      value = ((JSONArray) value).opt(0);
+    }
+    return value == null ? null : value.toString();
+  }
+
+  /**
+   * The value type, null if it is missing or not a string.
+   */
+  public String getValueType() {
+    return valueType;
+  }
+
+  /**
+   * The values following the value type, usually only one.
+   */
+  public List<Object> getValues() {
+    return values;
+  }
+
+  /**
+   * The first value, null if there is none.
+   */
+  public Object getValue() {
+    return values.isEmpty() ? null : values.get(0);
+  }
+
+  /**
+   * The property as found in the response.
+   */
+  public JSONArray getJson() {
+    return json;
+  }
+
+  public String getJsonPointer() {
+    return jsonPointer;
+  }
+
+  @Override
+  public String toString() {
+    return json.toString();
+  }
+}
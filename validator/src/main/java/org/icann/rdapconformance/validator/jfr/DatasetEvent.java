@@ -0,0 +1,23 @@
+package org.icann.rdapconformance.validator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(RDAPFlightRecording.EVENT_PREFIX + "Dataset")
+@Label("Dataset")
+@Category(RDAPFlightRecording.CATEGORY)
+@Description("Download or parsing of an IANA dataset")
+public class DatasetEvent extends jdk.jfr.Event {
+
+  @Label("Dataset")
+  public String dataset;
+
+  @Label("Operation")
+  @Description("download or parse")
+  public String operation;
+
+  @Label("Success")
+  public boolean success;
+}
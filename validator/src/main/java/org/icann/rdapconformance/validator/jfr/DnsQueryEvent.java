@@ -0,0 +1,31 @@
+package org.icann.rdapconformance.validator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(RDAPFlightRecording.EVENT_PREFIX + "DnsQuery")
+@Label("DNS Query")
+@Category(RDAPFlightRecording.CATEGORY)
+@Description("DNS lookup of the RDAP server host")
+public class DnsQueryEvent extends jdk.jfr.Event {
+
+  @Label("Name")
+  public String name;
+
+  @Label("Type")
+  public String type;
+
+  @Label("Result")
+  @Description("dnsjava lookup result: 0 successful, 1 unrecoverable, 2 try again, "
+      + "3 host not found, 4 type not found")
+  public int result;
+
+  @Label("Answers")
+  public int answers;
+
+  @Label("Cached")
+  @Description("Answered from the DNS cache")
+  public boolean cached;
+}
@@ -0,0 +1,31 @@
+package org.icann.rdapconformance.validator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(RDAPFlightRecording.EVENT_PREFIX + "HttpRequest")
+@Label("HTTP Request")
+@Category(RDAPFlightRecording.CATEGORY)
+@Description("HTTP request made to the RDAP server")
+public class HttpRequestEvent extends jdk.jfr.Event {
+
+  @Label("URI")
+  public String uri;
+
+  @Label("Method")
+  public String method;
+
+  @Label("Status Code")
+  @Description("HTTP status code of the final response, -1 if the request failed")
+  public int status = -1;
+
+  @Label("Body Size")
+  @DataAmount
+  public long bytes;
+
+  @Label("HTTP Version")
+  public String httpVersion;
+}
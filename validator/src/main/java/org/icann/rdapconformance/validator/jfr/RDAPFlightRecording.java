@@ -0,0 +1,60 @@
+package org.icann.rdapconformance.validator.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+
+/**
+ * Java Flight Recorder recording of the RDAP conformance events, on top of the JVM default
+ * settings.
+ *
+ * <p>The events cost next to nothing when no recording is running, so they are always emitted.</p>
+ */
+public class RDAPFlightRecording {
+
+  static final String EVENT_PREFIX = "org.icann.rdapconformance.";
+  static final String CATEGORY = "RDAP Conformance";
+  private static final List<Class<? extends Event>> EVENTS = List.of(HttpRequestEvent.class,
+      DnsQueryEvent.class, TlsHandshakeEvent.class, DatasetEvent.class, ValidationEvent.class);
+
+  private RDAPFlightRecording() {
+  }
+
+  /**
+   * Start a recording dumped into the given file once stopped.
+   */
+  public static Recording start(Path destination) throws IOException {
+    Recording recording;
+    try {
+      recording = new Recording(Configuration.getConfiguration("default"));
+    } catch (ParseException e) {
+      throw new IOException("Cannot load the default JFR configuration", e);
+    }
+    for (Class<? extends Event> event : EVENTS) {
+      recording.enable(event).withoutThreshold().withStackTrace();
+    }
+    recording.setName("rdap-conformance");
+    recording.setToDisk(true);
+    recording.setDestination(destination);
+    recording.start();
+    return recording;
+  }
+
+  /**
+   * Run the task while recording into the given file, which is written even if the task throws.
+   */
+  public static <T> T record(Path destination, Callable<T> task) throws Exception {
+    try (Recording recording = start(destination)) {
+      try {
+        return task.call();
+      } finally {
+        recording.stop();
+      }
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package org.icann.rdapconformance.validator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(RDAPFlightRecording.EVENT_PREFIX + "TlsHandshake")
+@Label("TLS Handshake")
+@Category(RDAPFlightRecording.CATEGORY)
+@Description("TLS handshake made to check the protocols offered by the RDAP server")
+public class TlsHandshakeEvent extends jdk.jfr.Event {
+
+  @Label("Host")
+  public String host;
+
+  @Label("Port")
+  public int port;
+
+  @Label("Requested Protocol")
+  @Description("Only protocol enabled for the handshake")
+  public String requestedProtocol;
+
+  @Label("Protocol")
+  @Description("Negotiated protocol, null if the handshake failed")
+  public String protocol;
+
+  @Label("Cipher Suite")
+  @Description("Negotiated cipher suite, null if the handshake failed")
+  public String cipherSuite;
+}
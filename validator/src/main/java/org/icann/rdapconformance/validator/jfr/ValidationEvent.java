@@ -0,0 +1,19 @@
+package org.icann.rdapconformance.validator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(RDAPFlightRecording.EVENT_PREFIX + "Validation")
+@Label("Validation")
+@Category(RDAPFlightRecording.CATEGORY)
+@Description("Profile validation of the RDAP response")
+public class ValidationEvent extends jdk.jfr.Event {
+
+  @Label("Group")
+  public String group;
+
+  @Label("Valid")
+  public boolean valid;
+}
@@ -3,15 +3,19 @@ package org.icann.rdapconformance.validator.schema;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import org.everit.json.schema.ArraySchema;
 import org.everit.json.schema.CombinedSchema;
+import org.everit.json.schema.FormatValidator;
 import org.everit.json.schema.ObjectSchema;
 import org.everit.json.schema.ReferenceSchema;
 import org.everit.json.schema.Schema;
+import org.everit.json.schema.StringSchema;
 
 public abstract class SchemaNode {
 
@@ -217,4 +221,72 @@ public abstract class SchemaNode {
     }
     return values;
   }
+
+  /**
+   * The result codes a violation of each string format can be reported with: the error codes of
+   * the string schemas with this format, and the codes of the validations containing them. A
+   * format with a code which cannot be found is left out.
+   */
+  public Map<FormatValidator, Set<Integer>> findCodesByFormat() {
+    Map<FormatValidator, Set<Integer>> codesByFormat = new IdentityHashMap<>();
+    Set<FormatValidator> unknownCodes = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<Schema> path = Collections.newSetFromMap(new IdentityHashMap<>());
+    path.add(schema);
+    findCodesByFormat(codesByFormat, unknownCodes, path);
+    unknownCodes.forEach(codesByFormat::remove);
+    return codesByFormat;
+  }
+
+  private void findCodesByFormat(Map<FormatValidator, Set<Integer>> codesByFormat,
+      Set<FormatValidator> unknownCodes, Set<Schema> path) {
+    if (schema instanceof StringSchema) {
+      FormatValidator formatValidator = ((StringSchema) schema).getFormatValidator();
+      if (formatValidator != null && formatValidator != FormatValidator.NONE
+          && !addViolationCodes(codesByFormat.computeIfAbsent(formatValidator,
+          f -> new HashSet<>()))) {
+        unknownCodes.add(formatValidator);
+      }
+    }
+
+    // unlike findAllChildren, a schema is visited again under each of its parents since the
+    // validation codes depend on them; only a schema already in the path is skipped:
+    for (SchemaNode schemaNode : getChildren()) {
+      // jcard schema has recursive sub schemas without ids and no dataset format:
+      if (schemaNode.propertyName.equals("vcardArray") || !path.add(schemaNode.schema)) {
+        continue;
+      }
+      schemaNode.findCodesByFormat(codesByFormat, unknownCodes, path);
+      path.remove(schemaNode.schema);
+    }
+  }
+
+  /**
+   * Add the codes a violation of this schema is reported with, see
+   * ValidationExceptionNode#getErrorCodeFromViolatedSchema and ExceptionParser#validateGroupTest.
+   */
+  private boolean addViolationCodes(Set<Integer> codes) {
+    SchemaNode node = this;
+    while (!node.containsErrorKey("errorCode") && node.parentNode != null) {
+      node = node.parentNode;
+      // the error code is searched in the container schemas only:
+      if (!(node instanceof ArraySchemaNode || node instanceof CombinedSchemaNode
+          || node instanceof ReferenceSchemaNode)) {
+        break;
+      }
+    }
+    if (!(node.getErrorKey("errorCode") instanceof Integer)) {
+      return false;
+    }
+    codes.add(node.getErrorCode("errorCode"));
+
+    for (SchemaNode parent = this; parent != null; parent = parent.parentNode) {
+      if (parent.containsErrorKey("validationName")) {
+        ValidationNode validationNode = new ValidationNode(parent, "validationName");
+        if (validationNode.hasParentValidationCode()) {
+          codes.add(validationNode.getParentValidationCode());
+        }
+      }
+    }
+    return true;
+  }
 }
@@ -0,0 +1,40 @@
+package org.icann.rdapconformance.validator.sweep;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * The options of a sweep, applied to the validation of each target; see
+ * {@link org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration} for their
+ * meaning.
+ */
+public interface SweepOptions {
+
+  URI getConfigurationFile();
+
+  int getTimeout();
+
+  int getMaxRedirects();
+
+  boolean useLocalDatasets();
+
+  boolean useRdapProfileFeb2019();
+
+  boolean useNdjsonResults();
+
+  int getMaxResultValueLength();
+
+  int getDomainNameCacheSize();
+
+  List<String> getDnsResolvers();
+
+  long getMaxResponseSize();
+
+  String getResultCacheDirectory();
+
+  double getHostRequestRate();
+
+  double getIpRequestRate();
+
+  int getMaxRetries();
+}
@@ -0,0 +1,136 @@
+package org.icann.rdapconformance.validator.sweep;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationStatus;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Newline-delimited JSON report of a sweep, with one line per validated target written as soon
+ * as its validation ends.
+ *
+ * <p>The report is also the checkpoint of the sweep: the targets already in the report are not
+ * validated again when the sweep is resumed, and a line left incomplete by a crash is
+ * dropped.</p>
+ */
+public class SweepReport implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(SweepReport.class);
+  static final String ERROR = "ERROR";
+
+  private final Set<String> completed = new HashSet<>();
+  private final Map<String, Integer> outcomes = new TreeMap<>();
+  private final BufferedWriter writer;
+
+  private SweepReport(Path path, boolean restart) throws IOException {
+    if (!restart && Files.exists(path)) {
+      resume(path);
+      writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    } else {
+      writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * Open the report of a sweep, resuming the existing one unless restarting.
+   */
+  public static SweepReport open(Path path, boolean restart) throws IOException {
+    return new SweepReport(path, restart);
+  }
+
+  private void resume(Path path) throws IOException {
+    byte[] content = Files.readAllBytes(path);
+    int end = content.length;
+    while (end > 0 && content[end - 1] != '\n') {
+      end--;
+    }
+    if (end < content.length) {
+      logger.info("Dropping the incomplete last line of {}", path);
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        channel.truncate(end);
+      }
+    }
+    for (String line : new String(content, 0, end, StandardCharsets.UTF_8).split("\n")) {
+      if (line.isBlank()) {
+        continue;
+      }
+      try {
+        JSONObject entry = new JSONObject(line);
+        completed.add(entry.getString("target"));
+        outcomes.merge(entry.getString("outcome"), 1, Integer::sum);
+      } catch (JSONException e) {
+        logger.warn("Ignoring an invalid line of {}: {}", path, line);
+      }
+    }
+    logger.info("Resuming the sweep of {}: {} targets already validated", path,
+        completed.size());
+  }
+
+  public synchronized boolean isCompleted(SweepTarget target) {
+    return completed.contains(target.getId());
+  }
+
+  /**
+   * Record the validation of a target.
+   *
+   * @param status the return code of the validation, null if it failed with an exception
+   * @param resultsPath the results file of the validation, null if none was written
+   * @param error the failure of the validation, null if it returned
+   */
+  public synchronized void record(SweepTarget target, Integer status, String resultsPath,
+      long durationMs, String error) throws IOException {
+    String outcome = status == null ? ERROR : outcome(status);
+    JSONObject entry = new JSONObject()
+        .put("target", target.getId())
+        .put("uri", target.getUri().toString())
+        .put("outcome", outcome)
+        .put("status", status == null ? JSONObject.NULL : status)
+        .put("results", resultsPath == null ? JSONObject.NULL : resultsPath)
+        .put("durationMs", durationMs)
+        .put("completedAt", Instant.now().toString());
+    if (error != null) {
+      entry.put("error", error);
+    }
+    writer.write(entry.toString());
+    writer.write('\n');
+    writer.flush();
+    completed.add(target.getId());
+    outcomes.merge(outcome, 1, Integer::sum);
+  }
+
+  /**
+   * Number of targets of the report by outcome, the name of the return code of their validation
+   * or {@value #ERROR}.
+   */
+  public synchronized Map<String, Integer> getOutcomes() {
+    return new TreeMap<>(outcomes);
+  }
+
+  private static String outcome(int status) {
+    for (RDAPValidationStatus validationStatus : RDAPValidationStatus.values()) {
+      if (validationStatus.getValue() == status) {
+        return validationStatus.name();
+      }
+    }
+    return String.valueOf(status);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    writer.close();
+  }
+}
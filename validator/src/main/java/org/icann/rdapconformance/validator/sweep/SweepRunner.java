@@ -0,0 +1,134 @@
+package org.icann.rdapconformance.validator.sweep;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import org.icann.rdapconformance.validator.workflow.ValidatorWorkflow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Validates the targets of a sweep concurrently, with at most a number of validations in
+ * progress overall and per host, and records each of them in the report.
+ *
+ * <p>A target whose host is busy waits without holding a global slot, the slot goes to the next
+ * target of another host instead.</p>
+ */
+public class SweepRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(SweepRunner.class);
+
+  private final SweepReport report;
+  private final Function<SweepTarget, ValidatorWorkflow> validators;
+  private final int concurrency;
+  private final int perHostConcurrency;
+  private final LinkedList<SweepTarget> pending = new LinkedList<>();
+  private final Map<String, Integer> inProgressByHost = new HashMap<>();
+  private int inProgress;
+  private IOException failure;
+  private ExecutorService executor;
+
+  /**
+   * @param validators creates the validation of a target
+   */
+  public SweepRunner(SweepReport report, Function<SweepTarget, ValidatorWorkflow> validators,
+      int concurrency, int perHostConcurrency) {
+    if (concurrency < 1 || perHostConcurrency < 1) {
+      throw new IllegalArgumentException("The concurrency limits must be positive");
+    }
+    this.report = report;
+    this.validators = validators;
+    this.concurrency = concurrency;
+    this.perHostConcurrency = perHostConcurrency;
+  }
+
+  /**
+   * Validate the targets not in the report yet, and wait for their validations to end.
+   *
+   * @throws IOException if the report cannot be written, the sweep then stops
+   */
+  public void run(List<SweepTarget> targets) throws IOException, InterruptedException {
+    List<SweepTarget> remaining = new ArrayList<>();
+    for (SweepTarget target : targets) {
+      if (!report.isCompleted(target)) {
+        remaining.add(target);
+      }
+    }
+    logger.info("Sweeping {} targets ({} already validated)", remaining.size(),
+        targets.size() - remaining.size());
+    executor = Executors.newFixedThreadPool(concurrency);
+    try {
+      synchronized (this) {
+        pending.addAll(remaining);
+        dispatch();
+        while (inProgress > 0) {
+          wait();
+        }
+        if (failure != null) {
+          throw failure;
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Start the pending targets whose host is not busy, as long as there are free slots.
+   */
+  private synchronized void dispatch() {
+    Iterator<SweepTarget> iterator = pending.iterator();
+    while (failure == null && inProgress < concurrency && iterator.hasNext()) {
+      SweepTarget target = iterator.next();
+      String host = String.valueOf(target.getHost());
+      int inProgressOnHost = inProgressByHost.getOrDefault(host, 0);
+      if (inProgressOnHost >= perHostConcurrency) {
+        continue;
+      }
+      iterator.remove();
+      inProgressByHost.put(host, inProgressOnHost + 1);
+      inProgress++;
+      executor.execute(() -> validate(target, host));
+    }
+  }
+
+  private void validate(SweepTarget target, String host) {
+    long start = System.nanoTime();
+    try {
+      Integer status = null;
+      String resultsPath = null;
+      String error = null;
+      try {
+        ValidatorWorkflow validator = validators.apply(target);
+        status = validator.validate();
+        resultsPath = validator.getResultsPath();
+      } catch (RuntimeException e) {
+        logger.error("Validation of {} failed", target, e);
+        error = e.toString();
+      }
+      report.record(target, status, resultsPath, (System.nanoTime() - start) / 1_000_000, error);
+    } catch (IOException e) {
+      fail(e);
+    } finally {
+      synchronized (this) {
+        inProgress--;
+        inProgressByHost.merge(host, -1, Integer::sum);
+        dispatch();
+        notifyAll();
+      }
+    }
+  }
+
+  private synchronized void fail(IOException e) {
+    if (failure == null) {
+      failure = e;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package org.icann.rdapconformance.validator.sweep;
+
+import java.net.URI;
+
+/**
+ * An RDAP server of the fleet and the query it is validated with.
+ */
+public class SweepTarget {
+
+  public enum Kind {
+    REGISTRY("registry"),
+    REGISTRAR("registrar");
+
+    private final String prefix;
+
+    Kind(String prefix) {
+      this.prefix = prefix;
+    }
+  }
+
+  private final Kind kind;
+  private final String name;
+  private final URI uri;
+  private final boolean thin;
+
+  /**
+   * @param name the TLD of a registry, the IANA id of a registrar
+   */
+  public SweepTarget(Kind kind, String name, URI uri, boolean thin) {
+    this.kind = kind;
+    this.name = name;
+    this.uri = uri;
+    this.thin = thin;
+  }
+
+  /**
+   * Identifier of the target in the sweep report, e.g. "registry:example" or "registrar:9999".
+   */
+  public String getId() {
+    return kind.prefix + ":" + name;
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public URI getUri() {
+    return uri;
+  }
+
+  public String getHost() {
+    return uri.getHost();
+  }
+
+  public boolean isThin() {
+    return thin;
+  }
+
+  @Override
+  public String toString() {
+    return getId() + " " + uri;
+  }
+}
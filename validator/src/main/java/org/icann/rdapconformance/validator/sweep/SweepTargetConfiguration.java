@@ -0,0 +1,126 @@
+package org.icann.rdapconformance.validator.sweep;
+
+import java.net.URI;
+import java.util.List;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
+
+/**
+ * The configuration of the validation of a target: its URI and gTLD type, with the options of the
+ * sweep.
+ */
+public class SweepTargetConfiguration implements RDAPValidatorConfiguration {
+
+  private final SweepOptions sweep;
+  private final SweepTarget target;
+  private URI uri;
+
+  public SweepTargetConfiguration(SweepOptions sweep, SweepTarget target) {
+    this.sweep = sweep;
+    this.target = target;
+    this.uri = target.getUri();
+  }
+
+  @Override
+  public URI getConfigurationFile() {
+    return sweep.getConfigurationFile();
+  }
+
+  @Override
+  public URI getUri() {
+    return uri;
+  }
+
+  @Override
+  public void setUri(URI uri) {
+    this.uri = uri;
+  }
+
+  @Override
+  public int getTimeout() {
+    return sweep.getTimeout();
+  }
+
+  @Override
+  public int getMaxRedirects() {
+    return sweep.getMaxRedirects();
+  }
+
+  @Override
+  public boolean useLocalDatasets() {
+    return sweep.useLocalDatasets();
+  }
+
+  @Override
+  public boolean useRdapProfileFeb2019() {
+    return sweep.useRdapProfileFeb2019();
+  }
+
+  @Override
+  public boolean isGtldRegistrar() {
+    return target.getKind() == SweepTarget.Kind.REGISTRAR;
+  }
+
+  @Override
+  public boolean isGtldRegistry() {
+    return target.getKind() == SweepTarget.Kind.REGISTRY;
+  }
+
+  @Override
+  public boolean isThin() {
+    return target.isThin();
+  }
+
+  /**
+   * None, the URIs of the targets are HTTP URIs.
+   */
+  @Override
+  public RDAPQueryType getQueryType() {
+    return null;
+  }
+
+  @Override
+  public boolean useNdjsonResults() {
+    return sweep.useNdjsonResults();
+  }
+
+  @Override
+  public int getMaxResultValueLength() {
+    return sweep.getMaxResultValueLength();
+  }
+
+  @Override
+  public int getDomainNameCacheSize() {
+    return sweep.getDomainNameCacheSize();
+  }
+
+  @Override
+  public List<String> getDnsResolvers() {
+    return sweep.getDnsResolvers();
+  }
+
+  @Override
+  public long getMaxResponseSize() {
+    return sweep.getMaxResponseSize();
+  }
+
+  @Override
+  public String getResultCacheDirectory() {
+    return sweep.getResultCacheDirectory();
+  }
+
+  @Override
+  public double getHostRequestRate() {
+    return sweep.getHostRequestRate();
+  }
+
+  @Override
+  public double getIpRequestRate() {
+    return sweep.getIpRequestRate();
+  }
+
+  @Override
+  public int getMaxRetries() {
+    return sweep.getMaxRetries();
+  }
+}
@@ -0,0 +1,140 @@
+package org.icann.rdapconformance.validator.sweep;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.icann.rdapconformance.validator.sweep.SweepTarget.Kind;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.BootstrapDomainNameSpace;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.RegistrarId;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.RegistrarId.Record;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The queries of a sweep, relative to the base URLs of the servers, e.g.:
+ * <pre>
+ * {
+ *   "registries": {"default": "domain/nic.{tld}", "example": "domain/example.example"},
+ *   "registrars": {"default": "help", "9999": "entity/9999-EXAMPLE"},
+ *   "thin": ["example"]
+ * }
+ * </pre>
+ *
+ * <p>"{tld}" and "{id}" are replaced by the TLD of the registry and the IANA id of the
+ * registrar. The default query applies to every ASCII gTLD of the bootstrap dataset and to every
+ * registrar with an RDAP URL; a null query excludes a target, and a missing section excludes all
+ * the targets of its kind. The bootstrap dataset does not tell the gTLDs from the ccTLDs, so
+ * two-letter TLDs, which are country codes, and IDN TLDs, which may be country codes (e.g.
+ * xn--p1ai), are only swept when listed.</p>
+ */
+public class SweepTemplate {
+
+  private static final Logger logger = LoggerFactory.getLogger(SweepTemplate.class);
+  private static final String DEFAULT = "default";
+
+  private final Map<String, String> registries;
+  private final Map<String, String> registrars;
+  private final Set<String> thin;
+
+  private SweepTemplate(Map<String, String> registries, Map<String, String> registrars,
+      Set<String> thin) {
+    this.registries = registries;
+    this.registrars = registrars;
+    this.thin = thin;
+  }
+
+  public static SweepTemplate parse(String json) {
+    JSONObject template = new JSONObject(json);
+    Set<String> thin = new HashSet<>();
+    JSONArray thinTlds = template.optJSONArray("thin");
+    if (thinTlds != null) {
+      for (int i = 0; i < thinTlds.length(); i++) {
+        thin.add(thinTlds.getString(i).toLowerCase());
+      }
+    }
+    return new SweepTemplate(queries(template, "registries"), queries(template, "registrars"),
+        thin);
+  }
+
+  private static Map<String, String> queries(JSONObject template, String section) {
+    JSONObject queries = template.optJSONObject(section);
+    if (queries == null) {
+      return null;
+    }
+    Map<String, String> result = new HashMap<>();
+    for (String key : queries.keySet()) {
+      result.put(key.toLowerCase(), queries.isNull(key) ? null : queries.getString(key));
+    }
+    return result;
+  }
+
+  /**
+   * The targets of the datasets which have a query, sorted by id.
+   */
+  public List<SweepTarget> targets(BootstrapDomainNameSpace bootstrap, RegistrarId registrarId) {
+    List<SweepTarget> targets = new ArrayList<>();
+    if (registries != null) {
+      for (String tld : new TreeSet<>(bootstrap.getTlds())) {
+        String query = query(registries, tld, isAsciiGtld(tld));
+        String baseUrl = preferHttps(bootstrap.getUrlsForTld(tld));
+        if (query != null && baseUrl != null) {
+          addTarget(targets, Kind.REGISTRY, tld, baseUrl, query.replace("{tld}", tld),
+              thin.contains(tld));
+        }
+      }
+    }
+    if (registrars != null) {
+      for (Record record : registrarId.getRecords()) {
+        String id = String.valueOf(record.getValue());
+        String query = query(registrars, id, true);
+        if (query != null && record.getRdapUrl() != null && !record.getRdapUrl().isBlank()) {
+          addTarget(targets, Kind.REGISTRAR, id, record.getRdapUrl(), query.replace("{id}", id),
+              false);
+        }
+      }
+    }
+    targets.sort(Comparator.comparing(SweepTarget::getId));
+    return targets;
+  }
+
+  /**
+   * Whether the TLD is an ASCII TLD other than a two-letter country code.
+   */
+  static boolean isAsciiGtld(String tld) {
+    return tld.length() > 2 && !tld.startsWith("xn--");
+  }
+
+  private static String query(Map<String, String> queries, String name, boolean byDefault) {
+    if (queries.containsKey(name)) {
+      return queries.get(name);
+    }
+    return byDefault ? queries.get(DEFAULT) : null;
+  }
+
+  private static String preferHttps(Set<String> urls) {
+    if (urls == null || urls.isEmpty()) {
+      return null;
+    }
+    TreeSet<String> sorted = new TreeSet<>(urls);
+    return sorted.stream().filter(url -> url.startsWith("https:")).findFirst()
+        .orElse(sorted.first());
+  }
+
+  private static void addTarget(List<SweepTarget> targets, Kind kind, String name,
+      String baseUrl, String query, boolean thin) {
+    try {
+      URI base = URI.create(baseUrl.trim().endsWith("/") ? baseUrl.trim() : baseUrl.trim() + "/");
+      targets.add(new SweepTarget(kind, name, base.resolve(query), thin));
+    } catch (IllegalArgumentException e) {
+      logger.warn("Skipping {} {}: invalid RDAP URL {}", kind, name, baseUrl);
+    }
+  }
+}
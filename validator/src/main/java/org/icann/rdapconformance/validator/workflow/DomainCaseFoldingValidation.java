@@ -1,14 +1,13 @@
 package org.icann.rdapconformance.validator.workflow;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibm.icu.lang.UCharacter;
 import java.net.URI;
 import java.net.http.HttpResponse;
+import java.util.Set;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot2.RDAPJsonComparator;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPResponseDigest;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
 import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPHttpRequest;
@@ -18,21 +17,33 @@ import org.slf4j.LoggerFactory;
 public class DomainCaseFoldingValidation extends ProfileValidation {
 
   private static final Logger logger = LoggerFactory.getLogger(DomainCaseFoldingValidation.class);
-  private static final ObjectMapper mapper = new ObjectMapper();
-  private static final RDAPJsonComparator jsonComparator = new RDAPJsonComparator();
   private final HttpResponse<String> rdapResponse;
   private final RDAPValidatorConfiguration config;
   private final String domainName;
   private final RDAPQueryType queryType;
+  private final RDAPResponseDigest responseDigest;
 
   public DomainCaseFoldingValidation(HttpResponse<String> rdapResponse,
       RDAPValidatorConfiguration config,
       RDAPValidatorResults results,
       RDAPQueryType queryType) {
+    this(rdapResponse, config, results, queryType, new RDAPResponseDigest(rdapResponse.body()));
+  }
+
+  /**
+   * @param responseDigest digest of the body of rdapResponse, shared with the other validations
+   *                       comparing responses with it
+   */
+  public DomainCaseFoldingValidation(HttpResponse<String> rdapResponse,
+      RDAPValidatorConfiguration config,
+      RDAPValidatorResults results,
+      RDAPQueryType queryType,
+      RDAPResponseDigest responseDigest) {
     super(results);
     this.rdapResponse = rdapResponse;
     this.config = config;
     this.queryType = queryType;
+    this.responseDigest = responseDigest;
     String path = this.rdapResponse.uri().getPath();
     domainName = path.substring(path.lastIndexOf("/") + 1);
   }
@@ -53,10 +64,8 @@ public class DomainCaseFoldingValidation extends ProfileValidation {
     URI uri = URI.create(rdapResponse.uri().toString().replace(domainName, newDomain));
     try {
       HttpResponse<String> httpResponse = RDAPHttpRequest
-          .makeHttpGetRequest(uri, config.getTimeout());
-      JsonNode httpResponseJson = mapper.readTree(httpResponse.body());
-      JsonNode httpsResponseJson = mapper.readTree(rdapResponse.body());
-      if (jsonComparator.compare(httpResponseJson, httpsResponseJson) != 0) {
+          .makeHttpGetRequest(uri, config);
+      if (!responseDigest.matches(httpResponse.body())) {
         results.add(RDAPValidationResult.builder()
             .code(-10403)
             .value(uri.toString())
@@ -95,4 +104,9 @@ public class DomainCaseFoldingValidation extends ProfileValidation {
     }
     return newDomain.toString();
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-10403);
+  }
 }
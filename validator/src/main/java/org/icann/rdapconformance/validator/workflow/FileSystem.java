@@ -1,13 +1,31 @@
 package org.icann.rdapconformance.validator.workflow;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 
 public interface FileSystem {
 
   void write(String filepath, String data) throws IOException;
 
+  /**
+   * Stream to write a file incrementally, the file is complete once the stream is closed.
+   *
+   * <p>By default the content is buffered in memory and given to {@link #write(String, String)}
+   * on close.</p>
+   */
+  default OutputStream newOutputStream(String filepath) throws IOException {
+    return new ByteArrayOutputStream() {
+      @Override
+      public void close() throws IOException {
+        FileSystem.this.write(filepath, toString(StandardCharsets.UTF_8));
+      }
+    };
+  }
+
   void mkdir(String path) throws IOException;
 
   String readFile(URI uri) throws IOException;
@@ -2,7 +2,10 @@ package org.icann.rdapconformance.validator.workflow;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.stream.Collectors;
 
 public class LocalFileSystem implements FileSystem {
@@ -14,6 +17,13 @@ public class LocalFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public OutputStream newOutputStream(String filepath) throws IOException {
+    FileChannel channel = FileChannel.open(Path.of(filepath), StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    return new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+  }
+
   @Override
   public void mkdir(String path) throws IOException {
     File dir = new File(path);
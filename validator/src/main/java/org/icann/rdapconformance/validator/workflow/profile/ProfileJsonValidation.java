@@ -5,10 +5,13 @@ import static com.jayway.jsonpath.JsonPath.using;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.Option;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.icann.rdapconformance.validator.JpathUtil;
+import org.icann.rdapconformance.validator.jcard.Vcard;
 import org.icann.rdapconformance.validator.schema.JsonPointers;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
 import org.json.JSONObject;
@@ -17,6 +20,7 @@ public abstract class ProfileJsonValidation extends ProfileValidation {
 
   protected final JSONObject jsonObject;
   private final JpathUtil jpathUtil;
+  private final Map<String, Vcard> vcards = new HashMap<>();
 
   public ProfileJsonValidation(String rdapResponse, RDAPValidatorResults results) {
     super(results);
@@ -36,6 +40,14 @@ public abstract class ProfileJsonValidation extends ProfileValidation {
     return jpathUtil.getPointerFromJPath(entity, jpath);
   }
 
+  /**
+   * The vcard of the vcardArray at the JSON pointer, parsed on the first call.
+   */
+  protected Vcard getVcard(String vcardArrayPointer) {
+    return vcards.computeIfAbsent(vcardArrayPointer,
+        pointer -> Vcard.parse(jsonObject.optQuery(pointer), pointer));
+  }
+
   public String getResultValue(String jsonPointer) {
     return jsonPointer + ":" + jsonObject.query(jsonPointer);
   }
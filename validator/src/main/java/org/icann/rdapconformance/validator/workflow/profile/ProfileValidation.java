@@ -1,5 +1,10 @@
 package org.icann.rdapconformance.validator.workflow.profile;
 
+import java.util.Collection;
+import java.util.Set;
+import org.icann.rdapconformance.validator.jfr.ValidationEvent;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics.Timer;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,8 +22,20 @@ public abstract class ProfileValidation {
     if (!doLaunch()) {
       return true;
     }
+    ValidationEvent event = new ValidationEvent();
+    event.begin();
+    boolean isValid = runValidation();
+    if (event.shouldCommit()) {
+      event.group = getGroupName();
+      event.valid = isValid;
+      event.commit();
+    }
+    return isValid;
+  }
+
+  private boolean runValidation() {
     results.addGroup(getGroupName());
-    try {
+    try (Timer ignored = RDAPValidationMetrics.timer(getGroupName())) {
       if (doValidate()) {
         return true;
       }
@@ -30,6 +47,16 @@ public abstract class ProfileValidation {
     return false;
   }
 
+  /**
+   * Record the group of the validation without running it, because its result codes are all
+   * ignored: the group is listed as OK, as if its results had been filtered out.
+   */
+  public void skip() {
+    if (doLaunch()) {
+      results.addGroup(getGroupName());
+    }
+  }
+
   public abstract String getGroupName();
 
   protected abstract boolean doValidate() throws Exception;
@@ -37,4 +64,28 @@ public abstract class ProfileValidation {
   public boolean doLaunch() {
     return true;
   }
-}
\ No newline at end of file
+
+  /**
+   * Relative cost of the validation, to run the cheapest validations first in triage runs: 0 for
+   * the checks of the received response, more for the checks making network requests.
+   */
+  public int getCost() {
+    return 0;
+  }
+
+  /**
+   * The result codes the validation can report, so that it is not run when they are all ignored
+   * by the configuration; empty if they are not declared, the validation is then always run.
+   */
+  public Set<Integer> getCodes() {
+    return Set.of();
+  }
+
+  /**
+   * Whether all the declared result codes of the validation are ignored.
+   */
+  public boolean isIgnored(Collection<Integer> ignoredCodes) {
+    Set<Integer> codes = getCodes();
+    return !codes.isEmpty() && ignoredCodes.containsAll(codes);
+  }
+}
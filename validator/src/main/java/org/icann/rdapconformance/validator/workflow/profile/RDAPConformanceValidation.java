@@ -39,4 +39,8 @@ public abstract class RDAPConformanceValidation extends ProfileJsonValidation {
     return true;
   }
 
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(code);
+  }
 }
@@ -1,6 +1,12 @@
 package org.icann.rdapconformance.validator.workflow.profile;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationBudget;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -8,15 +14,45 @@ public class RDAPProfileFebruary2019 {
 
   private static final Logger logger = LoggerFactory.getLogger(RDAPProfileFebruary2019.class);
   private final List<ProfileValidation> validations;
+  private final RDAPValidationBudget budget;
+  private final RDAPValidatorResults results;
+  private final Collection<Integer> ignoredCodes;
 
   public RDAPProfileFebruary2019(List<ProfileValidation> validations) {
+    this(validations, RDAPValidationBudget.unlimited(), null, Set.of());
+  }
+
+  /**
+   * Validations stopping once the budget is exhausted by the results, run cheapest-first if the
+   * budget is limited; the validations whose result codes are all ignored are not run, their
+   * groups are listed as OK.
+   */
+  public RDAPProfileFebruary2019(List<ProfileValidation> validations,
+      RDAPValidationBudget budget, RDAPValidatorResults results,
+      Collection<Integer> ignoredCodes) {
+    if (budget.isLimited()) {
+      validations = new ArrayList<>(validations);
+      validations.sort(Comparator.comparingInt(ProfileValidation::getCost));
+    }
     this.validations = validations;
+    this.budget = budget;
+    this.results = results;
+    this.ignoredCodes = ignoredCodes;
   }
 
   public boolean validate() {
     boolean result = true;
     for (ProfileValidation validation : validations) {
-        result &= validation.validate();
+      if (budget.isExhausted(results)) {
+        logger.info("Skipping {} and the next validations", validation.getGroupName());
+        break;
+      }
+      if (validation.isIgnored(ignoredCodes)) {
+        logger.info("Skipping {}: its result codes are all ignored", validation.getGroupName());
+        validation.skip();
+        continue;
+      }
+      result &= validation.validate();
     }
     return result;
   }
@@ -2,9 +2,8 @@ package org.icann.rdapconformance.validator.workflow.profile;
 
 import java.util.Set;
 import org.icann.rdapconformance.validator.jcard.JcardCategoriesSchemas;
-import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
+import org.icann.rdapconformance.validator.jcard.VcardProperty;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
-import org.json.JSONArray;
 
 public abstract class RDAPProfileVcardArrayValidation extends ProfileJsonValidation {
 
@@ -15,43 +14,17 @@ public abstract class RDAPProfileVcardArrayValidation extends ProfileJsonValidat
   @Override
   protected boolean doValidate() {
     Set<String> pointersFromJPath = getPointerFromJPath("$..entities..vcardArray");
-    JcardCategoriesSchemas jcardCategoriesSchemas = new JcardCategoriesSchemas();
+    JcardCategoriesSchemas jcardCategoriesSchemas = JcardCategoriesSchemas.getInstance();
     boolean isValid = true;
     for (String jsonPointer : pointersFromJPath) {
-      JSONArray vcardArray = (JSONArray) jsonObject.query(jsonPointer);
-      int vcardElementIndex = 0;
-      for (Object vcardElement : vcardArray) {
-        if (vcardElement instanceof JSONArray) {
-          try {
-            JSONArray vcardElementArray = (JSONArray) vcardElement;
-            int categoryArrayIndex = 0;
-            for (Object categoryArray : vcardElementArray) {
-              JSONArray categoryJsonArray = ((JSONArray) categoryArray);
-              String category = categoryJsonArray.getString(0);
-              String jsonExceptionPointer =
-                  jsonPointer + "/" + vcardElementIndex + "/" + categoryArrayIndex;
-              isValid &= validateVcardArray(category, categoryJsonArray, jsonExceptionPointer,
-                  jcardCategoriesSchemas);
-              categoryArrayIndex++;
-            }
-          } catch (Exception e) {
-            results.add(RDAPValidationResult.builder()
-                .code(-12305)
-                .value(getResultValue(jsonPointer))
-                .message(
-                    "The value for the JSON name value is not a syntactically valid vcardArray.")
-                .build());
-          }
-        }
-        vcardElementIndex++;
+      for (VcardProperty property : getVcard(jsonPointer).getProperties()) {
+        isValid &= validateVcardProperty(property, jcardCategoriesSchemas);
       }
     }
     return isValid;
   }
 
-  protected abstract boolean validateVcardArray(
-      String category,
-      JSONArray categorieJsonArray,
-      String jsonExceptionPointer,
+  protected abstract boolean validateVcardProperty(
+      VcardProperty property,
       JcardCategoriesSchemas jcardCategoriesSchemas);
 }
@@ -78,4 +78,9 @@ public abstract class RegistrarEntityPublicIdsValidation extends ProfileJsonVali
     }
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(code, code - 1);
+  }
 }
@@ -1,5 +1,6 @@
 package org.icann.rdapconformance.validator.workflow.profile.rdap_response;
 
+import java.util.Set;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileJsonValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
@@ -46,4 +47,9 @@ public abstract class HandleValidation extends ProfileJsonValidation {
     }
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(code, code - 1);
+  }
 }
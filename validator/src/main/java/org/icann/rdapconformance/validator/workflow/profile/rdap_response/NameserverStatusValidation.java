@@ -48,4 +48,8 @@ public abstract class NameserverStatusValidation extends ProfileJsonValidation {
     return true;
   }
 
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(code);
+  }
 }
@@ -3,6 +3,7 @@ package org.icann.rdapconformance.validator.workflow.profile.rdap_response;
 import static org.json.JSONObject.NULL;
 
 import com.ibm.icu.text.IDNA;
+import java.util.Set;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileJsonValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
@@ -85,4 +86,9 @@ public abstract class QueryValidation extends ProfileJsonValidation {
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.DOMAIN);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(code, code - 1);
+  }
 }
@@ -1,5 +1,6 @@
 package org.icann.rdapconformance.validator.workflow.profile.rdap_response;
 
+import java.util.Set;
 import org.icann.rdapconformance.validator.workflow.profile.RegistrarEntityPublicIdsValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
@@ -77,4 +78,9 @@ public abstract class RegistrarEntityValidation extends
     }
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(code, code - 1, code - 2, code - 3, code - 4);
+  }
 }
@@ -41,4 +41,9 @@ public abstract class TopMostEventActionValidation extends ProfileJsonValidation
         .build());
     return false;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(code);
+  }
 }
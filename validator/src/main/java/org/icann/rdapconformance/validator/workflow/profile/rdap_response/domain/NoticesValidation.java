@@ -54,4 +54,9 @@ public abstract class NoticesValidation extends ProfileJsonValidation {
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.DOMAIN);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(code);
+  }
 }
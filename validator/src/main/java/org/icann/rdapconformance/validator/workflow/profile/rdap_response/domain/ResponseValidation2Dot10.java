@@ -1,5 +1,6 @@
 package org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain;
 
+import java.util.Set;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileJsonValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
@@ -62,4 +63,9 @@ public final class ResponseValidation2Dot10 extends ProfileJsonValidation {
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.DOMAIN);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-46800, -46801, -46802);
+  }
 }
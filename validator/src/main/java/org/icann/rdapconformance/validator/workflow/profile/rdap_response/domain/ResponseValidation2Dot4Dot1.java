@@ -83,4 +83,9 @@ public final class ResponseValidation2Dot4Dot1 extends ProfileJsonValidation {
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.DOMAIN);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-47300, -47301, -47302);
+  }
 }
@@ -73,4 +73,9 @@ public final class ResponseValidation2Dot4Dot5 extends ProfileJsonValidation {
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.DOMAIN);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-47500);
+  }
 }
@@ -130,4 +130,9 @@ public final class ResponseValidation2Dot9Dot1And2Dot9Dot2 extends HandleValidat
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.DOMAIN);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-47200, -47201, -47202, -47203, -47204);
+  }
 }
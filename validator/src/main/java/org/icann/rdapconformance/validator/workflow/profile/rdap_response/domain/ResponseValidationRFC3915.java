@@ -45,4 +45,9 @@ public final class ResponseValidationRFC3915 extends ProfileJsonValidation {
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.DOMAIN);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-47000);
+  }
 }
@@ -55,4 +55,9 @@ public final class ResponseValidationRFC5731 extends ProfileJsonValidation {
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.DOMAIN);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-46900);
+  }
 }
@@ -43,4 +43,9 @@ public class ResponseValidation2Dot7Dot1DotXAndRelated1 extends
     }
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-52100, -52104);
+  }
 }
@@ -1,12 +1,16 @@
 package org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities;
 
+import java.util.List;
 import java.util.Set;
 import org.everit.json.schema.ValidationException;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
 import org.icann.rdapconformance.validator.jcard.JcardCategoriesSchemas;
+import org.icann.rdapconformance.validator.jcard.Vcard;
+import org.icann.rdapconformance.validator.jcard.VcardProperty;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 /**
@@ -29,45 +33,51 @@ public class ResponseValidation2Dot7Dot1DotXAndRelated2 extends
 
     boolean isValid = true;
     if (withRemarkTitleRedactedForPrivacy.isEmpty()) {
-      Set<String> properties = Set.of("fn", "adr", "tel", "email");
-      for (String property : properties) {
-        isValid &= validateVcardProperty(jsonPointer, entity, property);
+      Vcard vcard = getVcard(jsonPointer + "/vcardArray");
+      for (String property : List.of("fn", "adr", "tel", "email")) {
+        isValid &= validateVcardProperty(jsonPointer, vcard, property);
       }
     }
 
     return isValid;
   }
 
-  private boolean validateVcardProperty(String jsonPointer, JSONObject entity, String property) {
-    Set<String> propertyPointers = getVcardPropertyPointers(entity, property);
-    JcardCategoriesSchemas jcardCategoriesSchemas = new JcardCategoriesSchemas();
+  private boolean validateVcardProperty(String jsonPointer, Vcard vcard, String name) {
+    List<VcardProperty> properties = vcard.get(name);
+    JcardCategoriesSchemas jcardCategoriesSchemas = JcardCategoriesSchemas.getInstance();
     boolean isValid = true;
-    if (propertyPointers.isEmpty()) {
+    if (properties.isEmpty()) {
       isValid &= log52101(jsonPointer);
     } else {
-      for (String propertyPointer : propertyPointers) {
+      for (VcardProperty property : properties) {
         try {
-          jcardCategoriesSchemas.getCategory(property).validate(entity.query(propertyPointer));
+          jcardCategoriesSchemas.getCategory(name).validate(property.getJson());
         } catch (ValidationException e) {
           isValid &= log52101(jsonPointer);
         }
 
-        if (property.equals("adr")) {
-          // check if adr contains an address with street (index == 2), City (index == 3) & Country (index == 6)
-          Set<String> adrPointers = getPointerFromJPath(entity,
-              "vcardArray[1][?(@[0]=='adr')][3][2,3]");
-          if (adrPointers.size() < 2) {
-            // less than 3 means an address component is missing, we log an error:
-            isValid &= log52101(jsonPointer);
-          }
+        if (name.equals("adr") && countStreetsAndCities(properties) < 2) {
+          // less than 2 means an address component is missing, we log an error:
+          isValid &= log52101(jsonPointer);
         }
       }
     }
     return isValid;
   }
 
-  private Set<String> getVcardPropertyPointers(JSONObject entity, String property) {
-    return getPointerFromJPath(entity, "vcardArray[1][?(@[0] == '" + property + "')]");
+  /**
+   * The number of streets (index 2) and cities (index 3) of the structured addresses, counted
+   * across all the adr properties of the vcard.
+   */
+  private static int countStreetsAndCities(List<VcardProperty> adrs) {
+    int count = 0;
+    for (VcardProperty adr : adrs) {
+      Object address = adr.getValue();
+      if (address instanceof JSONArray) {
+        count += Math.max(0, Math.min(((JSONArray) address).length(), 4) - 2);
+      }
+    }
+    return count;
   }
 
   private boolean log52101(String jsonPointer) {
@@ -81,4 +91,9 @@ public class ResponseValidation2Dot7Dot1DotXAndRelated2 extends
         .build());
     return false;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-52101, -52104);
+  }
 }
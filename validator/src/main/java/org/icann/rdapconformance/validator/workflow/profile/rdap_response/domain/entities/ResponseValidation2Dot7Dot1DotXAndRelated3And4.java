@@ -1,5 +1,6 @@
 package org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities;
 
+import java.util.HashSet;
 import java.util.Set;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
@@ -34,4 +35,11 @@ public class ResponseValidation2Dot7Dot1DotXAndRelated3And4 extends
 
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    Set<Integer> codes = new HashSet<>(simpleHandleValidation.getCodes());
+    codes.add(-52104);
+    return codes;
+  }
 }
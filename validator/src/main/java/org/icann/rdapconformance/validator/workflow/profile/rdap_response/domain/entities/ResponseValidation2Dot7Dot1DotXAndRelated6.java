@@ -2,10 +2,10 @@ package org.icann.rdapconformance.validator.workflow.profile.rdap_response.domai
 
 import java.util.Set;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.jcard.VcardProperty;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 /**
@@ -24,10 +24,8 @@ public class ResponseValidation2Dot7Dot1DotXAndRelated6 extends
   @Override
   protected boolean doValidateEntity(String jsonPointer, JSONObject entity) {
     if (!getPointerFromJPath(entity, "[?(@.roles contains 'registrant')]").isEmpty()) {
-      Set<String> adrPointers = getPointerFromJPath(entity, "vcardArray[1][?(@[0] == 'adr')]");
-      for (String adrPointer : adrPointers) {
-        JSONArray adr = (JSONArray) entity.query(adrPointer);
-        if (!adr.getJSONObject(1).has("cc")) {
+      for (VcardProperty adr : getVcard(jsonPointer + "/vcardArray").get("adr")) {
+        if (!adr.hasParameter("cc")) {
           results.add(RDAPValidationResult.builder()
               .code(-52105)
               .value(getResultValue(jsonPointer))
@@ -41,4 +39,9 @@ public class ResponseValidation2Dot7Dot1DotXAndRelated6 extends
 
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-52105, -52104);
+  }
 }
@@ -3,10 +3,11 @@ package org.icann.rdapconformance.validator.workflow.profile.rdap_response.domai
 import java.net.URI;
 import java.util.Set;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.jcard.Vcard;
+import org.icann.rdapconformance.validator.jcard.VcardProperty;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 public class ResponseValidation2Dot7Dot5Dot2 extends EntitiesWithinDomainProfileJsonValidation {
@@ -25,25 +26,12 @@ public class ResponseValidation2Dot7Dot5Dot2 extends EntitiesWithinDomainProfile
 
   @Override
   protected boolean doValidateEntity(String jsonPointer, JSONObject entity) {
-    boolean containsEmail = false;
+    Vcard vcard = getVcard(jsonPointer + "/vcardArray");
+    boolean containsEmail = vcard.has("email");
     String contactUri = null;
-    JSONArray vcardArray = entity.getJSONArray("vcardArray");
-    for (Object vcardElement : vcardArray) {
-      if (vcardElement instanceof JSONArray) {
-        JSONArray vcardElementArray = (JSONArray) vcardElement;
-        for (Object categoryArray : vcardElementArray) {
-          JSONArray categoryJsonArray = ((JSONArray) categoryArray);
-          String category = categoryJsonArray.getString(0);
-          if (category.equals("email")) {
-            containsEmail = true;
-          }
-          if (category.equals("contact-uri")) {
-            Object value = categoryJsonArray.get(3);
-            if (value instanceof String) {
-              contactUri = (String) value;
-            }
-          }
-        }
+    for (VcardProperty property : vcard.get("contact-uri")) {
+      if (property.getValue() instanceof String) {
+        contactUri = (String) property.getValue();
       }
     }
     if (!containsEmail) {
@@ -77,4 +65,9 @@ public class ResponseValidation2Dot7Dot5Dot2 extends EntitiesWithinDomainProfile
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.DOMAIN) && config.isGtldRegistrar();
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-58000, -58001, -52104);
+  }
 }
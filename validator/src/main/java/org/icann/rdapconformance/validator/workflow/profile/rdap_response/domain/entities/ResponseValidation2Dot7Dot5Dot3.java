@@ -1,10 +1,10 @@
 package org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities;
 
+import java.util.Set;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 public class ResponseValidation2Dot7Dot5Dot3 extends EntitiesWithinDomainProfileJsonValidation {
@@ -23,7 +23,7 @@ public class ResponseValidation2Dot7Dot5Dot3 extends EntitiesWithinDomainProfile
 
   @Override
   protected boolean doValidateEntity(String jsonPointer, JSONObject entity) {
-    boolean emailOmitted = isEmailOmitted(entity);
+    boolean emailOmitted = !getVcard(jsonPointer + "/vcardArray").has("email");
     if (emailOmitted && getPointerFromJPath(entity,
         "$.remarks[?(@.title == 'EMAIL REDACTED FOR PRIVACY' && "
             + "@.type == 'object redacted due to authorization')]").isEmpty()) {
@@ -39,25 +39,13 @@ public class ResponseValidation2Dot7Dot5Dot3 extends EntitiesWithinDomainProfile
     return true;
   }
 
-  private boolean isEmailOmitted(JSONObject entity) {
-    JSONArray vcardArray = entity.getJSONArray("vcardArray");
-    for (Object vcardElement : vcardArray) {
-      if (vcardElement instanceof JSONArray) {
-        JSONArray vcardElementArray = (JSONArray) vcardElement;
-        for (Object categoryArray : vcardElementArray) {
-          JSONArray categoryJsonArray = ((JSONArray) categoryArray);
-          String category = categoryJsonArray.getString(0);
-          if (category.equals("email")) {
-            return false;
-          }
-        }
-      }
-    }
-    return true;
-  }
-
   @Override
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.DOMAIN) && !config.isThin() && config.isGtldRegistry();
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-55000, -52104);
+  }
 }
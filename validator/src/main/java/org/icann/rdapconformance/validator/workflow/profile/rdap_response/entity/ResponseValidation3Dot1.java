@@ -107,4 +107,9 @@ public final class ResponseValidation3Dot1 extends ProfileJsonValidation {
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.ENTITY) && config.isGtldRegistry();
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-60100, -60101);
+  }
 }
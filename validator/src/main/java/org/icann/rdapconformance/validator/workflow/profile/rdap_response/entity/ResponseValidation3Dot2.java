@@ -78,4 +78,9 @@ public final class ResponseValidation3Dot2 extends ProfileJsonValidation {
   public boolean doLaunch() {
     return queryType.equals(RDAPQueryType.ENTITY) && config.isGtldRegistry();
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-60200);
+  }
 }
@@ -1,27 +1,32 @@
 package org.icann.rdapconformance.validator.workflow.profile.rdap_response.general;
 
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Set;
+import java.util.regex.Pattern;
 import org.apache.commons.text.StringEscapeUtils;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileJsonValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.owasp.html.HtmlPolicyBuilder;
 import org.owasp.html.PolicyFactory;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+/**
+ * Walks the member names and string values of the response: the strings which may contain markup
+ * are sanitized, and a string is reported when sanitizing it removes markup.
+ */
 public final class ResponseValidation1Dot2Dot2 extends ProfileJsonValidation {
 
-  private static final Logger logger = LoggerFactory.getLogger(ResponseValidation1Dot2Dot2.class);
-  private static final ObjectMapper mapper = new ObjectMapper();
-  private final String rdapResponse;
+  private static final PolicyFactory policy = new HtmlPolicyBuilder().toFactory();
+
+  /**
+   * Cheap pre-filter: only the strings where it is found are sanitized.
+   */
+  private static final Pattern suspicious = Pattern.compile(
+      "[<&]|javascript:|\\bon[a-z]+\\s*=", Pattern.CASE_INSENSITIVE);
 
   public ResponseValidation1Dot2Dot2(String rdapResponse, RDAPValidatorResults results) {
     super(rdapResponse, results);
-    this.rdapResponse = rdapResponse;
   }
 
   @Override
@@ -31,35 +36,45 @@ public final class ResponseValidation1Dot2Dot2 extends ProfileJsonValidation {
 
   @Override
   protected boolean doValidate() {
-    PolicyFactory policy = new HtmlPolicyBuilder().toFactory();
-    String rdapResponseSanitized = StringEscapeUtils.unescapeHtml4(policy.sanitize(rdapResponse));
-    try {
-      JsonNode beforeSanitizing = mapper.readTree(rdapResponse);
-      JsonNode afterSanitizing;
-      try {
-        afterSanitizing = mapper.readTree(rdapResponseSanitized);
-      } catch (JsonParseException e) {
-        addResult();
-        return false;
+    return scan("#", jsonObject);
+  }
+
+  private boolean scan(String jsonPointer, Object value) {
+    boolean isValid = true;
+    if (value instanceof JSONObject) {
+      JSONObject object = (JSONObject) value;
+      for (String name : object.keySet()) {
+        String memberPointer = jsonPointer + "/" + name.replace("~", "~0").replace("/", "~1");
+        isValid &= check(memberPointer, name);
+        isValid &= scan(memberPointer, object.get(name));
       }
-      if (!beforeSanitizing.equals(afterSanitizing)) {
-        addResult();
-        return false;
+    } else if (value instanceof JSONArray) {
+      JSONArray array = (JSONArray) value;
+      for (int i = 0; i < array.length(); i++) {
+        isValid &= scan(jsonPointer + "/" + i, array.get(i));
       }
-    } catch (JsonProcessingException e) {
-      logger.error(
-          "Exception when making HTTP request in order to check [tigSection_1_2_Validation]", e);
+    } else if (value instanceof String) {
+      isValid = check(jsonPointer, (String) value);
     }
-    return true;
+    return isValid;
   }
 
-  private void addResult() {
+  private boolean check(String jsonPointer, String text) {
+    if (!suspicious.matcher(text).find()
+        || StringEscapeUtils.unescapeHtml4(policy.sanitize(text)).equals(text)) {
+      return true;
+    }
     results.add(RDAPValidationResult.builder()
         .code(-40100)
-        .value(rdapResponse)
+        .value(jsonPointer + ":" + text)
         .message("The RDAP response contains browser executable code (e.g., JavaScript). "
             + "See section 1.2.2 of the RDAP_Response_Profile_2_1.")
         .build());
+    return false;
   }
 
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-40100);
+  }
 }
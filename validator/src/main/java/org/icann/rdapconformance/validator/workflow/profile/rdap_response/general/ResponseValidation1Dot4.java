@@ -1,6 +1,8 @@
 package org.icann.rdapconformance.validator.workflow.profile.rdap_response.general;
 
+import java.util.Set;
 import org.icann.rdapconformance.validator.jcard.JcardCategoriesSchemas;
+import org.icann.rdapconformance.validator.jcard.VcardProperty;
 import org.icann.rdapconformance.validator.workflow.profile.RDAPProfileVcardArrayValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
@@ -19,16 +21,17 @@ public class ResponseValidation1Dot4 extends RDAPProfileVcardArrayValidation {
 
 
   @Override
-  protected boolean validateVcardArray(String category, JSONArray categoryJsonArray,
-      String jsonExceptionPointer, JcardCategoriesSchemas jcardCategoriesSchemas) {
-    if (category.equals("adr")) {
-      Object address = categoryJsonArray.get(3);
+  protected boolean validateVcardProperty(VcardProperty property,
+      JcardCategoriesSchemas jcardCategoriesSchemas) {
+    if (property.getName().equals("adr")) {
+      Object address = property.getValue();
       if (address instanceof JSONArray) {
-        String country = ((JSONArray) address).getString(6);
+        // the country name is the 7th component of the structured address
+        String country = ((JSONArray) address).optString(6);
         if (!country.isEmpty()) {
           results.add(RDAPValidationResult.builder()
               .code(-40400)
-              .value(jsonExceptionPointer + ":" + categoryJsonArray)
+              .value(property.getJsonPointer() + ":" + property)
               .message("A vcard object with a country name parameter with data was found.")
               .build());
           return false;
@@ -37,4 +40,9 @@ public class ResponseValidation1Dot4 extends RDAPProfileVcardArrayValidation {
     }
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-40400);
+  }
 }
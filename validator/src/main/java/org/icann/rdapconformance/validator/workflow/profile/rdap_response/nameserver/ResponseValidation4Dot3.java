@@ -47,4 +47,9 @@ public final class ResponseValidation4Dot3 extends RegistrarEntityValidation {
     return getRegistrarEntitiesJsonPointers().size() > 0 && queryType
         .equals(RDAPQueryType.NAMESERVER);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-49200, -49201, -49202, -49203, -49204, -49205);
+  }
 }
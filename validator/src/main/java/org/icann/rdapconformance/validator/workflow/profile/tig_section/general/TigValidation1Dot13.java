@@ -2,6 +2,7 @@ package org.icann.rdapconformance.validator.workflow.profile.tig_section.general
 
 import java.net.http.HttpResponse;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
@@ -43,4 +44,9 @@ public final class TigValidation1Dot13 extends ProfileValidation {
     }
     return isValid;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-20500);
+  }
 }
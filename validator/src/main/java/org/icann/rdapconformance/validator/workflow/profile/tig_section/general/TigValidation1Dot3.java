@@ -1,17 +1,20 @@
 package org.icann.rdapconformance.validator.workflow.profile.tig_section.general;
 
-import java.io.IOException;
+import java.net.URI;
 import java.net.http.HttpResponse;
-import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSocket;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
+import org.icann.rdapconformance.validator.workflow.rdap.tls.TLSCapabilities;
+import org.icann.rdapconformance.validator.workflow.rdap.tls.TLSProbe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,12 +23,25 @@ public final class TigValidation1Dot3 extends ProfileValidation {
   private static final Logger logger = LoggerFactory.getLogger(TigValidation1Dot3.class);
   private final HttpResponse<String> rdapResponse;
   private final RDAPValidatorConfiguration config;
+  private final TLSProbe tlsProbe;
 
   public TigValidation1Dot3(HttpResponse<String> rdapResponse, RDAPValidatorConfiguration config,
       RDAPValidatorResults results) {
+    this(rdapResponse, config, results, TLSProbe.getDefault());
+  }
+
+  TigValidation1Dot3(HttpResponse<String> rdapResponse, RDAPValidatorConfiguration config,
+      RDAPValidatorResults results, TLSProbe tlsProbe) {
     super(results);
     this.rdapResponse = rdapResponse;
     this.config = config;
+    this.tlsProbe = tlsProbe;
+  }
+
+  @Override
+  public int getCost() {
+    // TLS handshakes with each server of the redirect chain
+    return 3;
   }
 
   @Override
@@ -35,38 +51,51 @@ public final class TigValidation1Dot3 extends ProfileValidation {
 
   @Override
   public boolean doValidate() {
-    boolean isValid = true;
+    // probe each server of the redirect chain once, all of them concurrently
+    List<URI> httpsUris = new ArrayList<>();
+    Map<String, CompletableFuture<TLSCapabilities>> probes = new LinkedHashMap<>();
     Optional<HttpResponse<String>> responseOpt = Optional.of(rdapResponse);
     while (responseOpt.isPresent()) {
       HttpResponse<String> response = responseOpt.get();
-      if (response.uri().getScheme().equals("https")) {
-        try {
-          SSLContext sslContext = SSLContext.getDefault();
-          int port = config.getUri().getPort();
-          if (port < 0) {
-            port = 443;
-          }
-          List<String> enabledProtocols;
-          try (SSLSocket sslSocket = (SSLSocket) sslContext.getSocketFactory()
-              .createSocket(config.getUri().getHost(), port)) {
-            sslSocket.startHandshake();
-            enabledProtocols = Arrays.asList(sslSocket.getEnabledProtocols());
-          }
-          if (enabledProtocols.contains("SSLv2") || enabledProtocols.contains("SSLv3")) {
-            results.add(RDAPValidationResult.builder()
-                .code(-20200)
-                .value(response.uri().toString())
-                .message("The RDAP server is offering SSLv2 and/or SSLv3.")
-                .build());
-            isValid = false;
-          }
-        } catch (NoSuchAlgorithmException | IOException e) {
-          logger.error("Cannot create SSL context", e);
-          return false;
-        }
+      URI uri = response.uri();
+      if (uri.getScheme().equals("https")) {
+        httpsUris.add(uri);
+        probes.computeIfAbsent(getServer(uri),
+            s -> tlsProbe.probe(uri.getHost(), getPort(uri), config.getTimeout()));
       }
       responseOpt = response.previousResponse();
     }
+
+    boolean isValid = true;
+    for (URI uri : httpsUris) {
+      TLSCapabilities capabilities = probes.get(getServer(uri)).join();
+      if (!capabilities.isReachable()) {
+        logger.error("Cannot establish a TLS connection with {}", getServer(uri));
+        return false;
+      }
+      // SSLv2 is not supported by the JVM, only SSLv3 can be negotiated
+      if (capabilities.offers("SSLv3")) {
+        results.add(RDAPValidationResult.builder()
+            .code(-20200)
+            .value(uri.toString())
+            .message("The RDAP server is offering SSLv2 and/or SSLv3.")
+            .build());
+        isValid = false;
+      }
+    }
     return isValid;
   }
+
+  private static int getPort(URI uri) {
+    return uri.getPort() < 0 ? 443 : uri.getPort();
+  }
+
+  private static String getServer(URI uri) {
+    return uri.getHost() + ":" + getPort(uri);
+  }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-20200);
+  }
 }
@@ -1,6 +1,7 @@
 package org.icann.rdapconformance.validator.workflow.profile.tig_section.general;
 
 import java.net.http.HttpResponse;
+import java.util.Set;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
@@ -22,6 +23,12 @@ public final class TigValidation1Dot6 extends ProfileValidation {
     this.config = config;
   }
 
+  @Override
+  public int getCost() {
+    // one HEAD request
+    return 1;
+  }
+
   @Override
   public String getGroupName() {
     return "tigSection_1_6_Validation";
@@ -30,7 +37,7 @@ public final class TigValidation1Dot6 extends ProfileValidation {
   public boolean doValidate() {
     try {
       HttpResponse<String> httpResponse = RDAPHttpRequest
-          .makeHttpHeadRequest(config.getUri(), config.getTimeout());
+          .makeHttpHeadRequest(config.getUri(), config);
       if (httpResponse.statusCode() != rdapResponseStatusCode) {
         results.add(RDAPValidationResult.builder()
             .code(-20300)
@@ -48,4 +55,9 @@ public final class TigValidation1Dot6 extends ProfileValidation {
     }
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-20300);
+  }
 }
@@ -3,19 +3,25 @@ package org.icann.rdapconformance.validator.workflow.profile.tig_section.general
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
-import java.net.URI;
 import java.net.http.HttpResponse;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import org.icann.rdapconformance.validator.SchemaValidator;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.jfr.DnsQueryEvent;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
 import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot8.DNSQuery.DNSQueryResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
-import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResultsImpl;
+import org.icann.rdapconformance.validator.workflow.rdap.dns.DNSCacheResolver;
+import org.icann.rdapconformance.validator.workflow.rdap.dns.DNSCacheResolver.DNSAnswer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xbill.DNS.AAAARecord;
@@ -33,12 +39,35 @@ public final class TigValidation1Dot8 extends ProfileValidation {
   static IPValidator ipValidator = new IPValidator();
   private final HttpResponse<String> rdapResponse;
   private final RDAPDatasetService datasetService;
+  private final DNSQuery query;
 
   public TigValidation1Dot8(HttpResponse<String> rdapResponse, RDAPValidatorResults results,
       RDAPDatasetService datasetService) {
+    this(rdapResponse, results, datasetService, TigValidation1Dot8.dnsQuery);
+  }
+
+  /**
+   * Resolve the RDAP server hosts with the DNS servers of the configuration, if any.
+   */
+  public TigValidation1Dot8(HttpResponse<String> rdapResponse, RDAPValidatorResults results,
+      RDAPDatasetService datasetService, RDAPValidatorConfiguration config) {
+    this(rdapResponse, results, datasetService, config.getDnsResolvers().isEmpty()
+        ? TigValidation1Dot8.dnsQuery
+        : new DNSQuery(DNSCacheResolver.forServers(config.getDnsResolvers())));
+  }
+
+  private TigValidation1Dot8(HttpResponse<String> rdapResponse, RDAPValidatorResults results,
+      RDAPDatasetService datasetService, DNSQuery dnsQuery) {
     super(results);
     this.rdapResponse = rdapResponse;
     this.datasetService = datasetService;
+    this.query = dnsQuery;
+  }
+
+  @Override
+  public int getCost() {
+    // DNS lookups of the hosts of the response
+    return 2;
   }
 
   @Override
@@ -48,36 +77,48 @@ public final class TigValidation1Dot8 extends ProfileValidation {
 
   @Override
   public boolean doValidate() {
-    boolean isValid = true;
+    Set<String> hosts = new LinkedHashSet<>();
     Optional<HttpResponse<String>> responseOpt = Optional.of(rdapResponse);
     while (responseOpt.isPresent()) {
       HttpResponse<String> response = responseOpt.get();
-      if (!validateHost(response.uri(), results, datasetService)) {
+      hosts.add(response.uri().getHost());
+      responseOpt = response.previousResponse();
+    }
+
+    // A and AAAA queries of all the hops are sent at once before being validated:
+    Map<Name, CompletableFuture<DNSQueryResult>> v4Queries = new LinkedHashMap<>();
+    Map<Name, CompletableFuture<DNSQueryResult>> v6Queries = new LinkedHashMap<>();
+    for (String hostname : hosts) {
+      Name host;
+      try {
+        host = Name.fromString(hostname);
+      } catch (TextParseException e) {
+        logger.error("Error when retrieving RDAP server hostname in order to check "
+            + "[tigSection_1_8_Validation]", e);
+        continue;
+      }
+      v4Queries.put(host, query.makeRequestAsync(host, Type.A));
+      v6Queries.put(host, query.makeRequestAsync(host, Type.AAAA));
+    }
+
+    boolean isValid = true;
+    for (Name host : v4Queries.keySet()) {
+      if (!validateHost(v4Queries.get(host).join(), v6Queries.get(host).join(), results,
+          datasetService)) {
         isValid = false;
       }
-      responseOpt = response.previousResponse();
     }
     return isValid;
   }
 
-  private static boolean validateHost(URI uri, RDAPValidatorResults results,
-      RDAPDatasetService datasetService) {
+  private static boolean validateHost(DNSQueryResult v4QueryResult, DNSQueryResult v6QueryResult,
+      RDAPValidatorResults results, RDAPDatasetService datasetService) {
     boolean isValid = true;
-    Name host;
-    try {
-      host = Name.fromString(uri.getHost());
-    } catch (TextParseException e) {
-      logger.error("Error when retrieving RDAP server hostname in order to check "
-          + "[tigSection_1_8_Validation]", e);
-      return true;
-    }
-
-    DNSQueryResult queryResult = dnsQuery.makeRequest(host, Type.A);
-    if (queryResult.hasError() || containsInvalidIPAddress(queryResult.getIPAddresses(),
+    if (v4QueryResult.hasError() || containsInvalidIPAddress(v4QueryResult.getIPAddresses(),
         datasetService)) {
       results.add(RDAPValidationResult.builder()
           .code(-20400)
-          .value(queryResult.getIPAddresses().stream()
+          .value(v4QueryResult.getIPAddresses().stream()
               .map(InetAddress::getHostAddress)
               .sorted()
               .collect(Collectors.joining(", ")))
@@ -87,12 +128,11 @@ public final class TigValidation1Dot8 extends ProfileValidation {
       isValid = false;
     }
 
-    queryResult = dnsQuery.makeRequest(host, Type.AAAA);
-    if (queryResult.hasError() || containsInvalidIPAddress(queryResult.getIPAddresses(),
+    if (v6QueryResult.hasError() || containsInvalidIPAddress(v6QueryResult.getIPAddresses(),
         datasetService)) {
       results.add(RDAPValidationResult.builder()
           .code(-20401)
-          .value(queryResult.getIPAddresses().stream()
+          .value(v6QueryResult.getIPAddresses().stream()
               .map(InetAddress::getHostAddress)
               .sorted()
               .collect(Collectors.joining(", ")))
@@ -115,34 +155,53 @@ public final class TigValidation1Dot8 extends ProfileValidation {
     return false;
   }
 
-  enum IPSchema {
-    V4("ipv4_address.json"),
-    V6("ipv6_address.json");
+  /**
+   * DNS queries through the process-wide {@link DNSCacheResolver}.
+   */
+  static class DNSQuery {
 
-    private final String value;
+    private final DNSCacheResolver resolver;
 
-    IPSchema(String value) {
-      this.value = value;
+    DNSQuery() {
+      this(DNSCacheResolver.forServers(List.of()));
     }
 
-    public String path() {
-      return "profile/tig_section/" + value;
+    DNSQuery(DNSCacheResolver resolver) {
+      this.resolver = resolver;
     }
-  }
-
-  static class DNSQuery {
 
     DNSQueryResult makeRequest(Name host, int type) {
-      Lookup lookup = new Lookup(host, type);
-      lookup.run();
-      return new DNSQueryResult(lookup.getResult() != 0,
-          getIPRecords(lookup));
+      return makeRequestAsync(host, type).join();
+    }
+
+    CompletableFuture<DNSQueryResult> makeRequestAsync(Name host, int type) {
+      DnsQueryEvent event = new DnsQueryEvent();
+      event.begin();
+      CompletableFuture<DNSAnswer> answerFuture = resolver.resolve(host, type);
+      boolean cached = answerFuture.isDone();
+      return answerFuture.thenApply(answer -> {
+        DNSQueryResult result = new DNSQueryResult(answer.getResult() != Lookup.SUCCESSFUL,
+            getIPRecords(answer.getRecords().toArray(new Record[0])));
+        if (event.shouldCommit()) {
+          event.name = host.toString();
+          event.type = Type.string(type);
+          event.result = answer.getResult();
+          event.answers = answer.getRecords().size();
+          event.cached = cached;
+          event.commit();
+        }
+        return result;
+      });
     }
 
     Set<InetAddress> getIPRecords(Lookup lookup) {
+      return getIPRecords(lookup.getAnswers());
+    }
+
+    Set<InetAddress> getIPRecords(Record[] answers) {
       Set<InetAddress> addresses = new HashSet<>();
-      if (lookup.getAnswers() != null) {
-        for (Record record : lookup.getAnswers()) {
+      if (answers != null) {
+        for (Record record : answers) {
           if (record instanceof ARecord) {
             addresses.add(((ARecord) record).getAddress());
           } else if (record instanceof AAAARecord) {
@@ -173,22 +232,22 @@ public final class TigValidation1Dot8 extends ProfileValidation {
     }
   }
 
+  /**
+   * Check of the resolved addresses against the IP datasets, which never reported an IPv4 or IPv6
+   * address: the schemas it used to go through did not constrain the address. Reporting the
+   * special-purpose and unallocated addresses (see
+   * {@link org.icann.rdapconformance.validator.customvalidator.IpAddressClassifier}) would change
+   * the conformance results, so -20400 and -20401 are only reported when the DNS query fails.
+   */
   static class IPValidator {
 
     boolean isInvalid(InetAddress ipAddress, RDAPDatasetService datasetService) {
-      IPSchema schema;
-      if (ipAddress instanceof Inet4Address) {
-        schema = IPSchema.V4;
-      } else if (ipAddress instanceof Inet6Address) {
-        schema = IPSchema.V6;
-      } else {
-        return true;
-      }
-
-      String ipAddressJson = String.format("{\"ip\": \"%s\"}", ipAddress.getHostAddress());
-      SchemaValidator validator = new SchemaValidator(schema.path(), new RDAPValidatorResultsImpl(),
-          datasetService);
-      return !validator.validate(ipAddressJson);
+      return !(ipAddress instanceof Inet4Address) && !(ipAddress instanceof Inet6Address);
     }
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-20400, -20401);
+  }
 }
@@ -40,4 +40,9 @@ public class TigValidation3Dot3And3Dot4 extends ProfileJsonValidation {
     }
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-20700);
+  }
 }
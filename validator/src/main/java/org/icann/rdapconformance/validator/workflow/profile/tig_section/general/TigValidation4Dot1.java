@@ -1,11 +1,12 @@
 package org.icann.rdapconformance.validator.workflow.profile.tig_section.general;
 
+import java.util.Set;
 import org.everit.json.schema.ValidationException;
 import org.icann.rdapconformance.validator.jcard.JcardCategoriesSchemas;
+import org.icann.rdapconformance.validator.jcard.VcardProperty;
 import org.icann.rdapconformance.validator.workflow.profile.RDAPProfileVcardArrayValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
-import org.json.JSONArray;
 
 public class TigValidation4Dot1 extends RDAPProfileVcardArrayValidation {
 
@@ -19,15 +20,15 @@ public class TigValidation4Dot1 extends RDAPProfileVcardArrayValidation {
   }
 
   @Override
-  protected boolean validateVcardArray(String category, JSONArray categoryJsonArray,
-      String jsonExceptionPointer, JcardCategoriesSchemas jcardCategoriesSchemas) {
-    if (category.equals("adr")) {
+  protected boolean validateVcardProperty(VcardProperty property,
+      JcardCategoriesSchemas jcardCategoriesSchemas) {
+    if (property.getName().equals("adr")) {
       try {
-        jcardCategoriesSchemas.getCategory(category).validate(categoryJsonArray);
+        jcardCategoriesSchemas.getCategory("adr").validate(property.getJson());
       } catch (ValidationException e) {
         results.add(RDAPValidationResult.builder()
             .code(-20800)
-            .value(jsonExceptionPointer + ":" + categoryJsonArray)
+            .value(property.getJsonPointer() + ":" + property)
             .message(
                 "An entity with a non-structured address was found. See section 4.1 of the TIG.")
             .build());
@@ -36,4 +37,9 @@ public class TigValidation4Dot1 extends RDAPProfileVcardArrayValidation {
     }
     return true;
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-20800);
+  }
 }
@@ -2,11 +2,10 @@ package org.icann.rdapconformance.validator.workflow.profile.tig_section.general
 
 import java.util.Set;
 import org.icann.rdapconformance.validator.jcard.JcardCategoriesSchemas;
+import org.icann.rdapconformance.validator.jcard.VcardProperty;
 import org.icann.rdapconformance.validator.workflow.profile.RDAPProfileVcardArrayValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
-import org.json.JSONArray;
-import org.json.JSONObject;
 
 public final class TigValidation7Dot1And7Dot2 extends RDAPProfileVcardArrayValidation {
 
@@ -23,22 +22,16 @@ public final class TigValidation7Dot1And7Dot2 extends RDAPProfileVcardArrayValid
   }
 
   @Override
-  public boolean validateVcardArray(String category, JSONArray categoryJsonArray,
-      String jsonExceptionPointer, JcardCategoriesSchemas jcardCategoriesSchemas) {
-    if (category.equals("tel")) {
-      Object phoneType = categoryJsonArray.get(1);
-      if (!(phoneType instanceof JSONObject)) {
-        logError(jsonExceptionPointer, phoneType);
+  public boolean validateVcardProperty(VcardProperty property,
+      JcardCategoriesSchemas jcardCategoriesSchemas) {
+    if (property.getName().equals("tel")) {
+      if (property.getParameters() == null) {
+        logError(property.getJsonPointer(), property);
         return false;
       }
-
-      Object type = ((JSONObject) phoneType).get("type");
-      if (type instanceof JSONArray) {
-        type = ((JSONArray) type).getString(0);
-      }
-
-      if (!AUTHORIZED_PHONE_TYPE.contains(type.toString())) {
-        logError(jsonExceptionPointer, phoneType);
+      String type = property.getParameter("type");
+      if (type == null || !AUTHORIZED_PHONE_TYPE.contains(type)) {
+        logError(property.getJsonPointer(), property.getParameters());
         return false;
       }
     }
@@ -53,4 +46,9 @@ public final class TigValidation7Dot1And7Dot2 extends RDAPProfileVcardArrayValid
             + "See section 7.1 and 7.2 of the TIG.")
         .build());
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-20900);
+  }
 }
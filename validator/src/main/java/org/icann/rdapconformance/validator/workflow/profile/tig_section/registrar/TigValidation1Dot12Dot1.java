@@ -89,4 +89,9 @@ public final class TigValidation1Dot12Dot1 extends ProfileJsonValidation {
   public boolean doLaunch() {
     return AUTHORIZED_QUERY_TYPES.contains(queryType);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-26100, -26101, -26102);
+  }
 }
@@ -78,4 +78,9 @@ public final class TigValidation1Dot11Dot1 extends ProfileValidation {
   public boolean doLaunch() {
     return config.isGtldRegistry() && queryType.equals(RDAPQueryType.DOMAIN);
   }
+
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-23100, -23101, -23102);
+  }
 }
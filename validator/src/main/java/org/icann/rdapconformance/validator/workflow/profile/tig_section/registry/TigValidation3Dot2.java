@@ -1,5 +1,6 @@
 package org.icann.rdapconformance.validator.workflow.profile.tig_section.registry;
 
+import java.util.Set;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileJsonValidation;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
@@ -57,4 +58,8 @@ public final class TigValidation3Dot2 extends ProfileJsonValidation {
     return config.isGtldRegistry() && queryType.equals(RDAPQueryType.DOMAIN);
   }
 
+  @Override
+  public Set<Integer> getCodes() {
+    return Set.of(-23200);
+  }
 }
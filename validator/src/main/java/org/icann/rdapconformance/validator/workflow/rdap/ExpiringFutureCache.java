@@ -0,0 +1,111 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of asynchronously loaded values, each one kept for its own time to live, shared by the
+ * whole process (DNS answers, TLS probes).
+ *
+ * <p>Concurrent gets of the same key share one load. A value with a zero time to live, or a
+ * failed load, is not cached.</p>
+ *
+ * <p>When a new key makes the cache exceed its capacity, the expired entries are evicted, then
+ * if need be the loaded entries expiring soonest, down to three quarters of the capacity. Entries
+ * being loaded are never evicted.</p>
+ */
+public class ExpiringFutureCache<K, V> {
+
+  private final Function<? super V, Duration> timeToLive;
+  private final int capacity;
+  private final LongSupplier nanoClock;
+  private final Map<K, Entry<V>> cache = new ConcurrentHashMap<>();
+
+  /**
+   * @param timeToLive how long a loaded value is kept, zero not to cache it
+   * @param capacity   the number of entries above which entries are evicted
+   * @param nanoClock  the clock of the expiration times, e.g. System::nanoTime
+   */
+  public ExpiringFutureCache(Function<? super V, Duration> timeToLive, int capacity,
+      LongSupplier nanoClock) {
+    this.timeToLive = timeToLive;
+    this.capacity = capacity;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * The value of the key if it is being loaded or has not expired, otherwise load it.
+   */
+  public CompletableFuture<V> get(K key, Function<? super K, CompletableFuture<V>> loader) {
+    long now = nanoClock.getAsLong();
+    Entry<V> created = new Entry<>();
+    Entry<V> entry = cache.compute(key,
+        (k, existing) -> existing != null && existing.isFresh(now) ? existing : created);
+    if (entry == created) {
+      if (cache.size() > capacity) {
+        evict(now);
+      }
+      load(key, entry, loader);
+    }
+    return entry.future;
+  }
+
+  private void evict(long now) {
+    cache.values().removeIf(entry -> !entry.isFresh(now));
+    int excess = cache.size() - capacity * 3 / 4;
+    if (excess > 0) {
+      cache.entrySet().stream()
+          .filter(e -> e.getValue().future.isDone())
+          .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt - now))
+          .limit(excess)
+          .forEach(e -> cache.remove(e.getKey(), e.getValue()));
+    }
+  }
+
+  private void load(K key, Entry<V> entry, Function<? super K, CompletableFuture<V>> loader) {
+    CompletableFuture<V> loading;
+    try {
+      loading = loader.apply(key);
+    } catch (RuntimeException e) {
+      loading = CompletableFuture.failedFuture(e);
+    }
+    loading.whenComplete((value, throwable) -> {
+      if (throwable != null) {
+        cache.remove(key, entry);
+        entry.future.completeExceptionally(throwable);
+        return;
+      }
+      Duration ttl = timeToLive.apply(value);
+      entry.expiresAt = nanoClock.getAsLong() + ttl.toNanos();
+      if (ttl.isZero() || ttl.isNegative()) {
+        cache.remove(key, entry);
+      }
+      entry.future.complete(value);
+    });
+  }
+
+  /**
+   * Number of entries, being loaded or not, expired or not.
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  private static class Entry<V> {
+
+    private final CompletableFuture<V> future = new CompletableFuture<>();
+    private volatile long expiresAt;
+
+    /**
+     * Being loaded or not yet expired; expiresAt is set before the future is completed.
+     */
+    private boolean isFresh(long now) {
+      return !future.isDone() || now - expiresAt < 0;
+    }
+  }
+}
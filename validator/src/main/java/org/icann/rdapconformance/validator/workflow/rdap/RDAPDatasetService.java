@@ -13,4 +13,12 @@ public interface RDAPDatasetService {
   boolean download(boolean useLocalDatasets);
 
   <T> T get(Class<T> clazz);
+
+  /**
+   * Digest of the content of the downloaded datasets, which changes when a dataset changes; null
+   * if unknown.
+   */
+  default String getGeneration() {
+    return null;
+  }
 }
@@ -1,11 +1,14 @@
 package org.icann.rdapconformance.validator.workflow.rdap;
 
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.icann.rdapconformance.validator.workflow.FileSystem;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics.Timer;
 import org.icann.rdapconformance.validator.workflow.rdap.dataset.BootstrapDomainNameSpaceDataset;
 import org.icann.rdapconformance.validator.workflow.rdap.dataset.DNSSecAlgNumbersDataset;
 import org.icann.rdapconformance.validator.workflow.rdap.dataset.DsRrTypesDataset;
@@ -39,6 +42,7 @@ public class RDAPDatasetServiceImpl implements RDAPDatasetService {
   private final List<RDAPDataset<? extends RDAPDatasetModel>> datasetList;
   protected Map<Class<? extends RDAPDataset>, RDAPDataset> datasets;
   protected Map<Class<?>, Object> datasetValidatorModels;
+  private String generation;
 
   public RDAPDatasetServiceImpl(FileSystem fileSystem) {
     this.fileSystem = fileSystem;
@@ -75,16 +79,19 @@ public class RDAPDatasetServiceImpl implements RDAPDatasetService {
     }
 
     for (RDAPDataset dataset : this.datasets.values()) {
-      if (!dataset.download(useLocalDatasets)) {
-        logger.error("Failed to download dataset {}", dataset.getName());
-        return false;
-      }
-      if (!dataset.parse()) {
-        logger.error("Failed to parse dataset {}", dataset.getName());
-        return false;
+      try (Timer ignored = RDAPValidationMetrics.timer("dataset." + dataset.getName())) {
+        if (!dataset.download(useLocalDatasets)) {
+          logger.error("Failed to download dataset {}", dataset.getName());
+          return false;
+        }
+        if (!dataset.parse()) {
+          logger.error("Failed to parse dataset {}", dataset.getName());
+          return false;
+        }
       }
     }
 
+    this.generation = digest();
     this.datasetValidatorModels = datasetList
         .stream()
         .map(RDAPDataset::getData)
@@ -117,4 +124,22 @@ public class RDAPDatasetServiceImpl implements RDAPDatasetService {
   public <T> T get(Class<T> clazz) {
     return (T) this.datasetValidatorModels.get(clazz);
   }
+
+  @Override
+  public String getGeneration() {
+    return generation;
+  }
+
+  private String digest() {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (RDAPDataset<? extends RDAPDatasetModel> dataset : datasetList) {
+        dataset.updateDigest(digest);
+      }
+      return RDAPValidationResultValues.hex(digest.digest());
+    } catch (IOException | NoSuchAlgorithmException e) {
+      logger.warn("Cannot compute the digest of the datasets", e);
+      return null;
+    }
+  }
 }
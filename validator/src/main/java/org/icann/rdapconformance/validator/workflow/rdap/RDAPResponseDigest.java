@@ -0,0 +1,141 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.icann.rdapconformance.validator.EventAction;
+
+/**
+ * Structural digest of an RDAP response, to compare other responses with it without parsing it
+ * again for each comparison.
+ *
+ * <p>Two responses have the same digest when they only differ by the order of the object
+ * members, the order and duplicates of the array elements (except in vcardArray, compared as is)
+ * and the "last update of RDAP database" events. The response is parsed and digested once, on
+ * the first comparison; a response is then compared member by member, and the comparison stops
+ * at the first member that differs.</p>
+ */
+public class RDAPResponseDigest {
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private final String response;
+  private boolean parsed;
+  private byte[] root;
+  private Map<String, byte[]> members;
+
+  public RDAPResponseDigest(String response) {
+    this.response = response;
+  }
+
+  /**
+   * Whether the other response is the same as this one.
+   *
+   * @throws JsonProcessingException if one of the responses is not valid JSON
+   */
+  public synchronized boolean matches(String other) throws JsonProcessingException {
+    if (!parsed) {
+      JsonNode node = mapper.readTree(response);
+      if (node.isObject()) {
+        members = new HashMap<>();
+        node.fields().forEachRemaining(
+            member -> members.put(member.getKey(), digest(member.getKey(), member.getValue())));
+      } else {
+        root = digest(node);
+      }
+      parsed = true;
+    }
+    JsonNode node = mapper.readTree(other);
+    if (members == null) {
+      return Arrays.equals(root, digest(node));
+    }
+    if (!node.isObject() || node.size() != members.size()) {
+      return false;
+    }
+    Iterator<Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      Entry<String, JsonNode> member = fields.next();
+      byte[] expected = members.get(member.getKey());
+      if (expected == null
+          || !Arrays.equals(expected, digest(member.getKey(), member.getValue()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Digest of a JSON value, see {@link RDAPResponseDigest} for the differences it ignores.
+   */
+  private static byte[] digest(JsonNode node) {
+    return digest(node, false);
+  }
+
+  private static byte[] digest(String name, JsonNode value) {
+    return digest(value, name.equals("vcardArray"));
+  }
+
+  private static byte[] digest(JsonNode node, boolean ordered) {
+    MessageDigest digest = newDigest();
+    digest.update((byte) node.getNodeType().ordinal());
+    if (node.isObject()) {
+      Map<String, JsonNode> sorted = new TreeMap<>();
+      node.fields().forEachRemaining(member -> sorted.put(member.getKey(), member.getValue()));
+      for (Entry<String, JsonNode> member : sorted.entrySet()) {
+        update(digest, member.getKey());
+        digest.update(ordered ? digest(member.getValue(), true)
+            : digest(member.getKey(), member.getValue()));
+      }
+    } else if (node.isArray() && ordered) {
+      for (JsonNode element : node) {
+        digest.update(digest(element, true));
+      }
+    } else if (node.isArray()) {
+      TreeSet<byte[]> elements = new TreeSet<>(Arrays::compare);
+      for (JsonNode element : node) {
+        if (!isLastUpdateEvent(element)) {
+          elements.add(digest(element, false));
+        }
+      }
+      elements.forEach(digest::update);
+    } else {
+      // numbers of different types are different, as for JsonNode.equals
+      update(digest, String.valueOf(node.numberType()));
+      update(digest, node.asText());
+    }
+    return digest.digest();
+  }
+
+  private static boolean isLastUpdateEvent(JsonNode node) {
+    return node.isObject() && EventAction.LAST_UPDATE_OF_RDAP_DATABASE.type
+        .equals(node.path("eventAction").textValue());
+  }
+
+  /**
+   * Length-prefixed so that consecutive strings cannot be confused.
+   */
+  private static void update(MessageDigest digest, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    digest.update(new byte[]{(byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16),
+        (byte) (bytes.length >>> 8), (byte) bytes.length});
+    digest.update(bytes);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+}
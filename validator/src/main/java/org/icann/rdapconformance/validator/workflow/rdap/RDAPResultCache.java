@@ -0,0 +1,330 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import org.icann.rdapconformance.validator.EventAction;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.workflow.FileSystem;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of the results of the validations of the response content (schema and profile
+ * validations which do not make network requests), keyed by a fingerprint of the response.
+ *
+ * <p>The fingerprint covers the response body, the query, the gTLD flags, the datasets and the
+ * tool version. The event date of the "last update of RDAP database" events, which changes at
+ * each response, is left out of the fingerprint when it is a valid date-time. The positions of
+ * these dates in the result values are found from their JSON pointers and stored with the
+ * results, so that only they are replaced by the new dates in the reused results. Unreadable cache
+ * files are ignored.</p>
+ */
+public class RDAPResultCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(RDAPResultCache.class);
+
+  /**
+   * Changed whenever the cached results of the same response may change.
+   */
+  static final int FORMAT_VERSION = 3;
+
+  private static final Pattern DATE_TIME = Pattern.compile(
+      "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?(Z|[+-]\\d{2}:\\d{2})");
+
+  private static final JsonFactory jsonFactory = new JsonFactory();
+
+  private final FileSystem fileSystem;
+  private final String directory;
+  private final String toolVersion;
+
+  public RDAPResultCache(FileSystem fileSystem, String directory) {
+    this(fileSystem, directory, Objects.requireNonNullElse(
+        RDAPResultCache.class.getPackage().getImplementationVersion(), "dev"));
+  }
+
+  RDAPResultCache(FileSystem fileSystem, String directory, String toolVersion) {
+    this.fileSystem = fileSystem;
+    this.directory = directory;
+    this.toolVersion = toolVersion;
+  }
+
+  /**
+   * Fingerprint of the response, null if the datasets are unknown. The ignored codes are part of
+   * it since the validations reporting only ignored codes are not run.
+   */
+  public Fingerprint fingerprint(RDAPValidatorConfiguration config, RDAPQueryType queryType,
+      Integer statusCode, String body, String datasetGeneration,
+      Collection<Integer> ignoredCodes) {
+    if (datasetGeneration == null) {
+      return null;
+    }
+    List<LastUpdateDate> lastUpdateDates = findLastUpdateDates(body);
+    StringBuilder maskedBody = new StringBuilder(body.length());
+    List<String> dates = new ArrayList<>();
+    List<String> pointers = new ArrayList<>();
+    int start = 0;
+    for (LastUpdateDate date : lastUpdateDates) {
+      maskedBody.append(body, start, date.start).append("\"\"");
+      dates.add(body.substring(date.start + 1, date.end - 1));
+      pointers.add(date.pointer);
+      start = date.end;
+    }
+    maskedBody.append(body, start, body.length());
+    String key = RDAPValidationResultValues.digest(String.join("\n",
+        String.valueOf(FORMAT_VERSION),
+        toolVersion,
+        datasetGeneration,
+        String.valueOf(config.getUri()),
+        String.valueOf(queryType),
+        String.valueOf(statusCode),
+        String.valueOf(config.useRdapProfileFeb2019()),
+        String.valueOf(config.isGtldRegistrar()),
+        String.valueOf(config.isGtldRegistry()),
+        String.valueOf(config.isThin()),
+        String.valueOf(new TreeSet<>(ignoredCodes)),
+        maskedBody));
+    return new Fingerprint(key, dates, pointers);
+  }
+
+  /**
+   * Quoted event dates of the "last update of RDAP database" events, in order; none if the body is
+   * not valid JSON.
+   */
+  static List<LastUpdateDate> findLastUpdateDates(String body) {
+    List<LastUpdateDate> dates = new ArrayList<>();
+    Deque<EventScan> objects = new ArrayDeque<>();
+    try (JsonParser parser = jsonFactory.createParser(body)) {
+      JsonToken token;
+      while ((token = parser.nextToken()) != null) {
+        if (token == JsonToken.START_OBJECT) {
+          objects.push(new EventScan());
+        } else if (token == JsonToken.END_OBJECT) {
+          EventScan event = objects.pop();
+          if (event.isLastUpdate && event.date != null) {
+            dates.add(event.date);
+          }
+        } else if (token == JsonToken.VALUE_STRING && parser.getParsingContext().inObject()) {
+          EventScan event = objects.peek();
+          String name = parser.getCurrentName();
+          String text = parser.getText();
+          if ("eventAction".equals(name)) {
+            event.isLastUpdate = EventAction.LAST_UPDATE_OF_RDAP_DATABASE.type.equals(text);
+          } else if ("eventDate".equals(name) && DATE_TIME.matcher(text).matches()) {
+            int start = (int) parser.getTokenLocation().getCharOffset();
+            // only masked when written without escapes
+            if (body.startsWith("\"" + text + "\"", start)) {
+              event.date = new LastUpdateDate(start, start + text.length() + 2,
+                  "#" + parser.getParsingContext().pathAsPointer());
+            }
+          }
+        }
+      }
+    } catch (IOException e) {
+      return List.of();
+    }
+    dates.sort((a, b) -> Integer.compare(a.start, b.start));
+    return dates;
+  }
+
+  /**
+   * Positions of the last update dates in a result value, as pairs of the offset and the index of
+   * the date. The value is made of "pointer:value" parts separated by ", " (see
+   * ProfileJsonValidation#getResultValue): a date is found in a part whose pointer is the pointer
+   * of the date, or one of its ancestors and then a JSON value containing the date.
+   */
+  static List<int[]> findLastUpdateDates(String value, Fingerprint fingerprint) {
+    List<int[]> positions = new ArrayList<>();
+    for (int i = 0; value != null && i < fingerprint.lastUpdatePointers.size(); i++) {
+      String pointer = fingerprint.lastUpdatePointers.get(i);
+      String date = fingerprint.lastUpdateDates.get(i);
+      for (String ancestor = pointer; ancestor != null; ancestor = parent(ancestor)) {
+        String prefix = ancestor + ":";
+        for (int at = value.indexOf(prefix); at >= 0; at = value.indexOf(prefix, at + 1)) {
+          if (at > 0 && !value.startsWith(", ", at - 2)) {
+            continue;
+          }
+          int start = at + prefix.length();
+          int offset = ancestor.equals(pointer)
+              ? (value.startsWith(date, start) ? start : -1)
+              : findDate(value, start, pointer.substring(ancestor.length()), date);
+          if (offset >= 0) {
+            positions.add(new int[]{offset, i});
+          }
+        }
+      }
+    }
+    positions.sort((a, b) -> Integer.compare(a[0], b[0]));
+    return positions;
+  }
+
+  private static String parent(String pointer) {
+    int slash = pointer.lastIndexOf('/');
+    return slash < 0 ? null : pointer.substring(0, slash);
+  }
+
+  /**
+   * Offset of the date at the relative pointer in the JSON object or array starting at start, -1
+   * if it is not there.
+   */
+  private static int findDate(String value, int start, String relativePointer, String date) {
+    try (JsonParser parser = jsonFactory.createParser(value.substring(start))) {
+      JsonToken token = parser.nextToken();
+      if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+        return -1;
+      }
+      while ((token = parser.nextToken()) != null && !parser.getParsingContext().inRoot()) {
+        if (token == JsonToken.VALUE_STRING
+            && relativePointer.equals(parser.getParsingContext().pathAsPointer().toString())) {
+          int offset = start + (int) parser.getTokenLocation().getCharOffset();
+          return value.startsWith("\"" + date + "\"", offset) ? offset + 1 : -1;
+        }
+      }
+    } catch (IOException e) {
+      return -1;
+    }
+    return -1;
+  }
+
+  /**
+   * Add the cached results of the response to the results, false if they are not cached.
+   */
+  public boolean load(Fingerprint fingerprint, RDAPValidatorResults results) {
+    String path = path(fingerprint);
+    if (!fileSystem.exists(path)) {
+      return false;
+    }
+    try {
+      JSONObject entry = new JSONObject(fileSystem.readFile(Path.of(path).toUri()));
+      JSONArray cachedDates = entry.getJSONArray("lastUpdateDates");
+      if (cachedDates.length() != fingerprint.lastUpdateDates.size()) {
+        return false;
+      }
+      List<RDAPValidationResult> cachedResults = new ArrayList<>();
+      for (Object object : entry.getJSONArray("results")) {
+        JSONObject result = (JSONObject) object;
+        String value = result.optString("value", null);
+        JSONArray positions = result.optJSONArray("lastUpdateDates");
+        if (value != null && positions != null) {
+          StringBuilder newValue = new StringBuilder(value);
+          // from the last position so that the previous offsets stay valid
+          for (int i = positions.length() - 1; i >= 0; i--) {
+            int offset = positions.getJSONArray(i).getInt(0);
+            int index = positions.getJSONArray(i).getInt(1);
+            String cachedDate = cachedDates.getString(index);
+            if (!value.startsWith(cachedDate, offset)) {
+              throw new JSONException("No last update date at " + offset + " in " + value);
+            }
+            newValue.replace(offset, offset + cachedDate.length(),
+                fingerprint.lastUpdateDates.get(index));
+          }
+          value = newValue.toString();
+        }
+        cachedResults.add(RDAPValidationResult.builder()
+            .code(result.getInt("code"))
+            .value(value)
+            .message(result.getString("message"))
+            .build());
+      }
+      cachedResults.forEach(results::add);
+      entry.getJSONArray("groupOk").forEach(group -> results.addGroup((String) group));
+      entry.getJSONArray("groupErrorWarning")
+          .forEach(group -> results.addGroupErrorWarning((String) group));
+      logger.info("Reusing the results of an unchanged response from {}", path);
+      return true;
+    } catch (IOException | JSONException | ClassCastException e) {
+      logger.warn("Ignoring unreadable cached results {}", path, e);
+      return false;
+    }
+  }
+
+  /**
+   * Cache the results of the response; failures are logged, not thrown.
+   */
+  public void store(Fingerprint fingerprint, RDAPValidatorResults results) {
+    JSONArray cachedResults = new JSONArray();
+    for (RDAPValidationResult result : results.getAll()) {
+      JSONObject cachedResult = new JSONObject()
+          .put("code", result.getCode())
+          .put("value", result.getValue())
+          .put("message", result.getMessage());
+      List<int[]> positions = findLastUpdateDates(result.getValue(), fingerprint);
+      if (!positions.isEmpty()) {
+        cachedResult.put("lastUpdateDates", positions);
+      }
+      cachedResults.put(cachedResult);
+    }
+    JSONObject entry = new JSONObject()
+        .put("lastUpdateDates", fingerprint.lastUpdateDates)
+        .put("results", cachedResults)
+        .put("groupOk", results.getGroupOk())
+        .put("groupErrorWarning", results.getGroupErrorWarning());
+    String path = path(fingerprint);
+    try {
+      fileSystem.mkdir(directory);
+      fileSystem.write(path, entry.toString());
+    } catch (IOException e) {
+      logger.warn("Cannot cache the results in {}", path, e);
+    }
+  }
+
+  private String path(Fingerprint fingerprint) {
+    return Path.of(directory, fingerprint.key + ".json").toString();
+  }
+
+  /**
+   * Key of the cached results, and event dates left out of the key with their JSON pointers.
+   */
+  public static class Fingerprint {
+
+    private final String key;
+    private final List<String> lastUpdateDates;
+    private final List<String> lastUpdatePointers;
+
+    Fingerprint(String key, List<String> lastUpdateDates, List<String> lastUpdatePointers) {
+      this.key = key;
+      this.lastUpdateDates = List.copyOf(lastUpdateDates);
+      this.lastUpdatePointers = List.copyOf(lastUpdatePointers);
+    }
+
+    public String getKey() {
+      return key;
+    }
+
+    public List<String> getLastUpdateDates() {
+      return lastUpdateDates;
+    }
+  }
+
+  static class LastUpdateDate {
+
+    private final int start;
+    private final int end;
+    private final String pointer;
+
+    private LastUpdateDate(int start, int end, String pointer) {
+      this.start = start;
+      this.end = end;
+      this.pointer = pointer;
+    }
+  }
+
+  private static class EventScan {
+
+    private boolean isLastUpdate;
+    private LastUpdateDate date;
+  }
+}
@@ -0,0 +1,134 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import static org.icann.rdapconformance.validator.exception.parser.ExceptionParser.UNKNOWN_ERROR_CODE;
+
+import java.util.function.LongSupplier;
+import org.icann.rdapconformance.validator.configuration.ConfigurationFile;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits of a triage run: the validations stop once a number of errors is found or once the
+ * wall-clock time of the run exceeds a budget, and the run is then marked as truncated.
+ *
+ * <p>Errors are counted as in the results file: ignored codes and warnings are not errors. The
+ * budget is only checked between validation steps, a step already started is not
+ * interrupted. The errors are counted by the results as they are added (see
+ * {@link #countErrors(RDAPValidatorResults)}), so that a check does not go through the
+ * results.</p>
+ */
+public class RDAPValidationBudget {
+
+  private static final Logger logger = LoggerFactory.getLogger(RDAPValidationBudget.class);
+
+  public static final String MAX_ERRORS = "maxErrors";
+  public static final String TIME_BUDGET = "timeBudget";
+
+  private final int maxErrors;
+  private final long timeBudgetNanos;
+  private final ConfigurationFile configurationFile;
+  private final LongSupplier nanoTime;
+  private final long start;
+  private volatile String truncation;
+
+  public RDAPValidationBudget(RDAPValidatorConfiguration config,
+      ConfigurationFile configurationFile) {
+    this(config.getMaxErrors(), config.getTimeBudget() * 1_000_000_000L, configurationFile,
+        System::nanoTime);
+  }
+
+  RDAPValidationBudget(int maxErrors, long timeBudgetNanos, ConfigurationFile configurationFile,
+      LongSupplier nanoTime) {
+    this.maxErrors = maxErrors;
+    this.timeBudgetNanos = timeBudgetNanos;
+    this.configurationFile = configurationFile;
+    this.nanoTime = nanoTime;
+    this.start = nanoTime.getAsLong();
+  }
+
+  /**
+   * A budget which is never exhausted.
+   */
+  public static RDAPValidationBudget unlimited() {
+    return new RDAPValidationBudget(0, 0, null, System::nanoTime);
+  }
+
+  /**
+   * Whether the run has a limit, in which case the validations run cheapest-first.
+   */
+  public boolean isLimited() {
+    return maxErrors > 0 || timeBudgetNanos > 0;
+  }
+
+  /**
+   * Have the results count their errors as they are added; to be called before any result is
+   * added. The errors of other results are counted at each check.
+   */
+  public void countErrors(RDAPValidatorResults results) {
+    if (maxErrors > 0 && results instanceof RDAPValidatorResultsImpl) {
+      ((RDAPValidatorResultsImpl) results).countErrors(this::isError);
+    }
+  }
+
+  /**
+   * Whether the everit schema validation stops at the first violation.
+   */
+  public boolean isFailEarly() {
+    return maxErrors == 1;
+  }
+
+  /**
+   * Whether the results reached the error limit or the time budget is spent; the run is then
+   * truncated.
+   */
+  public boolean isExhausted(RDAPValidatorResults results) {
+    if (truncation != null) {
+      return true;
+    }
+    if (maxErrors > 0 && getErrorCount(results) >= maxErrors) {
+      truncate(MAX_ERRORS);
+    } else if (timeBudgetNanos > 0 && nanoTime.getAsLong() - start >= timeBudgetNanos) {
+      truncate(TIME_BUDGET);
+    }
+    return truncation != null;
+  }
+
+  /**
+   * Mark the run as truncated, e.g. when the schema validation stopped at its first violation.
+   */
+  public void truncate(String reason) {
+    if (truncation == null) {
+      logger.info("Stopping the validations: {} reached", reason);
+      truncation = reason;
+    }
+  }
+
+  public boolean isTruncated() {
+    return truncation != null;
+  }
+
+  /**
+   * The limit which truncated the run, {@link #MAX_ERRORS} or {@link #TIME_BUDGET}; null if the
+   * run is complete.
+   */
+  public String getTruncation() {
+    return truncation;
+  }
+
+  private long getErrorCount(RDAPValidatorResults results) {
+    if (results instanceof RDAPValidatorResultsImpl) {
+      int errorCount = ((RDAPValidatorResultsImpl) results).getErrorCount();
+      if (errorCount >= 0) {
+        return errorCount;
+      }
+    }
+    return results.getAll().stream().filter(result -> isError(result.getCode())).count();
+  }
+
+  private boolean isError(int code) {
+    return code != UNKNOWN_ERROR_CODE && (configurationFile == null
+        || !configurationFile.getDefinitionIgnore().contains(code)
+        && (configurationFile.isError(code) || !configurationFile.isWarning(code)));
+  }
+}
@@ -0,0 +1,79 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import java.net.http.HttpResponse;
+import org.icann.rdapconformance.validator.SchemaValidator;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+
+/**
+ * The inputs the planned validations are built from, shared by all the validations of a stage.
+ */
+public class RDAPValidationContext {
+
+  private final RDAPValidatorConfiguration config;
+  private final RDAPQueryType queryType;
+  private final RDAPDatasetService datasetService;
+  private final RDAPValidatorResults results;
+  private final String data;
+  private final HttpResponse<String> httpResponse;
+  private final SchemaValidator schemaValidator;
+  private RDAPResponseDigest responseDigest;
+
+  /**
+   * @param httpResponse the response the data was received with, null if there is none
+   * @param schemaValidator the validator of the data, null for the network validations
+   */
+  public RDAPValidationContext(RDAPValidatorConfiguration config, RDAPQueryType queryType,
+      RDAPDatasetService datasetService, RDAPValidatorResults results, String data,
+      HttpResponse<String> httpResponse, SchemaValidator schemaValidator) {
+    this.config = config;
+    this.queryType = queryType;
+    this.datasetService = datasetService;
+    this.results = results;
+    this.data = data;
+    this.httpResponse = httpResponse;
+    this.schemaValidator = schemaValidator;
+  }
+
+  public RDAPValidatorConfiguration getConfig() {
+    return config;
+  }
+
+  public RDAPQueryType getQueryType() {
+    return queryType;
+  }
+
+  public RDAPDatasetService getDatasetService() {
+    return datasetService;
+  }
+
+  public RDAPValidatorResults getResults() {
+    return results;
+  }
+
+  public String getData() {
+    return data;
+  }
+
+  public HttpResponse<String> getHttpResponse() {
+    return httpResponse;
+  }
+
+  public boolean hasHttpResponse() {
+    return httpResponse != null;
+  }
+
+  public SchemaValidator getSchemaValidator() {
+    return schemaValidator;
+  }
+
+  /**
+   * The digest of the HTTP response body, created once for all the comparisons with other
+   * responses.
+   */
+  public synchronized RDAPResponseDigest getResponseDigest() {
+    if (responseDigest == null && httpResponse != null) {
+      responseDigest = new RDAPResponseDigest(httpResponse.body());
+    }
+    return responseDigest;
+  }
+}
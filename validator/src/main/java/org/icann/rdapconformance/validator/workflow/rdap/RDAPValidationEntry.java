@@ -0,0 +1,85 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
+
+/**
+ * Declaration of a validation: the workflow options it depends on, what it is built from, and how
+ * to build it.
+ *
+ * <p>The options are checked before the validation is created; whether the created validation
+ * applies to the query is then decided by its {@link ProfileValidation#doLaunch()} only.</p>
+ */
+public final class RDAPValidationEntry {
+
+  private final Class<? extends ProfileValidation> type;
+  private final Function<RDAPValidationContext, ProfileValidation> factory;
+  private final Map<String, Predicate<RDAPValidatorConfiguration>> conditions =
+      new LinkedHashMap<>();
+  private final Set<RDAPValidationInput> inputs = EnumSet.noneOf(RDAPValidationInput.class);
+
+  private <T extends ProfileValidation> RDAPValidationEntry(Class<T> type,
+      Function<RDAPValidationContext, T> factory) {
+    this.type = type;
+    this.factory = factory::apply;
+  }
+
+  public static <T extends ProfileValidation> RDAPValidationEntry of(Class<T> type,
+      Function<RDAPValidationContext, T> factory) {
+    return new RDAPValidationEntry(type, factory);
+  }
+
+  /**
+   * Only apply when the configuration satisfies the condition, named in the plan.
+   */
+  public RDAPValidationEntry when(String name, Predicate<RDAPValidatorConfiguration> condition) {
+    conditions.put(name, condition);
+    return this;
+  }
+
+  public RDAPValidationEntry inputs(RDAPValidationInput... inputs) {
+    this.inputs.addAll(Arrays.asList(inputs));
+    return this;
+  }
+
+  public String getName() {
+    return type.getSimpleName();
+  }
+
+  public Set<RDAPValidationInput> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * Why the validation is not created in this context, empty if it is.
+   */
+  public Optional<String> findInapplicability(RDAPValidationContext context) {
+    List<String> unmet = new ArrayList<>();
+    conditions.forEach((name, condition) -> {
+      if (!condition.test(context.getConfig())) {
+        unmet.add(name);
+      }
+    });
+    if (!unmet.isEmpty()) {
+      return Optional.of("requires " + String.join(" and ", unmet));
+    }
+    if (inputs.contains(RDAPValidationInput.HTTP_RESPONSE) && !context.hasHttpResponse()) {
+      return Optional.of("no HTTP response");
+    }
+    return Optional.empty();
+  }
+
+  public ProfileValidation create(RDAPValidationContext context) {
+    return factory.apply(context);
+  }
+}
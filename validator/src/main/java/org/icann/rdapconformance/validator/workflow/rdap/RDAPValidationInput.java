@@ -0,0 +1,29 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+/**
+ * What a validation is built from, declared in the {@link RDAPValidationRegistry}.
+ */
+public enum RDAPValidationInput {
+  /**
+   * The JSON content of the response.
+   */
+  DOCUMENT,
+  /**
+   * The HTTP response and the redirects leading to it; a validation needing it is not planned
+   * when there is no HTTP response.
+   */
+  HTTP_RESPONSE,
+  /**
+   * The downloaded datasets.
+   */
+  DATASETS,
+  /**
+   * The A and AAAA records of the hosts of the HTTP exchanges, resolved ahead of the validation.
+   */
+  DNS,
+  /**
+   * The TLS protocols offered by the HTTPS servers of the HTTP exchanges, probed ahead of the
+   * validation.
+   */
+  TLS
+}
@@ -0,0 +1,177 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.icann.rdapconformance.validator.customvalidator.DomainNameClassifier;
+
+/**
+ * Wall time, CPU time and allocated bytes of the validation steps of a run, keyed by validation
+ * group name (or step name for the schema phases, dataset loading and network requests).
+ *
+ * <p>The metrics are bound to the thread running the validation: steps are measured with {@link
+ * #timer(String)} which is a no-op unless metrics were started on the current thread, or the step
+ * runs in a task bound to them with {@link #propagate(Supplier)} (search results validated
+ * concurrently, TLS handshakes). Steps may be measured concurrently: the CPU time and allocated
+ * bytes are those of the thread running the step.</p>
+ */
+public class RDAPValidationMetrics {
+
+  private static final ThreadLocal<RDAPValidationMetrics> current = new ThreadLocal<>();
+  private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+  private static final Timer NOOP_TIMER = () -> {
+  };
+
+  private final Map<String, Measurement> measurements = new ConcurrentHashMap<>();
+  private final DomainNameClassifier.Stats domainNameCacheStart =
+      DomainNameClassifier.getInstance().getStats();
+
+  /**
+   * Start recording metrics on the current thread.
+   */
+  public static RDAPValidationMetrics start() {
+    RDAPValidationMetrics metrics = new RDAPValidationMetrics();
+    current.set(metrics);
+    return metrics;
+  }
+
+  /**
+   * Stop recording metrics on the current thread.
+   */
+  public void stop() {
+    if (current.get() == this) {
+      current.remove();
+    }
+  }
+
+  /**
+   * The task bound to the metrics of the current thread, if any, so that its steps are measured
+   * when it runs on another thread.
+   */
+  public static <T> Supplier<T> propagate(Supplier<T> task) {
+    RDAPValidationMetrics metrics = current.get();
+    if (metrics == null) {
+      return task;
+    }
+    return () -> {
+      RDAPValidationMetrics previous = current.get();
+      current.set(metrics);
+      try {
+        return task.get();
+      } finally {
+        if (previous == null) {
+          current.remove();
+        } else {
+          current.set(previous);
+        }
+      }
+    };
+  }
+
+  /**
+   * Measure the step until the returned timer is closed, e.g. in a try-with-resources.
+   */
+  public static Timer timer(String name) {
+    RDAPValidationMetrics metrics = current.get();
+    if (metrics == null) {
+      return NOOP_TIMER;
+    }
+    long wallStart = System.nanoTime();
+    long cpuStart = cpuTime();
+    long allocatedStart = allocatedBytes();
+    return () -> metrics.measurements
+        .computeIfAbsent(name, k -> new Measurement())
+        .add(System.nanoTime() - wallStart, cpuTime() - cpuStart,
+            allocatedBytes() - allocatedStart);
+  }
+
+  private static long cpuTime() {
+    return threadMXBean.isCurrentThreadCpuTimeSupported()
+        ? threadMXBean.getCurrentThreadCpuTime() : 0;
+  }
+
+  private static long allocatedBytes() {
+    if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean sunThreadMXBean =
+          (com.sun.management.ThreadMXBean) threadMXBean;
+      if (sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+        return sunThreadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Measurements of the steps, sorted by name.
+   */
+  public Map<String, Measurement> getMeasurements() {
+    return Collections.unmodifiableMap(new TreeMap<>(measurements));
+  }
+
+  /**
+   * Lookups of the domain name classification cache since the metrics were started, including
+   * those of the other runs of the process at the same time.
+   */
+  public DomainNameClassifier.Stats getDomainNameCacheStats() {
+    return DomainNameClassifier.getInstance().getStats().since(domainNameCacheStart);
+  }
+
+  /**
+   * One line summary of the steps taking the most wall time.
+   */
+  public String summary(int limit) {
+    return measurements.entrySet().stream()
+        .sorted(Comparator.comparingLong(
+            (Map.Entry<String, Measurement> e) -> e.getValue().getWallTimeNanos()).reversed())
+        .limit(limit)
+        .map(e -> String.format("%s=%.1fms/%.1fms cpu/%dkB", e.getKey(),
+            e.getValue().getWallTimeNanos() / 1e6, e.getValue().getCpuTimeNanos() / 1e6,
+            e.getValue().getAllocatedBytes() >> 10))
+        .collect(Collectors.joining(", "));
+  }
+
+  @FunctionalInterface
+  public interface Timer extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+  public static class Measurement {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder wallTimeNanos = new LongAdder();
+    private final LongAdder cpuTimeNanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    private void add(long wallTimeNanos, long cpuTimeNanos, long allocatedBytes) {
+      this.count.increment();
+      this.wallTimeNanos.add(wallTimeNanos);
+      this.cpuTimeNanos.add(cpuTimeNanos);
+      this.allocatedBytes.add(allocatedBytes);
+    }
+
+    public int getCount() {
+      return count.intValue();
+    }
+
+    public long getWallTimeNanos() {
+      return wallTimeNanos.sum();
+    }
+
+    public long getCpuTimeNanos() {
+      return cpuTimeNanos.sum();
+    }
+
+    public long getAllocatedBytes() {
+      return allocatedBytes.sum();
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
+import org.icann.rdapconformance.validator.workflow.rdap.dns.DNSCacheResolver;
+import org.icann.rdapconformance.validator.workflow.rdap.tls.TLSProbe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xbill.DNS.Name;
+import org.xbill.DNS.TextParseException;
+import org.xbill.DNS.Type;
+
+/**
+ * The validations of a stage which apply to the query: only these are created, the network
+ * inputs they declare can be fetched ahead, and the plan can be printed for debugging.
+ */
+public class RDAPValidationPlan {
+
+  private static final Logger logger = LoggerFactory.getLogger(RDAPValidationPlan.class);
+
+  private final String stage;
+  private final RDAPValidationContext context;
+  private final List<Step> steps;
+
+  private RDAPValidationPlan(String stage, RDAPValidationContext context, List<Step> steps) {
+    this.stage = stage;
+    this.context = context;
+    this.steps = steps;
+  }
+
+  /**
+   * Create the validations of the entries whose options are met, and keep those which launch for
+   * the query; those whose result codes are all ignored are planned to be skipped.
+   */
+  public static RDAPValidationPlan plan(String stage, List<RDAPValidationEntry> entries,
+      RDAPValidationContext context, Collection<Integer> ignoredCodes) {
+    List<Step> steps = new ArrayList<>();
+    for (RDAPValidationEntry entry : entries) {
+      Optional<String> inapplicability = entry.findInapplicability(context);
+      if (inapplicability.isPresent()) {
+        steps.add(new Step(entry, null, inapplicability.get()));
+        continue;
+      }
+      ProfileValidation validation = entry.create(context);
+      if (!validation.doLaunch()) {
+        steps.add(new Step(entry, null, "not launched"));
+      } else if (validation.isIgnored(ignoredCodes)) {
+        steps.add(new Step(entry, validation, "result codes ignored"));
+      } else {
+        steps.add(new Step(entry, validation, null));
+      }
+    }
+    return new RDAPValidationPlan(stage, context, Collections.unmodifiableList(steps));
+  }
+
+  /**
+   * The launched validations, in the order of the entries, including those to be skipped so
+   * that their groups are recorded.
+   */
+  public List<ProfileValidation> getValidations() {
+    List<ProfileValidation> validations = new ArrayList<>();
+    for (Step step : steps) {
+      if (step.validation != null) {
+        validations.add(step.validation);
+      }
+    }
+    return validations;
+  }
+
+  /**
+   * The inputs of the planned validations.
+   */
+  public Set<RDAPValidationInput> getInputs() {
+    Set<RDAPValidationInput> inputs = EnumSet.noneOf(RDAPValidationInput.class);
+    for (Step step : steps) {
+      if (step.reason == null) {
+        inputs.addAll(step.entry.getInputs());
+      }
+    }
+    return inputs;
+  }
+
+  /**
+   * Start the DNS resolutions and the TLS probes the planned validations need, without waiting
+   * for them: the validations find the answers in the process-wide caches.
+   */
+  public void prefetch() {
+    Set<RDAPValidationInput> inputs = getInputs();
+    if (!context.hasHttpResponse()
+        || !inputs.contains(RDAPValidationInput.DNS) && !inputs.contains(RDAPValidationInput.TLS)) {
+      return;
+    }
+    Set<URI> uris = new LinkedHashSet<>();
+    Optional<HttpResponse<String>> responseOpt = Optional.of(context.getHttpResponse());
+    while (responseOpt.isPresent()) {
+      uris.add(responseOpt.get().uri());
+      responseOpt = responseOpt.get().previousResponse();
+    }
+    for (URI uri : uris) {
+      if (inputs.contains(RDAPValidationInput.DNS)) {
+        prefetchDns(uri.getHost());
+      }
+      if (inputs.contains(RDAPValidationInput.TLS) && "https".equals(uri.getScheme())) {
+        TLSProbe.getDefault().probe(uri.getHost(), uri.getPort() < 0 ? 443 : uri.getPort(),
+            context.getConfig().getTimeout());
+      }
+    }
+  }
+
+  private void prefetchDns(String hostname) {
+    Name host;
+    try {
+      host = Name.fromString(hostname);
+    } catch (TextParseException e) {
+      logger.debug("Cannot resolve {} ahead", hostname, e);
+      return;
+    }
+    DNSCacheResolver resolver = DNSCacheResolver.forServers(
+        context.getConfig().getDnsResolvers());
+    resolver.resolve(host, Type.A);
+    resolver.resolve(host, Type.AAAA);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder plan = new StringBuilder(stage).append(" validations of a ")
+        .append(context.getQueryType()).append(" query:");
+    for (Step step : steps) {
+      plan.append(System.lineSeparator());
+      if (step.reason == null) {
+        plan.append("  + ").append(step.entry.getName()).append(' ')
+            .append(step.entry.getInputs());
+      } else {
+        plan.append("  - ").append(step.entry.getName()).append(": ").append(step.reason);
+      }
+    }
+    return plan.toString();
+  }
+
+  private static class Step {
+
+    private final RDAPValidationEntry entry;
+    private final ProfileValidation validation;
+    private final String reason;
+
+    private Step(RDAPValidationEntry entry, ProfileValidation validation, String reason) {
+      this.entry = entry;
+      this.validation = validation;
+      this.reason = reason;
+    }
+  }
+}
@@ -0,0 +1,237 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import static org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationInput.DATASETS;
+import static org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationInput.DNS;
+import static org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationInput.DOCUMENT;
+import static org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationInput.HTTP_RESPONSE;
+import static org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationInput.TLS;
+
+import java.util.List;
+import java.util.function.Function;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.workflow.DomainCaseFoldingValidation;
+import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot10;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot11;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot1;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot2;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot3Dot1Dot1;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot3Dot1Dot2;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot4Dot1;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot4Dot2And2Dot4Dot3;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot4Dot5;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot6Dot1;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot6Dot3;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot9Dot1And2Dot9Dot2;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidationNoticesIncluded;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidationRFC3915;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidationRFC5731;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot1DotXAndRelated1;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot1DotXAndRelated2;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot1DotXAndRelated3And4;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot1DotXAndRelated6;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot5Dot2;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot5Dot3;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.SimpleHandleValidation;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.entity.ResponseValidation3Dot1;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.entity.ResponseValidation3Dot2;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.general.ResponseValidation1Dot2Dot2;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.general.ResponseValidation1Dot3;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.general.ResponseValidation1Dot4;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.miscellaneous.ResponseValidationLastUpdateEvent;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.nameserver.ResponseNameserverStatusValidation;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.nameserver.ResponseValidation4Dot1Handle;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.nameserver.ResponseValidation4Dot1Query;
+import org.icann.rdapconformance.validator.workflow.profile.rdap_response.nameserver.ResponseValidation4Dot3;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot13;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot14;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot2;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot3;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot6;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot8;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation3Dot3And3Dot4;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation4Dot1;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation7Dot1And7Dot2;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.registrar.TigValidation1Dot12Dot1;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.registry.TigValidation1Dot11Dot1;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.registry.TigValidation3Dot2;
+import org.icann.rdapconformance.validator.workflow.profile.tig_section.registry.TigValidation6Dot1;
+
+/**
+ * The validations run in addition to the schema validation, with the workflow options they
+ * depend on and what they are built from. Whether a validation applies to the query and to the
+ * configured gTLD type is decided by its {@link ProfileValidation#doLaunch()}.
+ */
+public final class RDAPValidationRegistry {
+
+  private static final String PROFILE = "rdap-profile-february-2019";
+
+  /**
+   * Validations of the response content only.
+   */
+  public static final List<RDAPValidationEntry> CONTENT = List.of(
+      profile(TigValidation1Dot11Dot1.class, c -> new TigValidation1Dot11Dot1(c.getConfig(),
+          c.getResults(), c.getDatasetService(), c.getQueryType()))
+          .inputs(DATASETS),
+      profile(TigValidation1Dot14.class, c -> new TigValidation1Dot14(c.getData(),
+          c.getResults()))
+          .inputs(DOCUMENT),
+      profile(TigValidation3Dot2.class, c -> new TigValidation3Dot2(c.getData(), c.getResults(),
+          c.getConfig(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(TigValidation6Dot1.class, c -> new TigValidation6Dot1(c.getData(), c.getResults(),
+          c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(TigValidation3Dot3And3Dot4.class, c -> new TigValidation3Dot3And3Dot4(c.getData(),
+          c.getResults(), c.getSchemaValidator()))
+          .inputs(DOCUMENT),
+      profile(TigValidation4Dot1.class, c -> new TigValidation4Dot1(c.getData(), c.getResults()))
+          .inputs(DOCUMENT),
+      profile(TigValidation7Dot1And7Dot2.class, c -> new TigValidation7Dot1And7Dot2(c.getData(),
+          c.getResults()))
+          .inputs(DOCUMENT),
+      profile(TigValidation1Dot12Dot1.class, c -> new TigValidation1Dot12Dot1(c.getData(),
+          c.getResults(), c.getDatasetService(), c.getQueryType()))
+          .inputs(DOCUMENT, DATASETS),
+      profile(ResponseValidation1Dot2Dot2.class, c -> new ResponseValidation1Dot2Dot2(c.getData(),
+          c.getResults()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation1Dot3.class, c -> new ResponseValidation1Dot3(c.getData(),
+          c.getResults()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation1Dot4.class, c -> new ResponseValidation1Dot4(c.getData(),
+          c.getResults()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidationLastUpdateEvent.class, c -> new ResponseValidationLastUpdateEvent(
+          c.getData(), c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot1.class, c -> new ResponseValidation2Dot1(c.getData(),
+          c.getResults(), c.getConfig(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot2.class, c -> new ResponseValidation2Dot2(c.getData(),
+          c.getResults(), c.getDatasetService(), c.getQueryType()))
+          .inputs(DOCUMENT, DATASETS),
+      profile(ResponseValidation2Dot3Dot1Dot1.class, c -> new ResponseValidation2Dot3Dot1Dot1(
+          c.getData(), c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot3Dot1Dot2.class, c -> new ResponseValidation2Dot3Dot1Dot2(
+          c.getData(), c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidationNoticesIncluded.class, c -> new ResponseValidationNoticesIncluded(
+          c.getData(), c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot6Dot3.class, c -> new ResponseValidation2Dot6Dot3(c.getData(),
+          c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot11.class, c -> new ResponseValidation2Dot11(c.getData(),
+          c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot10.class, c -> new ResponseValidation2Dot10(c.getData(),
+          c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidationRFC5731.class, c -> new ResponseValidationRFC5731(c.getData(),
+          c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidationRFC3915.class, c -> new ResponseValidationRFC3915(c.getData(),
+          c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot6Dot1.class, c -> new ResponseValidation2Dot6Dot1(c.getData(),
+          c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot9Dot1And2Dot9Dot2.class,
+          c -> new ResponseValidation2Dot9Dot1And2Dot9Dot2(c.getData(), c.getResults(),
+              c.getDatasetService(), c.getQueryType()))
+          .inputs(DOCUMENT, DATASETS),
+      profile(ResponseValidation2Dot4Dot1.class, c -> new ResponseValidation2Dot4Dot1(c.getData(),
+          c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot4Dot2And2Dot4Dot3.class,
+          c -> new ResponseValidation2Dot4Dot2And2Dot4Dot3(c.getData(), c.getResults(),
+              c.getDatasetService(), c.getQueryType()))
+          .inputs(DOCUMENT, DATASETS),
+      profile(ResponseValidation2Dot4Dot5.class, c -> new ResponseValidation2Dot4Dot5(c.getData(),
+          c.getResults(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot7Dot1DotXAndRelated1.class,
+          c -> new ResponseValidation2Dot7Dot1DotXAndRelated1(c.getData(), c.getResults(),
+              c.getQueryType(), c.getConfig()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot7Dot1DotXAndRelated2.class,
+          c -> new ResponseValidation2Dot7Dot1DotXAndRelated2(c.getData(), c.getResults(),
+              c.getQueryType(), c.getConfig()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot7Dot1DotXAndRelated3And4.class,
+          c -> new ResponseValidation2Dot7Dot1DotXAndRelated3And4(c.getData(), c.getResults(),
+              c.getQueryType(), c.getConfig(),
+              new SimpleHandleValidation(c.getData(), c.getResults(), c.getDatasetService(),
+                  c.getQueryType(), -52102)))
+          .inputs(DOCUMENT, DATASETS),
+      profile(ResponseValidation2Dot7Dot1DotXAndRelated6.class,
+          c -> new ResponseValidation2Dot7Dot1DotXAndRelated6(c.getData(), c.getResults(),
+              c.getQueryType(), c.getConfig()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot7Dot5Dot2.class, c -> new ResponseValidation2Dot7Dot5Dot2(
+          c.getData(), c.getResults(), c.getQueryType(), c.getConfig()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation2Dot7Dot5Dot3.class, c -> new ResponseValidation2Dot7Dot5Dot3(
+          c.getData(), c.getResults(), c.getQueryType(), c.getConfig()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation3Dot1.class, c -> new ResponseValidation3Dot1(c.getData(),
+          c.getResults(), c.getQueryType(), c.getConfig()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation3Dot2.class, c -> new ResponseValidation3Dot2(c.getData(),
+          c.getResults(), c.getQueryType(), c.getConfig()))
+          .inputs(DOCUMENT),
+      profile(ResponseNameserverStatusValidation.class,
+          c -> new ResponseNameserverStatusValidation(c.getData(), c.getResults(),
+              c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation4Dot1Handle.class, c -> new ResponseValidation4Dot1Handle(
+          c.getData(), c.getResults(), c.getDatasetService(), c.getQueryType()))
+          .inputs(DOCUMENT, DATASETS),
+      profile(ResponseValidation4Dot1Query.class, c -> new ResponseValidation4Dot1Query(
+          c.getData(), c.getResults(), c.getConfig(), c.getQueryType()))
+          .inputs(DOCUMENT),
+      profile(ResponseValidation4Dot3.class, c -> new ResponseValidation4Dot3(c.getData(),
+          c.getResults(), c.getDatasetService(), c.getQueryType()))
+          .inputs(DOCUMENT, DATASETS)
+  );
+
+  /**
+   * Validations of the HTTP exchanges with the server: they are never cached.
+   */
+  public static final List<RDAPValidationEntry> NETWORK = List.of(
+      // extra validation not categorized (change request):
+      RDAPValidationEntry.of(DomainCaseFoldingValidation.class,
+          c -> new DomainCaseFoldingValidation(c.getHttpResponse(), c.getConfig(),
+              c.getResults(), c.getQueryType(), c.getResponseDigest()))
+          .inputs(HTTP_RESPONSE),
+      profile(TigValidation1Dot2.class, c -> new TigValidation1Dot2(c.getHttpResponse(),
+          c.getConfig(), c.getResults(), c.getResponseDigest()))
+          .inputs(HTTP_RESPONSE),
+      profile(TigValidation1Dot3.class, c -> new TigValidation1Dot3(c.getHttpResponse(),
+          c.getConfig(), c.getResults()))
+          .inputs(HTTP_RESPONSE, TLS),
+      profile(TigValidation1Dot6.class, c -> new TigValidation1Dot6(
+          c.getHttpResponse().statusCode(), c.getConfig(), c.getResults()))
+          .inputs(HTTP_RESPONSE),
+      profile(TigValidation1Dot8.class, c -> new TigValidation1Dot8(c.getHttpResponse(),
+          c.getResults(), c.getDatasetService(), c.getConfig()))
+          .inputs(HTTP_RESPONSE, DNS, DATASETS),
+      profile(TigValidation1Dot13.class, c -> new TigValidation1Dot13(c.getHttpResponse(),
+          c.getResults()))
+          .inputs(HTTP_RESPONSE)
+  );
+
+  private RDAPValidationRegistry() {
+  }
+
+  /**
+   * A validation of the RDAP profile, run with --use-rdap-profile-february-2019 only.
+   */
+  private static <T extends ProfileValidation> RDAPValidationEntry profile(Class<T> type,
+      Function<RDAPValidationContext, T> factory) {
+    return RDAPValidationEntry.of(type, factory)
+        .when(PROFILE, RDAPValidatorConfiguration::useRdapProfileFeb2019);
+  }
+}
@@ -6,12 +6,26 @@ public class RDAPValidationResult {
 
   private final int code;
   private final String value;
+  private final String valueDigest;
   private final String message;
+  private final int hash;
 
+  /**
+   * Large values are referenced by their content hash, see {@link RDAPValidationResultValues},
+   * and the hash code is computed once since results are kept in a hash set.
+   */
   public RDAPValidationResult(int code, String value, String message) {
+    this(code, value,
+        RDAPValidationResultValues.isLarge(value) ? RDAPValidationResultValues.digest(value) : null,
+        message);
+  }
+
+  private RDAPValidationResult(int code, String value, String valueDigest, String message) {
     this.code = code;
     this.value = value;
+    this.valueDigest = valueDigest;
     this.message = message;
+    this.hash = Objects.hash(code, valueDigest != null ? valueDigest : value, message);
   }
 
   public static Builder builder() {
@@ -26,10 +40,24 @@ public class RDAPValidationResult {
     return value;
   }
 
+  /**
+   * Hex-encoded SHA-256 of a large value, null if the value is small.
+   */
+  public String getValueDigest() {
+    return valueDigest;
+  }
+
   public String getMessage() {
     return message;
   }
 
+  /**
+   * The same result with another copy of the same large value.
+   */
+  RDAPValidationResult withValue(String sameValue) {
+    return new RDAPValidationResult(code, sameValue, valueDigest, message);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -39,14 +67,16 @@ public class RDAPValidationResult {
       return false;
     }
     RDAPValidationResult result = (RDAPValidationResult) o;
-    return code == result.code &&
-        value.equals(result.value) &&
-        message.equals(result.message);
+    return hash == result.hash &&
+        code == result.code &&
+        Objects.equals(valueDigest, result.valueDigest) &&
+        (valueDigest != null || Objects.equals(value, result.value)) &&
+        Objects.equals(message, result.message);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(code, value, message);
+    return hash;
   }
 
   @Override
@@ -2,109 +2,284 @@ package org.icann.rdapconformance.validator.workflow.rdap;
 
 import static org.icann.rdapconformance.validator.exception.parser.ExceptionParser.UNKNOWN_ERROR_CODE;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import org.icann.rdapconformance.validator.configuration.ConfigurationFile;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.customvalidator.DomainNameClassifier;
 import org.icann.rdapconformance.validator.workflow.FileSystem;
-import org.json.JSONObject;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPHttpRetries;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPHttpRetries.Retry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class RDAPValidationResultFile {
 
   private static final Logger logger = LoggerFactory.getLogger(RDAPValidationResultFile.class);
+  private static final JsonFactory jsonFactory = new JsonFactory()
+      .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  private static final DateTimeFormatter datetimeFormatter =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+  private static final long pid = ProcessHandle.current().pid();
+  private static final AtomicLong sequence = new AtomicLong();
 
   private final RDAPValidatorResults results;
   private final RDAPValidatorConfiguration config;
   private final ConfigurationFile configurationFile;
   private final FileSystem fileSystem;
+  private final RDAPValidationMetrics metrics;
+  private final RDAPValidationBudget budget;
+  private final RDAPHttpRetries retries;
   public String resultPath;
 
   public RDAPValidationResultFile(RDAPValidatorResults results,
       RDAPValidatorConfiguration config,
       ConfigurationFile configurationFile,
       FileSystem fileSystem) {
+    this(results, config, configurationFile, fileSystem, null);
+  }
+
+  /**
+   * Result file with a metrics section, if metrics are not null.
+   */
+  public RDAPValidationResultFile(RDAPValidatorResults results,
+      RDAPValidatorConfiguration config,
+      ConfigurationFile configurationFile,
+      FileSystem fileSystem,
+      RDAPValidationMetrics metrics) {
+    this(results, config, configurationFile, fileSystem, metrics,
+        RDAPValidationBudget.unlimited());
+  }
+
+  /**
+   * Result file stating whether the run was truncated by the budget.
+   */
+  public RDAPValidationResultFile(RDAPValidatorResults results,
+      RDAPValidatorConfiguration config,
+      ConfigurationFile configurationFile,
+      FileSystem fileSystem,
+      RDAPValidationMetrics metrics,
+      RDAPValidationBudget budget) {
+    this(results, config, configurationFile, fileSystem, metrics, budget, null);
+  }
+
+  /**
+   * Result file listing the retried HTTP attempts, if retries are not null.
+   */
+  public RDAPValidationResultFile(RDAPValidatorResults results,
+      RDAPValidatorConfiguration config,
+      ConfigurationFile configurationFile,
+      FileSystem fileSystem,
+      RDAPValidationMetrics metrics,
+      RDAPValidationBudget budget,
+      RDAPHttpRetries retries) {
     this.results = results;
     this.config = config;
     this.configurationFile = configurationFile;
     this.fileSystem = fileSystem;
+    this.metrics = metrics;
+    this.budget = budget;
+    this.retries = retries;
   }
 
-  private static String getFilename() {
-    String datetimePattern = "yyyyMMddHHmmss";
-    String dateTime = OffsetDateTime.now(ZoneOffset.UTC)
-        .format(DateTimeFormatter.ofPattern(datetimePattern));
-    return String.format("results-%s.json", dateTime);
+  /**
+   * Unique file name: the date time has a second resolution so the process id and a sequence
+   * number are added to avoid collisions between concurrent runs.
+   */
+  static String getFilename(String extension) {
+    String dateTime = OffsetDateTime.now(ZoneOffset.UTC).format(datetimeFormatter);
+    return String.format("results-%s-%d-%d.%s", dateTime, pid, sequence.incrementAndGet(),
+        extension);
   }
 
   /**
    * Fill and save the result file.
    */
   public void build(int statusCode) {
-    Map<String, Object> fileMap = new HashMap<>();
-    fileMap.put("definitionIdentifier", configurationFile.getDefinitionIdentifier());
-    fileMap.put("testedURI", config.getUri());
-    fileMap.put("testedDate", Instant.now().toString());
-    fileMap.put("receivedHttpStatusCode", statusCode);
-    fileMap.put("groupOK", this.results.getGroupOk());
-    fileMap.put("groupErrorWarning", this.results.getGroupErrorWarning());
-    fileMap.put("results", this.createResultsMap());
-
-    JSONObject object = new JSONObject(fileMap);
-    Path path = Paths.get("results", getFilename());
+    boolean ndjson = config.useNdjsonResults();
+    Path path = Paths.get("results", getFilename(ndjson ? "ndjson" : "json"));
     try {
       fileSystem.mkdir("results");
       this.resultPath = path.toString();
-      fileSystem.write(path.toString(), object.toString(4));
+      try (OutputStream outputStream = fileSystem.newOutputStream(path.toString());
+          JsonGenerator generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8)) {
+        if (ndjson) {
+          writeNdjson(generator, statusCode);
+        } else {
+          writeJson(generator, statusCode);
+        }
+      }
     } catch (IOException e) {
       logger.error("Failed to write results into {}", path, e);
     }
   }
 
-  private Map<String, Object> createResultsMap() {
-    Map<String, Object> resultsMap = new HashMap<>();
-    List<Map<String, Object>> errors = new ArrayList<>();
-    List<Map<String, Object>> warnings = new ArrayList<>();
+  private void writeJson(JsonGenerator generator, int statusCode) throws IOException {
+    generator.useDefaultPrettyPrinter();
+    generator.writeStartObject();
+    writeSummaryFields(generator, statusCode);
+    generator.writeObjectFieldStart("results");
+    generator.writeArrayFieldStart("error");
+    writeResults(generator, true, false);
+    generator.writeEndArray();
+    generator.writeArrayFieldStart("warning");
+    writeResults(generator, false, false);
+    generator.writeEndArray();
+    writeDefinitionFields(generator);
+    generator.writeEndObject();
+    writeRetries(generator);
+    writeMetrics(generator);
+    generator.writeEndObject();
+  }
+
+  /**
+   * One line per result followed by a summary line.
+   */
+  private void writeNdjson(JsonGenerator generator, int statusCode) throws IOException {
+    generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+    writeResults(generator, true, true);
+    writeResults(generator, false, true);
+    generator.writeStartObject();
+    generator.writeStringField("type", "summary");
+    writeSummaryFields(generator, statusCode);
+    writeDefinitionFields(generator);
+    writeRetries(generator);
+    writeMetrics(generator);
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  private void writeSummaryFields(JsonGenerator generator, int statusCode) throws IOException {
+    writeStringField(generator, "definitionIdentifier",
+        configurationFile.getDefinitionIdentifier());
+    writeStringField(generator, "testedURI",
+        config.getUri() == null ? null : config.getUri().toString());
+    generator.writeStringField("testedDate", Instant.now().toString());
+    generator.writeNumberField("receivedHttpStatusCode", statusCode);
+    if (budget.isTruncated()) {
+      generator.writeBooleanField("truncated", true);
+      generator.writeStringField("truncatedBy", budget.getTruncation());
+    }
+    writeArray(generator, "groupOK", results.getGroupOk());
+    writeArray(generator, "groupErrorWarning", results.getGroupErrorWarning());
+  }
 
-    Set<RDAPValidationResult> allResults = results.getAll();
+  private void writeDefinitionFields(JsonGenerator generator) throws IOException {
+    writeArray(generator, "ignore", configurationFile.getDefinitionIgnore());
+    writeArray(generator, "notes", configurationFile.getDefinitionNotes());
+  }
 
+  /**
+   * Write either the errors or the warnings, results whose code is neither an error nor a warning
+   * in the configuration are considered errors.
+   */
+  private void writeResults(JsonGenerator generator, boolean errors, boolean ndjson)
+      throws IOException {
     Set<Integer> codeToIgnore = new HashSet<>(configurationFile.getDefinitionIgnore());
-    for (RDAPValidationResult result : allResults) {
-      if (codeToIgnore.contains(result.getCode()) || result.getCode() == UNKNOWN_ERROR_CODE) {
+    for (RDAPValidationResult result : results.getAll()) {
+      int code = result.getCode();
+      if (codeToIgnore.contains(code) || code == UNKNOWN_ERROR_CODE) {
+        continue;
+      }
+      boolean isWarning = !configurationFile.isError(code) && configurationFile.isWarning(code);
+      if (isWarning == errors) {
         continue;
       }
 
-      Map<String, Object> resultMap = new HashMap<>();
-      resultMap.put("code", result.getCode());
-      resultMap.put("value", result.getValue());
-      resultMap.put("message", result.getMessage());
-      resultMap.put("notes", configurationFile.getAlertNotes(result.getCode()));
-      if (configurationFile.isError(result.getCode())) {
-        errors.add(resultMap);
-      } else if (configurationFile.isWarning(result.getCode())) {
-        warnings.add(resultMap);
-      } else {
-        // TODO what is the default?
-        errors.add(resultMap);
+      generator.writeStartObject();
+      if (ndjson) {
+        generator.writeStringField("type", errors ? "error" : "warning");
+        writeStringField(generator, "testedURI",
+            config.getUri() == null ? null : config.getUri().toString());
+      }
+      generator.writeNumberField("code", code);
+      writeStringField(generator, "value", RDAPValidationResultValues.truncate(
+          result, config.getMaxResultValueLength()));
+      writeStringField(generator, "message", result.getMessage());
+      writeStringField(generator, "notes", configurationFile.getAlertNotes(code));
+      generator.writeEndObject();
+      if (ndjson) {
+        generator.writeRaw('\n');
       }
     }
+  }
 
-    resultsMap.put("error", errors);
-    resultsMap.put("warning", warnings);
-    resultsMap.put("ignore", configurationFile.getDefinitionIgnore());
-    resultsMap.put("notes", configurationFile.getDefinitionNotes());
-    return resultsMap;
+  private void writeRetries(JsonGenerator generator) throws IOException {
+    if (retries == null || retries.getRetries().isEmpty()) {
+      return;
+    }
+    generator.writeArrayFieldStart("retries");
+    for (Retry retry : retries.getRetries()) {
+      generator.writeStartObject();
+      generator.writeStringField("uri", retry.getUri().toString());
+      generator.writeStringField("method", retry.getMethod());
+      generator.writeNumberField("attempt", retry.getAttempt());
+      writeStringField(generator, "reason", retry.getReason());
+      generator.writeNumberField("delayMs", retry.getDelayMs());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeMetrics(JsonGenerator generator) throws IOException {
+    if (metrics == null) {
+      return;
+    }
+    generator.writeObjectFieldStart("metrics");
+    for (Map.Entry<String, RDAPValidationMetrics.Measurement> entry :
+        metrics.getMeasurements().entrySet()) {
+      RDAPValidationMetrics.Measurement measurement = entry.getValue();
+      generator.writeObjectFieldStart(entry.getKey());
+      generator.writeNumberField("count", measurement.getCount());
+      generator.writeNumberField("wallTimeMs", measurement.getWallTimeNanos() / 1_000_000.0);
+      generator.writeNumberField("cpuTimeMs", measurement.getCpuTimeNanos() / 1_000_000.0);
+      generator.writeNumberField("allocatedBytes", measurement.getAllocatedBytes());
+      generator.writeEndObject();
+    }
+    DomainNameClassifier.Stats domainNameCache = metrics.getDomainNameCacheStats();
+    generator.writeObjectFieldStart("domainNameCache");
+    generator.writeNumberField("hits", domainNameCache.getHits());
+    generator.writeNumberField("misses", domainNameCache.getMisses());
+    generator.writeNumberField("evictions", domainNameCache.getEvictions());
+    generator.writeNumberField("size", domainNameCache.getSize());
+    generator.writeEndObject();
+    generator.writeEndObject();
+  }
+
+  /**
+   * Null values are omitted, as in the results files written before they were streamed.
+   */
+  private static void writeStringField(JsonGenerator generator, String fieldName, String value)
+      throws IOException {
+    if (value != null) {
+      generator.writeStringField(fieldName, value);
+    }
+  }
+
+  private static void writeArray(JsonGenerator generator, String fieldName,
+      Collection<?> values) throws IOException {
+    if (values == null) {
+      return;
+    }
+    generator.writeArrayFieldStart(fieldName);
+    for (Object value : values) {
+      generator.writeObject(value);
+    }
+    generator.writeEndArray();
   }
 }
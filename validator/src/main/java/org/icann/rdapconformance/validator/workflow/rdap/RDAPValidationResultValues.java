@@ -0,0 +1,94 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Large result values of a run, such as whole response bodies, the content of a parse error or
+ * the list of bootstrap TLDs.
+ *
+ * <p>A result with a large value references it by its SHA-256 content hash, computed once, which
+ * its equality and hash code are based on. The results of a run store each large value once,
+ * keyed by this hash, and the results referencing the same payload share the stored copy, which is
+ * released with the results. In the results file, they can be truncated and referenced by their
+ * content hash.</p>
+ */
+public final class RDAPValidationResultValues {
+
+  /**
+   * Values shorter than this are neither deduplicated nor hashed.
+   */
+  static final int LARGE_VALUE_LENGTH = 1024;
+
+  private final Map<String, String> payloads = new ConcurrentHashMap<>();
+
+  static boolean isLarge(String value) {
+    return value != null && value.length() >= LARGE_VALUE_LENGTH;
+  }
+
+  /**
+   * The result, referencing the stored copy of its value if it is large; the value is stored if it
+   * is the first one with this content hash.
+   */
+  public RDAPValidationResult share(RDAPValidationResult result) {
+    String digest = result.getValueDigest();
+    if (digest == null) {
+      return result;
+    }
+    String stored = payloads.putIfAbsent(digest, result.getValue());
+    return stored == null || stored == result.getValue() ? result : result.withValue(stored);
+  }
+
+  /**
+   * Hex-encoded SHA-256 of the value in UTF-8.
+   */
+  public static String digest(String value) {
+    try {
+      return hex(MessageDigest.getInstance("SHA-256")
+          .digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  static String hex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+          .append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+
+  /**
+   * The value truncated to maxLength characters, followed by its full length and content hash;
+   * the value is unchanged if maxLength is not positive or the value is not longer.
+   */
+  public static String truncate(String value, int maxLength) {
+    if (value == null || maxLength <= 0 || value.length() <= maxLength) {
+      return value;
+    }
+    return truncate(value, maxLength, digest(value));
+  }
+
+  /**
+   * The value of the result truncated as by {@link #truncate(String, int)}, with the content hash
+   * of the result.
+   */
+  public static String truncate(RDAPValidationResult result, int maxLength) {
+    String value = result.getValue();
+    if (value == null || maxLength <= 0 || value.length() <= maxLength) {
+      return value;
+    }
+    String digest = result.getValueDigest();
+    return truncate(value, maxLength, digest != null ? digest : digest(value));
+  }
+
+  private static String truncate(String value, int maxLength, String digest) {
+    return value.substring(0, maxLength)
+        + "...[truncated, " + value.length() + " chars, sha256:" + digest + "]";
+  }
+}
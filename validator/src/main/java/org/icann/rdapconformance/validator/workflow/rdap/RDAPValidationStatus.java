@@ -31,7 +31,8 @@ public enum RDAPValidationStatus {
   HTTP_ERROR(17, "HTTP errors."),
   HTTP2_ERROR(18, "HTTP/2 errors."),
   NETWORK_SEND_FAIL(19, "Failure sending network data."),
-  NETWORK_RECEIVE_FAIL(20, "Failure in receiving network data.");
+  NETWORK_RECEIVE_FAIL(20, "Failure in receiving network data."),
+  RESPONSE_TOO_LARGE(21, "The RDAP response is larger than the maximum response size.");
 
 
   private final int value;
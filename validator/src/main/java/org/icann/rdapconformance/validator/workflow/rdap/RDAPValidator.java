@@ -4,59 +4,17 @@ import java.io.InputStream;
 import java.net.http.HttpResponse;
 import java.util.List;
 import org.icann.rdapconformance.validator.SchemaValidator;
+import org.icann.rdapconformance.validator.SearchResultsSchemaValidator;
+import org.icann.rdapconformance.validator.customvalidator.DomainNameClassifier;
 import org.icann.rdapconformance.validator.configuration.ConfigurationFile;
 import org.icann.rdapconformance.validator.configuration.ConfigurationFileParser;
 import org.icann.rdapconformance.validator.configuration.ConfigurationFileParserImpl;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
-import org.icann.rdapconformance.validator.workflow.DomainCaseFoldingValidation;
 import org.icann.rdapconformance.validator.workflow.FileSystem;
 import org.icann.rdapconformance.validator.workflow.ValidatorWorkflow;
 import org.icann.rdapconformance.validator.workflow.profile.RDAPProfileFebruary2019;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot1;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot10;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot11;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot2;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot3Dot1Dot1;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot3Dot1Dot2;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot4Dot1;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot4Dot2And2Dot4Dot3;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot4Dot5;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot6Dot1;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot6Dot3;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidation2Dot9Dot1And2Dot9Dot2;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidationNoticesIncluded;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidationRFC3915;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.ResponseValidationRFC5731;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot1DotXAndRelated1;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot1DotXAndRelated2;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot1DotXAndRelated3And4;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot1DotXAndRelated6;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot5Dot2;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.ResponseValidation2Dot7Dot5Dot3;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.domain.entities.SimpleHandleValidation;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.entity.ResponseValidation3Dot1;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.entity.ResponseValidation3Dot2;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.general.ResponseValidation1Dot2Dot2;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.general.ResponseValidation1Dot3;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.general.ResponseValidation1Dot4;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.miscellaneous.ResponseValidationLastUpdateEvent;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.nameserver.ResponseNameserverStatusValidation;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.nameserver.ResponseValidation4Dot1Handle;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.nameserver.ResponseValidation4Dot1Query;
-import org.icann.rdapconformance.validator.workflow.profile.rdap_response.nameserver.ResponseValidation4Dot3;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot13;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot14;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot2;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot3;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot6;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation1Dot8;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation3Dot3And3Dot4;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation4Dot1;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.general.TigValidation7Dot1And7Dot2;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.registrar.TigValidation1Dot12Dot1;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.registry.TigValidation1Dot11Dot1;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.registry.TigValidation3Dot2;
-import org.icann.rdapconformance.validator.workflow.profile.tig_section.registry.TigValidation6Dot1;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics.Timer;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPHttpRetries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -106,6 +64,27 @@ public class RDAPValidator implements ValidatorWorkflow {
 
   @Override
   public int validate() {
+    DomainNameClassifier.getInstance().setCapacity(config.getDomainNameCacheSize());
+    RDAPHttpRetries retries = RDAPHttpRetries.start();
+    try {
+      if (!config.recordMetrics()) {
+        return validate(null, retries);
+      }
+      RDAPValidationMetrics metrics = RDAPValidationMetrics.start();
+      try {
+        return validate(metrics, retries);
+      } finally {
+        metrics.stop();
+        logger.info("Slowest validation steps: {}", metrics.summary(10));
+        logger.info("Domain name classification cache: {}",
+            metrics.getDomainNameCacheStats());
+      }
+    } finally {
+      retries.stop();
+    }
+  }
+
+  private int validate(RDAPValidationMetrics metrics, RDAPHttpRetries retries) {
     /*
      * Parse the configuration definition file, and if the file is not parsable,
      * exit with a return code of 1.
@@ -118,8 +97,10 @@ public class RDAPValidator implements ValidatorWorkflow {
       return RDAPValidationStatus.CONFIG_INVALID.getValue();
     }
 
+    final RDAPValidationBudget budget = new RDAPValidationBudget(config, configurationFile);
+    budget.countErrors(results);
     final RDAPValidationResultFile rdapValidationResultFile = new RDAPValidationResultFile(results,
-        config, configurationFile, fileSystem);
+        config, configurationFile, fileSystem, metrics, budget, retries);
 
     /* If the parameter (--use-local-dataset) is set, use the dataset found in the filesystem,
      * download the dataset not found in the filesystem, and persist them in the filesystem.
@@ -127,8 +108,10 @@ public class RDAPValidator implements ValidatorWorkflow {
      * overwrite the dataset in the filesystem.
      * If one or more dataset cannot be downloaded, exit with a return code of 2.
      */
-    if (!datasetService.download(this.config.useLocalDatasets())) {
-      return RDAPValidationStatus.DATASET_UNAVAILABLE.getValue();
+    try (Timer ignored = RDAPValidationMetrics.timer("datasetLoading")) {
+      if (!datasetService.download(this.config.useLocalDatasets())) {
+        return RDAPValidationStatus.DATASET_UNAVAILABLE.getValue();
+      }
     }
 
     if (!queryTypeProcessor.check(datasetService)) {
@@ -145,129 +128,116 @@ public class RDAPValidator implements ValidatorWorkflow {
       return query.getErrorStatus().getValue();
     }
 
-    SchemaValidator validator = null;
-    if (query.isErrorContent()) {
-      validator = new SchemaValidator("rdap_error.json", results, datasetService);
-    } else if (RDAPQueryType.DOMAIN.equals(queryTypeProcessor.getQueryType())) {
-      validator = new SchemaValidator("rdap_domain.json", results, datasetService);
-    } else if (RDAPQueryType.HELP.equals(queryTypeProcessor.getQueryType())) {
-      validator = new SchemaValidator("rdap_help.json", results, datasetService);
-    } else if (RDAPQueryType.NAMESERVER.equals(queryTypeProcessor.getQueryType())) {
-      validator = new SchemaValidator("rdap_nameserver.json", results, datasetService);
-    } else if (RDAPQueryType.NAMESERVERS.equals(queryTypeProcessor.getQueryType())) {
-      validator = new SchemaValidator("rdap_nameservers.json", results, datasetService);
-    } else if (RDAPQueryType.ENTITY.equals(queryTypeProcessor.getQueryType())) {
-      if (config.isThin()) {
-        logger.error("Thin flag is set while validating entity");
-        query.getStatusCode().ifPresent(rdapValidationResultFile::build);
-        return RDAPValidationStatus.USES_THIN_MODEL.getValue();
+    if (!query.isErrorContent() && RDAPQueryType.ENTITY.equals(queryTypeProcessor.getQueryType())
+        && config.isThin()) {
+      logger.error("Thin flag is set while validating entity");
+      query.getStatusCode().ifPresent(rdapValidationResultFile::build);
+      return RDAPValidationStatus.USES_THIN_MODEL.getValue();
+    }
+
+    /*
+     * The results of the validations of the response content are reused when the same response
+     * was validated before with --result-cache, only the network validations are run again.
+     */
+    RDAPResultCache resultCache = null;
+    RDAPResultCache.Fingerprint fingerprint = null;
+    if (config.getResultCacheDirectory() != null) {
+      resultCache = new RDAPResultCache(fileSystem, config.getResultCacheDirectory());
+      fingerprint = resultCache.fingerprint(config, queryTypeProcessor.getQueryType(),
+          query.getStatusCode().orElse(null), query.getData(), datasetService.getGeneration(),
+          configurationFile.getDefinitionIgnore());
+    }
+    if (fingerprint == null) {
+      validateContent(results, budget, configurationFile.getDefinitionIgnore());
+    } else if (!resultCache.load(fingerprint, results)) {
+      RDAPValidatorResults contentResults = new RDAPValidatorResultsImpl();
+      budget.countErrors(contentResults);
+      validateContent(contentResults, budget, configurationFile.getDefinitionIgnore());
+      // the results of a truncated run are incomplete
+      if (!budget.isTruncated()) {
+        resultCache.store(fingerprint, contentResults);
       }
-      // asEventActor property is not allow in topMost entity object, see spec 7.2.9.2
-      validator = new SchemaValidator("rdap_entity_without_asEventActor.json", results,
-          datasetService);
+      contentResults.getAll().forEach(results::add);
+      results.addGroups(contentResults.getGroupOk());
+      contentResults.getGroupErrorWarning().forEach(results::addGroupErrorWarning);
     }
-    assert null != validator;
-    validator.validate(query.getData());
-    HttpResponse<String> rdapResponse = (HttpResponse<String>) query.getRawResponse();
+    validateNetwork(budget, configurationFile.getDefinitionIgnore());
+
+    query.getStatusCode().ifPresent(rdapValidationResultFile::build);
 
-    // extra validations not categorized (change request):
-    if (rdapResponse != null) {
-      new DomainCaseFoldingValidation(rdapResponse, config, results,
-          queryTypeProcessor.getQueryType()).validate();
+    this.resultsPath = rdapValidationResultFile.resultPath;
+    return RDAPValidationStatus.SUCCESS.getValue();
+  }
+
+  private SchemaValidator createSchemaValidator(RDAPValidatorResults schemaResults) {
+    if (query.isErrorContent()) {
+      return new SchemaValidator("rdap_error.json", schemaResults, datasetService);
+    }
+    switch (queryTypeProcessor.getQueryType()) {
+      case DOMAIN:
+        return new SchemaValidator("rdap_domain.json", schemaResults, datasetService);
+      case HELP:
+        return new SchemaValidator("rdap_help.json", schemaResults, datasetService);
+      case NAMESERVER:
+        return new SchemaValidator("rdap_nameserver.json", schemaResults, datasetService);
+      case NAMESERVERS:
+        return new SearchResultsSchemaValidator("rdap_nameservers.json",
+            "nameserverSearchResults", schemaResults, datasetService);
+      case ENTITY:
+        // asEventActor property is not allow in topMost entity object, see spec 7.2.9.2
+        return new SchemaValidator("rdap_entity_without_asEventActor.json", schemaResults,
+            datasetService);
+      default:
+        throw new IllegalStateException(
+            "No schema for query type " + queryTypeProcessor.getQueryType());
     }
+  }
+
+  /**
+   * Validations of the response content only: the schema, and the profile validations which do
+   * not make network requests. The validations reporting only ignored codes are not run.
+   */
+  private void validateContent(RDAPValidatorResults contentResults,
+      RDAPValidationBudget budget, List<Integer> ignoredCodes) {
+    SchemaValidator validator = createSchemaValidator(contentResults);
+    validator.setBudget(budget);
+    validator.setIgnoredCodes(ignoredCodes);
+    validator.validate(query.getData());
 
     /*
      * Additionally, apply the relevant collection tests when the option
      * --use-rdap-profile-february-2019 is set.
      */
-    if (config.useRdapProfileFeb2019()) {
-      RDAPProfileFebruary2019 rdapProfileFebruary2019 = new RDAPProfileFebruary2019(
-          List.of(
-              new TigValidation1Dot2(rdapResponse, config, results),
-              new TigValidation1Dot3(rdapResponse, config, results),
-              new TigValidation1Dot6(rdapResponse.statusCode(), config, results),
-              new TigValidation1Dot8(rdapResponse, results, datasetService),
-              new TigValidation1Dot13(rdapResponse, results),
-              new TigValidation1Dot11Dot1(config, results, datasetService,
-                  queryTypeProcessor.getQueryType()),
-              new TigValidation1Dot14(query.getData(), results),
-              new TigValidation3Dot2(query.getData(), results, config,
-                  queryTypeProcessor.getQueryType()),
-              new TigValidation6Dot1(query.getData(), results, queryTypeProcessor.getQueryType()),
-              new TigValidation3Dot3And3Dot4(query.getData(), results, validator),
-              new TigValidation4Dot1(query.getData(), results),
-              new TigValidation7Dot1And7Dot2(query.getData(), results),
-              new TigValidation1Dot12Dot1(query.getData(), results, datasetService,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation1Dot2Dot2(query.getData(), results),
-              new ResponseValidation1Dot3(query.getData(), results),
-              new ResponseValidation1Dot4(query.getData(), results),
-              new ResponseValidationLastUpdateEvent(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot1(query.getData(), results, config,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot2(query.getData(), results, datasetService,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot3Dot1Dot1(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot3Dot1Dot2(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidationNoticesIncluded(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot6Dot3(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot11(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot10(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidationRFC5731(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidationRFC3915(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot6Dot1(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot9Dot1And2Dot9Dot2(query.getData(), results,
-                  datasetService, queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot4Dot1(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot4Dot2And2Dot4Dot3(query.getData(), results,
-                  datasetService, queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot4Dot5(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation2Dot7Dot1DotXAndRelated1(query.getData(), results,
-                  queryTypeProcessor.getQueryType(), config),
-              new ResponseValidation2Dot7Dot1DotXAndRelated2(query.getData(), results,
-                  queryTypeProcessor.getQueryType(), config),
-              new ResponseValidation2Dot7Dot1DotXAndRelated3And4(query.getData(), results,
-                  queryTypeProcessor.getQueryType(), config,
-                  new SimpleHandleValidation(query.getData(), results, datasetService,
-                      queryTypeProcessor.getQueryType(), -52102)),
-              new ResponseValidation2Dot7Dot1DotXAndRelated6(query.getData(), results,
-                  queryTypeProcessor.getQueryType(), config),
-              new ResponseValidation2Dot7Dot5Dot2(query.getData(), results,
-                  queryTypeProcessor.getQueryType(), config),
-              new ResponseValidation2Dot7Dot5Dot3(query.getData(), results,
-                  queryTypeProcessor.getQueryType(), config),
-              new ResponseValidation3Dot1(query.getData(), results,
-                  queryTypeProcessor.getQueryType(), config),
-              new ResponseValidation3Dot2(query.getData(), results,
-                  queryTypeProcessor.getQueryType(), config),
-              new ResponseNameserverStatusValidation(query.getData(), results,
-                  queryTypeProcessor.getQueryType()),
-              new ResponseValidation4Dot1Handle(query.getData(), results,
-                  datasetService, queryTypeProcessor.getQueryType()),
-              new ResponseValidation4Dot1Query(query.getData(), results,
-                  config, queryTypeProcessor.getQueryType()),
-              new ResponseValidation4Dot3(query.getData(), results,
-                  datasetService, queryTypeProcessor.getQueryType())
-          ));
-      rdapProfileFebruary2019.validate();
+    RDAPValidationPlan plan = RDAPValidationPlan.plan("Content", RDAPValidationRegistry.CONTENT,
+        createContext(contentResults, null, validator), ignoredCodes);
+    logger.debug("{}", plan);
+    if (!budget.isExhausted(contentResults)) {
+      new RDAPProfileFebruary2019(plan.getValidations(), budget, contentResults, ignoredCodes)
+          .validate();
     }
+  }
 
-    query.getStatusCode().ifPresent(rdapValidationResultFile::build);
+  /**
+   * Validations of the HTTP exchanges with the server: they are never cached. Unless the budget
+   * is exhausted, the DNS resolutions and TLS probes they need are all started first, so that
+   * they run concurrently instead of one validation after the other.
+   */
+  private void validateNetwork(RDAPValidationBudget budget, List<Integer> ignoredCodes) {
+    RDAPValidationPlan plan = RDAPValidationPlan.plan("Network", RDAPValidationRegistry.NETWORK,
+        createContext(results, (HttpResponse<String>) query.getRawResponse(), null),
+        ignoredCodes);
+    logger.debug("{}", plan);
+    if (!budget.isExhausted(results)) {
+      plan.prefetch();
+      new RDAPProfileFebruary2019(plan.getValidations(), budget, results, ignoredCodes)
+          .validate();
+    }
+  }
 
-    this.resultsPath = rdapValidationResultFile.resultPath;
-    return RDAPValidationStatus.SUCCESS.getValue();
+  private RDAPValidationContext createContext(RDAPValidatorResults validationResults,
+      HttpResponse<String> rdapResponse, SchemaValidator validator) {
+    return new RDAPValidationContext(config, queryTypeProcessor.getQueryType(), datasetService,
+        validationResults, query.getData(), rdapResponse, validator);
   }
 
   @Override
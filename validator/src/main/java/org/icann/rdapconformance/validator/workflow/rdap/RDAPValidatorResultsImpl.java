@@ -1,27 +1,91 @@
 package org.icann.rdapconformance.validator.workflow.rdap;
 
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Thread-safe results: results and groups can be added concurrently by validations running on
+ * several threads, and are returned in a deterministic order whatever the order they were added
+ * in. Their large values are stored once, see {@link RDAPValidationResultValues}.
+ */
 public class RDAPValidatorResultsImpl implements RDAPValidatorResults {
 
   private static final Logger logger = LoggerFactory.getLogger(RDAPValidatorResults.class);
 
-  private final Set<RDAPValidationResult> results = new HashSet<>();
+  /**
+   * Results ordered by code as numbered in the documentation (-10100 before -12300), then by
+   * value, which starts with the JSON pointer of the invalid element, then by message.
+   */
+  static final Comparator<RDAPValidationResult> ORDER =
+      Comparator.comparingInt(RDAPValidationResult::getCode).reversed()
+          .thenComparing(RDAPValidationResult::getValue,
+              Comparator.nullsFirst(Comparator.naturalOrder()))
+          .thenComparing(RDAPValidationResult::getMessage,
+              Comparator.nullsFirst(Comparator.naturalOrder()));
 
-  private final Set<String> groups = new HashSet<>();
-  private final Set<String> groupErrorWarning = new HashSet<>();
+  private final Set<RDAPValidationResult> results = ConcurrentHashMap.newKeySet();
+  private final RDAPValidationResultValues values = new RDAPValidationResultValues();
+  private final AtomicLong version = new AtomicLong();
+  private volatile Snapshot snapshot = new Snapshot(0, Collections.emptySortedSet());
+  private volatile IntPredicate errorCodes;
+  private final AtomicInteger errorCount = new AtomicInteger();
+
+  private final Set<String> groups = new ConcurrentSkipListSet<>();
+  private final Set<String> groupErrorWarning = new ConcurrentSkipListSet<>();
+  private final Set<String> groupOk = new ConcurrentSkipListSet<>();
 
   public void add(RDAPValidationResult result) {
+    result = this.values.share(result);
     if (this.results.add(result)) {
+      IntPredicate counted = this.errorCodes;
+      if (counted != null && counted.test(result.getCode())) {
+        this.errorCount.incrementAndGet();
+      }
+      this.version.incrementAndGet();
       logger.debug("adding error result {}", result);
     }
   }
 
+  /**
+   * Sorted snapshot of the results, only rebuilt when results were added since the last call.
+   */
   public Set<RDAPValidationResult> getAll() {
-    return results;
+    long currentVersion = this.version.get();
+    Snapshot current = this.snapshot;
+    if (current.version != currentVersion) {
+      TreeSet<RDAPValidationResult> sorted = new TreeSet<>(ORDER);
+      sorted.addAll(results);
+      current = new Snapshot(currentVersion, Collections.unmodifiableSortedSet(sorted));
+      this.snapshot = current;
+    }
+    return current.results;
+  }
+
+  /**
+   * Count the results added from now on whose code is an error code, e.g. for the error limit of
+   * a run. Only the first predicate is used.
+   */
+  public synchronized void countErrors(IntPredicate errorCodes) {
+    if (this.errorCodes == null) {
+      this.errorCodes = errorCodes;
+    }
+  }
+
+  /**
+   * Number of error results counted, -1 if the errors are not counted.
+   */
+  public int getErrorCount() {
+    return this.errorCodes == null ? -1 : this.errorCount.get();
   }
 
   public boolean isEmpty() {
@@ -29,29 +93,51 @@ public class RDAPValidatorResultsImpl implements RDAPValidatorResults {
   }
 
   public Set<String> getGroupOk() {
-    Set<String> groupsCopy = new HashSet<>(groups);
-    groupsCopy.removeAll(groupErrorWarning);
-    return groupsCopy;
+    return Collections.unmodifiableSet(groupOk);
   }
 
   public void addGroups(Set<String> groups) {
-    this.groups.addAll(groups);
+    groups.forEach(this::addGroup);
   }
 
   public Set<String> getGroupErrorWarning() {
-    return groupErrorWarning;
+    return Collections.unmodifiableSet(groupErrorWarning);
   }
 
+  /**
+   * A group is OK until it is added as error/warning: the error/warning set is checked after the
+   * group is added to the OK groups so that a concurrent {@link #addGroupErrorWarning(String)}
+   * cannot be missed.
+   */
   public void addGroup(String group) {
     this.groups.add(group);
+    this.groupOk.add(group);
+    if (this.groupErrorWarning.contains(group)) {
+      this.groupOk.remove(group);
+    }
   }
 
   public void addGroupErrorWarning(String group) {
-    this.addGroup(group);
     this.groupErrorWarning.add(group);
+    this.groups.add(group);
+    this.groupOk.remove(group);
   }
 
   public Set<String> getGroups() {
-    return groups;
+    return Collections.unmodifiableSet(groups);
+  }
+
+  /**
+   * Sorted results containing at least all the results added before the version was incremented.
+   */
+  private static class Snapshot {
+
+    private final long version;
+    private final SortedSet<RDAPValidationResult> results;
+
+    private Snapshot(long version, SortedSet<RDAPValidationResult> results) {
+      this.version = version;
+      this.results = results;
+    }
   }
 }
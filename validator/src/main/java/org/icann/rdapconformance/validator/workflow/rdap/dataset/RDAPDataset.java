@@ -1,6 +1,7 @@
 package org.icann.rdapconformance.validator.workflow.rdap.dataset;
 
 import jakarta.xml.bind.JAXBException;
+import org.icann.rdapconformance.validator.jfr.DatasetEvent;
 import org.icann.rdapconformance.validator.workflow.Deserializer;
 import org.icann.rdapconformance.validator.workflow.FileSystem;
 import org.icann.rdapconformance.validator.workflow.JsonDeserializer;
@@ -11,8 +12,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 
 import static org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService.DATASET_PATH;
 
@@ -61,26 +66,57 @@ public abstract class RDAPDataset<T extends RDAPDatasetModel> {
             return true;
         }
         logger.debug("Download dataset {}", name);
+        DatasetEvent event = new DatasetEvent();
+        event.begin();
         try {
             fileSystem.download(uri, path);
         } catch (IOException e) {
             logger.error("Failed to download dataset {}", name, e);
+            commit(event, "download", false);
             return false;
         }
+        commit(event, "download", true);
         return true;
     }
 
     public boolean parse() {
         String path = filePath();
+        DatasetEvent event = new DatasetEvent();
+        event.begin();
             try {
                 this.modelInstance = deserializer.deserialize(new File(path));
             } catch (JAXBException | IOException e) {
                 logger.error("Failed to parse dataset {}", name, e);
+                commit(event, "parse", false);
                 return false;
             }
+        commit(event, "parse", true);
         return true;
     }
 
+    private void commit(DatasetEvent event, String operation, boolean success) {
+        if (event.shouldCommit()) {
+            event.dataset = name;
+            event.operation = operation;
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    /**
+     * Add the name and the content of the downloaded dataset file to the digest.
+     */
+    public void updateDigest(MessageDigest digest) throws IOException {
+        digest.update(name.getBytes(StandardCharsets.UTF_8));
+        try (InputStream is = Files.newInputStream(Paths.get(filePath()))) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
     public String getName() {
         return this.name;
     }
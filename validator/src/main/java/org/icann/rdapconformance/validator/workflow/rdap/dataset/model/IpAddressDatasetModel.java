@@ -0,0 +1,13 @@
+package org.icann.rdapconformance.validator.workflow.rdap.dataset.model;
+
+/**
+ * Dataset of IP address prefixes that can be checked directly against the bytes of an address.
+ */
+public interface IpAddressDatasetModel extends DatasetValidatorModel {
+
+  /**
+   * Same as {@link #isInvalid(String)} for the bytes of an address, 4 bytes for IPv4 and 16 bytes
+   * for IPv6.
+   */
+  boolean isInvalid(byte[] address);
+}
@@ -0,0 +1,62 @@
+package org.icann.rdapconformance.validator.workflow.rdap.dataset.model;
+
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * IP address prefixes of a dataset, parsed once so that addresses can be matched from their bytes
+ * without parsing anything.
+ */
+public class IpAddressPrefixes {
+
+  private final List<byte[]> networks = new ArrayList<>();
+  private final List<Integer> prefixLengths = new ArrayList<>();
+
+  /**
+   * Prefixes such as "192.0.2.0/24" or "2001:db8::/32", values that are not a single address or
+   * prefix are ignored.
+   */
+  public IpAddressPrefixes(Collection<String> prefixes) {
+    for (String prefix : prefixes) {
+      IPAddress address = prefix == null ? null : new IPAddressString(prefix).getAddress();
+      if (address == null) {
+        continue;
+      }
+      byte[] network = address.getBytes();
+      Integer prefixLength = address.getNetworkPrefixLength();
+      networks.add(network);
+      prefixLengths.add(prefixLength == null ? network.length * 8 : prefixLength);
+    }
+  }
+
+  /**
+   * Whether the address, 4 bytes for IPv4 and 16 bytes for IPv6, is part of one of the prefixes.
+   */
+  public boolean contains(byte[] address) {
+    for (int i = 0; i < networks.size(); i++) {
+      byte[] network = networks.get(i);
+      if (network.length == address.length && matches(network, prefixLengths.get(i), address)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean matches(byte[] network, int prefixLength, byte[] address) {
+    int fullBytes = prefixLength / 8;
+    for (int i = 0; i < fullBytes; i++) {
+      if (network[i] != address[i]) {
+        return false;
+      }
+    }
+    int remainingBits = prefixLength % 8;
+    if (remainingBits == 0) {
+      return true;
+    }
+    int mask = (0xFF << (8 - remainingBits)) & 0xFF;
+    return (network[fullBytes] & mask) == (address[fullBytes] & mask);
+  }
+}
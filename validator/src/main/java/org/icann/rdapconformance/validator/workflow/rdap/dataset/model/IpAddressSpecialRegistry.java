@@ -1,5 +1,6 @@
 package org.icann.rdapconformance.validator.workflow.rdap.dataset.model;
 
+import inet.ipaddr.IPAddress;
 import inet.ipaddr.IPAddressString;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlElementWrapper;
@@ -9,20 +10,34 @@ import org.w3c.dom.Node;
 
 import java.util.List;
 
-public abstract class IpAddressSpecialRegistry extends EnumDatasetModel<IpAddressSpecialRegistry.IpAddressSpecialRecord> {
+public abstract class IpAddressSpecialRegistry extends EnumDatasetModel<IpAddressSpecialRegistry.IpAddressSpecialRecord>
+    implements IpAddressDatasetModel {
   @XmlElementWrapper(name = "registry", namespace = "http://www.iana.org/assignments")
   @XmlElement(name = "record", namespace = "http://www.iana.org/assignments")
   private List<IpAddressSpecialRecord> ipAddressSpecialRecords;
 
+  private transient volatile IpAddressPrefixes specialPrefixes;
+
   @Override
   protected List<IpAddressSpecialRecord> getValueRecords() {
     return this.ipAddressSpecialRecords;
   }
   public boolean isInvalid(String ip) {
-    return getValues().stream().anyMatch(specialIp -> {
-      IPAddressString net = new IPAddressString(specialIp);
-      return net.contains(new IPAddressString(ip));
-    });
+    IPAddress address = new IPAddressString(ip).getAddress();
+    return address != null && isInvalid(address.getBytes());
+  }
+
+  /**
+   * Whether the address is part of a special-purpose prefix.
+   */
+  @Override
+  public boolean isInvalid(byte[] address) {
+    IpAddressPrefixes prefixes = specialPrefixes;
+    if (prefixes == null) {
+      prefixes = new IpAddressPrefixes(getValues());
+      specialPrefixes = prefixes;
+    }
+    return prefixes.contains(address);
   }
 
   protected static class IpAddressSpecialRecord implements EnumDatasetModelRecord {
@@ -1,5 +1,6 @@
 package org.icann.rdapconformance.validator.workflow.rdap.dataset.model;
 
+import inet.ipaddr.IPAddress;
 import inet.ipaddr.IPAddressString;
 import jakarta.xml.bind.Unmarshaller;
 import jakarta.xml.bind.annotation.XmlAccessType;
@@ -10,22 +11,37 @@ import jakarta.xml.bind.annotation.XmlRootElement;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 
 @XmlAccessorType(XmlAccessType.FIELD)
 @XmlRootElement(name = "registry", namespace = "http://www.iana.org/assignments")
-public class Ipv4AddressSpace extends XmlObject implements DatasetValidatorModel {
+public class Ipv4AddressSpace extends XmlObject implements IpAddressDatasetModel {
 
     @XmlElement(name = "record", namespace = "http://www.iana.org/assignments")
     private final List<Ipv4AddressSpaceRecord> records = new ArrayList<>();
 
+    private transient volatile IpAddressPrefixes allocatedPrefixes;
+
     public boolean isInvalid(String ipAddress) {
-        return records.stream()
-                      .filter(r -> r.getStatus().equals("ALLOCATED") || r.getStatus().equals("LEGACY"))
-                      .noneMatch(r -> {
-                          IPAddressString net = new IPAddressString(r.getPrefix());
-                          return net.contains(new IPAddressString(ipAddress));
-                      });
+        IPAddress address = new IPAddressString(ipAddress).getAddress();
+        return address == null || isInvalid(address.getBytes());
+    }
+
+    /**
+     * Whether the address is not part of a prefix categorized as ALLOCATED or LEGACY.
+     */
+    @Override
+    public boolean isInvalid(byte[] address) {
+        IpAddressPrefixes prefixes = allocatedPrefixes;
+        if (prefixes == null) {
+            prefixes = new IpAddressPrefixes(records.stream()
+                .filter(r -> r.getStatus().equals("ALLOCATED") || r.getStatus().equals("LEGACY"))
+                .map(Ipv4AddressSpaceRecord::getPrefix)
+                .collect(Collectors.toList()));
+            allocatedPrefixes = prefixes;
+        }
+        return !prefixes.contains(address);
     }
 
     @Override
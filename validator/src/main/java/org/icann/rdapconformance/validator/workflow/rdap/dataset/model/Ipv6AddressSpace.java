@@ -11,7 +11,7 @@ import org.xml.sax.SAXException;
 
 @XmlAccessorType(XmlAccessType.FIELD)
 @XmlRootElement(name = "registry", namespace = "http://www.iana.org/assignments")
-public class Ipv6AddressSpace extends XmlObject implements DatasetValidatorModel {
+public class Ipv6AddressSpace extends XmlObject implements IpAddressDatasetModel {
 
   @XmlElementWrapper(name = "registry", namespace = "http://www.iana.org/assignments")
   @XmlElement(name = "record", namespace = "http://www.iana.org/assignments")
@@ -32,6 +32,11 @@ public class Ipv6AddressSpace extends XmlObject implements DatasetValidatorModel
     return false;
   }
 
+  @Override
+  public boolean isInvalid(byte[] address) {
+    return false;
+  }
+
   @XmlAccessorType(XmlAccessType.FIELD)
   static class Ipv6AddressSpaceRecord {
 
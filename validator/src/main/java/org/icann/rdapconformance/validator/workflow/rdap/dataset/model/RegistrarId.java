@@ -3,6 +3,7 @@ package org.icann.rdapconformance.validator.workflow.rdap.dataset.model;
 import jakarta.xml.bind.Unmarshaller;
 import jakarta.xml.bind.annotation.*;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -39,6 +40,10 @@ public class RegistrarId implements RDAPDatasetModel {
         return recordByIdentifier.get(registrarId);
     }
 
+    public Collection<Record> getRecords() {
+        return recordByIdentifier.values();
+    }
+
     @XmlAccessorType(XmlAccessType.FIELD)
     public static class Record {
 
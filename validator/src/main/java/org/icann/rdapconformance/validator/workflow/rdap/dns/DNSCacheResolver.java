@@ -0,0 +1,288 @@
+package org.icann.rdapconformance.validator.workflow.rdap.dns;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import org.icann.rdapconformance.validator.workflow.rdap.ExpiringFutureCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xbill.DNS.CNAMERecord;
+import org.xbill.DNS.DClass;
+import org.xbill.DNS.ExtendedResolver;
+import org.xbill.DNS.Lookup;
+import org.xbill.DNS.Message;
+import org.xbill.DNS.Name;
+import org.xbill.DNS.NameTooLongException;
+import org.xbill.DNS.Rcode;
+import org.xbill.DNS.Record;
+import org.xbill.DNS.Resolver;
+import org.xbill.DNS.SOARecord;
+import org.xbill.DNS.Section;
+import org.xbill.DNS.SimpleResolver;
+import org.xbill.DNS.Type;
+
+/**
+ * Asynchronous DNS resolver with a cache keyed by (name, type) shared by the whole process, so
+ * that batch runs against RDAP servers hosted by the same providers do not resolve them again.
+ *
+ * <p>Answers are cached for the minimum TTL of their records, negative answers (no such name, no
+ * data) for the TTL of the SOA record of the authority section (RFC 2308). Failures (time out,
+ * server failure) are not cached. Concurrent lookups of the same (name, type) share one query.
+ * Each resolver caches at most {@value #CACHE_CAPACITY} answers.</p>
+ *
+ * <p>As with {@link Lookup}, CNAME records are followed, up to {@value #MAX_ALIASES} of them, and
+ * the answer has the records of the canonical name. Unlike {@link Lookup}, relative names are not
+ * resolved through the search path of the system but from the root: the names resolved are the
+ * hosts of RDAP URIs, which are fully qualified.</p>
+ */
+public class DNSCacheResolver {
+
+  private static final Logger logger = LoggerFactory.getLogger(DNSCacheResolver.class);
+
+  /**
+   * TTL of negative answers without a SOA record in their authority section.
+   */
+  static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofMinutes(1);
+
+  static final int CACHE_CAPACITY = 10_000;
+
+  /**
+   * Same limit as {@link Lookup}, against CNAME loops.
+   */
+  static final int MAX_ALIASES = 16;
+
+  /**
+   * Number of sets of DNS servers whose resolver is kept, the least recently used is dropped.
+   */
+  static final int MAX_RESOLVERS = 16;
+
+  private static final Map<List<String>, DNSCacheResolver> resolvers = Collections.synchronizedMap(
+      new LinkedHashMap<>(MAX_RESOLVERS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<String>, DNSCacheResolver> eldest) {
+          return size() > MAX_RESOLVERS;
+        }
+      });
+
+  private final Resolver resolver;
+  private final ExpiringFutureCache<Key, DNSAnswer> cache;
+
+  DNSCacheResolver(Resolver resolver, LongSupplier nanoClock) {
+    this(resolver, CACHE_CAPACITY, nanoClock);
+  }
+
+  DNSCacheResolver(Resolver resolver, int capacity, LongSupplier nanoClock) {
+    this.resolver = resolver;
+    this.cache = new ExpiringFutureCache<>(DNSAnswer::getTtl, capacity, nanoClock);
+  }
+
+  /**
+   * The resolver shared by the process for these DNS servers, given as "host" or "host:port"
+   * ("[address]:port" for IPv6). Without servers, the system DNS servers are used.
+   */
+  public static DNSCacheResolver forServers(List<String> servers) {
+    return resolvers.computeIfAbsent(List.copyOf(servers),
+        s -> new DNSCacheResolver(createResolver(s), System::nanoTime));
+  }
+
+  private static Resolver createResolver(List<String> servers) {
+    if (servers.isEmpty()) {
+      return new ExtendedResolver();
+    }
+    List<Resolver> simpleResolvers = new ArrayList<>();
+    for (String server : servers) {
+      simpleResolvers.add(new SimpleResolver(parseAddress(server)));
+    }
+    return new ExtendedResolver(simpleResolvers);
+  }
+
+  static InetSocketAddress parseAddress(String server) {
+    String host = server;
+    int port = SimpleResolver.DEFAULT_PORT;
+    if (server.startsWith("[")) {
+      int end = server.indexOf(']');
+      host = server.substring(1, end);
+      if (server.length() > end + 1 && server.charAt(end + 1) == ':') {
+        port = Integer.parseInt(server.substring(end + 2));
+      }
+    } else if (server.indexOf(':') > 0 && server.indexOf(':') == server.lastIndexOf(':')) {
+      host = server.substring(0, server.indexOf(':'));
+      port = Integer.parseInt(server.substring(server.indexOf(':') + 1));
+    }
+    return new InetSocketAddress(host, port);
+  }
+
+  /**
+   * Resolve the records of this type, from the cache if a fresh answer is there. Relative names
+   * are resolved from the root.
+   */
+  public CompletableFuture<DNSAnswer> resolve(Name name, int type) {
+    if (!name.isAbsolute()) {
+      try {
+        name = Name.concatenate(name, Name.root);
+      } catch (NameTooLongException e) {
+        return CompletableFuture.completedFuture(new DNSAnswer(Lookup.UNRECOVERABLE, List.of()));
+      }
+    }
+    return cache.get(new Key(name, type), this::query);
+  }
+
+  private CompletableFuture<DNSAnswer> query(Key key) {
+    return query(key.name, key.type, 0);
+  }
+
+  private CompletableFuture<DNSAnswer> query(Name name, int type, int aliases) {
+    Message query = Message.newQuery(Record.newRecord(name, type, DClass.IN));
+    return resolver.sendAsync(query).toCompletableFuture()
+        .thenCompose(response -> {
+          List<CNAMERecord> chain = new ArrayList<>();
+          Name target = followAliases(response, name, chain);
+          if (aliases + chain.size() > MAX_ALIASES) {
+            return CompletableFuture.completedFuture(
+                new DNSAnswer(Lookup.UNRECOVERABLE, List.of()));
+          }
+          DNSAnswer answer = toAnswer(response, target, type);
+          if (answer.getResult() == Lookup.TYPE_NOT_FOUND && !chain.isEmpty()) {
+            // the server did not resolve the canonical name itself
+            return query(target, type, aliases + chain.size())
+                .thenApply(canonical -> canonical.withTtlAtMost(getTtl(chain)));
+          }
+          return CompletableFuture.completedFuture(
+              chain.isEmpty() ? answer : answer.withTtlAtMost(getTtl(chain)));
+        })
+        .exceptionally(throwable -> {
+          logger.debug("DNS query {} {} failed", name, Type.string(type), throwable);
+          return new DNSAnswer(Lookup.TRY_AGAIN, List.of());
+        });
+  }
+
+  /**
+   * The canonical name of the name, adding the CNAME records of the answer followed to the chain.
+   */
+  private static Name followAliases(Message response, Name name, List<CNAMERecord> chain) {
+    Name target = name;
+    boolean followed = true;
+    while (followed && chain.size() <= MAX_ALIASES) {
+      followed = false;
+      for (Record record : response.getSection(Section.ANSWER)) {
+        if (record instanceof CNAMERecord && record.getName().equals(target)) {
+          chain.add((CNAMERecord) record);
+          target = ((CNAMERecord) record).getTarget();
+          followed = true;
+          break;
+        }
+      }
+    }
+    return target;
+  }
+
+  private static DNSAnswer toAnswer(Message response, Name name, int type) {
+    int rcode = response.getRcode();
+    if (rcode == Rcode.NXDOMAIN) {
+      return new DNSAnswer(Lookup.HOST_NOT_FOUND, List.of(), getNegativeTtl(response));
+    }
+    if (rcode != Rcode.NOERROR) {
+      return new DNSAnswer(Lookup.TRY_AGAIN, List.of());
+    }
+    List<Record> records = new ArrayList<>();
+    for (Record record : response.getSection(Section.ANSWER)) {
+      if (record.getType() == type && record.getName().equals(name)) {
+        records.add(record);
+      }
+    }
+    if (records.isEmpty()) {
+      return new DNSAnswer(Lookup.TYPE_NOT_FOUND, records, getNegativeTtl(response));
+    }
+    return new DNSAnswer(Lookup.SUCCESSFUL, records, getTtl(records));
+  }
+
+  private static Duration getTtl(List<? extends Record> records) {
+    return Duration.ofSeconds(records.stream().mapToLong(Record::getTTL).min().orElse(0));
+  }
+
+  /**
+   * The TTL of the SOA record of the authority section (RFC 2308).
+   */
+  private static Duration getNegativeTtl(Message response) {
+    for (Record record : response.getSection(Section.AUTHORITY)) {
+      if (record instanceof SOARecord) {
+        return Duration.ofSeconds(Math.min(record.getTTL(), ((SOARecord) record).getMinimum()));
+      }
+    }
+    return DEFAULT_NEGATIVE_TTL;
+  }
+
+  /**
+   * Records of the requested type, with the result of the lookup as in {@link Lookup#getResult()}.
+   */
+  public static class DNSAnswer {
+
+    private final int result;
+    private final List<Record> records;
+    private final Duration ttl;
+
+    DNSAnswer(int result, List<Record> records) {
+      this(result, records, Duration.ZERO);
+    }
+
+    DNSAnswer(int result, List<Record> records, Duration ttl) {
+      this.result = result;
+      this.records = records;
+      this.ttl = ttl;
+    }
+
+    public int getResult() {
+      return result;
+    }
+
+    public List<Record> getRecords() {
+      return records;
+    }
+
+    /**
+     * How long the answer is cached, zero if it is not.
+     */
+    Duration getTtl() {
+      return ttl;
+    }
+
+    private DNSAnswer withTtlAtMost(Duration maxTtl) {
+      return ttl.compareTo(maxTtl) <= 0 ? this : new DNSAnswer(result, records, maxTtl);
+    }
+  }
+
+  private static class Key {
+
+    private final Name name;
+    private final int type;
+
+    private Key(Name name, int type) {
+      this.name = name;
+      this.type = type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return type == key.type && name.equals(key.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, type);
+    }
+  }
+}
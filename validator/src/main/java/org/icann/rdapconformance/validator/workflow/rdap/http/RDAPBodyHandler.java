@@ -0,0 +1,225 @@
+package org.icann.rdapconformance.validator.workflow.rdap.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.ResponseInfo;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Body handler reading the body into a single buffer, decoded once with the charset of the
+ * Content-Type (UTF-8 by default), which stops reading bodies larger than a maximum size or not
+ * received in time. One handler is used per request.
+ */
+public class RDAPBodyHandler implements BodyHandler<String> {
+
+  /**
+   * Maximum size of the buffer allocated upfront for the Content-Length of the response.
+   */
+  private static final int MAX_PRESIZE = 16 * 1024 * 1024;
+
+  /**
+   * Stops the bodies not received in time. The timer of a body is removed as soon as the body is
+   * received, so that it does not keep the body reachable until the budget elapses.
+   */
+  private static final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1,
+      runnable -> {
+        Thread thread = new Thread(runnable, "rdap-body-timer");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  static {
+    timer.setRemoveOnCancelPolicy(true);
+  }
+
+  private final long maxSize;
+  private final Duration budget;
+  private final AtomicLong receivedBytes = new AtomicLong();
+  private volatile IOException failure;
+
+  /**
+   * @param maxSize maximum body size in bytes, not positive for no limit
+   * @param budget  maximum time to receive the body once the headers are received, zero for no
+   *                limit
+   */
+  public RDAPBodyHandler(long maxSize, Duration budget) {
+    this.maxSize = maxSize;
+    this.budget = budget;
+  }
+
+  /**
+   * Number of bytes of the last body received.
+   */
+  public long getReceivedBytes() {
+    return receivedBytes.get();
+  }
+
+  /**
+   * Why the handler stopped reading the last body, null if it did not. The client may report the
+   * cancellation of the response instead.
+   */
+  public IOException getFailure() {
+    return failure;
+  }
+
+  @Override
+  public BodySubscriber<String> apply(ResponseInfo responseInfo) {
+    receivedBytes.set(0);
+    failure = null;
+    HttpHeaders headers = responseInfo.headers();
+    return new LimitedSubscriber(getCharset(headers),
+        headers.firstValueAsLong("Content-Length").orElse(-1));
+  }
+
+  /**
+   * Number of bodies being received within a budget.
+   */
+  static int getPendingTimers() {
+    return timer.getQueue().size();
+  }
+
+  static Charset getCharset(HttpHeaders headers) {
+    for (String parameter : headers.firstValue("Content-Type").orElse("").split(";")) {
+      String[] keyValue = parameter.trim().split("=", 2);
+      if (keyValue.length == 2 && keyValue[0].equalsIgnoreCase("charset")) {
+        try {
+          return Charset.forName(keyValue[1].replace("\"", "").trim());
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+          break;
+        }
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+
+  /**
+   * Thrown when the body is larger than the maximum size.
+   */
+  public static class ResponseTooLargeException extends IOException {
+
+    public ResponseTooLargeException(long maxSize) {
+      super("Response body larger than " + maxSize + " bytes");
+    }
+  }
+
+  private class LimitedSubscriber implements BodySubscriber<String> {
+
+    private final Charset charset;
+    private final long contentLength;
+    private final CompletableFuture<String> body = new CompletableFuture<>();
+    private Body buffer;
+    private Flow.Subscription subscription;
+    private volatile ScheduledFuture<?> budgetTimer;
+
+    private LimitedSubscriber(Charset charset, long contentLength) {
+      this.charset = charset;
+      this.contentLength = contentLength;
+    }
+
+    @Override
+    public CompletionStage<String> getBody() {
+      return body;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (maxSize > 0 && contentLength > maxSize) {
+        fail(new ResponseTooLargeException(maxSize));
+        return;
+      }
+      if (!budget.isZero()) {
+        budgetTimer = timer.schedule(() -> fail(new HttpTimeoutException(
+                "Response body not received within " + budget.toSeconds() + " seconds")),
+            budget.toMillis(), TimeUnit.MILLISECONDS);
+      }
+      buffer = new Body((int) Math.min(Math.max(contentLength, 0), MAX_PRESIZE));
+      subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+      if (body.isDone()) {
+        return;
+      }
+      for (ByteBuffer item : items) {
+        long size = receivedBytes.addAndGet(item.remaining());
+        if (maxSize > 0 && size > maxSize) {
+          fail(new ResponseTooLargeException(maxSize));
+          return;
+        }
+        buffer.write(item);
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      cancelBudgetTimer();
+      body.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      cancelBudgetTimer();
+      if (!body.isDone()) {
+        body.complete(buffer.decode(charset));
+      }
+    }
+
+    private void fail(IOException e) {
+      if (body.completeExceptionally(e)) {
+        cancelBudgetTimer();
+        failure = e;
+        subscription.cancel();
+      }
+    }
+
+    private void cancelBudgetTimer() {
+      ScheduledFuture<?> budgetTimer = this.budgetTimer;
+      if (budgetTimer != null) {
+        budgetTimer.cancel(false);
+      }
+    }
+  }
+
+  /**
+   * Growable buffer decoded in place.
+   */
+  private static class Body extends ByteArrayOutputStream {
+
+    private Body(int size) {
+      super(size);
+    }
+
+    private void write(ByteBuffer item) {
+      if (item.hasArray()) {
+        write(item.array(), item.arrayOffset() + item.position(), item.remaining());
+      } else {
+        byte[] bytes = new byte[item.remaining()];
+        item.get(bytes);
+        write(bytes, 0, bytes.length);
+      }
+    }
+
+    private String decode(Charset charset) {
+      return new String(buf, 0, count, charset);
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package org.icann.rdapconformance.validator.workflow.rdap.http;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.http.HttpHeaders;
@@ -8,7 +10,7 @@ import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
 import java.security.Security;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,6 +18,7 @@ import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfigurat
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQuery;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationStatus;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPBodyHandler.ResponseTooLargeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -120,7 +123,7 @@ public class RDAPHttpQuery implements RDAPQuery {
 
   private void makeRequest() {
     try {
-      httpResponse = RDAPHttpRequest.makeHttpGetRequest(this.config.getUri(), this.config.getTimeout());
+      httpResponse = RDAPHttpRequest.makeHttpGetRequest(this.config.getUri(), this.config);
     } catch (ConnectException | HttpTimeoutException e) {
       logger.info("Exception when connecting to RDAP server", e);
       status = RDAPValidationStatus.CONNECTION_FAILED;
@@ -130,7 +133,10 @@ public class RDAPHttpQuery implements RDAPQuery {
     } catch (IOException e) {
       logger.info("Exception receiving data from the RDAP server", e);
       status = RDAPValidationStatus.NETWORK_RECEIVE_FAIL;
-      if (hasCause(e, "java.security.cert.CertificateExpiredException")) {
+      if (e instanceof ResponseTooLargeException
+          || hasCause(e, ResponseTooLargeException.class.getName())) {
+        status = RDAPValidationStatus.RESPONSE_TOO_LARGE;
+      } else if (hasCause(e, "java.security.cert.CertificateExpiredException")) {
         status = RDAPValidationStatus.EXPIRED_CERTIFICATE;
       } else if (hasCause(e, "java.security.cert.CertificateRevokedException")) {
         status = RDAPValidationStatus.REVOKED_CERTIFICATE;
@@ -208,8 +214,7 @@ public class RDAPHttpQuery implements RDAPQuery {
    * Check if the RDAP is a JSON array results response
    */
   boolean jsonIsSearchResponse() {
-    return null != jsonResponse && jsonResponse.hasKey("nameserverSearchResults")
-        && jsonResponse.getValue("nameserverSearchResults") instanceof Collection<?>;
+    return null != jsonResponse && jsonResponse.isArray("nameserverSearchResults");
   }
 
   private boolean hasCause(Throwable e, String causeClassName) {
@@ -222,47 +227,63 @@ public class RDAPHttpQuery implements RDAPQuery {
     return false;
   }
 
+  /**
+   * Shape of the JSON response: whether it is an object or an array, and the type of the values of
+   * the topmost object, read without building the JSON tree.
+   */
   static class JsonData {
 
-    private Map<String, Object> rawRdapMap = null;
-    private List<Object> rawRdapList = null;
+    private static final JsonFactory jsonFactory = new JsonFactory();
 
+    private final Map<String, JsonToken> topMostValues = new HashMap<>();
+    private boolean valid = false;
+    private boolean array = false;
 
     private JsonData(String data) {
-      ObjectMapper mapper = new ObjectMapper();
-
-      try {
-        rawRdapMap = mapper.readValue(data, Map.class);
-      } catch (Exception e1) {
-        // JSON content may be a list
-        try {
-          rawRdapList = mapper.readValue(data, List.class);
-        } catch (Exception e2) {
+      try (JsonParser parser = jsonFactory.createParser(data)) {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+          parser.skipChildren();
+          array = true;
+          valid = true;
+        } else if (token == JsonToken.START_OBJECT) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            topMostValues.put(name, parser.nextToken());
+            parser.skipChildren();
+          }
+          valid = true;
+        } else {
           logger.error("Invalid JSON in RDAP response");
         }
+      } catch (Exception e) {
+        logger.error("Invalid JSON in RDAP response");
       }
     }
 
     /**
-     * Parse the data into JSON.
+     * Whether the data is a JSON object or array.
      */
     public boolean isValid() {
-      return rawRdapMap != null || rawRdapList != null;
+      return valid;
     }
 
     /**
      * Check whether the JSON data is an array.
      */
     public boolean isArray() {
-      return rawRdapList != null;
+      return array;
     }
 
     public boolean hasKey(String key) {
-      return isValid() && !isArray() && rawRdapMap.containsKey(key);
+      return isValid() && !isArray() && topMostValues.containsKey(key);
     }
 
-    public Object getValue(String key) {
-      return rawRdapMap.get(key);
+    /**
+     * Whether the value of this key of the topmost object is an array.
+     */
+    public boolean isArray(String key) {
+      return hasKey(key) && topMostValues.get(key) == JsonToken.START_ARRAY;
     }
   }
 }
@@ -3,15 +3,12 @@ package org.icann.rdapconformance.validator.workflow.rdap.http;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.icann.rdapconformance.validator.SchemaValidator;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.customvalidator.DomainNameClassifier;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryTypeProcessor;
-import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationStatus;
-import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
-import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResultsImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,18 +48,11 @@ public class RDAPHttpQueryTypeProcessor implements RDAPQueryTypeProcessor {
     }
     if (Set.of(RDAPHttpQueryType.DOMAIN, RDAPHttpQueryType.NAMESERVER).contains(queryType)) {
       String domainName = queryType.getValue(this.config.getUri().toString());
-      String domainNameJson = String.format("{\"domain\": \"%s\"}", domainName);
-      RDAPValidatorResults testDomainResults = new RDAPValidatorResultsImpl();
-      SchemaValidator validator = new SchemaValidator("rdap_domain_name.json", testDomainResults,
-          datasetService);
-      if (!validator.validate(domainNameJson)) {
-        // TODO check if A-labels and U-labels are mixed: is this OK?
-        if (testDomainResults.getAll().stream()
-            .map(RDAPValidationResult::getCode)
-            .anyMatch(c -> c == -10303)) {
-          status =  RDAPValidationStatus.MIXED_LABEL_FORMAT;
-          return false;
-        }
+      // the other domain name errors are reported by the validations of the response:
+      if (DomainNameClassifier.hasMixedLabels(domainName)) {
+        logger.error("A-labels and U-labels are mixed in {}", domainName);
+        status = RDAPValidationStatus.MIXED_LABEL_FORMAT;
+        return false;
       }
     }
     return true;
@@ -94,11 +84,33 @@ public class RDAPHttpQueryTypeProcessor implements RDAPQueryTypeProcessor {
       this.pattern = pattern;
     }
 
+    /**
+     * All the patterns as alternatives of a single pattern, each one in its own group.
+     */
+    private static final Pattern ANY_PATTERN;
+    private static final int[] GROUPS = new int[values().length];
+
+    static {
+      StringBuilder anyPattern = new StringBuilder();
+      int group = 1;
+      for (RDAPHttpQueryType qt : values()) {
+        if (anyPattern.length() > 0) {
+          anyPattern.append('|');
+        }
+        anyPattern.append('(').append(qt.pattern.pattern()).append(')');
+        GROUPS[qt.ordinal()] = group;
+        group += 1 + qt.pattern.matcher("").groupCount();
+      }
+      ANY_PATTERN = Pattern.compile(anyPattern.toString());
+    }
+
     static RDAPHttpQueryType getType(String query) {
-      for (RDAPHttpQueryType qt : RDAPHttpQueryType.values()) {
-        Matcher matcher = qt.pattern.matcher(query);
-        if (matcher.find()) {
-          return qt;
+      Matcher matcher = ANY_PATTERN.matcher(query);
+      if (matcher.find()) {
+        for (RDAPHttpQueryType qt : values()) {
+          if (matcher.start(GROUPS[qt.ordinal()]) >= 0) {
+            return qt;
+          }
         }
       }
       return null;
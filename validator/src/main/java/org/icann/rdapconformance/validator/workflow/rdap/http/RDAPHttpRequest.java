@@ -10,21 +10,69 @@ import java.net.http.HttpClient.Version;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.jfr.HttpRequestEvent;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics.Timer;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPBodyHandler.ResponseTooLargeException;
 
 public class RDAPHttpRequest {
 
+  /**
+   * Maximum response size of the requests sent without one.
+   */
+  public static final long DEFAULT_MAX_RESPONSE_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * GET request limited by the timeout and the maximum response size of the configuration, sent
+   * through its {@link RDAPHttpRequestScheduler}.
+   */
+  public static HttpResponse<String> makeHttpGetRequest(URI uri,
+      RDAPValidatorConfiguration config) throws IOException, InterruptedException {
+    return RDAPHttpRequestScheduler.forConfiguration(config).send(uri, "GET",
+        () -> makeHttpGetRequest(uri, config.getTimeout(), config.getMaxResponseSize()));
+  }
+
+  /**
+   * HEAD request limited by the timeout and the maximum response size of the configuration, sent
+   * through its {@link RDAPHttpRequestScheduler}.
+   */
+  public static HttpResponse<String> makeHttpHeadRequest(URI uri,
+      RDAPValidatorConfiguration config) throws IOException, InterruptedException {
+    return RDAPHttpRequestScheduler.forConfiguration(config).send(uri, "HEAD",
+        () -> makeHttpHeadRequest(uri, config.getTimeout(), config.getMaxResponseSize()));
+  }
+
   public static HttpResponse<String> makeHttpGetRequest(URI uri, int timeout)
       throws IOException, InterruptedException {
-    return makeHttpGetRequest(uri, timeout, "GET");
+    return makeHttpGetRequest(uri, timeout, DEFAULT_MAX_RESPONSE_SIZE);
+  }
+
+  /**
+   * GET request whose response body must be at most maxResponseSize bytes (not positive for no
+   * limit) and be received within the timeout, otherwise a {@link ResponseTooLargeException} or
+   * an {@link java.net.http.HttpTimeoutException} is thrown.
+   */
+  public static HttpResponse<String> makeHttpGetRequest(URI uri, int timeout,
+      long maxResponseSize) throws IOException, InterruptedException {
+    return makeHttpGetRequest(uri, timeout, maxResponseSize, "GET");
   }
 
   public static HttpResponse<String> makeHttpHeadRequest(URI uri, int timeout)
       throws IOException, InterruptedException {
-    return makeHttpGetRequest(uri, timeout, "HEAD");
+    return makeHttpHeadRequest(uri, timeout, DEFAULT_MAX_RESPONSE_SIZE);
   }
 
-  private static HttpResponse<String> makeHttpGetRequest(URI uri, int timeout, String method)
-      throws IOException, InterruptedException {
+  /**
+   * HEAD request limited as a GET request, in case the server sends a body anyway.
+   */
+  public static HttpResponse<String> makeHttpHeadRequest(URI uri, int timeout,
+      long maxResponseSize) throws IOException, InterruptedException {
+    return makeHttpGetRequest(uri, timeout, maxResponseSize, "HEAD");
+  }
+
+  private static HttpResponse<String> makeHttpGetRequest(URI uri, int timeout,
+      long maxResponseSize, String method) throws IOException, InterruptedException {
     HttpRequest.Builder httpRequestBuilder = HttpRequest.newBuilder()
         .uri(uri)
         .version(Version.HTTP_2)
@@ -44,10 +92,34 @@ public class RDAPHttpRequest {
       default:
         throw new RuntimeException("Unsupported HTTP request method " + method);
     }
-    return HttpClient.newBuilder()
-        .connectTimeout(Duration.of(timeout, SECONDS))
-        .followRedirects(Redirect.ALWAYS)
-        .build()
-        .send(request, HttpResponse.BodyHandlers.ofString());
+    HttpRequestEvent event = new HttpRequestEvent();
+    event.begin();
+    RDAPBodyHandler bodyHandler = new RDAPBodyHandler(maxResponseSize,
+        Duration.of(timeout, SECONDS));
+    HttpResponse<String> response = null;
+    try (Timer ignored = RDAPValidationMetrics.timer("httpRequest." + method)) {
+      response = HttpClient.newBuilder()
+          .connectTimeout(Duration.of(timeout, SECONDS))
+          .followRedirects(Redirect.ALWAYS)
+          .build()
+          .send(request, bodyHandler);
+      return response;
+    } catch (IOException e) {
+      if (bodyHandler.getFailure() != null) {
+        throw bodyHandler.getFailure();
+      }
+      throw e;
+    } finally {
+      if (event.shouldCommit()) {
+        event.uri = uri.toString();
+        event.method = method;
+        if (response != null) {
+          event.status = response.statusCode();
+          event.httpVersion = response.version().name();
+        }
+        event.bytes = bodyHandler.getReceivedBytes();
+        event.commit();
+      }
+    }
   }
 }
@@ -0,0 +1,314 @@
+package org.icann.rdapconformance.validator.workflow.rdap.http;
+
+import inet.ipaddr.IPAddressString;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.URI;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpResponse;
+import java.nio.channels.UnresolvedAddressException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+import javax.net.ssl.SSLException;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.workflow.rdap.dns.DNSCacheResolver;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPBodyHandler.ResponseTooLargeException;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPHttpRetries.Retry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xbill.DNS.ARecord;
+import org.xbill.DNS.AAAARecord;
+import org.xbill.DNS.Name;
+import org.xbill.DNS.Record;
+import org.xbill.DNS.TextParseException;
+import org.xbill.DNS.Type;
+
+/**
+ * Spaces out the requests sent to the same host and to the same IP address with token buckets,
+ * and retries the requests failing transiently.
+ *
+ * <p>A request is retried, at most a number of times, when it gets a 429 or 503 status, after
+ * the delay of the Retry-After header during which the host gets no other request, or when the
+ * connection fails, after an exponential backoff with jitter. TLS failures, unresolved hosts and
+ * oversized responses are conformance outcomes and are not retried. The retries are recorded in
+ * the {@link RDAPHttpRetries} of the run.</p>
+ */
+public class RDAPHttpRequestScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(RDAPHttpRequestScheduler.class);
+
+  static final Set<Integer> RETRIED_STATUS_CODES = Set.of(429, 503);
+  static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(1);
+  /**
+   * A longer Retry-After is not waited for, the response is returned.
+   */
+  static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+  private static final Pattern DELAY_SECONDS = Pattern.compile("\\d+");
+  private static final String OCTET = "(25[0-5]|2[0-4][0-9]|1[0-9]{2}|[1-9]?[0-9])";
+  private static final Pattern IPV4_ADDRESS = Pattern.compile(OCTET + "(\\." + OCTET + "){3}");
+
+  private static final Map<List<Object>, RDAPHttpRequestScheduler> schedulers =
+      new ConcurrentHashMap<>();
+
+  private final double hostRate;
+  private final double ipRate;
+  private final int maxRetries;
+  private final Function<String, String> addresses;
+  private final LongSupplier nanoClock;
+  private final Sleeper sleeper;
+  private final DoubleSupplier random;
+  private final Map<String, TokenBucket> hostBuckets = new ConcurrentHashMap<>();
+  private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+
+  RDAPHttpRequestScheduler(double hostRate, double ipRate, int maxRetries,
+      Function<String, String> addresses, LongSupplier nanoClock, Sleeper sleeper,
+      DoubleSupplier random) {
+    this.hostRate = hostRate;
+    this.ipRate = ipRate;
+    this.maxRetries = maxRetries;
+    this.addresses = addresses;
+    this.nanoClock = nanoClock;
+    this.sleeper = sleeper;
+    this.random = random;
+  }
+
+  /**
+   * The scheduler shared by the process for the limits of this configuration, so that concurrent
+   * validations share the buckets of the hosts.
+   */
+  public static RDAPHttpRequestScheduler forConfiguration(RDAPValidatorConfiguration config) {
+    List<Object> key = List.of(config.getHostRequestRate(), config.getIpRequestRate(),
+        config.getMaxRetries(), List.copyOf(config.getDnsResolvers()), config.getTimeout());
+    return schedulers.computeIfAbsent(key, k -> new RDAPHttpRequestScheduler(
+        config.getHostRequestRate(), config.getIpRequestRate(), config.getMaxRetries(),
+        host -> resolveAddress(host, config.getDnsResolvers(), config.getTimeout()),
+        System::nanoTime, TimeUnit.NANOSECONDS::sleep,
+        () -> ThreadLocalRandom.current().nextDouble()));
+  }
+
+  /**
+   * Send the request once the buckets of its host and IP address allow it, and again while it
+   * fails transiently and retries are left.
+   */
+  public HttpResponse<String> send(URI uri, String method, Request request)
+      throws IOException, InterruptedException {
+    for (int attempt = 1; ; attempt++) {
+      await(uri.getHost());
+      HttpResponse<String> response;
+      try {
+        response = request.send();
+      } catch (IOException e) {
+        if (attempt > maxRetries || !isTransient(e)) {
+          throw e;
+        }
+        long delay = backoff(attempt);
+        record(uri, method, attempt, e.toString(), delay);
+        sleeper.sleep(delay);
+        continue;
+      }
+      if (attempt > maxRetries || !RETRIED_STATUS_CODES.contains(response.statusCode())) {
+        return response;
+      }
+      Optional<Long> retryAfter = retryAfter(response);
+      if (retryAfter.isEmpty()) {
+        long delay = backoff(attempt);
+        record(uri, method, attempt, "HTTP " + response.statusCode(), delay);
+        sleeper.sleep(delay);
+      } else if (retryAfter.get() <= MAX_RETRY_DELAY.toNanos()) {
+        // the host gets no request until then, the next attempt waits for it in await():
+        hostBucket(uri.getHost()).pauseUntil(nanoClock.getAsLong() + retryAfter.get());
+        record(uri, method, attempt, "HTTP " + response.statusCode(), retryAfter.get());
+      } else {
+        logger.info("Not retrying {} {}: Retry-After exceeds {}", method, uri, MAX_RETRY_DELAY);
+        return response;
+      }
+    }
+  }
+
+  private void await(String host) throws InterruptedException {
+    if (host == null) {
+      return;
+    }
+    long delay = hostBucket(host).reserve(nanoClock.getAsLong());
+    if (ipRate > 0) {
+      String address = addresses.apply(host);
+      if (address != null) {
+        delay = Math.max(delay, ipBuckets.computeIfAbsent(address, a -> new TokenBucket(ipRate))
+            .reserve(nanoClock.getAsLong()));
+      }
+    }
+    if (delay > 0) {
+      sleeper.sleep(delay);
+    }
+  }
+
+  private TokenBucket hostBucket(String host) {
+    return hostBuckets.computeIfAbsent(host.toLowerCase(), h -> new TokenBucket(hostRate));
+  }
+
+  /**
+   * Exponential backoff with jitter: between half and all of BASE * 2^(attempt - 1), at most
+   * {@link #MAX_RETRY_DELAY}.
+   */
+  long backoff(int attempt) {
+    long delay = Math.min(MAX_RETRY_DELAY.toNanos(),
+        BASE_RETRY_DELAY.toNanos() << Math.min(attempt - 1, 20));
+    return delay / 2 + (long) (random.getAsDouble() * (delay / 2));
+  }
+
+  private void record(URI uri, String method, int attempt, String reason, long delayNanos) {
+    long delayMs = TimeUnit.NANOSECONDS.toMillis(delayNanos);
+    logger.info("Retrying {} {} in {} ms after attempt {}: {}", method, uri, delayMs, attempt,
+        reason);
+    RDAPHttpRetries.record(new Retry(uri, method, attempt, reason, delayMs));
+  }
+
+  /**
+   * The delay of the Retry-After header in nanoseconds, either in seconds or an HTTP date.
+   */
+  static Optional<Long> retryAfter(HttpResponse<?> response) {
+    Optional<String> header = response.headers().firstValue("Retry-After").map(String::trim);
+    if (header.isEmpty()) {
+      return Optional.empty();
+    }
+    if (DELAY_SECONDS.matcher(header.get()).matches()) {
+      return Optional.of(TimeUnit.SECONDS.toNanos(Long.parseLong(header.get())));
+    }
+    try {
+      ZonedDateTime date = ZonedDateTime.parse(header.get(),
+          DateTimeFormatter.RFC_1123_DATE_TIME);
+      return Optional.of(Math.max(0,
+          Duration.between(ZonedDateTime.now(date.getZone()), date).toNanos()));
+    } catch (DateTimeParseException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Whether the connection failed for a reason which may not happen again: TLS failures,
+   * unresolved hosts and oversized responses are not transient.
+   */
+  static boolean isTransient(IOException e) {
+    boolean transientCause = false;
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SSLException || cause instanceof UnresolvedAddressException
+          || cause instanceof ResponseTooLargeException) {
+        return false;
+      }
+      transientCause |= cause instanceof SocketException
+          || cause instanceof HttpConnectTimeoutException || cause instanceof EOFException;
+    }
+    return transientCause;
+  }
+
+  /**
+   * Whether the host of a URI is an IP address: four dotted decimal octets, or an IPv6 address,
+   * which has colons, between brackets or not.
+   */
+  static boolean isIpLiteral(String host) {
+    if (host.indexOf(':') >= 0) {
+      String address = host.startsWith("[") && host.endsWith("]")
+          ? host.substring(1, host.length() - 1) : host;
+      return new IPAddressString(address).isIPv6();
+    }
+    return IPV4_ADDRESS.matcher(host).matches();
+  }
+
+  private static String resolveAddress(String host, List<String> dnsResolvers, int timeout) {
+    if (isIpLiteral(host)) {
+      return host;
+    }
+    try {
+      DNSCacheResolver resolver = DNSCacheResolver.forServers(dnsResolvers);
+      Name name = Name.fromString(host);
+      for (int type : new int[]{Type.A, Type.AAAA}) {
+        for (Record record : resolver.resolve(name, type).get(timeout, TimeUnit.SECONDS)
+            .getRecords()) {
+          if (record instanceof ARecord) {
+            return ((ARecord) record).getAddress().getHostAddress();
+          }
+          if (record instanceof AAAARecord) {
+            return ((AAAARecord) record).getAddress().getHostAddress();
+          }
+        }
+      }
+    } catch (TextParseException | ExecutionException | TimeoutException e) {
+      logger.debug("Cannot resolve {}, only its host limit applies", host, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+
+  @FunctionalInterface
+  public interface Request {
+
+    HttpResponse<String> send() throws IOException, InterruptedException;
+  }
+
+  @FunctionalInterface
+  interface Sleeper {
+
+    void sleep(long nanos) throws InterruptedException;
+  }
+
+  /**
+   * Allows a rate of requests per second, with bursts of one second of requests; unlimited if
+   * the rate is not positive. A request is reserved right away and waits for its token.
+   */
+  static class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long updatedAt = Long.MIN_VALUE;
+    private long pausedUntil = Long.MIN_VALUE;
+
+    TokenBucket(double rate) {
+      this.tokensPerNano = rate / TimeUnit.SECONDS.toNanos(1);
+      this.capacity = Math.max(1, rate);
+      this.tokens = capacity;
+    }
+
+    /**
+     * Take a token, and return how long to wait for it in nanoseconds.
+     */
+    synchronized long reserve(long now) {
+      long delay = pausedUntil == Long.MIN_VALUE ? 0 : Math.max(0, pausedUntil - now);
+      if (tokensPerNano <= 0) {
+        return delay;
+      }
+      if (updatedAt != Long.MIN_VALUE) {
+        tokens = Math.min(capacity, tokens + (now - updatedAt) * tokensPerNano);
+      }
+      updatedAt = now;
+      tokens--;
+      if (tokens < 0) {
+        delay = Math.max(delay, (long) Math.ceil(-tokens / tokensPerNano));
+      }
+      return delay;
+    }
+
+    synchronized void pauseUntil(long until) {
+      if (pausedUntil == Long.MIN_VALUE || until > pausedUntil) {
+        pausedUntil = until;
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package org.icann.rdapconformance.validator.workflow.rdap.http;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The HTTP attempts of a run which were retried, listed in the results file so that an outcome
+ * obtained after retries can be told apart.
+ *
+ * <p>Like the metrics, the retries are bound to the thread running the validation: they are
+ * recorded by the {@link RDAPHttpRequestScheduler} only once started on the current thread.</p>
+ */
+public class RDAPHttpRetries {
+
+  private static final ThreadLocal<RDAPHttpRetries> current = new ThreadLocal<>();
+
+  private final List<Retry> retries = new ArrayList<>();
+
+  /**
+   * Start recording the retries on the current thread.
+   */
+  public static RDAPHttpRetries start() {
+    RDAPHttpRetries retries = new RDAPHttpRetries();
+    current.set(retries);
+    return retries;
+  }
+
+  /**
+   * Stop recording the retries on the current thread.
+   */
+  public void stop() {
+    if (current.get() == this) {
+      current.remove();
+    }
+  }
+
+  static void record(Retry retry) {
+    RDAPHttpRetries retries = current.get();
+    if (retries != null) {
+      retries.retries.add(retry);
+    }
+  }
+
+  public List<Retry> getRetries() {
+    return retries;
+  }
+
+  /**
+   * A failed attempt followed by another one after a delay.
+   */
+  public static class Retry {
+
+    private final URI uri;
+    private final String method;
+    private final int attempt;
+    private final String reason;
+    private final long delayMs;
+
+    Retry(URI uri, String method, int attempt, String reason, long delayMs) {
+      this.uri = uri;
+      this.method = method;
+      this.attempt = attempt;
+      this.reason = reason;
+      this.delayMs = delayMs;
+    }
+
+    public URI getUri() {
+      return uri;
+    }
+
+    public String getMethod() {
+      return method;
+    }
+
+    /**
+     * The number of the failed attempt, starting at 1.
+     */
+    public int getAttempt() {
+      return attempt;
+    }
+
+    /**
+     * The HTTP status code or the exception of the failed attempt.
+     */
+    public String getReason() {
+      return reason;
+    }
+
+    public long getDelayMs() {
+      return delayMs;
+    }
+  }
+}
@@ -1,8 +1,11 @@
 package org.icann.rdapconformance.validator.workflow.rdap.http;
 
+import org.icann.rdapconformance.validator.configuration.ConfigurationFileParserImpl;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
 import org.icann.rdapconformance.validator.workflow.FileSystem;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidator;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResultsImpl;
 
 public class RDAPHttpValidator extends RDAPValidator {
 
@@ -10,4 +13,17 @@ public class RDAPHttpValidator extends RDAPValidator {
     super(config, fileSystem, new RDAPHttpQueryTypeProcessor(config),
         new RDAPHttpQuery(config));
   }
+
+  /**
+   * Validator sharing an already loaded dataset service, e.g. when validating many URIs in the same
+   * process.
+   */
+  public RDAPHttpValidator(RDAPValidatorConfiguration config, FileSystem fileSystem,
+      RDAPDatasetService datasetService) {
+    super(config, fileSystem, new RDAPHttpQueryTypeProcessor(config),
+        new RDAPHttpQuery(config),
+        new ConfigurationFileParserImpl(),
+        new RDAPValidatorResultsImpl(),
+        datasetService);
+  }
 }
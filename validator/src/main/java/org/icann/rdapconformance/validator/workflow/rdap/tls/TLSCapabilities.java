@@ -0,0 +1,46 @@
+package org.icann.rdapconformance.validator.workflow.rdap.tls;
+
+import java.util.List;
+
+/**
+ * The protocols a TLS server accepted, one handshake per protocol version.
+ */
+public class TLSCapabilities {
+
+  private final String host;
+  private final int port;
+  private final List<TLSHandshake> handshakes;
+
+  public TLSCapabilities(String host, int port, List<TLSHandshake> handshakes) {
+    this.host = host;
+    this.port = port;
+    this.handshakes = List.copyOf(handshakes);
+  }
+
+  public String getHost() {
+    return host;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  public List<TLSHandshake> getHandshakes() {
+    return handshakes;
+  }
+
+  /**
+   * Whether a handshake where only this protocol was enabled succeeded.
+   */
+  public boolean offers(String protocol) {
+    return handshakes.stream()
+        .anyMatch(h -> h.isNegotiated() && protocol.equals(h.getProtocol()));
+  }
+
+  /**
+   * Whether at least one handshake succeeded.
+   */
+  public boolean isReachable() {
+    return handshakes.stream().anyMatch(TLSHandshake::isNegotiated);
+  }
+}
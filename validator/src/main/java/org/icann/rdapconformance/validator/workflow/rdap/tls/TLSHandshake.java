@@ -0,0 +1,77 @@
+package org.icann.rdapconformance.validator.workflow.rdap.tls;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a TLS handshake where a single protocol version was enabled.
+ */
+public class TLSHandshake {
+
+  private final String requestedProtocol;
+  private final String protocol;
+  private final String cipherSuite;
+  private final Duration latency;
+  private final String failure;
+
+  private TLSHandshake(String requestedProtocol, String protocol, String cipherSuite,
+      Duration latency, String failure) {
+    this.requestedProtocol = requestedProtocol;
+    this.protocol = protocol;
+    this.cipherSuite = cipherSuite;
+    this.latency = latency;
+    this.failure = failure;
+  }
+
+  public static TLSHandshake negotiated(String requestedProtocol, String protocol,
+      String cipherSuite, Duration latency) {
+    return new TLSHandshake(requestedProtocol, protocol, cipherSuite, latency, null);
+  }
+
+  public static TLSHandshake failed(String requestedProtocol, String failure, Duration latency) {
+    return new TLSHandshake(requestedProtocol, null, null, latency, failure);
+  }
+
+  public String getRequestedProtocol() {
+    return requestedProtocol;
+  }
+
+  /**
+   * The negotiated protocol, null if the handshake failed.
+   */
+  public String getProtocol() {
+    return protocol;
+  }
+
+  /**
+   * The negotiated cipher suite, null if the handshake failed.
+   */
+  public String getCipherSuite() {
+    return cipherSuite;
+  }
+
+  public Duration getLatency() {
+    return latency;
+  }
+
+  /**
+   * Why the handshake failed, null if it succeeded.
+   */
+  public String getFailure() {
+    return failure;
+  }
+
+  public boolean isNegotiated() {
+    return protocol != null;
+  }
+
+  @Override
+  public String toString() {
+    return "TLSHandshake{"
+        + "requestedProtocol='" + requestedProtocol + '\''
+        + ", protocol='" + protocol + '\''
+        + ", cipherSuite='" + cipherSuite + '\''
+        + ", latency=" + latency
+        + ", failure='" + failure + '\''
+        + '}';
+  }
+}
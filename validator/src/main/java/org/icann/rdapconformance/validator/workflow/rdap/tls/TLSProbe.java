@@ -0,0 +1,187 @@
+package org.icann.rdapconformance.validator.workflow.rdap.tls;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import org.icann.rdapconformance.validator.jfr.TlsHandshakeEvent;
+import org.icann.rdapconformance.validator.workflow.rdap.ExpiringFutureCache;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Probe of the TLS protocols offered by a server: one handshake per protocol version, each with
+ * only that version enabled, made concurrently.
+ *
+ * <p>Probes are cached by (host, port) for the whole process, so that batch runs against RDAP
+ * servers hosted by the same providers do not probe them again. Probes of unreachable servers are
+ * not cached, and at most {@value #CACHE_CAPACITY} servers are. At most {@value #MAX_THREADS} handshakes are made at a time, the others wait for a
+ * thread. A protocol disabled in the JVM (see the jdk.tls.disabledAlgorithms security
+ * property, which disables SSLv3 by default) cannot be negotiated, hence is never reported as
+ * offered.</p>
+ */
+public class TLSProbe {
+
+  private static final Logger logger = LoggerFactory.getLogger(TLSProbe.class);
+
+  static final List<String> PROTOCOLS = List.of("SSLv3", "TLSv1", "TLSv1.1", "TLSv1.2",
+      "TLSv1.3");
+
+  static final Duration CACHE_TTL = Duration.ofHours(1);
+
+  static final int CACHE_CAPACITY = 1_000;
+
+  /**
+   * Enough to probe four servers at once.
+   */
+  static final int MAX_THREADS = 20;
+
+  private static final TLSProbe instance = new TLSProbe(new SocketHandshaker(), newExecutor(),
+      System::nanoTime);
+
+  private final Handshaker handshaker;
+  private final Executor executor;
+  private final ExpiringFutureCache<Key, TLSCapabilities> cache;
+
+  TLSProbe(Handshaker handshaker, Executor executor, LongSupplier nanoClock) {
+    this.handshaker = handshaker;
+    this.executor = executor;
+    this.cache = new ExpiringFutureCache<>(
+        capabilities -> capabilities.isReachable() ? CACHE_TTL : Duration.ZERO, CACHE_CAPACITY,
+        nanoClock);
+  }
+
+  private static Executor newExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+          Thread thread = new Thread(r, "tls-probe");
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * The probe shared by the process.
+   */
+  public static TLSProbe getDefault() {
+    return instance;
+  }
+
+  /**
+   * Probe the server, unless it was probed recently, with this connection and read timeout in
+   * seconds.
+   */
+  public CompletableFuture<TLSCapabilities> probe(String host, int port, int timeout) {
+    int timeoutMillis = (int) Duration.ofSeconds(timeout).toMillis();
+    return cache.get(new Key(host, port), key -> handshakeAll(key, timeoutMillis));
+  }
+
+  private CompletableFuture<TLSCapabilities> handshakeAll(Key key, int timeoutMillis) {
+    List<CompletableFuture<TLSHandshake>> handshakes = new ArrayList<>();
+    for (String protocol : PROTOCOLS) {
+      handshakes.add(CompletableFuture.supplyAsync(RDAPValidationMetrics.propagate(() -> {
+        try (Timer ignored = RDAPValidationMetrics.timer("tlsHandshake." + protocol)) {
+          return handshaker.handshake(key.host, key.port, protocol, timeoutMillis);
+        }
+      }), executor)
+          .exceptionally(t -> TLSHandshake.failed(protocol, t.toString(), Duration.ZERO)));
+    }
+    return CompletableFuture.allOf(handshakes.toArray(new CompletableFuture[0]))
+        .thenApply(v -> {
+          List<TLSHandshake> results = new ArrayList<>();
+          for (CompletableFuture<TLSHandshake> handshake : handshakes) {
+            results.add(handshake.join());
+          }
+          return new TLSCapabilities(key.host, key.port, results);
+        });
+  }
+
+  /**
+   * A TLS handshake where only the given protocol is enabled; failures are returned, not thrown.
+   */
+  interface Handshaker {
+
+    TLSHandshake handshake(String host, int port, String protocol, int timeoutMillis);
+  }
+
+  static class SocketHandshaker implements Handshaker {
+
+    @Override
+    public TLSHandshake handshake(String host, int port, String protocol, int timeoutMillis) {
+      TlsHandshakeEvent event = new TlsHandshakeEvent();
+      event.begin();
+      long start = System.nanoTime();
+      TLSHandshake handshake;
+      try (Socket socket = new Socket()) {
+        socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+        socket.setSoTimeout(timeoutMillis);
+        try (SSLSocket sslSocket = (SSLSocket) SSLContext.getDefault().getSocketFactory()
+            .createSocket(socket, host, port, false)) {
+          sslSocket.setEnabledProtocols(new String[]{protocol});
+          sslSocket.startHandshake();
+          SSLSession session = sslSocket.getSession();
+          handshake = TLSHandshake.negotiated(protocol, session.getProtocol(),
+              session.getCipherSuite(), Duration.ofNanos(System.nanoTime() - start));
+        }
+      } catch (IOException | IllegalArgumentException | NoSuchAlgorithmException e) {
+        logger.debug("{} handshake with {}:{} failed", protocol, host, port, e);
+        handshake = TLSHandshake.failed(protocol, e.toString(),
+            Duration.ofNanos(System.nanoTime() - start));
+      }
+      if (event.shouldCommit()) {
+        event.host = host;
+        event.port = port;
+        event.requestedProtocol = protocol;
+        event.protocol = handshake.getProtocol();
+        event.cipherSuite = handshake.getCipherSuite();
+        event.commit();
+      }
+      return handshake;
+    }
+  }
+
+  private static class Key {
+
+    private final String host;
+    private final int port;
+
+    private Key(String host, int port) {
+      this.host = host;
+      this.port = port;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return port == key.port && host.equals(key.host);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(host, port);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package org.icann.rdapconformance.validator.customvalidator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+public class DomainNameClassifierTest {
+
+  private final DomainNameClassifier classifier = DomainNameClassifier.getInstance();
+
+  @Test
+  public void testGetErrors_ValidDomain() {
+    assertThat(classifier.getErrors("test.example")).isEmpty();
+    assertThat(classifier.getErrors("xn--caf-dma.example")).isEmpty();
+  }
+
+  @Test
+  public void testGetErrors_LabelTooLong() {
+    assertThat(classifier.getErrors("a".repeat(64) + ".example"))
+        .containsExactlyInAnyOrder("LABEL_TOO_LONG");
+  }
+
+  @Test
+  public void testGetErrors_DomainNameTooLong() {
+    String label = "a".repeat(63) + ".";
+    assertThat(classifier.getErrors(label.repeat(4) + "example"))
+        .containsExactlyInAnyOrder("DOMAIN_NAME_TOO_LONG");
+  }
+
+  @Test
+  public void testGetErrors_LessThanTwoLabels() {
+    assertThat(classifier.getErrors("example")).containsExactlyInAnyOrder("LESS_THAN_TWO_LABELS");
+  }
+
+  @Test
+  public void testGetErrors_MixedLabel() {
+    assertThat(classifier.getErrors("xn--abcdé.example")).isNotEmpty();
+  }
+
+  @Test
+  public void testCache_HitsMissesAndEvictions() {
+    DomainNameClassifier cached = new DomainNameClassifier(4);
+
+    cached.getErrors("a.example");
+    cached.getErrors("a.example");
+    cached.getErrors("b.example");
+    cached.getErrors("a.example");
+    cached.getErrors("c.example");
+    cached.getErrors("d.example");
+    cached.getErrors("a.example");
+    cached.getErrors("e.example");
+
+    // b.example and c.example were the least recently used ones
+    DomainNameClassifier.Stats stats = cached.getStats();
+    assertThat(stats.getHits()).isEqualTo(3);
+    assertThat(stats.getMisses()).isEqualTo(5);
+    assertThat(stats.getEvictions()).isEqualTo(2);
+    assertThat(stats.getSize()).isEqualTo(3);
+    assertThat(stats.getHitRate()).isEqualTo(0.375);
+
+    cached.getErrors("a.example");
+    cached.getErrors("b.example");
+    assertThat(cached.getStats().since(stats).getHits()).isEqualTo(1);
+    assertThat(cached.getStats().since(stats).getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  public void testCache_ZeroCapacityNotCached() {
+    DomainNameClassifier cached = new DomainNameClassifier(4);
+    cached.setCapacity(0);
+
+    cached.getErrors("a.example");
+    cached.getErrors("a.example");
+
+    assertThat(cached.getStats().getHits()).isZero();
+    assertThat(cached.getStats().getSize()).isZero();
+  }
+
+  @Test
+  public void testCache_SameErrorsWhenCached() {
+    DomainNameClassifier cached = new DomainNameClassifier(10);
+
+    assertThat(cached.getErrors("example")).containsExactlyInAnyOrder("LESS_THAN_TWO_LABELS");
+    assertThat(cached.getErrors("example")).containsExactlyInAnyOrder("LESS_THAN_TWO_LABELS");
+    assertThat(cached.getErrors("a".repeat(64) + ".example"))
+        .containsExactlyInAnyOrder("LABEL_TOO_LONG");
+    assertThat(cached.getStats().getHits()).isEqualTo(1);
+  }
+
+  @Test
+  public void testHasMixedLabels() {
+    assertThat(DomainNameClassifier.hasMixedLabels("xn--abcdé.example")).isTrue();
+    assertThat(DomainNameClassifier.hasMixedLabels("xn--caf-dma.café")).isTrue();
+    assertThat(DomainNameClassifier.hasMixedLabels("xn--caf-dma.example")).isFalse();
+    assertThat(DomainNameClassifier.hasMixedLabels("café.example")).isFalse();
+    assertThat(DomainNameClassifier.hasMixedLabels("example")).isFalse();
+  }
+}
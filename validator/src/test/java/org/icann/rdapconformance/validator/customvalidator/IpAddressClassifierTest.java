@@ -0,0 +1,53 @@
+package org.icann.rdapconformance.validator.customvalidator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.net.InetAddress;
+import org.icann.rdapconformance.validator.customvalidator.IpAddressClassifier.Classification;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.Ipv4AddressSpace;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.SpecialIPv4Addresses;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class IpAddressClassifierTest {
+
+  private final Ipv4AddressSpace addressSpace = mock(Ipv4AddressSpace.class);
+  private final SpecialIPv4Addresses specialAddresses = mock(SpecialIPv4Addresses.class);
+  private final IpAddressClassifier classifier =
+      new IpAddressClassifier(addressSpace, specialAddresses);
+
+  @BeforeMethod
+  public void setUp() {
+    doReturn(false).when(addressSpace).isInvalid(any(byte[].class));
+    doReturn(false).when(specialAddresses).isInvalid(any(byte[].class));
+  }
+
+  @Test
+  public void testClassify_Allocated() throws Exception {
+    assertThat(classifier.classify(InetAddress.getByName("192.0.2.1")))
+        .isEqualTo(Classification.ALLOCATED);
+  }
+
+  @Test
+  public void testClassify_NotAllocated() {
+    doReturn(true).when(addressSpace).isInvalid(any(byte[].class));
+    doReturn(true).when(specialAddresses).isInvalid(any(byte[].class));
+    assertThat(classifier.classify("192.0.2.1")).isEqualTo(Classification.NOT_ALLOCATED);
+  }
+
+  @Test
+  public void testClassify_Special() {
+    doReturn(true).when(specialAddresses).isInvalid(any(byte[].class));
+    assertThat(classifier.classify(new byte[]{(byte) 192, 0, 2, 1}))
+        .isEqualTo(Classification.SPECIAL);
+  }
+
+  @Test
+  public void testClassify_Invalid() {
+    assertThat(classifier.classify("not an ip")).isEqualTo(Classification.INVALID);
+    assertThat(classifier.classify(new byte[]{1, 2, 3})).isEqualTo(Classification.INVALID);
+  }
+}
@@ -27,8 +27,8 @@ public abstract class IpFormatValidatorTest extends FormatValidatorTest<IpFormat
 
   @BeforeMethod
   public void setUp() {
-    doReturn(false).when(ipFormatValidator.getIpAddressesValidator()).isInvalid(any());
-    doReturn(false).when(ipFormatValidator.getSpecialIpAddresses()).isInvalid(any());
+    doReturn(false).when(ipFormatValidator.getIpAddressesValidator()).isInvalid(any(byte[].class));
+    doReturn(false).when(ipFormatValidator.getSpecialIpAddresses()).isInvalid(any(byte[].class));
   }
 
   @Test
@@ -49,7 +49,7 @@ public abstract class IpFormatValidatorTest extends FormatValidatorTest<IpFormat
 
   @Test
   public void validate_isInSpecialRegistry() {
-    doReturn(true).when(ipFormatValidator.getSpecialIpAddresses()).isInvalid(any());
+    doReturn(true).when(ipFormatValidator.getSpecialIpAddresses()).isInvalid(any(byte[].class));
     assertThat(ipFormatValidator.validate(ipAddress)).contains(ipFormatValidator.getPartOfSpecialAddressesSpaceError());
   }
 }
\ No newline at end of file
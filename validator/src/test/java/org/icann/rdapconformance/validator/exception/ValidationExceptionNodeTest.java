@@ -0,0 +1,66 @@
+package org.icann.rdapconformance.validator.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.testng.annotations.Test;
+
+public class ValidationExceptionNodeTest {
+
+  private static final Schema SCHEMA = SchemaLoader.load(new JSONObject("{"
+      + "\"type\":\"object\","
+      + "\"properties\":{"
+      + "\"handle\":{\"type\":\"string\"},"
+      + "\"port43\":{\"oneOf\":[{\"type\":\"string\"},{\"type\":\"integer\",\"minimum\":0}]}"
+      + "}}"));
+
+  private ValidationException validate(String json) {
+    return catchThrowableOfType(() -> SCHEMA.validate(new JSONObject(json)),
+        ValidationException.class);
+  }
+
+  @Test
+  public void testFlatten_LeavesWithParents() {
+    ValidationException e = validate("{\"handle\":1,\"port43\":-1}");
+
+    List<ValidationExceptionNode> leaves = ValidationExceptionNode.flatten(e);
+
+    assertThat(leaves).extracting(ValidationExceptionNode::getPointerToViolation)
+        .containsExactlyInAnyOrder("#/handle", "#/port43", "#/port43");
+    List<ValidationExceptionNode> port43 = leaves.stream()
+        .filter(leaf -> leaf.getPointerToViolation().equals("#/port43"))
+        .collect(Collectors.toList());
+    assertThat(port43).extracting(ValidationExceptionNode::getKeyword)
+        .containsExactly("type", "minimum");
+    ValidationExceptionNode oneOf = port43.get(0).getParentException();
+    assertThat(oneOf.getKeyword()).isEqualTo("oneOf");
+    assertThat(port43.get(1).getParentException()).isSameAs(oneOf);
+    assertThat(oneOf.getParentException().getParentException()).isNull();
+  }
+
+  @Test
+  public void testFlatten_SingleViolation() {
+    ValidationException e = validate("{\"handle\":1}");
+
+    List<ValidationExceptionNode> leaves = ValidationExceptionNode.flatten(e);
+
+    assertThat(leaves).hasSize(1);
+    assertThat(leaves.get(0).getMessage()).isEqualTo(e.getMessage());
+    assertThat(leaves.get(0).getParentException()).isNull();
+  }
+
+  @Test
+  public void testGetChildren_BuiltOnce() {
+    ValidationExceptionNode root = new ValidationExceptionNode(null,
+        validate("{\"handle\":1,\"port43\":-1}"));
+
+    assertThat(root.getChildren()).hasSize(2);
+    assertThat(root.getChildren()).isSameAs(root.getChildren());
+  }
+}
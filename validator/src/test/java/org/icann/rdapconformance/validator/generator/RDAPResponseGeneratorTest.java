@@ -0,0 +1,89 @@
+package org.icann.rdapconformance.validator.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.icann.rdapconformance.validator.SchemaValidator;
+import org.icann.rdapconformance.validator.generator.RDAPResponseGenerator.GeneratedResponse;
+import org.icann.rdapconformance.validator.generator.RDAPResponseGenerator.ResponseType;
+import org.icann.rdapconformance.validator.schemavalidator.RDAPDatasetServiceMock;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationResult;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResultsImpl;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class RDAPResponseGeneratorTest {
+
+  private RDAPDatasetService datasets;
+  private RDAPValidatorResults results;
+
+  @BeforeMethod
+  public void setUp() {
+    datasets = new RDAPDatasetServiceMock();
+    datasets.download(true);
+    results = new RDAPValidatorResultsImpl();
+  }
+
+  @DataProvider(name = "types")
+  public static Object[][] types() {
+    return new Object[][]{
+        {ResponseType.DOMAIN, "rdap_domain.json"},
+        {ResponseType.ENTITY, "rdap_entity_without_asEventActor.json"},
+        {ResponseType.NAMESERVER, "rdap_nameserver.json"},
+        {ResponseType.NAMESERVERS_SEARCH, "rdap_nameservers.json"}
+    };
+  }
+
+  @Test(dataProvider = "types")
+  public void testGenerate_SchemaValid(ResponseType type, String schema) {
+    GeneratedResponse response = RDAPResponseGenerator.builder()
+        .type(type)
+        .entities(3)
+        .entityDepth(3)
+        .vcardProperties(8)
+        .events(5)
+        .searchResults(50)
+        .build()
+        .generate();
+
+    assertThat(response.getViolations()).isEmpty();
+    assertThat(new SchemaValidator(schema, results, datasets).validate(response.toString()))
+        .as(results.getAll().toString())
+        .isTrue();
+  }
+
+  @Test(dataProvider = "types")
+  public void testGenerate_WithViolations(ResponseType type, String schema) {
+    GeneratedResponse response = RDAPResponseGenerator.builder()
+        .type(type)
+        .entities(3)
+        .entityDepth(3)
+        .searchResults(200)
+        .violationRate(1)
+        .seed(42)
+        .build()
+        .generate();
+
+    assertThat(response.getViolations()).isNotEmpty();
+    assertThat(new SchemaValidator(schema, results, datasets).validate(response.toString()))
+        .isFalse();
+    Set<Integer> codes = results.getAll().stream()
+        .map(RDAPValidationResult::getCode)
+        .collect(Collectors.toSet());
+    assertThat(codes).containsAll(response.getExpectedCodes());
+  }
+
+  @Test
+  public void testGenerate_SameSeedSameResponse() {
+    RDAPResponseGenerator.Builder builder = RDAPResponseGenerator.builder()
+        .violationRate(0.3)
+        .seed(7);
+
+    assertThat(builder.build().generate().toString())
+        .isEqualTo(builder.build().generate().toString());
+  }
+}
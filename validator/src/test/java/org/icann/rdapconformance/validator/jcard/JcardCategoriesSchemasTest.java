@@ -1,6 +1,7 @@
 package org.icann.rdapconformance.validator.jcard;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
@@ -9,6 +10,7 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 import org.testng.annotations.Ignore;
@@ -16,7 +18,7 @@ import org.testng.annotations.Test;
 
 public class JcardCategoriesSchemasTest {
 
-  JcardCategoriesSchemas jcardSchemas = new JcardCategoriesSchemas();
+  JcardCategoriesSchemas jcardSchemas = JcardCategoriesSchemas.getInstance();
 
   @Ignore
   @Test
@@ -291,4 +293,17 @@ public class JcardCategoriesSchemasTest {
     assertThat(jcardSchemas.getCategory(category).toString())
         .contains("\"const\":\"" + category + "\"");
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testGetCategory_CompiledOnce() {
+    assertThat(jcardSchemas.getCategory("fn")).isSameAs(jcardSchemas.getCategory("fn"));
+    assertThat(jcardSchemas.getCategory("x-foo")).isSameAs(jcardSchemas.getCategory("x-bar"));
+  }
+
+  @Test
+  public void testGetCategory_Unknown() {
+    assertThat(jcardSchemas.hasCategory("unknown")).isFalse();
+    assertThatThrownBy(() -> jcardSchemas.getCategory("unknown"))
+        .isInstanceOf(JSONException.class);
+  }
+}
@@ -0,0 +1,74 @@
+package org.icann.rdapconformance.validator.jcard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.json.JSONArray;
+import org.testng.annotations.Test;
+
+public class VcardTest {
+
+  private static final String VCARD_ARRAY = "[\"vcard\",["
+      + "[\"version\",{},\"text\",\"4.0\"],"
+      + "[\"fn\",{},\"text\",\"Joe User\"],"
+      + "[\"tel\",{\"type\":[\"voice\",\"work\"]},\"uri\",\"tel:+1.5555555555\"],"
+      + "[\"tel\",{\"type\":\"fax\"},\"uri\",\"tel:+1.5555555556\"],"
+      + "[\"adr\",{\"cc\":\"CA\"},\"text\",[\"\",\"\",\"Street\",\"City\",\"QC\",\"G1V\",\"\"]]"
+      + "]]";
+
+  @Test
+  public void testParse_PropertiesIndexedByName() {
+    Vcard vcard = Vcard.parse(new JSONArray(VCARD_ARRAY), "#/entities/0/vcardArray");
+
+    assertThat(vcard.isWellFormed()).isTrue();
+    assertThat(vcard.getProperties()).extracting(VcardProperty::getName)
+        .containsExactly("version", "fn", "tel", "tel", "adr");
+    assertThat(vcard.get("tel")).extracting(VcardProperty::getJsonPointer)
+        .containsExactly("#/entities/0/vcardArray/1/2", "#/entities/0/vcardArray/1/3");
+    assertThat(vcard.get("tel")).extracting(tel -> tel.getParameter("type"))
+        .containsExactly("voice", "fax");
+    assertThat(vcard.has("email")).isFalse();
+    assertThat(vcard.get("email")).isEmpty();
+  }
+
+  @Test
+  public void testParse_PropertyMembers() {
+    VcardProperty adr = Vcard.parse(new JSONArray(VCARD_ARRAY), "#/vcardArray").get("adr").get(0);
+
+    assertThat(adr.hasParameter("cc")).isTrue();
+    assertThat(adr.getParameter("cc")).isEqualTo("CA");
+    assertThat(adr.getParameter("type")).isNull();
+    assertThat(adr.getValueType()).isEqualTo("text");
+    assertThat(adr.getValue()).isInstanceOf(JSONArray.class);
+    assertThat(adr.toString()).isEqualTo(
+        "[\"adr\",{\"cc\":\"CA\"},\"text\",[\"\",\"\",\"Street\",\"City\",\"QC\",\"G1V\",\"\"]]");
+  }
+
+  @Test
+  public void testParse_IncompleteProperty() {
+    VcardProperty tel = Vcard.parse(new JSONArray("[\"vcard\",[[\"tel\"]]]"), "#/vcardArray")
+        .get("tel").get(0);
+
+    assertThat(tel.getParameters()).isNull();
+    assertThat(tel.getParameter("type")).isNull();
+    assertThat(tel.getValueType()).isNull();
+    assertThat(tel.getValue()).isNull();
+  }
+
+  @Test
+  public void testParse_MalformedPropertiesLeftOut() {
+    Vcard vcard = Vcard.parse(
+        new JSONArray("[\"vcard\",[[\"fn\",{},\"text\",\"Joe\"],\"email\",[{}],[\"tel\"]]]"),
+        "#/vcardArray");
+
+    assertThat(vcard.isWellFormed()).isFalse();
+    assertThat(vcard.getProperties()).extracting(VcardProperty::getName)
+        .containsExactly("fn", "tel");
+  }
+
+  @Test
+  public void testParse_MissingOrNotAnArray() {
+    assertThat(Vcard.parse(null, "#/vcardArray").isWellFormed()).isTrue();
+    assertThat(Vcard.parse(null, "#/vcardArray").getProperties()).isEmpty();
+    assertThat(Vcard.parse("vcard", "#/vcardArray").isWellFormed()).isFalse();
+  }
+}
@@ -0,0 +1,93 @@
+package org.icann.rdapconformance.validator.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResultsImpl;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPHttpRequest;
+import org.icann.rdapconformance.validator.workflow.rdap.http.StandInRdapServer;
+import org.testng.annotations.Test;
+
+public class RDAPFlightRecordingTest {
+
+  @Test
+  public void testStart_RecordsValidationAndHttpRequestEvents() throws Exception {
+    StandInRdapServer server = StandInRdapServer.builder().body("{\"test\": true}").start();
+    Path destination = Files.createTempFile("rdapct", ".jfr");
+    try {
+      Recording recording = RDAPFlightRecording.start(destination);
+      new ProfileValidation(new RDAPValidatorResultsImpl()) {
+        @Override
+        public String getGroupName() {
+          return "testGroup";
+        }
+
+        @Override
+        protected boolean doValidate() {
+          return false;
+        }
+      }.validate();
+      RDAPHttpRequest.makeHttpGetRequest(server.getUri(0), 10);
+      recording.stop();
+      recording.close();
+
+      List<RecordedEvent> events = RecordingFile.readAllEvents(destination);
+      assertThat(events)
+          .filteredOn(e -> e.getEventType().getName()
+              .equals(RDAPFlightRecording.EVENT_PREFIX + "Validation"))
+          .singleElement()
+          .satisfies(e -> {
+            assertThat(e.getString("group")).isEqualTo("testGroup");
+            assertThat(e.getBoolean("valid")).isFalse();
+          });
+      assertThat(events)
+          .filteredOn(e -> e.getEventType().getName()
+              .equals(RDAPFlightRecording.EVENT_PREFIX + "HttpRequest"))
+          .singleElement()
+          .satisfies(e -> {
+            assertThat(e.getString("uri")).isEqualTo(server.getUri(0).toString());
+            assertThat(e.getString("method")).isEqualTo("GET");
+            assertThat(e.getInt("status")).isEqualTo(200);
+            assertThat(e.getLong("bytes")).isEqualTo(14);
+          });
+    } finally {
+      server.stop();
+      Files.deleteIfExists(destination);
+    }
+  }
+
+  @Test
+  public void testRecord_WrittenWhenTheTaskThrows() throws Exception {
+    Path destination = Files.createTempFile("rdapct", ".jfr");
+    try {
+      assertThatIllegalStateException().isThrownBy(() -> RDAPFlightRecording.record(destination,
+          () -> {
+            new ProfileValidation(new RDAPValidatorResultsImpl()) {
+              @Override
+              public String getGroupName() {
+                return "failingGroup";
+              }
+
+              @Override
+              protected boolean doValidate() {
+                return false;
+              }
+            }.validate();
+            throw new IllegalStateException("validation failed");
+          }));
+
+      assertThat(RecordingFile.readAllEvents(destination))
+          .anyMatch(e -> e.getEventType().getName()
+              .equals(RDAPFlightRecording.EVENT_PREFIX + "Validation"));
+    } finally {
+      Files.deleteIfExists(destination);
+    }
+  }
+}
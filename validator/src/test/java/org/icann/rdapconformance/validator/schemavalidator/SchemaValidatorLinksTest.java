@@ -1,6 +1,9 @@
 package org.icann.rdapconformance.validator.schemavalidator;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.List;
 import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.LinkRelations;
@@ -58,6 +61,16 @@ public class SchemaValidatorLinksTest extends SchemaValidatorForArrayTest {
         "The JSON value is not included as a Relation Name in linkRelations.");
   }
 
+  @Test
+  public void relNotInEnum_CodeIgnored() {
+    doReturn(true).when(datasets.get(LinkRelations.class)).isInvalid(WRONG_ENUM_VALUE);
+    replaceArrayProperty("rel", WRONG_ENUM_VALUE);
+    schemaValidator.setIgnoredCodes(List.of(-10604));
+
+    assertThat(schemaValidator.validate(jsonObject.toString())).isTrue();
+    verify(datasets.get(LinkRelations.class), never()).isInvalid(WRONG_ENUM_VALUE);
+  }
+
   /**
    * 7.2.2.2.5.
    */
@@ -0,0 +1,119 @@
+package org.icann.rdapconformance.validator.schemavalidator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.icann.rdapconformance.validator.schemavalidator.SchemaValidatorTest.getResource;
+
+import java.io.IOException;
+import java.util.List;
+import org.icann.rdapconformance.validator.SchemaValidator;
+import org.icann.rdapconformance.validator.SearchResultsSchemaValidator;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationBudget;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResults;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidatorResultsImpl;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SearchResultsSchemaValidatorTest {
+
+  private final RDAPDatasetService datasets = new RDAPDatasetServiceMock();
+  private JSONObject jsonObject;
+  private JSONObject nameserver;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    jsonObject = new JSONObject(getResource("/validators/nameservers/valid.json"));
+    nameserver = jsonObject.getJSONArray("nameserverSearchResults").getJSONObject(0);
+  }
+
+  private void givenNameservers(JSONObject... nameservers) {
+    jsonObject.put("nameserverSearchResults", new JSONArray(List.of(nameservers)));
+  }
+
+  private void assertSameResultsAsWholeValidation() {
+    String content = jsonObject.toString();
+    RDAPValidatorResults wholeResults = new RDAPValidatorResultsImpl();
+    boolean wholeValid = new SchemaValidator("rdap_nameservers.json", wholeResults, datasets)
+        .validate(content);
+    RDAPValidatorResults results = new RDAPValidatorResultsImpl();
+    boolean valid = new SearchResultsSchemaValidator("rdap_nameservers.json",
+        "nameserverSearchResults", results, datasets).validate(content);
+
+    assertThat(valid).isEqualTo(wholeValid);
+    assertThat(results.getAll()).containsExactlyElementsOf(wholeResults.getAll());
+    assertThat(results.getGroupOk()).containsExactlyElementsOf(wholeResults.getGroupOk());
+    assertThat(results.getGroupErrorWarning())
+        .containsExactlyElementsOf(wholeResults.getGroupErrorWarning());
+  }
+
+  @Test
+  public void testValidate_FailEarly_StopsAtFirstViolation() {
+    JSONObject unknownKey = new JSONObject(nameserver.toString()).put("unknown", "value");
+    JSONObject invalidLdhName = new JSONObject(nameserver.toString()).put("ldhName", "ns_1.");
+    givenNameservers(nameserver, unknownKey, invalidLdhName);
+    RDAPValidatorConfiguration config = mock(RDAPValidatorConfiguration.class);
+    doReturn(1).when(config).getMaxErrors();
+    RDAPValidationBudget budget = new RDAPValidationBudget(config, null);
+    RDAPValidatorResults results = new RDAPValidatorResultsImpl();
+    SchemaValidator validator = new SearchResultsSchemaValidator("rdap_nameservers.json",
+        "nameserverSearchResults", results, datasets);
+    validator.setBudget(budget);
+
+    assertThat(validator.validate(jsonObject.toString())).isFalse();
+    assertThat(results.getAll()).isNotEmpty();
+    assertThat(budget.getTruncation()).isEqualTo(RDAPValidationBudget.MAX_ERRORS);
+  }
+
+  @Test
+  public void testValidate_ValidElements() {
+    givenNameservers(nameserver,
+        new JSONObject(nameserver.toString()).put("ldhName", "ns2.example.com"));
+
+    assertSameResultsAsWholeValidation();
+  }
+
+  @Test
+  public void testValidate_InvalidElements() {
+    JSONObject unknownKey = new JSONObject(nameserver.toString()).put("unknown", "value");
+    JSONObject invalidLdhName = new JSONObject(nameserver.toString()).put("ldhName", "ns_1.");
+    JSONObject wrongEvents = new JSONObject(nameserver.toString()).put("events", 0);
+    givenNameservers(nameserver, unknownKey, invalidLdhName, wrongEvents, unknownKey);
+
+    assertSameResultsAsWholeValidation();
+  }
+
+  @Test
+  public void testValidate_InvalidFirstElementAndEnvelope() {
+    JSONObject invalidLdhName = new JSONObject(nameserver.toString()).put("ldhName", 0);
+    givenNameservers(invalidLdhName, nameserver);
+    jsonObject.put("rdapConformance", 0);
+
+    assertSameResultsAsWholeValidation();
+  }
+
+  @Test
+  public void testValidate_NestedNoticesAndEvents() throws IOException {
+    JSONObject entity = new JSONObject(getResource("/validators/entity/valid.json"))
+        .put("notices", jsonObject.get("notices"));
+    JSONObject withEntity = new JSONObject(nameserver.toString())
+        .put("entities", List.of(entity));
+    JSONArray events = jsonObject.getJSONArray("events");
+    JSONObject duplicateEvents = new JSONObject(withEntity.toString())
+        .put("events", new JSONArray().put(events.get(0)).put(events.get(0)));
+    givenNameservers(withEntity, nameserver, withEntity, duplicateEvents);
+
+    assertSameResultsAsWholeValidation();
+  }
+
+  @Test
+  public void testValidate_NoElement() {
+    givenNameservers();
+
+    assertSameResultsAsWholeValidation();
+  }
+}
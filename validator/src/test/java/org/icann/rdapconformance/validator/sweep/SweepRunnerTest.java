@@ -0,0 +1,138 @@
+package org.icann.rdapconformance.validator.sweep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.icann.rdapconformance.validator.sweep.SweepTarget.Kind;
+import org.icann.rdapconformance.validator.workflow.ValidatorWorkflow;
+import org.json.JSONObject;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SweepRunnerTest {
+
+  private Path reportPath;
+  private List<SweepTarget> targets;
+  private final Map<String, AtomicInteger> inProgressByHost = new ConcurrentHashMap<>();
+  private final AtomicInteger inProgress = new AtomicInteger();
+  private final AtomicInteger maxInProgress = new AtomicInteger();
+  private final AtomicInteger maxInProgressOnHost = new AtomicInteger();
+  private final List<String> validated = new ArrayList<>();
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    reportPath = Files.createTempFile("sweep", ".ndjson");
+    Files.delete(reportPath);
+    targets = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      targets.add(new SweepTarget(Kind.REGISTRY, "tld" + i,
+          URI.create("https://rdap" + i % 3 + ".example/domain/nic.tld" + i), false));
+    }
+    inProgressByHost.clear();
+    inProgress.set(0);
+    maxInProgress.set(0);
+    maxInProgressOnHost.set(0);
+    validated.clear();
+  }
+
+  private ValidatorWorkflow validator(SweepTarget target) {
+    return new ValidatorWorkflow() {
+      @Override
+      public int validate() {
+        synchronized (validated) {
+          validated.add(target.getId());
+        }
+        AtomicInteger onHost = inProgressByHost.computeIfAbsent(target.getHost(),
+            host -> new AtomicInteger());
+        maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+        maxInProgressOnHost.accumulateAndGet(onHost.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(10);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        onHost.decrementAndGet();
+        inProgress.decrementAndGet();
+        if (target.getName().equals("tld5")) {
+          throw new IllegalStateException("boom");
+        }
+        return target.getName().equals("tld4") ? 10 : 0;
+      }
+
+      @Override
+      public String getResultsPath() {
+        return "results/" + target.getName() + ".json";
+      }
+    };
+  }
+
+  @Test
+  public void testRun_ConcurrencyLimitsAndReport() throws Exception {
+    try (SweepReport report = SweepReport.open(reportPath, false)) {
+      new SweepRunner(report, this::validator, 3, 1).run(targets);
+
+      assertThat(report.getOutcomes())
+          .containsExactly(Map.entry("CONNECTION_FAILED", 1), Map.entry("ERROR", 1),
+              Map.entry("SUCCESS", 10));
+    }
+
+    assertThat(validated).hasSize(12);
+    assertThat(maxInProgress.get()).isLessThanOrEqualTo(3);
+    assertThat(maxInProgressOnHost.get()).isEqualTo(1);
+    List<String> lines = Files.readAllLines(reportPath, StandardCharsets.UTF_8);
+    assertThat(lines).hasSize(12);
+    JSONObject failed = lines.stream().map(JSONObject::new)
+        .filter(entry -> entry.getString("target").equals("registry:tld5"))
+        .findFirst().orElseThrow();
+    assertThat(failed.isNull("status")).isTrue();
+    assertThat(failed.getString("error")).contains("boom");
+  }
+
+  @Test
+  public void testRun_ResumesAfterIncompleteLine() throws Exception {
+    try (SweepReport report = SweepReport.open(reportPath, false)) {
+      new SweepRunner(report, this::validator, 2, 2).run(targets.subList(0, 4));
+    }
+    // a crash while writing the next line:
+    Files.writeString(reportPath, "{\"target\":\"registry:tl", StandardCharsets.UTF_8,
+        StandardOpenOption.APPEND);
+    validated.clear();
+
+    try (SweepReport report = SweepReport.open(reportPath, false)) {
+      new SweepRunner(report, this::validator, 2, 2).run(targets);
+
+      assertThat(report.getOutcomes().values().stream().mapToInt(Integer::intValue).sum())
+          .isEqualTo(12);
+    }
+
+    assertThat(validated).hasSize(8).doesNotContain("registry:tld0", "registry:tld3");
+    List<String> lines = Files.readAllLines(reportPath, StandardCharsets.UTF_8);
+    assertThat(lines).hasSize(12);
+    lines.forEach(line -> assertThat(new JSONObject(line).has("target")).isTrue());
+  }
+
+  @Test
+  public void testRun_RestartIgnoresTheReport() throws Exception {
+    try (SweepReport report = SweepReport.open(reportPath, false)) {
+      new SweepRunner(report, this::validator, 2, 1).run(targets.subList(0, 2));
+    }
+    validated.clear();
+
+    try (SweepReport report = SweepReport.open(reportPath, true)) {
+      new SweepRunner(report, this::validator, 2, 1).run(targets.subList(0, 3));
+    }
+
+    assertThat(validated).hasSize(3);
+    assertThat(Files.readAllLines(reportPath, StandardCharsets.UTF_8)).hasSize(3);
+  }
+}
@@ -0,0 +1,68 @@
+package org.icann.rdapconformance.validator.sweep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.BootstrapDomainNameSpace;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.RegistrarId;
+import org.icann.rdapconformance.validator.workflow.rdap.dataset.model.RegistrarId.Record;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SweepTemplateTest {
+
+  private BootstrapDomainNameSpace bootstrap;
+  private RegistrarId registrarId;
+
+  @BeforeMethod
+  public void setUp() {
+    bootstrap = new BootstrapDomainNameSpace(List.of(
+        List.of(List.of("example", "test"),
+            List.of("http://rdap.example/", "https://rdap.example/rdap")),
+        List.of(List.of("fr"), List.of("https://rdap.nic.fr/")),
+        List.of(List.of("xn--p1ai", "xn--fiqs8s"), List.of("https://rdap.idn.example/"))));
+    registrarId = mock(RegistrarId.class);
+    doReturn(List.of(
+        new Record(9999, "Example Registrar", "https://rdap.registrar.example/", ""),
+        new Record(9998, "No RDAP Registrar", "", "")))
+        .when(registrarId).getRecords();
+  }
+
+  @Test
+  public void testTargets_DefaultsAndOverrides() {
+    SweepTemplate template = SweepTemplate.parse("{"
+        + "\"registries\": {\"default\": \"domain/nic.{tld}\", \"test\": \"help\"},"
+        + "\"registrars\": {\"default\": \"entity/{id}-IANA\"},"
+        + "\"thin\": [\"example\"]}");
+
+    List<SweepTarget> targets = template.targets(bootstrap, registrarId);
+
+    assertThat(targets).extracting(SweepTarget::getId)
+        .containsExactly("registrar:9999", "registry:example", "registry:test");
+    assertThat(targets).extracting(target -> target.getUri().toString())
+        .containsExactly("https://rdap.registrar.example/entity/9999-IANA",
+            "https://rdap.example/rdap/domain/nic.example",
+            "https://rdap.example/rdap/help");
+    assertThat(targets).extracting(SweepTarget::isThin).containsExactly(false, true, false);
+  }
+
+  @Test
+  public void testTargets_CountryCodesOnlyWhenListedAndNullExcludes() {
+    SweepTemplate template = SweepTemplate.parse("{"
+        + "\"registries\": {\"default\": \"help\", \"fr\": \"domain/nic.fr\", \"test\": null}}");
+
+    assertThat(template.targets(bootstrap, registrarId)).extracting(SweepTarget::getId)
+        .containsExactly("registry:example", "registry:fr");
+  }
+
+  @Test
+  public void testTargets_IdnTldsOnlyWhenListed() {
+    SweepTemplate template = SweepTemplate.parse("{"
+        + "\"registries\": {\"default\": \"help\", \"xn--fiqs8s\": \"domain/nic.{tld}\"}}");
+
+    assertThat(template.targets(bootstrap, registrarId)).extracting(SweepTarget::getId)
+        .containsExactly("registry:example", "registry:test", "registry:xn--fiqs8s");
+  }
+}
@@ -59,6 +59,16 @@ public class ResponseValidation2Dot7Dot1DotXAndRelated2Test extends
     validate52101();
   }
 
+  @Test
+  public void streetAndCityCountedAcrossAdrProperties() {
+    jsonObject.getJSONArray("entities").getJSONObject(0).getJSONArray("vcardArray")
+        .getJSONArray(1)
+        .put(new JSONArray("[\"adr\", {}, \"text\", [\"\", \"\", \"Second street\"]]"));
+    entitiesWithRole("registrant");
+    remarkMemberIs("title", "NOT REDACTED FOR PRIVACY");
+    validate();
+  }
+
   private void validateWithoutProperty(String property) {
     removeKey("$.['entities'][0]['vcardArray'][1][*][?(@ == '" + property + "')]");
     validate52101();
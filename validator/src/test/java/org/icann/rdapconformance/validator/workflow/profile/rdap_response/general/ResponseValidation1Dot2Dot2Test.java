@@ -19,8 +19,22 @@ public class ResponseValidation1Dot2Dot2Test extends ProfileJsonValidationTestBa
   @Test
   public void testValidate_ContainsJs_AddResults40100() {
     replaceValue("ldhName", "<script>var val = 'test';</script>");
-    validate(-40100, jsonObject.toString(),
+    validate(-40100, "#/ldhName:<script>var val = 'test';</script>",
         "The RDAP response contains browser executable code (e.g., JavaScript). "
             + "See section 1.2.2 of the RDAP_Response_Profile_2_1.");
   }
+
+  @Test
+  public void testValidate_NestedMarkup_AddResults40100() {
+    replaceValue("$['notices'][0]['description'][0]", "<img src=x onerror=alert(1)>");
+    validate(-40100, "#/notices/0/description/0:<img src=x onerror=alert(1)>",
+        "The RDAP response contains browser executable code (e.g., JavaScript). "
+            + "See section 1.2.2 of the RDAP_Response_Profile_2_1.");
+  }
+
+  @Test
+  public void testValidate_TextWithoutMarkup_IsOk() {
+    replaceValue("ldhName", "R&D, 1 < 2 and javascript: is only text");
+    validate();
+  }
 }
\ No newline at end of file
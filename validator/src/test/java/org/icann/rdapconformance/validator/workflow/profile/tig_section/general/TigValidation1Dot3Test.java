@@ -0,0 +1,104 @@
+package org.icann.rdapconformance.validator.workflow.profile.tig_section.general;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
+import org.icann.rdapconformance.validator.workflow.profile.ProfileValidationTestBase;
+import org.icann.rdapconformance.validator.workflow.rdap.tls.TLSCapabilities;
+import org.icann.rdapconformance.validator.workflow.rdap.tls.TLSHandshake;
+import org.icann.rdapconformance.validator.workflow.rdap.tls.TLSProbe;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class TigValidation1Dot3Test extends ProfileValidationTestBase {
+
+  private static final URI REDIRECT_URI = URI.create("https://rdap.example/domain/test.example");
+  private static final URI FINAL_URI = URI.create("https://rdap.other.example:8443/domain/test.example");
+
+  private RDAPValidatorConfiguration config;
+  private TLSProbe tlsProbe;
+  private HttpResponse<String> rdapResponse;
+
+  private static TLSCapabilities capabilities(String host, int port, String... protocols) {
+    List<TLSHandshake> handshakes = new ArrayList<>();
+    for (String protocol : protocols) {
+      handshakes.add(TLSHandshake.negotiated(protocol, protocol, "cipher", Duration.ZERO));
+    }
+    return new TLSCapabilities(host, port, handshakes);
+  }
+
+  private void givenCapabilities(URI uri, int port, String... protocols) {
+    doReturn(completedFuture(capabilities(uri.getHost(), port, protocols))).when(tlsProbe)
+        .probe(uri.getHost(), port, 10);
+  }
+
+  @BeforeMethod
+  @Override
+  public void setUp() throws IOException {
+    super.setUp();
+    config = mock(RDAPValidatorConfiguration.class);
+    tlsProbe = mock(TLSProbe.class);
+    doReturn(10).when(config).getTimeout();
+    HttpResponse<String> redirectResponse = mock(HttpResponse.class);
+    doReturn(REDIRECT_URI).when(redirectResponse).uri();
+    doReturn(Optional.empty()).when(redirectResponse).previousResponse();
+    rdapResponse = mock(HttpResponse.class);
+    doReturn(FINAL_URI).when(rdapResponse).uri();
+    doReturn(Optional.of(redirectResponse)).when(rdapResponse).previousResponse();
+    givenCapabilities(REDIRECT_URI, 443, "TLSv1.2", "TLSv1.3");
+    givenCapabilities(FINAL_URI, 8443, "TLSv1.2");
+  }
+
+  @Override
+  public ProfileValidation getProfileValidation() {
+    return new TigValidation1Dot3(rdapResponse, config, results, tlsProbe);
+  }
+
+  @Test
+  public void testValidate_EachHopHostProbed() {
+    validate();
+
+    verify(tlsProbe).probe("rdap.example", 443, 10);
+    verify(tlsProbe).probe("rdap.other.example", 8443, 10);
+  }
+
+  @Test
+  public void testValidate_SameServerProbedOnce() {
+    doReturn(REDIRECT_URI).when(rdapResponse).uri();
+
+    validate();
+
+    verify(tlsProbe, times(1)).probe(anyString(), anyInt(), anyInt());
+  }
+
+  @Test
+  public void testValidate_RedirectHopOffersSslv3_AddResult20200() {
+    givenCapabilities(REDIRECT_URI, 443, "SSLv3", "TLSv1.2");
+
+    validate(-20200, REDIRECT_URI.toString(), "The RDAP server is offering SSLv2 and/or SSLv3.");
+  }
+
+  @Test
+  public void testValidate_ServerUnreachable_IsInvalid() {
+    doReturn(completedFuture(new TLSCapabilities("rdap.other.example", 8443,
+        List.of(TLSHandshake.failed("TLSv1.2", "connection refused", Duration.ZERO)))))
+        .when(tlsProbe).probe("rdap.other.example", 8443, 10);
+
+    assertThat(getProfileValidation().validate()).isFalse();
+  }
+}
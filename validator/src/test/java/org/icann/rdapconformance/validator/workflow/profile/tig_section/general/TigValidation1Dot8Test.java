@@ -1,5 +1,6 @@
 package org.icann.rdapconformance.validator.workflow.profile.tig_section.general;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.icann.rdapconformance.validator.workflow.rdap.HttpTestingUtils.givenChainedHttpRedirects;
 import static org.mockito.ArgumentMatchers.any;
@@ -15,6 +16,7 @@ import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
 import java.net.http.HttpResponse;
+import java.util.HashSet;
 import java.util.Set;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
 import org.icann.rdapconformance.validator.workflow.profile.ProfileValidationTestBase;
@@ -42,7 +44,8 @@ public class TigValidation1Dot8Test extends ProfileValidationTestBase {
         .getByAddress(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1});
     DNSQueryResult resultV6 = mock(DNSQueryResult.class);
     doReturn(false).when(resultV6).hasError();
-    doReturn(resultV6).when(dnsQuery).makeRequest(any(Name.class), eq(Type.AAAA));
+    doReturn(completedFuture(resultV6)).when(dnsQuery)
+        .makeRequestAsync(any(Name.class), eq(Type.AAAA));
     doReturn(Set.of(ipv6AddressValid)).when(resultV6).getIPAddresses();
   }
 
@@ -50,7 +53,8 @@ public class TigValidation1Dot8Test extends ProfileValidationTestBase {
     InetAddress ipv4AddressValid = Inet4Address.getByAddress(new byte[]{127, 0, 0, 1});
     DNSQueryResult resultV4 = mock(DNSQueryResult.class);
     doReturn(false).when(resultV4).hasError();
-    doReturn(resultV4).when(dnsQuery).makeRequest(any(Name.class), eq(Type.A));
+    doReturn(completedFuture(resultV4)).when(dnsQuery)
+        .makeRequestAsync(any(Name.class), eq(Type.A));
     doReturn(Set.of(ipv4AddressValid)).when(resultV4).getIPAddresses();
   }
 
@@ -58,7 +62,8 @@ public class TigValidation1Dot8Test extends ProfileValidationTestBase {
     InetAddress ipv4AddressValid = Inet4Address.getByAddress(new byte[]{127, 0, 0, 1});
     InetAddress ipv4AddressInvalid = Inet4Address.getByAddress(new byte[]{127, 0, 0, 2});
     DNSQueryResult resultV4 = mock(DNSQueryResult.class);
-    doReturn(resultV4).when(dnsQuery).makeRequest(Name.fromString(uri.getHost()), Type.A);
+    doReturn(completedFuture(resultV4)).when(dnsQuery)
+        .makeRequestAsync(Name.fromString(uri.getHost()), Type.A);
     doReturn(false).when(resultV4).hasError();
     doReturn(Set.of(ipv4AddressInvalid, ipv4AddressValid)).when(resultV4).getIPAddresses();
     doReturn(true).when(ipValidator).isInvalid(ipv4AddressInvalid, datasetService);
@@ -67,7 +72,8 @@ public class TigValidation1Dot8Test extends ProfileValidationTestBase {
   private void givenV4QueryError() throws UnknownHostException {
     InetAddress ipv4AddressValid = Inet4Address.getByAddress(new byte[]{127, 0, 0, 1});
     DNSQueryResult resultV4 = mock(DNSQueryResult.class);
-    doReturn(resultV4).when(dnsQuery).makeRequest(any(Name.class), eq(Type.A));
+    doReturn(completedFuture(resultV4)).when(dnsQuery)
+        .makeRequestAsync(any(Name.class), eq(Type.A));
     doReturn(true).when(resultV4).hasError();
 
     doReturn(Set.of(ipv4AddressValid)).when(resultV4).getIPAddresses();
@@ -81,7 +87,8 @@ public class TigValidation1Dot8Test extends ProfileValidationTestBase {
         .getByAddress(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 2});
 
     DNSQueryResult resultV6 = mock(DNSQueryResult.class);
-    doReturn(resultV6).when(dnsQuery).makeRequest(Name.fromString(uri.getHost()), Type.AAAA);
+    doReturn(completedFuture(resultV6)).when(dnsQuery)
+        .makeRequestAsync(Name.fromString(uri.getHost()), Type.AAAA);
     doReturn(false).when(resultV6).hasError();
     doReturn(Set.of(ipv6AddressInvalid, ipv6AddressValid)).when(resultV6).getIPAddresses();
     doReturn(true).when(ipValidator).isInvalid(ipv6AddressInvalid, datasetService);
@@ -91,7 +98,8 @@ public class TigValidation1Dot8Test extends ProfileValidationTestBase {
     InetAddress ipv6AddressValid = Inet6Address
         .getByAddress(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1});
     DNSQueryResult resultV6 = mock(DNSQueryResult.class);
-    doReturn(resultV6).when(dnsQuery).makeRequest(any(Name.class), eq(Type.AAAA));
+    doReturn(completedFuture(resultV6)).when(dnsQuery)
+        .makeRequestAsync(any(Name.class), eq(Type.AAAA));
     doReturn(true).when(resultV6).hasError();
 
     doReturn(Set.of(ipv6AddressValid)).when(resultV6).getIPAddresses();
@@ -208,4 +216,25 @@ public class TigValidation1Dot8Test extends ProfileValidationTestBase {
         "The RDAP service is not provided over IPv6. See section 1.8 of the "
             + "RDAP_Technical_Implementation_Guide_2_1.");
   }
-}
\ No newline at end of file
+
+  private void givenAddresses(int type, String... addresses) throws UnknownHostException {
+    Set<InetAddress> ipAddresses = new HashSet<>();
+    for (String address : addresses) {
+      ipAddresses.add(InetAddress.getByName(address));
+    }
+    doReturn(completedFuture(new DNSQueryResult(false, ipAddresses))).when(dnsQuery)
+        .makeRequestAsync(any(Name.class), eq(type));
+  }
+
+  /**
+   * Resolved addresses are not checked against the IP datasets, as before they were classified.
+   */
+  @Test
+  public void testValidate_SpecialPurposeAndUnallocatedAddresses_IsOk() throws Exception {
+    TigValidation1Dot8.ipValidator = new IPValidator();
+    givenAddresses(Type.A, "192.168.1.1", "224.0.0.1");
+    givenAddresses(Type.AAAA, "2001:db8::1");
+
+    validate();
+  }
+}
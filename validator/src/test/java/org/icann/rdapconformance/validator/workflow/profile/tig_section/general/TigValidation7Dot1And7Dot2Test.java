@@ -41,4 +41,13 @@ public class TigValidation7Dot1And7Dot2Test extends ProfileJsonValidationTestBas
     replaceValue("$['entities'][0]['entities'][0]['vcardArray'][1][2][1]", validAlternativeType);
     validate();
   }
-}
\ No newline at end of file
+
+  /**
+   * A malformed property is only reported by the general vcard validation, as -12305.
+   */
+  @Test
+  public void malformedPropertyNotReported() {
+    replaceValue("$['entities'][0]['entities'][0]['vcardArray'][1][0]", "not-a-property");
+    validate();
+  }
+}
@@ -0,0 +1,100 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class ExpiringFutureCacheTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private List<String> loads;
+  private ExpiringFutureCache<String, Duration> cache;
+
+  @BeforeMethod
+  public void setUp() {
+    clock.set(0);
+    loads = new ArrayList<>();
+    cache = new ExpiringFutureCache<>(ttl -> ttl, 4, clock::get);
+  }
+
+  /**
+   * Loads a value which is its own time to live.
+   */
+  private Duration get(String key, Duration ttl) {
+    return cache.get(key, k -> {
+      loads.add(k);
+      return CompletableFuture.completedFuture(ttl);
+    }).join();
+  }
+
+  @Test
+  public void testGet_CachedForItsTimeToLive() {
+    get("a", Duration.ofSeconds(10));
+    clock.addAndGet(Duration.ofSeconds(9).toNanos());
+    get("a", Duration.ofSeconds(10));
+    assertThat(loads).containsExactly("a");
+
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    get("a", Duration.ofSeconds(10));
+    assertThat(loads).containsExactly("a", "a");
+  }
+
+  @Test
+  public void testGet_ConcurrentGetsShareOneLoad() {
+    CompletableFuture<Duration> loading = new CompletableFuture<>();
+    CompletableFuture<Duration> first = cache.get("a", k -> loading);
+    CompletableFuture<Duration> second = cache.get("a", k -> {
+      loads.add(k);
+      return CompletableFuture.completedFuture(Duration.ZERO);
+    });
+    loading.complete(Duration.ofSeconds(10));
+
+    assertThat(second.join()).isEqualTo(first.join());
+    assertThat(loads).isEmpty();
+  }
+
+  @Test
+  public void testGet_ZeroTimeToLiveAndFailureNotCached() {
+    get("a", Duration.ZERO);
+    cache.get("b", k -> {
+      throw new IllegalStateException();
+    });
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void testGet_ExpiredEntriesEvictedAboveCapacity() {
+    get("a", Duration.ofSeconds(1));
+    get("b", Duration.ofSeconds(1));
+    get("c", Duration.ofSeconds(10));
+    get("d", Duration.ofSeconds(10));
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    get("e", Duration.ofSeconds(10));
+
+    assertThat(cache.size()).isEqualTo(3);
+  }
+
+  @Test
+  public void testGet_SoonestExpiringEvictedAboveCapacity() {
+    get("a", Duration.ofSeconds(40));
+    get("b", Duration.ofSeconds(10));
+    get("c", Duration.ofSeconds(30));
+    get("d", Duration.ofSeconds(20));
+    CompletableFuture<Duration> loading = cache.get("e", k -> new CompletableFuture<>());
+
+    assertThat(cache.size()).isEqualTo(3);
+    get("a", Duration.ofSeconds(40));
+    get("c", Duration.ofSeconds(30));
+    assertThat(cache.get("e", k -> CompletableFuture.completedFuture(Duration.ZERO)))
+        .isSameAs(loading);
+    assertThat(loads).containsExactly("a", "b", "c", "d");
+  }
+}
@@ -51,6 +51,7 @@ public abstract class HttpTestingUtils {
   public void setUp() {
     doReturn(10).when(config).getTimeout();
     doReturn(3).when(config).getMaxRedirects();
+    doReturn(0L).when(config).getMaxResponseSize();
   }
 
   @AfterMethod
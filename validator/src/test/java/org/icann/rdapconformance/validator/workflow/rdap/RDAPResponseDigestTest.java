@@ -0,0 +1,339 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.testng.annotations.Test;
+
+public class RDAPResponseDigestTest {
+
+  private static final String RESPONSE = "{"
+      + "\"handle\":\"ABC\","
+      + "\"status\":[\"active\",\"associated\"],"
+      + "\"events\":["
+      + "{\"eventAction\":\"registration\",\"eventDate\":\"2017-06-05T12:03:04Z\"},"
+      + "{\"eventAction\":\"last update of RDAP database\",\"eventDate\":\"2021-04-09T16:51:22Z\"}"
+      + "],"
+      + "\"entities\":[{\"vcardArray\":[\"vcard\",[[\"version\",{},\"text\",\"4.0\"],"
+      + "[\"fn\",{},\"text\",\"Joe\"]]]}]"
+      + "}";
+
+  private final RDAPResponseDigest digest = new RDAPResponseDigest(RESPONSE);
+
+  @Test
+  public void testMatches_SameResponse() throws JsonProcessingException {
+    assertThat(digest.matches(RESPONSE)).isTrue();
+  }
+
+  @Test
+  public void testMatches_ReorderedMembersAndElementsAndNewLastUpdate()
+      throws JsonProcessingException {
+    assertThat(digest.matches("{"
+        + "\"entities\":[{\"vcardArray\":[\"vcard\",[[\"version\",{},\"text\",\"4.0\"],"
+        + "[\"fn\",{},\"text\",\"Joe\"]]]}],"
+        + "\"events\":["
+        + "{\"eventDate\":\"2022-01-01T00:00:00Z\",\"eventAction\":\"last update of RDAP database\"},"
+        + "{\"eventDate\":\"2017-06-05T12:03:04Z\",\"eventAction\":\"registration\"}"
+        + "],"
+        + "\"status\":[\"associated\",\"active\"],"
+        + "\"handle\":\"ABC\""
+        + "}")).isTrue();
+  }
+
+  @Test
+  public void testMatches_DifferentValue() throws JsonProcessingException {
+    assertThat(digest.matches(RESPONSE.replace("\"ABC\"", "\"DEF\""))).isFalse();
+    assertThat(digest.matches(RESPONSE.replace("registration", "expiration"))).isFalse();
+  }
+
+  @Test
+  public void testMatches_MissingOrExtraMember() throws JsonProcessingException {
+    assertThat(digest.matches(RESPONSE.replace("\"handle\":\"ABC\",", ""))).isFalse();
+    assertThat(digest.matches(RESPONSE.replace("\"handle\"", "\"port43\":\"whois\",\"handle\"")))
+        .isFalse();
+  }
+
+  @Test
+  public void testMatches_ReorderedVcard() throws JsonProcessingException {
+    assertThat(digest.matches(RESPONSE.replace(
+        "[\"version\",{},\"text\",\"4.0\"],[\"fn\",{},\"text\",\"Joe\"]",
+        "[\"fn\",{},\"text\",\"Joe\"],[\"version\",{},\"text\",\"4.0\"]"))).isFalse();
+  }
+
+  @Test
+  public void testMatches_NotAnObject() throws JsonProcessingException {
+    assertThat(digest.matches("[]")).isFalse();
+    assertThat(new RDAPResponseDigest("[1,2]").matches("[2,1,1]")).isTrue();
+    assertThat(new RDAPResponseDigest("[1,2]").matches("[1,2.0]")).isFalse();
+  }
+
+  @Test
+  public void testMatches_InvalidJson() {
+    assertThatThrownBy(() -> digest.matches("{")).isInstanceOf(JsonProcessingException.class);
+  }
+
+  @Test
+  public void testMatches_UnorderedListsExceptVcardAndDifferentLastUpdate()
+      throws JsonProcessingException {
+    String rdap1 = "{\n"
+        + "  \"notices\": [\n"
+        + "    {\n"
+        + "      \"title\": \"Status Codes\",\n"
+        + "      \"links\": [\n"
+        + "        {\n"
+        + "          \"rel\": \"related\",\n"
+        + "          \"href\": \"https://icann.org/epp\"\n"
+        + "        }\n"
+        + "      ]\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"title\": \"RDDS Inaccuracy Complaint Form\",\n"
+        + "      \"links\": [\n"
+        + "        {\n"
+        + "          \"rel\": \"related\",\n"
+        + "          \"href\": \"https://www.icann.org/wicf\"\n"
+        + "        }\n"
+        + "      ]\n"
+        + "    }\n"
+        + "  ],\n"
+        + "  \"nameservers\": [\n"
+        + "    {\n"
+        + "      \"handle\": \"DEF-LRMS\",\n"
+        + "      \"status\": [\n"
+        + "        \"active\",\n"
+        + "        \"associated\"\n"
+        + "      ],\n"
+        + "      \"events\": [\n"
+        + "        {\n"
+        + "          \"eventAction\": \"registration\",\n"
+        + "          \"eventDate\": \"2017-06-05T12:03:04.000Z\"\n"
+        + "        },\n"
+        + "        {\n"
+        + "          \"eventAction\": \"last changed\",\n"
+        + "          \"eventDate\": \"2017-06-10T15:41:57.357Z\"\n"
+        + "        },\n"
+        + "        {\n"
+        + "          \"eventAction\": \"last update of RDAP database\",\n"
+        + "          \"eventDate\": \"2021-04-09T16:51:22.976Z\"\n"
+        + "        }\n"
+        + "      ]\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"handle\": \"ABC-LRMS\"\n"
+        + "    }\n"
+        + "  ],\n"
+        + "  \"events\": [\n"
+        + "    {\n"
+        + "      \"eventAction\": \"registration\",\n"
+        + "      \"eventDate\": \"2016-10-22T20:47:28.100Z\"\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"eventAction\": \"last changed\",\n"
+        + "      \"eventDate\": \"2020-08-21T21:57:42.127Z\"\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"eventAction\": \"last update of RDAP database\",\n"
+        + "      \"eventDate\": \"2021-04-09T16:51:22.976Z\"\n"
+        + "    }\n"
+        + "  ],\n"
+        + "  \"entities\": [\n"
+        + "    {\n"
+        + "      \"vcardArray\": [\n"
+        + "        \"vcard\",\n"
+        + "        [\n"
+        + "          [\n"
+        + "            \"version\",\n"
+        + "            {},\n"
+        + "            \"text\",\n"
+        + "            \"4.0\"\n"
+        + "          ]\n"
+        + "        ]\n"
+        + "      ]\n"
+        + "    }\n"
+        + "  ]\n"
+        + "}\n";
+    String rdap2 = "{\n"
+        + "  \"notices\": [\n"
+        + "    {\n"
+        + "      \"title\": \"RDDS Inaccuracy Complaint Form\",\n"
+        + "      \"links\": [\n"
+        + "        {\n"
+        + "          \"rel\": \"related\",\n"
+        + "          \"href\": \"https://www.icann.org/wicf\"\n"
+        + "        }\n"
+        + "      ]\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"title\": \"Status Codes\",\n"
+        + "      \"links\": [\n"
+        + "        {\n"
+        + "          \"rel\": \"related\",\n"
+        + "          \"href\": \"https://icann.org/epp\"\n"
+        + "        }\n"
+        + "      ]\n"
+        + "    }\n"
+        + "  ],\n"
+        + "  \"nameservers\": [\n"
+        + "    {\n"
+        + "      \"handle\": \"DEF-LRMS\",\n"
+        + "      \"status\": [\n"
+        + "        \"associated\",\n"
+        + "        \"active\"\n"
+        + "      ],\n"
+        + "      \"events\": [\n"
+        + "        {\n"
+        + "          \"eventAction\": \"last changed\",\n"
+        + "          \"eventDate\": \"2017-06-10T15:41:57.357Z\"\n"
+        + "        },\n"
+        + "        {\n"
+        + "          \"eventAction\": \"last update of RDAP database\",\n"
+        + "          \"eventDate\": \"2022-04-09T16:51:22.976Z\"\n"
+        + "        },\n"
+        + "        {\n"
+        + "          \"eventAction\": \"registration\",\n"
+        + "          \"eventDate\": \"2017-06-05T12:03:04.000Z\"\n"
+        + "        }\n"
+        + "      ]\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"handle\": \"ABC-LRMS\"\n"
+        + "    }\n"
+        + "  ],\n"
+        + "  \"events\": [\n"
+        + "    {\n"
+        + "      \"eventAction\": \"registration\",\n"
+        + "      \"eventDate\": \"2016-10-22T20:47:28.100Z\"\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"eventAction\": \"last update of RDAP database\",\n"
+        + "      \"eventDate\": \"2022-04-09T16:51:22.976Z\"\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"eventAction\": \"last changed\",\n"
+        + "      \"eventDate\": \"2020-08-21T21:57:42.127Z\"\n"
+        + "    }\n"
+        + "  ],\n"
+        + "  \"entities\": [\n"
+        + "    {\n"
+        + "      \"vcardArray\": [\n"
+        + "        \"vcard\",\n"
+        + "        [\n"
+        + "          [\n"
+        + "            \"version\",\n"
+        + "            {},\n"
+        + "            \"text\",\n"
+        + "            \"4.0\"\n"
+        + "          ]\n"
+        + "        ]\n"
+        + "      ]\n"
+        + "    }\n"
+        + "  ]\n"
+        + "}\n";
+
+    assertThat(new RDAPResponseDigest(rdap1).matches(rdap2)).isTrue();
+  }
+
+  @Test
+  public void testMatches_DifferentNameserver() throws JsonProcessingException {
+    String rdap1 = "{\n"
+        + "  \"nameservers\": [\n"
+        + "    {\n"
+        + "      \"handle\": \"DEF-LRMS\",\n"
+        + "      \"status\": [\n"
+        + "        \"active\",\n"
+        + "        \"associated\"\n"
+        + "      ],\n"
+        + "      \"events\": [\n"
+        + "        {\n"
+        + "          \"eventAction\": \"registration\",\n"
+        + "          \"eventDate\": \"2017-06-05T12:03:04.000Z\"\n"
+        + "        },\n"
+        + "        {\n"
+        + "          \"eventAction\": \"last changed\",\n"
+        + "          \"eventDate\": \"2017-06-10T15:41:57.357Z\"\n"
+        + "        },\n"
+        + "        {\n"
+        + "          \"eventAction\": \"last update of RDAP database\",\n"
+        + "          \"eventDate\": \"2021-04-09T16:51:22.976Z\"\n"
+        + "        }\n"
+        + "      ]\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"handle\": \"ABC-LRMS\"\n"
+        + "    }\n"
+        + "  ]\n"
+        + "}\n";
+    String rdap2 = "{\n"
+        + "  \"nameservers\": [\n"
+        + "    {\n"
+        + "      \"handle\": \"GHI-LRMS\",\n"
+        + "      \"status\": [\n"
+        + "        \"active\",\n"
+        + "        \"associated\"\n"
+        + "      ],\n"
+        + "      \"events\": [\n"
+        + "        {\n"
+        + "          \"eventAction\": \"registration\",\n"
+        + "          \"eventDate\": \"2017-06-05T12:03:04.000Z\"\n"
+        + "        },\n"
+        + "        {\n"
+        + "          \"eventAction\": \"last changed\",\n"
+        + "          \"eventDate\": \"2017-06-10T15:41:57.357Z\"\n"
+        + "        },\n"
+        + "        {\n"
+        + "          \"eventAction\": \"last update of RDAP database\",\n"
+        + "          \"eventDate\": \"2021-04-09T16:51:22.976Z\"\n"
+        + "        }\n"
+        + "      ]\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"handle\": \"ABC-LRMS\"\n"
+        + "    }\n"
+        + "  ]\n"
+        + "}\n";
+
+    assertThat(new RDAPResponseDigest(rdap1).matches(rdap2)).isFalse();
+  }
+
+  @Test
+  public void testMatches_UnorderedVcardProperty()
+      throws JsonProcessingException {
+    String rdap1 = "{\n"
+        + "  \"entities\": [\n"
+        + "    {\n"
+        + "      \"vcardArray\": [\n"
+        + "        \"vcard\",\n"
+        + "        [\n"
+        + "          [\n"
+        + "            \"version\",\n"
+        + "            {},\n"
+        + "            \"text\",\n"
+        + "            \"4.0\"\n"
+        + "          ]\n"
+        + "        ]\n"
+        + "      ]\n"
+        + "    }\n"
+        + "  ]\n"
+        + "}\n";
+    String rdap2 = "{\n"
+        + "  \"entities\": [\n"
+        + "    {\n"
+        + "      \"vcardArray\": [\n"
+        + "        \"vcard\",\n"
+        + "        [\n"
+        + "          [\n"
+        + "            \"text\",\n"
+        + "            {},\n"
+        + "            \"version\",\n"
+        + "            \"4.0\"\n"
+        + "          ]\n"
+        + "        ]\n"
+        + "      ]\n"
+        + "    }\n"
+        + "  ]\n"
+        + "}\n";
+
+    assertThat(new RDAPResponseDigest(rdap1).matches(rdap2)).isFalse();
+  }
+}
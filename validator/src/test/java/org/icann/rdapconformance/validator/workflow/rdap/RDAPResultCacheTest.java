@@ -0,0 +1,151 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.workflow.LocalFileSystem;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPResultCache.Fingerprint;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class RDAPResultCacheTest {
+
+  private static final String RESPONSE = "{\"objectClassName\":\"domain\",\"events\":["
+      + "{\"eventAction\":\"registration\",\"eventDate\":\"2020-01-01T00:00:00Z\"},"
+      + "{\"eventDate\":\"%s\",\"eventAction\":\"last update of RDAP database\"}]}";
+
+  private RDAPValidatorConfiguration config;
+  private Path directory;
+  private RDAPResultCache cache;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    config = mock(RDAPValidatorConfiguration.class);
+    doReturn(URI.create("https://example.com/rdap/domain/example.com")).when(config).getUri();
+    doReturn(true).when(config).isGtldRegistry();
+    directory = Files.createTempDirectory("result-cache");
+    cache = new RDAPResultCache(new LocalFileSystem(), directory.toString(), "1.0.0");
+  }
+
+  private Fingerprint fingerprint(String body) {
+    return cache.fingerprint(config, RDAPQueryType.DOMAIN, 200, body, "datasets", List.of());
+  }
+
+  @Test
+  public void testFingerprint_LastUpdateDateIgnored() {
+    Fingerprint first = fingerprint(String.format(RESPONSE, "2023-01-01T00:00:00Z"));
+    Fingerprint second = fingerprint(String.format(RESPONSE, "2023-01-02T00:00:00.123+01:00"));
+
+    assertThat(second.getKey()).isEqualTo(first.getKey());
+    assertThat(second.getLastUpdateDates()).containsExactly("2023-01-02T00:00:00.123+01:00");
+  }
+
+  @Test
+  public void testFingerprint_InvalidLastUpdateDateNotIgnored() {
+    Fingerprint first = fingerprint(String.format(RESPONSE, "2023-01-01T00:00:00Z"));
+    Fingerprint second = fingerprint(String.format(RESPONSE, "yesterday"));
+
+    assertThat(second.getKey()).isNotEqualTo(first.getKey());
+    assertThat(second.getLastUpdateDates()).isEmpty();
+  }
+
+  @Test
+  public void testFingerprint_OtherChangesNotIgnored() {
+    String body = String.format(RESPONSE, "2023-01-01T00:00:00Z");
+    Fingerprint fingerprint = fingerprint(body);
+
+    assertThat(fingerprint(body.replace("registration", "expiration")).getKey())
+        .isNotEqualTo(fingerprint.getKey());
+    assertThat(cache.fingerprint(config, RDAPQueryType.DOMAIN, 200, body, "other datasets",
+        List.of()).getKey()).isNotEqualTo(fingerprint.getKey());
+    assertThat(cache.fingerprint(config, RDAPQueryType.DOMAIN, 404, body, "datasets", List.of())
+        .getKey()).isNotEqualTo(fingerprint.getKey());
+    assertThat(cache.fingerprint(config, RDAPQueryType.DOMAIN, 200, body, "datasets",
+        List.of(-20400)).getKey()).isNotEqualTo(fingerprint.getKey());
+    doReturn(true).when(config).isThin();
+    assertThat(fingerprint(body).getKey()).isNotEqualTo(fingerprint.getKey());
+  }
+
+  @Test
+  public void testFingerprint_UnknownDatasets_NoFingerprint() {
+    assertThat(cache.fingerprint(config, RDAPQueryType.DOMAIN, 200, "{}", null, List.of()))
+        .isNull();
+  }
+
+  @Test
+  public void testFingerprint_InvalidJson() {
+    assertThat(fingerprint("{\"events\":[").getLastUpdateDates()).isEmpty();
+  }
+
+  @Test
+  public void testLoad_NotCached_ReturnsFalse() {
+    RDAPValidatorResults results = new RDAPValidatorResultsImpl();
+
+    assertThat(cache.load(fingerprint(String.format(RESPONSE, "2023-01-01T00:00:00Z")), results))
+        .isFalse();
+    assertThat(results.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testLoad_ReusesStoredResultsWithNewLastUpdateDate() {
+    RDAPValidatorResults stored = new RDAPValidatorResultsImpl();
+    stored.add(RDAPValidationResult.builder()
+        .code(-12345)
+        .value("#/events/1/eventDate:2023-01-01T00:00:00Z")
+        .message("A message.")
+        .build());
+    stored.addGroup("okGroup");
+    stored.addGroupErrorWarning("errorGroup");
+    cache.store(fingerprint(String.format(RESPONSE, "2023-01-01T00:00:00Z")), stored);
+
+    RDAPValidatorResults results = new RDAPValidatorResultsImpl();
+    assertThat(cache.load(fingerprint(String.format(RESPONSE, "2023-01-02T00:00:00Z")), results))
+        .isTrue();
+
+    assertThat(results.getAll()).containsExactly(RDAPValidationResult.builder()
+        .code(-12345)
+        .value("#/events/1/eventDate:2023-01-02T00:00:00Z")
+        .message("A message.")
+        .build());
+    assertThat(results.getGroupOk()).containsExactly("okGroup");
+    assertThat(results.getGroupErrorWarning()).containsExactly("errorGroup");
+  }
+
+  @Test
+  public void testLoad_OnlyLastUpdateDatesReplaced() {
+    String body = String.format(RESPONSE, "2020-01-01T00:00:00Z");
+    RDAPValidatorResults stored = new RDAPValidatorResultsImpl();
+    stored.add(RDAPValidationResult.builder()
+        .code(-12345)
+        .value("#/events/0/eventDate:2020-01-01T00:00:00Z, #/events/1:"
+            + "{\"eventDate\":\"2020-01-01T00:00:00Z\","
+            + "\"eventAction\":\"last update of RDAP database\"}")
+        .message("A message.")
+        .build());
+    cache.store(fingerprint(body), stored);
+
+    RDAPValidatorResults results = new RDAPValidatorResultsImpl();
+    assertThat(cache.load(fingerprint(String.format(RESPONSE, "2023-01-02T00:00:00Z")), results))
+        .isTrue();
+
+    assertThat(results.getAll()).extracting(RDAPValidationResult::getValue).containsExactly(
+        "#/events/0/eventDate:2020-01-01T00:00:00Z, #/events/1:"
+            + "{\"eventDate\":\"2023-01-02T00:00:00Z\","
+            + "\"eventAction\":\"last update of RDAP database\"}");
+  }
+
+  @Test
+  public void testLoad_UnreadableEntry_ReturnsFalse() throws IOException {
+    Fingerprint fingerprint = fingerprint(String.format(RESPONSE, "2023-01-01T00:00:00Z"));
+    Files.writeString(directory.resolve(fingerprint.getKey() + ".json"), "{\"results\":");
+
+    assertThat(cache.load(fingerprint, new RDAPValidatorResultsImpl())).isFalse();
+  }
+}
@@ -0,0 +1,180 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.icann.rdapconformance.validator.configuration.ConfigurationFile;
+import org.icann.rdapconformance.validator.workflow.profile.ProfileValidation;
+import org.icann.rdapconformance.validator.workflow.profile.RDAPProfileFebruary2019;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class RDAPValidationBudgetTest {
+
+  private ConfigurationFile configurationFile;
+  private RDAPValidatorResults results;
+  private AtomicLong now;
+
+  @BeforeMethod
+  public void setUp() {
+    configurationFile = mock(ConfigurationFile.class);
+    doReturn(List.of(-3)).when(configurationFile).getDefinitionIgnore();
+    doReturn(true).when(configurationFile).isWarning(-2);
+    results = new RDAPValidatorResultsImpl();
+    now = new AtomicLong();
+  }
+
+  private void addResult(int code) {
+    results.add(RDAPValidationResult.builder().code(code).value("v").message("m").build());
+  }
+
+  @Test
+  public void testUnlimited_NeverExhausted() {
+    RDAPValidationBudget budget = RDAPValidationBudget.unlimited();
+    addResult(-1);
+
+    assertThat(budget.isLimited()).isFalse();
+    assertThat(budget.isExhausted(results)).isFalse();
+    assertThat(budget.isTruncated()).isFalse();
+  }
+
+  @Test
+  public void testMaxErrors_WarningsAndIgnoredCodesNotCounted() {
+    RDAPValidationBudget budget = new RDAPValidationBudget(2, 0, configurationFile, now::get);
+    budget.countErrors(results);
+    addResult(-1);
+    addResult(-2);
+    addResult(-3);
+
+    assertThat(budget.isExhausted(results)).isFalse();
+
+    addResult(-4);
+    assertThat(budget.isExhausted(results)).isTrue();
+    assertThat(budget.getTruncation()).isEqualTo(RDAPValidationBudget.MAX_ERRORS);
+    assertThat(budget.isFailEarly()).isFalse();
+  }
+
+  @Test
+  public void testMaxErrors_CountedResultsNotRead() {
+    RDAPValidationBudget budget = new RDAPValidationBudget(3, 0, configurationFile, now::get);
+    results = spy(results);
+    budget.countErrors(results);
+    addResult(-1);
+    assertThat(budget.isExhausted(results)).isFalse();
+    addResult(-1);
+    addResult(-4);
+    assertThat(budget.isExhausted(results)).isFalse();
+    addResult(-5);
+    assertThat(budget.isExhausted(results)).isTrue();
+
+    verify(results, never()).getAll();
+  }
+
+  @Test
+  public void testMaxErrors_OtherResultsRead() {
+    RDAPValidationBudget budget = new RDAPValidationBudget(1, 0, configurationFile, now::get);
+    RDAPValidatorResults other = mock(RDAPValidatorResults.class);
+    doReturn(Set.of(RDAPValidationResult.builder().code(-2).value("v").message("m").build()))
+        .when(other).getAll();
+    assertThat(budget.isExhausted(other)).isFalse();
+
+    doReturn(Set.of(RDAPValidationResult.builder().code(-1).value("v").message("m").build()))
+        .when(other).getAll();
+    assertThat(budget.isExhausted(other)).isTrue();
+  }
+
+  @Test
+  public void testTimeBudget() {
+    RDAPValidationBudget budget = new RDAPValidationBudget(0, 1_000, configurationFile, now::get);
+
+    now.set(999);
+    assertThat(budget.isExhausted(results)).isFalse();
+    now.set(1_000);
+    assertThat(budget.isExhausted(results)).isTrue();
+    assertThat(budget.getTruncation()).isEqualTo(RDAPValidationBudget.TIME_BUDGET);
+  }
+
+  @Test
+  public void testProfile_CheapestFirstAndStopsWhenExhausted() {
+    RDAPValidationBudget budget = new RDAPValidationBudget(1, 0, configurationFile, now::get);
+    CountingValidation network = new CountingValidation("network", 1, -5);
+    CountingValidation content = new CountingValidation("content", 0, -6);
+
+    new RDAPProfileFebruary2019(List.of(network, content), budget, results, List.of())
+        .validate();
+
+    assertThat(content.runs).isEqualTo(1);
+    assertThat(network.runs).isZero();
+    assertThat(budget.isTruncated()).isTrue();
+  }
+
+  @Test
+  public void testProfile_UnlimitedRunsAll() {
+    CountingValidation network = new CountingValidation("network", 1, -5);
+    CountingValidation content = new CountingValidation("content", 0, -6);
+
+    new RDAPProfileFebruary2019(List.of(network, content), RDAPValidationBudget.unlimited(),
+        results, List.of()).validate();
+
+    assertThat(content.runs).isEqualTo(1);
+    assertThat(network.runs).isEqualTo(1);
+  }
+
+  @Test
+  public void testProfile_IgnoredValidationsNotRun() {
+    CountingValidation ignored = new CountingValidation("ignored", 1, -3);
+    CountingValidation content = new CountingValidation("content", 0, -6);
+
+    new RDAPProfileFebruary2019(List.of(ignored, content), RDAPValidationBudget.unlimited(),
+        results, configurationFile.getDefinitionIgnore()).validate();
+
+    assertThat(ignored.runs).isZero();
+    assertThat(content.runs).isEqualTo(1);
+    assertThat(results.getGroupOk()).containsExactly("ignored");
+    assertThat(results.getGroupErrorWarning()).containsExactly("content");
+  }
+
+  private class CountingValidation extends ProfileValidation {
+
+    private final String name;
+    private final int cost;
+    private final int code;
+    private int runs;
+
+    private CountingValidation(String name, int cost, int code) {
+      super(RDAPValidationBudgetTest.this.results);
+      this.name = name;
+      this.cost = cost;
+      this.code = code;
+    }
+
+    @Override
+    public String getGroupName() {
+      return name;
+    }
+
+    @Override
+    public int getCost() {
+      return cost;
+    }
+
+    @Override
+    public Set<Integer> getCodes() {
+      return Set.of(code);
+    }
+
+    @Override
+    protected boolean doValidate() {
+      runs++;
+      addResult(code);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics.Measurement;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationMetrics.Timer;
+import org.testng.annotations.Test;
+
+public class RDAPValidationMetricsTest {
+
+  @Test
+  public void testTimer_NotStarted_RecordsNothing() {
+    RDAPValidationMetrics metrics = RDAPValidationMetrics.start();
+    metrics.stop();
+
+    try (Timer ignored = RDAPValidationMetrics.timer("group")) {
+      assertThat(ignored).isNotNull();
+    }
+
+    assertThat(metrics.getMeasurements()).isEmpty();
+  }
+
+  @Test
+  public void testTimer_Started_RecordsEachStep() {
+    RDAPValidationMetrics metrics = RDAPValidationMetrics.start();
+    try {
+      for (int i = 0; i < 2; i++) {
+        try (Timer ignored = RDAPValidationMetrics.timer("group")) {
+          byte[] allocation = new byte[1 << 20];
+          assertThat(allocation).hasSize(1 << 20);
+        }
+      }
+      try (Timer ignored = RDAPValidationMetrics.timer("otherGroup")) {
+        assertThat(metrics.getMeasurements()).containsOnlyKeys("group");
+      }
+    } finally {
+      metrics.stop();
+    }
+
+    assertThat(metrics.getMeasurements()).containsOnlyKeys("group", "otherGroup");
+    Measurement measurement = metrics.getMeasurements().get("group");
+    assertThat(measurement.getCount()).isEqualTo(2);
+    assertThat(measurement.getWallTimeNanos()).isPositive();
+    assertThat(measurement.getCpuTimeNanos()).isNotNegative();
+    assertThat(measurement.getAllocatedBytes()).isGreaterThanOrEqualTo(2 << 20);
+    assertThat(metrics.summary(1)).startsWith("group=");
+  }
+
+  @Test
+  public void testPropagate_MeasuredOnOtherThreads() throws Exception {
+    RDAPValidationMetrics metrics = RDAPValidationMetrics.start();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Supplier<Integer> step = RDAPValidationMetrics.propagate(() -> {
+        try (Timer ignored = RDAPValidationMetrics.timer("step")) {
+          return 1;
+        }
+      });
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        futures.add(executor.submit(step::get));
+      }
+      for (Future<Integer> future : futures) {
+        future.get();
+      }
+      // not bound to the worker threads once the task is done
+      executor.submit(() -> {
+        try (Timer ignored = RDAPValidationMetrics.timer("unbound")) {
+          return null;
+        }
+      }).get();
+    } finally {
+      executor.shutdown();
+      metrics.stop();
+    }
+
+    assertThat(metrics.getMeasurements()).containsOnlyKeys("step");
+    assertThat(metrics.getMeasurements().get("step").getCount()).isEqualTo(100);
+  }
+}
@@ -0,0 +1,149 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class RDAPValidationRegistryTest {
+
+  private RDAPValidatorConfiguration config;
+  private HttpResponse<String> httpResponse;
+  private RDAPDatasetService datasetService;
+
+  @BeforeMethod
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    config = mock(RDAPValidatorConfiguration.class);
+    doReturn(URI.create("https://example.com/rdap/domain/example.com")).when(config).getUri();
+    doReturn(true).when(config).useRdapProfileFeb2019();
+    httpResponse = mock(HttpResponse.class);
+    doReturn(URI.create("https://example.com/rdap/domain/example.com")).when(httpResponse).uri();
+    doReturn(200).when(httpResponse).statusCode();
+    doReturn("{}").when(httpResponse).body();
+    doReturn(Optional.empty()).when(httpResponse).previousResponse();
+    datasetService = mock(RDAPDatasetService.class);
+  }
+
+  private RDAPValidationContext context(RDAPQueryType queryType, HttpResponse<String> response) {
+    return new RDAPValidationContext(config, queryType, datasetService,
+        new RDAPValidatorResultsImpl(), "{}", response, null);
+  }
+
+  private void flags(boolean registry, boolean registrar, boolean thin) {
+    doReturn(registry).when(config).isGtldRegistry();
+    doReturn(registrar).when(config).isGtldRegistrar();
+    doReturn(thin).when(config).isThin();
+  }
+
+  /**
+   * The plan keeps the validations which launch, and only them.
+   */
+  @Test
+  public void testPlan_LaunchedValidationsPlanned() {
+    for (boolean[] flags : new boolean[][]{
+        {true, false, false}, {true, false, true}, {false, true, false}}) {
+      flags(flags[0], flags[1], flags[2]);
+      for (RDAPQueryType queryType : RDAPQueryType.values()) {
+        RDAPValidationContext context = context(queryType, httpResponse);
+        List<String> launched = new ArrayList<>();
+        for (RDAPValidationEntry entry : RDAPValidationRegistry.CONTENT) {
+          if (entry.create(context).doLaunch()) {
+            launched.add(entry.getName());
+          }
+        }
+
+        RDAPValidationPlan plan = RDAPValidationPlan.plan("Content",
+            RDAPValidationRegistry.CONTENT, context, List.of());
+        assertThat(plan.getValidations())
+            .extracting(v -> v.getClass().getSimpleName())
+            .as("%s with %s", queryType, flags)
+            .containsExactlyElementsOf(launched);
+      }
+    }
+  }
+
+  @Test
+  public void testPlan_NotLaunchedValidationsNotPlanned() {
+    flags(false, true, false);
+
+    RDAPValidationPlan plan = RDAPValidationPlan.plan("Content", RDAPValidationRegistry.CONTENT,
+        context(RDAPQueryType.NAMESERVER, null), List.of());
+
+    assertThat(plan.getValidations())
+        .extracting(v -> v.getClass().getSimpleName())
+        .contains("ResponseValidation4Dot1Handle", "TigValidation1Dot14")
+        .doesNotContain("ResponseValidation2Dot2", "TigValidation3Dot2");
+    assertThat(plan.getInputs()).containsOnly(RDAPValidationInput.DOCUMENT,
+        RDAPValidationInput.DATASETS);
+    assertThat(plan.toString())
+        .startsWith("Content validations of a NAMESERVER query:")
+        .contains("  + ResponseValidation4Dot1Handle [DOCUMENT, DATASETS]")
+        .contains("  - ResponseValidation2Dot2: not launched")
+        .contains("  - TigValidation3Dot2: not launched");
+  }
+
+  @Test
+  public void testPlan_NotLaunchedAndIgnoredCodes() {
+    flags(false, true, true);
+
+    RDAPValidationPlan plan = RDAPValidationPlan.plan("Content", RDAPValidationRegistry.CONTENT,
+        context(RDAPQueryType.DOMAIN, null), List.of(-20800, -12305));
+
+    assertThat(plan.toString())
+        .contains("  - TigValidation3Dot2: not launched")
+        .contains("  - ResponseValidation2Dot7Dot5Dot3: not launched")
+        .contains("  + ResponseValidation2Dot7Dot5Dot2")
+        .contains("  - TigValidation4Dot1: result codes ignored");
+  }
+
+  @Test
+  public void testPlan_NetworkValidationsNeedAResponse() {
+    flags(true, false, false);
+
+    RDAPValidationPlan plan = RDAPValidationPlan.plan("Network", RDAPValidationRegistry.NETWORK,
+        context(RDAPQueryType.DOMAIN, null), List.of());
+
+    assertThat(plan.getValidations()).isEmpty();
+    assertThat(plan.toString()).contains("  - TigValidation1Dot6: no HTTP response");
+  }
+
+  @Test
+  public void testPlan_WithoutProfileOnlyCaseFolding() {
+    flags(true, false, false);
+    doReturn(false).when(config).useRdapProfileFeb2019();
+
+    RDAPValidationPlan plan = RDAPValidationPlan.plan("Network", RDAPValidationRegistry.NETWORK,
+        context(RDAPQueryType.DOMAIN, httpResponse), List.of());
+
+    assertThat(plan.getValidations())
+        .extracting(v -> v.getClass().getSimpleName())
+        .containsExactly("DomainCaseFoldingValidation");
+    assertThat(plan.toString())
+        .contains("  - TigValidation1Dot8: requires rdap-profile-february-2019");
+  }
+
+  @Test
+  public void testPlan_IgnoredValidationSkipped() {
+    flags(true, false, false);
+    doReturn(false).when(config).useRdapProfileFeb2019();
+
+    RDAPValidationPlan plan = RDAPValidationPlan.plan("Network", RDAPValidationRegistry.NETWORK,
+        context(RDAPQueryType.DOMAIN, httpResponse), List.of(-10403));
+
+    assertThat(plan.getValidations())
+        .extracting(v -> v.getClass().getSimpleName())
+        .containsExactly("DomainCaseFoldingValidation");
+    assertThat(plan.getInputs()).isEmpty();
+    assertThat(plan.toString())
+        .contains("  - DomainCaseFoldingValidation: result codes ignored");
+  }
+}
@@ -1,18 +1,24 @@
 package org.icann.rdapconformance.validator.workflow.rdap;
 
 import static org.icann.rdapconformance.validator.exception.parser.ExceptionParser.UNKNOWN_ERROR_CODE;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.contains;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 import java.util.Set;
 import org.icann.rdapconformance.validator.configuration.ConfigurationFile;
 import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
 import org.icann.rdapconformance.validator.workflow.FileSystem;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPHttpRetries;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPHttpRetries.Retry;
+import org.json.JSONObject;
+import org.mockito.ArgumentCaptor;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -22,31 +28,109 @@ public class RDAPValidationResultFileTest {
   private RDAPValidationResultFile file;
   private RDAPValidatorResults results;
   private ConfigurationFile configurationFile;
+  private RDAPValidatorConfiguration config;
 
   @BeforeMethod
   public void setUp() {
     results = new RDAPValidatorResultsImpl();
-    fileSystem = mock(FileSystem.class);
+    fileSystem = mock(FileSystem.class, CALLS_REAL_METHODS);
     results.addGroups(Set.of("firstGroup"));
     configurationFile = mock(ConfigurationFile.class);
+    config = mock(RDAPValidatorConfiguration.class);
     file = new RDAPValidationResultFile(
         results,
-        mock(RDAPValidatorConfiguration.class),
+        config,
         configurationFile,
         fileSystem);
   }
 
+  private String written() throws IOException {
+    ArgumentCaptor<String> data = ArgumentCaptor.forClass(String.class);
+    verify(fileSystem).write(eq(file.resultPath), data.capture());
+    return data.getValue();
+  }
+
   @Test
   public void testGroupOkAssigned() throws IOException {
     file.build(200);
-    verify(fileSystem).write(any(), contains("\"groupOK\": [\"firstGroup\"]"));
+    assertThat(new JSONObject(written()).getJSONArray("groupOK").toList())
+        .containsExactly("firstGroup");
+  }
+
+  @Test
+  public void testNoMetricsByDefault() throws IOException {
+    file.build(200);
+    assertThat(new JSONObject(written()).has("metrics")).isFalse();
+  }
+
+  @Test
+  public void testMetricsAssigned() throws IOException {
+    RDAPValidationMetrics metrics = RDAPValidationMetrics.start();
+    try (RDAPValidationMetrics.Timer ignored = RDAPValidationMetrics.timer("firstGroup")) {
+      results.addGroup("firstGroup");
+    } finally {
+      metrics.stop();
+    }
+    file = new RDAPValidationResultFile(results, config, configurationFile, fileSystem, metrics);
+
+    file.build(200);
+    JSONObject written = new JSONObject(written()).getJSONObject("metrics");
+    assertThat(written.getJSONObject("firstGroup").getInt("count")).isEqualTo(1);
+    assertThat(written.getJSONObject("domainNameCache").keySet())
+        .containsExactlyInAnyOrder("hits", "misses", "evictions", "size");
+  }
+
+  @Test
+  public void testTruncatedRun() throws IOException {
+    RDAPValidationBudget budget = RDAPValidationBudget.unlimited();
+    file = new RDAPValidationResultFile(results, config, configurationFile, fileSystem, null,
+        budget);
+    budget.truncate(RDAPValidationBudget.TIME_BUDGET);
+
+    file.build(200);
+    JSONObject written = new JSONObject(written());
+    assertThat(written.getBoolean("truncated")).isTrue();
+    assertThat(written.getString("truncatedBy")).isEqualTo("timeBudget");
+  }
+
+  @Test
+  public void testNotTruncatedByDefault() throws IOException {
+    file.build(200);
+    assertThat(new JSONObject(written()).has("truncated")).isFalse();
+  }
+
+  @Test
+  public void testRetriesAssigned() throws IOException {
+    Retry retry = mock(Retry.class);
+    doReturn(URI.create("https://rdap.example/domain/example.example")).when(retry).getUri();
+    doReturn("GET").when(retry).getMethod();
+    doReturn(1).when(retry).getAttempt();
+    doReturn("HTTP 429").when(retry).getReason();
+    doReturn(2000L).when(retry).getDelayMs();
+    RDAPHttpRetries retries = mock(RDAPHttpRetries.class);
+    doReturn(List.of(retry)).when(retries).getRetries();
+    file = new RDAPValidationResultFile(results, config, configurationFile, fileSystem, null,
+        RDAPValidationBudget.unlimited(), retries);
+
+    file.build(200);
+    JSONObject written = new JSONObject(written()).getJSONArray("retries").getJSONObject(0);
+    assertThat(written.getString("uri")).isEqualTo("https://rdap.example/domain/example.example");
+    assertThat(written.getString("reason")).isEqualTo("HTTP 429");
+    assertThat(written.getLong("delayMs")).isEqualTo(2000L);
+  }
+
+  @Test
+  public void testNoRetriesByDefault() throws IOException {
+    file.build(200);
+    assertThat(new JSONObject(written()).has("retries")).isFalse();
   }
 
   @Test
   public void testGroupErrorWarningAssigned() throws IOException {
     results.addGroupErrorWarning("secondGroup");
     file.build(200);
-    verify(fileSystem).write(any(), contains("\"groupErrorWarning\": [\"secondGroup\"]"));
+    assertThat(new JSONObject(written()).getJSONArray("groupErrorWarning").toList())
+        .containsExactly("secondGroup");
   }
 
   @Test
@@ -65,6 +149,75 @@ public class RDAPValidationResultFileTest {
     doReturn(List.of(ignoredCode)).when(configurationFile).getDefinitionIgnore();
     file.build(200);
     // error should be an empty list since the only result code must be ignored:
-    verify(fileSystem).write(any(), contains("\"error\": []"));
+    assertThat(new JSONObject(written()).getJSONObject("results").getJSONArray("error"))
+        .isEmpty();
+  }
+
+  @Test
+  public void testErrorAndWarning() throws IOException {
+    results.add(RDAPValidationResult.builder().code(-1).value("v1").message("error").build());
+    results.add(RDAPValidationResult.builder().code(-2).value("v2").message("warning").build());
+    doReturn(true).when(configurationFile).isWarning(-2);
+    doReturn("a note").when(configurationFile).getAlertNotes(-2);
+    file.build(200);
+
+    JSONObject resultsJson = new JSONObject(written()).getJSONObject("results");
+    assertThat(resultsJson.getJSONArray("error")).hasSize(1);
+    assertThat(resultsJson.getJSONArray("error").getJSONObject(0).getInt("code")).isEqualTo(-1);
+    assertThat(resultsJson.getJSONArray("error").getJSONObject(0).has("notes")).isFalse();
+    assertThat(resultsJson.getJSONArray("warning").getJSONObject(0).getString("notes"))
+        .isEqualTo("a note");
+  }
+
+  @Test
+  public void testNullValuesOmitted() throws IOException {
+    doReturn(null).when(configurationFile).getDefinitionNotes();
+    results.add(RDAPValidationResult.builder().code(-1).value(null).message("error").build());
+    file.build(200);
+
+    JSONObject written = new JSONObject(written());
+    assertThat(written.has("testedURI")).isFalse();
+    assertThat(written.has("definitionIdentifier")).isFalse();
+    assertThat(written.getJSONObject("results").has("notes")).isFalse();
+    assertThat(written.getJSONObject("results").getJSONArray("error").getJSONObject(0)
+        .keySet()).containsExactlyInAnyOrder("code", "message");
+  }
+
+  @Test
+  public void testLongValueTruncated() throws IOException {
+    doReturn(10).when(config).getMaxResultValueLength();
+    results.add(RDAPValidationResult.builder()
+        .code(-1).value("x".repeat(100)).message("error").build());
+    file.build(200);
+
+    assertThat(new JSONObject(written()).getJSONObject("results").getJSONArray("error")
+        .getJSONObject(0).getString("value"))
+        .startsWith("xxxxxxxxxx...[truncated, 100 chars, sha256:");
+  }
+
+  @Test
+  public void testNdjson() throws IOException {
+    doReturn(true).when(config).useNdjsonResults();
+    doReturn(URI.create("https://example.com/domain/example.com")).when(config).getUri();
+    results.add(RDAPValidationResult.builder().code(-1).value("v1").message("error").build());
+    results.add(RDAPValidationResult.builder().code(-2).value("v2").message("error").build());
+    file.build(200);
+
+    assertThat(file.resultPath).endsWith(".ndjson");
+    String[] lines = written().split("\n");
+    assertThat(lines).hasSize(3);
+    assertThat(new JSONObject(lines[0]).getString("type")).isEqualTo("error");
+    assertThat(new JSONObject(lines[0]).getString("testedURI"))
+        .isEqualTo("https://example.com/domain/example.com");
+    JSONObject summary = new JSONObject(lines[2]);
+    assertThat(summary.getString("type")).isEqualTo("summary");
+    assertThat(summary.getInt("receivedHttpStatusCode")).isEqualTo(200);
+  }
+
+  @Test
+  public void testUniqueFilenames() {
+    assertThat(RDAPValidationResultFile.getFilename("json"))
+        .isNotEqualTo(RDAPValidationResultFile.getFilename("json"))
+        .endsWith(".json");
   }
 }
\ No newline at end of file
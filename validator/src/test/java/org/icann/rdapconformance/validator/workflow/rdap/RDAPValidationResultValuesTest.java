@@ -0,0 +1,55 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+public class RDAPValidationResultValuesTest {
+
+  @Test
+  public void testLargeValuesStoredOncePerRun() {
+    String body = "a".repeat(RDAPValidationResultValues.LARGE_VALUE_LENGTH);
+    RDAPValidatorResults results = new RDAPValidatorResultsImpl();
+    results.add(RDAPValidationResult.builder().code(-10100).value(body).message("first").build());
+    results.add(RDAPValidationResult.builder()
+        .code(-10101).value(new String(body)).message("second").build());
+
+    assertThat(results.getAll()).extracting(RDAPValidationResult::getValue)
+        .allSatisfy(value -> assertThat(value).isSameAs(body));
+    assertThat(new RDAPValidatorResultsImpl().getAll()).isEmpty();
+  }
+
+  @Test
+  public void testLargeValuesReferencedByDigest() {
+    String body = "a".repeat(RDAPValidationResultValues.LARGE_VALUE_LENGTH);
+    RDAPValidationResult first = RDAPValidationResult.builder()
+        .code(-10100).value(body).message("message").build();
+    RDAPValidationResult second = RDAPValidationResult.builder()
+        .code(-10100).value(new String(body)).message("message").build();
+
+    assertThat(first.getValueDigest()).isEqualTo(RDAPValidationResultValues.digest(body));
+    assertThat(second).isEqualTo(first).hasSameHashCodeAs(first);
+    assertThat(RDAPValidationResultValues.truncate(first, 4))
+        .isEqualTo(RDAPValidationResultValues.truncate(body, 4));
+  }
+
+  @Test
+  public void testSmallValuesNotShared() {
+    String value = "#/ldhName:example.com";
+    RDAPValidationResult result = RDAPValidationResult.builder()
+        .code(-10100).value(value).message("message").build();
+
+    assertThat(result.getValueDigest()).isNull();
+    assertThat(new RDAPValidationResultValues().share(result)).isSameAs(result);
+  }
+
+  @Test
+  public void testTruncate() {
+    String body = "0123456789";
+    assertThat(RDAPValidationResultValues.truncate(body, 4))
+        .isEqualTo("0123...[truncated, 10 chars, sha256:"
+            + "84d89877f0d4041efb6bf91a16f0248f2fd573e6af05c19f96bedb9f882f7882]");
+    assertThat(RDAPValidationResultValues.truncate(body, 10)).isSameAs(body);
+    assertThat(RDAPValidationResultValues.truncate(body, 0)).isSameAs(body);
+  }
+}
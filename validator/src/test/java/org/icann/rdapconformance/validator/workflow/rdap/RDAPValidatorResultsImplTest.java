@@ -0,0 +1,96 @@
+package org.icann.rdapconformance.validator.workflow.rdap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.annotations.Test;
+
+public class RDAPValidatorResultsImplTest {
+
+  private static RDAPValidationResult result(int code, String value) {
+    return RDAPValidationResult.builder().code(code).value(value).message("message").build();
+  }
+
+  @Test
+  public void testGetAll_OrderedByCodeThenValue() {
+    RDAPValidatorResults results = new RDAPValidatorResultsImpl();
+    results.add(result(-12300, "#/b"));
+    results.add(result(-10100, "#/a"));
+    results.add(result(-12300, "#/a"));
+    results.add(result(-12300, "#/a"));
+
+    assertThat(results.getAll()).containsExactly(
+        result(-10100, "#/a"),
+        result(-12300, "#/a"),
+        result(-12300, "#/b"));
+  }
+
+  @Test
+  public void testGetAll_SnapshotUpdatedAfterAdd() {
+    RDAPValidatorResults results = new RDAPValidatorResultsImpl();
+    results.add(result(-10100, "#/a"));
+    assertThat(results.getAll()).hasSize(1);
+
+    results.add(result(-10101, "#/a"));
+    assertThat(results.getAll()).hasSize(2);
+  }
+
+  @Test
+  public void testErrorCount_DuplicatesCountedOnce() {
+    RDAPValidatorResultsImpl results = new RDAPValidatorResultsImpl();
+    assertThat(results.getErrorCount()).isEqualTo(-1);
+
+    results.countErrors(code -> code != -10100);
+    results.add(result(-12300, "#/b"));
+    results.add(result(-10100, "#/a"));
+    results.add(result(-12300, "#/b"));
+
+    assertThat(results.getErrorCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testGroupOk_ExcludesGroupErrorWarning() {
+    RDAPValidatorResults results = new RDAPValidatorResultsImpl();
+    results.addGroupErrorWarning("first");
+    results.addGroups(Set.of("first", "second"));
+
+    assertThat(results.getGroupOk()).containsExactly("second");
+    assertThat(results.getGroupErrorWarning()).containsExactly("first");
+    assertThat(results.getGroups()).containsExactly("first", "second");
+  }
+
+  @Test
+  public void testConcurrentAdd() throws Exception {
+    RDAPValidatorResults results = new RDAPValidatorResultsImpl();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        int thread = t;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 1000; i++) {
+            results.add(result(-i, "#/" + thread));
+            results.addGroup("group" + i);
+            if (i % 2 == 0) {
+              results.addGroupErrorWarning("group" + i);
+            }
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(results.getAll()).hasSize(8000);
+    assertThat(results.getGroupOk()).hasSize(500);
+    assertThat(results.getGroupErrorWarning()).hasSize(500);
+  }
+}
@@ -29,6 +29,9 @@ public interface ValidationTest {
     assertThat(result).hasFieldOrPropertyWithValue("code", code)
         .hasFieldOrPropertyWithValue("value", value)
         .hasFieldOrPropertyWithValue("message", message);
+    // the declared codes, if any, must contain the reported one:
+    assertThat(validation.getCodes().isEmpty() || validation.getCodes().contains(code))
+        .as("declared codes %s", validation.getCodes()).isTrue();
     verify(results).addGroupErrorWarning(validation.getGroupName());
   }
 
@@ -5,6 +5,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.lang.reflect.Field;
+import java.net.InetAddress;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,4 +40,13 @@ public class Ipv4AddressSpaceTest extends BaseUnmarshallingTest<Ipv4AddressSpace
                 tuple("6.0.0.0/8", "LEGACY"),
                 tuple("238.0.0.0/8", "RESERVED"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testIsInvalid_AllocatedOrLegacy() throws Exception {
+        assertThat(ipv4AddressSpace.isInvalid("1.2.3.4")).isFalse();
+        assertThat(ipv4AddressSpace.isInvalid(InetAddress.getByName("3.2.3.4").getAddress())).isFalse();
+        assertThat(ipv4AddressSpace.isInvalid("0.2.3.4")).isTrue();
+        assertThat(ipv4AddressSpace.isInvalid(InetAddress.getByName("238.2.3.4").getAddress())).isTrue();
+        assertThat(ipv4AddressSpace.isInvalid("not an ip")).isTrue();
+    }
+}
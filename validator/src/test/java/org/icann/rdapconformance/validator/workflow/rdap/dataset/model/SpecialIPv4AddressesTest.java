@@ -1,5 +1,6 @@
 package org.icann.rdapconformance.validator.workflow.rdap.dataset.model;
 
+import java.net.InetAddress;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -41,4 +42,12 @@ public class SpecialIPv4AddressesTest extends BaseUnmarshallingTest<SpecialIPv4A
                 "240.0.0.0/4",
                 "172.16.0.0/12");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testIsInvalid_SpecialPurpose() throws Exception {
+        assertThat(ipAddressSpecialRegistry.isInvalid("192.168.1.1")).isTrue();
+        assertThat(ipAddressSpecialRegistry.isInvalid(InetAddress.getByName("100.64.0.1").getAddress())).isTrue();
+        assertThat(ipAddressSpecialRegistry.isInvalid(InetAddress.getByName("100.128.0.1").getAddress())).isFalse();
+        assertThat(ipAddressSpecialRegistry.isInvalid("8.8.8.8")).isFalse();
+    }
+}
@@ -0,0 +1,220 @@
+package org.icann.rdapconformance.validator.workflow.rdap.dns;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.icann.rdapconformance.validator.workflow.rdap.dns.DNSCacheResolver.DNSAnswer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.xbill.DNS.ARecord;
+import org.xbill.DNS.CNAMERecord;
+import org.xbill.DNS.DClass;
+import org.xbill.DNS.Flags;
+import org.xbill.DNS.Lookup;
+import org.xbill.DNS.Message;
+import org.xbill.DNS.Name;
+import org.xbill.DNS.Rcode;
+import org.xbill.DNS.Record;
+import org.xbill.DNS.SOARecord;
+import org.xbill.DNS.Section;
+import org.xbill.DNS.SimpleResolver;
+import org.xbill.DNS.Type;
+
+public class DNSCacheResolverTest {
+
+  private static final Name RDAP_HOST = Name.fromConstantString("rdap.example.");
+  private static final Name MISSING_HOST = Name.fromConstantString("missing.example.");
+  private static final Name ALIAS_HOST = Name.fromConstantString("alias.example.");
+  private static final Name CHAINED_HOST = Name.fromConstantString("chained.example.");
+  private static final Name LOOP_HOST = Name.fromConstantString("loop.example.");
+
+  private final AtomicLong clock = new AtomicLong();
+  private StandInDnsServer server;
+  private DNSCacheResolver resolver;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    server = new StandInDnsServer();
+    resolver = new DNSCacheResolver(new SimpleResolver(server.getAddress()), clock::get);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    server.close();
+  }
+
+  private DNSAnswer resolve(Name name, int type) {
+    return resolver.resolve(name, type).join();
+  }
+
+  @Test
+  public void testResolve_CachedForRecordTtl() {
+    DNSAnswer answer = resolve(RDAP_HOST, Type.A);
+    assertThat(answer.getResult()).isEqualTo(Lookup.SUCCESSFUL);
+    assertThat(((ARecord) answer.getRecords().get(0)).getAddress().getHostAddress())
+        .isEqualTo("192.0.2.1");
+
+    clock.addAndGet(Duration.ofSeconds(299).toNanos());
+    resolve(RDAP_HOST, Type.A);
+    assertThat(server.queries.get()).isEqualTo(1);
+
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    resolve(RDAP_HOST, Type.A);
+    assertThat(server.queries.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testResolve_RelativeNameResolvedFromRoot() throws Exception {
+    assertThat(resolve(Name.fromString("rdap.example"), Type.A).getResult())
+        .isEqualTo(Lookup.SUCCESSFUL);
+    resolve(RDAP_HOST, Type.A);
+    assertThat(server.queries.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testResolve_NxdomainCachedForSoaMinimum() {
+    assertThat(resolve(MISSING_HOST, Type.A).getResult()).isEqualTo(Lookup.HOST_NOT_FOUND);
+
+    clock.addAndGet(Duration.ofSeconds(29).toNanos());
+    resolve(MISSING_HOST, Type.A);
+    assertThat(server.queries.get()).isEqualTo(1);
+
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    resolve(MISSING_HOST, Type.A);
+    assertThat(server.queries.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testResolve_NoDataCachedForDefaultNegativeTtl() {
+    assertThat(resolve(RDAP_HOST, Type.AAAA).getResult()).isEqualTo(Lookup.TYPE_NOT_FOUND);
+
+    clock.addAndGet(DNSCacheResolver.DEFAULT_NEGATIVE_TTL.toNanos() - 1);
+    resolve(RDAP_HOST, Type.AAAA);
+    assertThat(server.queries.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testResolve_TypesCachedSeparately() {
+    resolve(RDAP_HOST, Type.A);
+    resolve(RDAP_HOST, Type.AAAA);
+    assertThat(server.queries.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testResolve_CnameFollowedAndCachedForItsTtl() {
+    DNSAnswer answer = resolve(ALIAS_HOST, Type.A);
+    assertThat(answer.getResult()).isEqualTo(Lookup.SUCCESSFUL);
+    assertThat(answer.getRecords()).extracting(Record::getName).containsExactly(RDAP_HOST);
+    assertThat(server.queries.get()).isEqualTo(2);
+
+    clock.addAndGet(Duration.ofSeconds(59).toNanos());
+    resolve(ALIAS_HOST, Type.A);
+    assertThat(server.queries.get()).isEqualTo(2);
+
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    resolve(ALIAS_HOST, Type.A);
+    assertThat(server.queries.get()).isEqualTo(4);
+  }
+
+  @Test
+  public void testResolve_CnameResolvedByTheServer() {
+    DNSAnswer answer = resolve(CHAINED_HOST, Type.A);
+    assertThat(answer.getResult()).isEqualTo(Lookup.SUCCESSFUL);
+    assertThat(answer.getRecords()).extracting(Record::getName).containsExactly(RDAP_HOST);
+    assertThat(server.queries.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testResolve_CnameLoopUnrecoverable() {
+    assertThat(resolve(LOOP_HOST, Type.A).getResult()).isEqualTo(Lookup.UNRECOVERABLE);
+    assertThat(server.queries.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testParseAddress() {
+    assertThat(DNSCacheResolver.parseAddress("127.0.0.1"))
+        .isEqualTo(new InetSocketAddress("127.0.0.1", 53));
+    assertThat(DNSCacheResolver.parseAddress("127.0.0.1:5353"))
+        .isEqualTo(new InetSocketAddress("127.0.0.1", 5353));
+    assertThat(DNSCacheResolver.parseAddress("[::1]:5353"))
+        .isEqualTo(new InetSocketAddress("::1", 5353));
+  }
+
+  /**
+   * Answers A queries of rdap.example with a TTL of 300s, no such name with a SOA minimum of 30s
+   * for missing.example and no data otherwise; alias.example is a CNAME of rdap.example with a TTL
+   * of 60s, also answered with the A record for chained.example, and loop.example is its own
+   * CNAME.
+   */
+  private static class StandInDnsServer implements AutoCloseable {
+
+    private final DatagramSocket socket;
+    private final AtomicInteger queries = new AtomicInteger();
+
+    private StandInDnsServer() throws SocketException {
+      socket = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+      Thread thread = new Thread(this::serve, "stand-in-dns");
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    private InetSocketAddress getAddress() {
+      return new InetSocketAddress(socket.getLocalAddress(), socket.getLocalPort());
+    }
+
+    private void serve() {
+      byte[] buffer = new byte[512];
+      while (!socket.isClosed()) {
+        try {
+          DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+          socket.receive(packet);
+          queries.incrementAndGet();
+          byte[] response = answer(new Message(packet.getData())).toWire();
+          socket.send(new DatagramPacket(response, response.length, packet.getSocketAddress()));
+        } catch (IOException e) {
+          // closed
+        }
+      }
+    }
+
+    private static Message answer(Message query) throws IOException {
+      Record question = query.getQuestion();
+      Message response = new Message(query.getHeader().getID());
+      response.getHeader().setFlag(Flags.QR);
+      response.addRecord(question, Section.QUESTION);
+      Name name = question.getName();
+      if (name.equals(ALIAS_HOST) || name.equals(CHAINED_HOST)) {
+        response.addRecord(new CNAMERecord(name, DClass.IN, 60, RDAP_HOST), Section.ANSWER);
+        if (name.equals(CHAINED_HOST) && question.getType() == Type.A) {
+          response.addRecord(new ARecord(RDAP_HOST, DClass.IN, 300,
+              InetAddress.getByName("192.0.2.1")), Section.ANSWER);
+        }
+      } else if (name.equals(LOOP_HOST)) {
+        response.addRecord(new CNAMERecord(name, DClass.IN, 60, name), Section.ANSWER);
+      } else if (question.getName().equals(MISSING_HOST)) {
+        response.getHeader().setRcode(Rcode.NXDOMAIN);
+        response.addRecord(new SOARecord(Name.fromConstantString("example."), DClass.IN, 3600,
+            Name.fromConstantString("ns.example."), Name.fromConstantString("admin.example."),
+            1, 3600, 600, 86400, 30), Section.AUTHORITY);
+      } else if (question.getName().equals(RDAP_HOST) && question.getType() == Type.A) {
+        response.addRecord(new ARecord(RDAP_HOST, DClass.IN, 300,
+            InetAddress.getByName("192.0.2.1")), Section.ANSWER);
+      }
+      return response;
+    }
+
+    @Override
+    public void close() {
+      socket.close();
+    }
+  }
+}
@@ -163,6 +163,66 @@ public class RDAPHttpQueryTest extends HttpTestingUtils {
     assertThat(rdapHttpQuery.getErrorStatus()).isEqualTo(RDAPValidationStatus.CONNECTION_FAILED);
   }
 
+  @Test
+  public void test_ResponseReceived_BudgetTimerCancelled() {
+    givenUri("http");
+    doReturn(60).when(config).getTimeout();
+    stubFor(get(urlEqualTo(REQUEST_PATH))
+        .withScheme("http")
+        .willReturn(aResponse()
+            .withHeader("Content-Type", "application/rdap+JSON;encoding=UTF-8")
+            .withBody(RDAP_RESPONSE)));
+
+    assertThat(rdapHttpQuery.run()).isTrue();
+    assertThat(RDAPBodyHandler.getPendingTimers()).isZero();
+  }
+
+  @Test
+  public void test_ResponseLargerThanMaxSize_ReturnsErrorStatus21() {
+    givenUri("http");
+    doReturn((long) RDAP_RESPONSE.length() - 1).when(config).getMaxResponseSize();
+    stubFor(get(urlEqualTo(REQUEST_PATH))
+        .withScheme("http")
+        .willReturn(aResponse()
+            .withHeader("Content-Type", "application/rdap+JSON;encoding=UTF-8")
+            .withBody(RDAP_RESPONSE)));
+
+    assertThat(rdapHttpQuery.run()).isFalse();
+    assertThat(rdapHttpQuery.getErrorStatus())
+        .isEqualTo(RDAPValidationStatus.RESPONSE_TOO_LARGE);
+  }
+
+  @Test
+  public void test_ChunkedResponseLargerThanMaxSize_ReturnsErrorStatus21() {
+    givenUri("http");
+    doReturn((long) RDAP_RESPONSE.length() - 1).when(config).getMaxResponseSize();
+    stubFor(get(urlEqualTo(REQUEST_PATH))
+        .withScheme("http")
+        .willReturn(aResponse()
+            .withChunkedDribbleDelay(4, 100)
+            .withHeader("Content-Type", "application/rdap+JSON;encoding=UTF-8")
+            .withBody(RDAP_RESPONSE)));
+
+    assertThat(rdapHttpQuery.run()).isFalse();
+    assertThat(rdapHttpQuery.getErrorStatus())
+        .isEqualTo(RDAPValidationStatus.RESPONSE_TOO_LARGE);
+  }
+
+  @Test
+  public void test_ResponseBodyNotReceivedInTime_ReturnsErrorStatus10() {
+    givenUri("http");
+    doReturn(1).when(config).getTimeout();
+    stubFor(get(urlEqualTo(REQUEST_PATH))
+        .withScheme("http")
+        .willReturn(aResponse()
+            .withChunkedDribbleDelay(2, 3000)
+            .withHeader("Content-Type", "application/rdap+JSON;encoding=UTF-8")
+            .withBody(RDAP_RESPONSE)));
+
+    assertThat(rdapHttpQuery.run()).isFalse();
+    assertThat(rdapHttpQuery.getErrorStatus()).isEqualTo(RDAPValidationStatus.CONNECTION_FAILED);
+  }
+
   @Test
   public void test_ServerRedirectLessThanRetries_Returns200() {
     String path1 = "/domain/test1.example";
@@ -11,7 +11,6 @@ import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryTypeProcessor;
 import org.icann.rdapconformance.validator.workflow.rdap.RDAPValidationStatus;
-import org.testng.annotations.Ignore;
 import org.testng.annotations.Test;
 
 public class RDAPHttpQueryTypeProcessorTest {
@@ -65,6 +64,15 @@ public class RDAPHttpQueryTypeProcessorTest {
     assertThat(processor.getQueryType()).isEqualTo(RDAPQueryType.NAMESERVERS);
   }
 
+  @Test
+  public void testEntityHelpQuery_IsEntityQuery() {
+    URI uri = URI.create("http://rdap.server.example/entity/help");
+    doReturn(uri).when(config).getUri();
+
+    assertThat(processor.check(datasetService)).isTrue();
+    assertThat(processor.getQueryType()).isEqualTo(RDAPQueryType.ENTITY);
+  }
+
   @Test
   public void testUnsupportedQuery_ErrorStatusIs3() {
     URI uri = URI.create("http://rdap.server.example/");
@@ -75,7 +83,6 @@ public class RDAPHttpQueryTypeProcessorTest {
   }
 
   @Test
-  @Ignore("Validation not yet implemented")
   public void testCheckInvalidDomainName_ErrorStatusIs4() {
     URI uri = URI.create("http://rdap.server.example/domain/xn--abcdé");
     doReturn(uri).when(config).getUri();
@@ -85,7 +92,6 @@ public class RDAPHttpQueryTypeProcessorTest {
   }
 
   @Test
-  @Ignore("Validation not yet implemented")
   public void testCheckInvalidNameserverName_ErrorStatusIs4() {
     URI uri = URI.create("http://rdap.server.example/nameserver/xn--abcdé");
     doReturn(uri).when(config).getUri();
@@ -94,4 +100,22 @@ public class RDAPHttpQueryTypeProcessorTest {
     assertThat(processor.getErrorStatus()).isEqualTo(RDAPValidationStatus.MIXED_LABEL_FORMAT);
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testCheckSingleLabelDomainName_IsReportedByTheValidations() {
+    URI uri = URI.create("http://rdap.server.example/domain/example");
+    doReturn(uri).when(config).getUri();
+
+    assertThat(processor.check(datasetService)).isTrue();
+    assertThat(processor.getQueryType()).isEqualTo(RDAPQueryType.DOMAIN);
+  }
+
+  @Test
+  public void testCheckLabelTooLong_IsReportedByTheValidations() {
+    URI uri = URI.create(
+        "http://rdap.server.example/nameserver/ns1." + "a".repeat(64) + ".example");
+    doReturn(uri).when(config).getUri();
+
+    assertThat(processor.check(datasetService)).isTrue();
+    assertThat(processor.getQueryType()).isEqualTo(RDAPQueryType.NAMESERVER);
+  }
+}
@@ -0,0 +1,177 @@
+package org.icann.rdapconformance.validator.workflow.rdap.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLHandshakeException;
+import org.icann.rdapconformance.validator.workflow.rdap.http.RDAPHttpRetries.Retry;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class RDAPHttpRequestSchedulerTest {
+
+  private static final URI URI_1 = URI.create("https://rdap1.example/domain/example.example");
+  private static final URI URI_2 = URI.create("https://rdap2.example/domain/example.example");
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private long now;
+  private List<Long> sleeps;
+  private LinkedList<Object> outcomes;
+  private int attempts;
+  private RDAPHttpRetries retries;
+
+  @BeforeMethod
+  public void setUp() {
+    now = 0;
+    sleeps = new ArrayList<>();
+    outcomes = new LinkedList<>();
+    attempts = 0;
+    retries = RDAPHttpRetries.start();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    retries.stop();
+  }
+
+  private RDAPHttpRequestScheduler scheduler(double hostRate, double ipRate, int maxRetries) {
+    return new RDAPHttpRequestScheduler(hostRate, ipRate, maxRetries, host -> "192.0.2.1",
+        () -> now, nanos -> {
+          sleeps.add(nanos);
+          now += nanos;
+        }, () -> 1.0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HttpResponse<String> response(int status, String retryAfter) {
+    HttpResponse<String> response = mock(HttpResponse.class);
+    doReturn(status).when(response).statusCode();
+    doReturn(HttpHeaders.of(
+        retryAfter == null ? Map.of() : Map.of("Retry-After", List.of(retryAfter)),
+        (name, value) -> true)).when(response).headers();
+    return response;
+  }
+
+  @SuppressWarnings("unchecked")
+  private HttpResponse<String> send(RDAPHttpRequestScheduler scheduler, URI uri)
+      throws IOException, InterruptedException {
+    return scheduler.send(uri, "GET", () -> {
+      attempts++;
+      Object outcome = outcomes.isEmpty() ? response(200, null) : outcomes.removeFirst();
+      if (outcome instanceof IOException) {
+        throw (IOException) outcome;
+      }
+      return (HttpResponse<String>) outcome;
+    });
+  }
+
+  @Test
+  public void testHostRate_SpacesOutRequests() throws Exception {
+    RDAPHttpRequestScheduler scheduler = scheduler(1, 0, 0);
+
+    send(scheduler, URI_1);
+    send(scheduler, URI_1);
+    send(scheduler, URI_2);
+    send(scheduler, URI_1);
+
+    assertThat(sleeps).containsExactly(SECOND, SECOND);
+  }
+
+  @Test
+  public void testIpRate_SharedByTheHostsOfTheAddress() throws Exception {
+    RDAPHttpRequestScheduler scheduler = scheduler(0, 1, 0);
+
+    send(scheduler, URI_1);
+    send(scheduler, URI_2);
+
+    assertThat(sleeps).containsExactly(SECOND);
+  }
+
+  @Test
+  public void testRetryAfter_PausesTheHostAndIsRecorded() throws Exception {
+    RDAPHttpRequestScheduler scheduler = scheduler(0, 0, 2);
+    outcomes.add(response(429, "3"));
+
+    assertThat(send(scheduler, URI_1).statusCode()).isEqualTo(200);
+
+    assertThat(attempts).isEqualTo(2);
+    assertThat(sleeps).containsExactly(3 * SECOND);
+    assertThat(retries.getRetries()).hasSize(1);
+    Retry retry = retries.getRetries().get(0);
+    assertThat(retry.getUri()).isEqualTo(URI_1);
+    assertThat(retry.getMethod()).isEqualTo("GET");
+    assertThat(retry.getAttempt()).isEqualTo(1);
+    assertThat(retry.getReason()).isEqualTo("HTTP 429");
+    assertThat(retry.getDelayMs()).isEqualTo(3000);
+  }
+
+  @Test
+  public void testRetryAfter_TooLongNotRetried() throws Exception {
+    RDAPHttpRequestScheduler scheduler = scheduler(0, 0, 2);
+    outcomes.add(response(503, "3600"));
+
+    assertThat(send(scheduler, URI_1).statusCode()).isEqualTo(503);
+    assertThat(attempts).isEqualTo(1);
+    assertThat(retries.getRetries()).isEmpty();
+  }
+
+  @Test
+  public void testBackoff_BoundedRetries() throws Exception {
+    RDAPHttpRequestScheduler scheduler = scheduler(0, 0, 2);
+    outcomes.add(response(503, null));
+    outcomes.add(new ConnectException("Connection refused"));
+    outcomes.add(response(503, null));
+
+    assertThat(send(scheduler, URI_1).statusCode()).isEqualTo(503);
+
+    assertThat(attempts).isEqualTo(3);
+    assertThat(sleeps).containsExactly(SECOND, 2 * SECOND);
+    assertThat(retries.getRetries()).extracting(Retry::getReason)
+        .containsExactly("HTTP 503", "java.net.ConnectException: Connection refused");
+  }
+
+  @Test
+  public void testTlsFailure_NotRetried() {
+    RDAPHttpRequestScheduler scheduler = scheduler(0, 0, 2);
+    outcomes.add(new IOException(new SSLHandshakeException("handshake failed")));
+
+    assertThatExceptionOfType(IOException.class).isThrownBy(() -> send(scheduler, URI_1));
+    assertThat(attempts).isEqualTo(1);
+    assertThat(retries.getRetries()).isEmpty();
+  }
+
+  @Test
+  public void testIsIpLiteral() {
+    assertThat(RDAPHttpRequestScheduler.isIpLiteral("192.0.2.1")).isTrue();
+    assertThat(RDAPHttpRequestScheduler.isIpLiteral("[2001:db8::1]")).isTrue();
+    assertThat(RDAPHttpRequestScheduler.isIpLiteral("2001:db8::1")).isTrue();
+    assertThat(RDAPHttpRequestScheduler.isIpLiteral("[::ffff:192.0.2.1]")).isTrue();
+    assertThat(RDAPHttpRequestScheduler.isIpLiteral("dead.beef")).isFalse();
+    assertThat(RDAPHttpRequestScheduler.isIpLiteral("cafe.ca")).isFalse();
+    assertThat(RDAPHttpRequestScheduler.isIpLiteral("192.0.2")).isFalse();
+    assertThat(RDAPHttpRequestScheduler.isIpLiteral("192.0.2.256")).isFalse();
+    assertThat(RDAPHttpRequestScheduler.isIpLiteral("1.2.3.4.example")).isFalse();
+  }
+
+  @Test
+  public void testNoLimits_SentRightAway() throws Exception {
+    RDAPHttpRequestScheduler scheduler = scheduler(0, 0, 0);
+    outcomes.add(response(429, "1"));
+
+    assertThat(send(scheduler, URI_1).statusCode()).isEqualTo(429);
+    assertThat(sleeps).isEmpty();
+  }
+}
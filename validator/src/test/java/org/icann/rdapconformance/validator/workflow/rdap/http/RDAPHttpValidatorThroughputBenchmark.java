@@ -0,0 +1,358 @@
+package org.icann.rdapconformance.validator.workflow.rdap.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.icann.rdapconformance.validator.configuration.RDAPValidatorConfiguration;
+import org.icann.rdapconformance.validator.generator.RDAPResponseGenerator;
+import org.icann.rdapconformance.validator.schemavalidator.SchemaValidatorTest;
+import org.icann.rdapconformance.validator.workflow.LocalFileSystem;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetService;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPDatasetServiceImpl;
+import org.icann.rdapconformance.validator.workflow.rdap.RDAPQueryType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * End-to-end throughput harness: drives the whole {@link RDAPHttpValidator} workflow against a
+ * {@link StandInRdapServer} and reports URIs/second, latency percentiles and heap usage.
+ *
+ * <p>Not part of the default test run (the class name does not match the surefire includes), run
+ * it explicitly with e.g.:</p>
+ * <pre>
+ *   mvn test -Dtest=RDAPHttpValidatorThroughputBenchmark -Dsurefire.failIfNoSpecifiedTests=false \
+ *       -Drdapct.benchmark.uris=1000 -Drdapct.benchmark.concurrency=8
+ * </pre>
+ *
+ * <p>Settings (system properties prefixed with {@code rdapct.benchmark.}): {@code uris},
+ * {@code warmup}, {@code concurrency}, {@code latencyMs}, {@code redirects}, {@code scheme}
+ * (http/https), {@code headStatus} (a status code or "fault"), {@code profile} (use the RDAP
+ * profile February 2019 as a gTLD registry), {@code metrics} (record and log the per-validation
+ * metrics) and {@code response} (classpath resource served as the domain response, or
+ * {@code generated} to serve a {@link RDAPResponseGenerator} domain whose size is set by
+ * {@code entities}, {@code entityDepth}, {@code vcardProperties}, {@code events} and
+ * {@code nameservers}).</p>
+ */
+public class RDAPHttpValidatorThroughputBenchmark {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+      RDAPHttpValidatorThroughputBenchmark.class);
+  private static final String PREFIX = "rdapct.benchmark.";
+  private static final URI CONFIGURATION_URI = URI.create("benchmark-config.json");
+
+  private final int uris = Integer.getInteger(PREFIX + "uris", 200);
+  private final int warmup = Integer.getInteger(PREFIX + "warmup", 20);
+  private final int concurrency = Integer.getInteger(PREFIX + "concurrency", 4);
+  private final int latencyMs = Integer.getInteger(PREFIX + "latencyMs", 0);
+  private final int redirects = Integer.getInteger(PREFIX + "redirects", 0);
+  private final String scheme = System.getProperty(PREFIX + "scheme", "http");
+  private final String headStatus = System.getProperty(PREFIX + "headStatus", "");
+  private final boolean profile = Boolean.getBoolean(PREFIX + "profile");
+  private final String response = System.getProperty(PREFIX + "response",
+      "/validators/domain/valid.json");
+
+  private StandInRdapServer server;
+  private BenchmarkFileSystem fileSystem;
+  private RDAPDatasetService datasetService;
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    server = StandInRdapServer.builder()
+        .scheme(scheme)
+        .body(responseBody())
+        .latencyMs(latencyMs)
+        .redirects(redirects)
+        .headStatus(headStatus.isEmpty() || headStatus.equals("fault") ? null
+            : Integer.valueOf(headStatus))
+        .headFault(headStatus.equals("fault"))
+        .containerThreads(concurrency * 4)
+        .start();
+    fileSystem = new BenchmarkFileSystem();
+    datasetService = new PreloadedDatasetService(fileSystem);
+  }
+
+  private String responseBody() throws IOException {
+    if (!response.equals("generated")) {
+      return SchemaValidatorTest.getResource(response);
+    }
+    String body = RDAPResponseGenerator.builder()
+        .entities(Integer.getInteger(PREFIX + "entities", 5))
+        .entityDepth(Integer.getInteger(PREFIX + "entityDepth", 2))
+        .vcardProperties(Integer.getInteger(PREFIX + "vcardProperties", 4))
+        .events(Integer.getInteger(PREFIX + "events", 3))
+        .nameservers(Integer.getInteger(PREFIX + "nameservers", 4))
+        .build()
+        .generate()
+        .toString();
+    logger.info("Serving a generated domain response of {} bytes", body.length());
+    return body;
+  }
+
+  @AfterClass
+  public void tearDown() {
+    if (server != null) {
+      server.stop();
+    }
+  }
+
+  @Test
+  public void testThroughput() throws Exception {
+    URI uri = server.getUri(redirects);
+    logger.info("Benchmarking {} validations of {} ({} warmup) with concurrency {}, latency {}ms, "
+            + "{} redirects, HEAD {}, profile {}", uris, uri, warmup, concurrency, latencyMs,
+        redirects, headStatus.isEmpty() ? "same as GET" : headStatus, profile);
+
+    run(uri, warmup);
+
+    System.gc();
+    List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()) {
+        pool.resetPeakUsage();
+        heapPools.add(pool);
+      }
+    }
+    long heapBefore = usedHeap();
+
+    long start = System.nanoTime();
+    RunStatistics statistics = run(uri, uris);
+    long elapsed = System.nanoTime() - start;
+
+    long peakHeap = heapPools.stream().mapToLong(p -> p.getPeakUsage().getUsed()).sum();
+    System.gc();
+    long heapAfter = usedHeap();
+
+    long[] latencies = statistics.latencies;
+    Arrays.sort(latencies);
+    logger.info("Validated {} URIs in {} ms: {} URIs/s", uris,
+        TimeUnit.NANOSECONDS.toMillis(elapsed),
+        String.format("%.2f", uris / (elapsed / 1_000_000_000.0)));
+    logger.info("Latency p50 {} ms, p99 {} ms, max {} ms",
+        String.format("%.2f", percentile(latencies, 50) / 1_000_000.0),
+        String.format("%.2f", percentile(latencies, 99) / 1_000_000.0),
+        String.format("%.2f", latencies[latencies.length - 1] / 1_000_000.0));
+    logger.info("Heap before {} MB, peak {} MB, after GC {} MB", heapBefore >> 20, peakHeap >> 20,
+        heapAfter >> 20);
+    logger.info("Return codes {}, results written {} bytes", new TreeMap<>(statistics.statuses),
+        fileSystem.writtenBytes.get());
+
+    assertThat(statistics.statuses).containsOnlyKeys(0);
+  }
+
+  private RunStatistics run(URI uri, int count) throws Exception {
+    RunStatistics statistics = new RunStatistics(count);
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        int index = i;
+        futures.add(executor.submit(() -> {
+          long start = System.nanoTime();
+          int status = new RDAPHttpValidator(new BenchmarkConfiguration(uri, profile), fileSystem,
+              datasetService).validate();
+          statistics.latencies[index] = System.nanoTime() - start;
+          statistics.statuses.merge(status, 1, Integer::sum);
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    return statistics;
+  }
+
+  private static long percentile(long[] sorted, int percentile) {
+    int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+    return sorted[Math.max(index, 0)];
+  }
+
+  private static long usedHeap() {
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private static class RunStatistics {
+
+    private final long[] latencies;
+    private final Map<Integer, Integer> statuses = new ConcurrentHashMap<>();
+
+    private RunStatistics(int count) {
+      this.latencies = new long[count];
+    }
+  }
+
+  /**
+   * Serves the datasets from the test resources and discards the result files.
+   */
+  private static class BenchmarkFileSystem extends LocalFileSystem {
+
+    private final AtomicLong writtenBytes = new AtomicLong();
+
+    @Override
+    public void write(String filepath, String data) {
+      writtenBytes.addAndGet(data.length());
+    }
+
+    @Override
+    public OutputStream newOutputStream(String filepath) {
+      return new OutputStream() {
+        @Override
+        public void write(int b) {
+          writtenBytes.incrementAndGet();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+          writtenBytes.addAndGet(len);
+        }
+      };
+    }
+
+    @Override
+    public void mkdir(String path) throws IOException {
+      if (!path.equals("results")) {
+        super.mkdir(path);
+      }
+    }
+
+    @Override
+    public void download(URI uri, String filePath) throws IOException {
+      String filename = uri.getPath().substring(uri.getPath().lastIndexOf('/') + 1);
+      try (InputStream is = getClass().getResourceAsStream("/dataset/" + filename)) {
+        if (is == null) {
+          throw new IOException("No test dataset for " + uri);
+        }
+        Files.copy(is, Path.of(filePath), StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+
+    @Override
+    public InputStream uriToStream(URI uri) throws IOException {
+      if (CONFIGURATION_URI.equals(uri)) {
+        return new ByteArrayInputStream(
+            "{\"definitionIdentifier\": \"benchmark\"}".getBytes(StandardCharsets.UTF_8));
+      }
+      return super.uriToStream(uri);
+    }
+  }
+
+  /**
+   * Datasets are loaded once for the whole benchmark instead of once per URI.
+   */
+  private static class PreloadedDatasetService implements RDAPDatasetService {
+
+    private final RDAPDatasetService delegate;
+
+    private PreloadedDatasetService(BenchmarkFileSystem fileSystem) {
+      this.delegate = new RDAPDatasetServiceImpl(fileSystem);
+      assertThat(delegate.download(false)).isTrue();
+    }
+
+    @Override
+    public boolean download(boolean useLocalDatasets) {
+      return true;
+    }
+
+    @Override
+    public <T> T get(Class<T> clazz) {
+      return delegate.get(clazz);
+    }
+  }
+
+  private static class BenchmarkConfiguration implements RDAPValidatorConfiguration {
+
+    private final boolean profile;
+    private URI uri;
+
+    private BenchmarkConfiguration(URI uri, boolean profile) {
+      this.uri = uri;
+      this.profile = profile;
+    }
+
+    @Override
+    public URI getConfigurationFile() {
+      return CONFIGURATION_URI;
+    }
+
+    @Override
+    public URI getUri() {
+      return uri;
+    }
+
+    @Override
+    public void setUri(URI uri) {
+      this.uri = uri;
+    }
+
+    @Override
+    public int getTimeout() {
+      return 20;
+    }
+
+    @Override
+    public int getMaxRedirects() {
+      return 10;
+    }
+
+    @Override
+    public boolean useLocalDatasets() {
+      return true;
+    }
+
+    @Override
+    public boolean useRdapProfileFeb2019() {
+      return profile;
+    }
+
+    @Override
+    public boolean isGtldRegistrar() {
+      return false;
+    }
+
+    @Override
+    public boolean isGtldRegistry() {
+      return profile;
+    }
+
+    @Override
+    public boolean isThin() {
+      return false;
+    }
+
+    @Override
+    public RDAPQueryType getQueryType() {
+      return null;
+    }
+
+    @Override
+    public boolean recordMetrics() {
+      return Boolean.getBoolean(PREFIX + "metrics");
+    }
+  }
+}
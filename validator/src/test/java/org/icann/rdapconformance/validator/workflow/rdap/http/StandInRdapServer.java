@@ -0,0 +1,190 @@
+package org.icann.rdapconformance.validator.workflow.rdap.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.request;
+import static com.github.tomakehurst.wiremock.client.WireMock.temporaryRedirect;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import java.net.URI;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded stand-in RDAP server serving a fixed response with configurable latency, redirect
+ * chain, scheme and HEAD behavior.
+ */
+public class StandInRdapServer {
+
+  public static final String HOST = "localhost";
+  static final String CONTENT_TYPE = "application/rdap+JSON;encoding=UTF-8";
+
+  private final WireMockServer wireMockServer;
+  private final String scheme;
+  private final String path;
+
+  private StandInRdapServer(Builder builder) {
+    this.scheme = builder.scheme;
+    this.path = builder.path;
+    WireMockConfiguration wmConfig = wireMockConfig()
+        .dynamicPort()
+        .dynamicHttpsPort()
+        .bindAddress(HOST)
+        .containerThreads(Math.max(builder.containerThreads, 32));
+    if (scheme.equals("https")) {
+      String keyStorePath = StandInRdapServer.class.getResource("/mykeystore/out/ca-cert.jks")
+          .toString();
+      String trustStorePath = StandInRdapServer.class.getResource("/mykeystore/out/server.jks")
+          .toString();
+      System.setProperty("javax.net.ssl.trustStore", trustStorePath.replace("file:", ""));
+      System.setProperty("javax.net.ssl.trustStorePassword", "rdapct");
+      System.setProperty("javax.net.ssl.trustStoreType", "JKS");
+      wmConfig.trustStorePath(trustStorePath)
+          .trustStorePassword("rdapct")
+          .keystorePath(keyStorePath)
+          .keystorePassword("rdapct")
+          .keyManagerPassword("rdapct");
+    }
+    wireMockServer = new WireMockServer(wmConfig);
+    wireMockServer.start();
+    stub(builder);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private void stub(Builder builder) {
+    // each hop of the redirect chain points to the next one, the last hop serves the response:
+    for (int hop = builder.redirects; hop > 0; hop--) {
+      wireMockServer.stubFor(get(hopPathPattern(hop))
+          .willReturn(temporaryRedirect(hopPath(hop - 1))
+              .withFixedDelay(builder.latencyMs)
+              .withHeader("Access-Control-Allow-Origin", "*")));
+    }
+    wireMockServer.stubFor(get(hopPathPattern(0))
+        .willReturn(response(builder.latencyMs)
+            .withStatus(builder.status)
+            .withBody(builder.body)));
+
+    ResponseDefinitionBuilder headResponse = response(builder.latencyMs);
+    if (builder.headFault) {
+      headResponse.withFault(Fault.CONNECTION_RESET_BY_PEER);
+    } else {
+      headResponse.withStatus(builder.headStatus == null ? builder.status : builder.headStatus);
+    }
+    for (int hop = builder.redirects; hop >= 0; hop--) {
+      wireMockServer.stubFor(request("HEAD", hopPathPattern(hop))
+          .willReturn(headResponse));
+    }
+  }
+
+  private static ResponseDefinitionBuilder response(int latencyMs) {
+    return aResponse()
+        .withFixedDelay(latencyMs)
+        .withHeader("Content-Type", CONTENT_TYPE)
+        .withHeader("Access-Control-Allow-Origin", "*");
+  }
+
+  /**
+   * Paths are matched case-insensitively so that the domain case folding request gets the same
+   * response.
+   */
+  private UrlPattern hopPathPattern(int hop) {
+    return urlPathMatching("(?i)" + Pattern.quote(hopPath(hop)));
+  }
+
+  private String hopPath(int hop) {
+    return hop == 0 ? path : "/hop/" + hop + path;
+  }
+
+  /**
+   * The URI to query, i.e. the start of the redirect chain if any.
+   */
+  public URI getUri(int redirects) {
+    int port = scheme.equals("https") ? wireMockServer.httpsPort() : wireMockServer.port();
+    return URI.create(String.format("%s://%s:%d%s", scheme, HOST, port, hopPath(redirects)));
+  }
+
+  public void stop() {
+    wireMockServer.stop();
+    if (scheme.equals("https")) {
+      System.clearProperty("javax.net.ssl.trustStore");
+      System.clearProperty("javax.net.ssl.trustStorePassword");
+      System.clearProperty("javax.net.ssl.trustStoreType");
+    }
+  }
+
+  public static class Builder {
+
+    private String scheme = "http";
+    private String path = "/domain/example.com";
+    private String body = "{}";
+    private int status = 200;
+    private Integer headStatus = null;
+    private boolean headFault = false;
+    private int latencyMs = 0;
+    private int redirects = 0;
+    private int containerThreads = 10;
+
+    public Builder scheme(String scheme) {
+      this.scheme = scheme;
+      return this;
+    }
+
+    public Builder path(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public Builder body(String body) {
+      this.body = body;
+      return this;
+    }
+
+    public Builder status(int status) {
+      this.status = status;
+      return this;
+    }
+
+    /**
+     * HTTP status returned for HEAD requests, defaults to the GET status.
+     */
+    public Builder headStatus(Integer headStatus) {
+      this.headStatus = headStatus;
+      return this;
+    }
+
+    /**
+     * Reset the connection on HEAD requests.
+     */
+    public Builder headFault(boolean headFault) {
+      this.headFault = headFault;
+      return this;
+    }
+
+    public Builder latencyMs(int latencyMs) {
+      this.latencyMs = latencyMs;
+      return this;
+    }
+
+    public Builder redirects(int redirects) {
+      this.redirects = redirects;
+      return this;
+    }
+
+    public Builder containerThreads(int containerThreads) {
+      this.containerThreads = containerThreads;
+      return this;
+    }
+
+    public StandInRdapServer start() {
+      return new StandInRdapServer(this);
+    }
+  }
+}
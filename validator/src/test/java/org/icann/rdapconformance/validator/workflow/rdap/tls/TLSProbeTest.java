@@ -0,0 +1,122 @@
+package org.icann.rdapconformance.validator.workflow.rdap.tls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.icann.rdapconformance.validator.workflow.rdap.tls.TLSProbe.Handshaker;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class TLSProbeTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<String> handshakes = new CopyOnWriteArrayList<>();
+  private final Map<String, Set<String>> offeredProtocols = new ConcurrentHashMap<>();
+  private ExecutorService executor;
+
+  private final Handshaker handshaker = (host, port, protocol, timeoutMillis) -> {
+    handshakes.add(host + ":" + port + "/" + protocol);
+    if (offeredProtocols.getOrDefault(host, Set.of()).contains(protocol)) {
+      return TLSHandshake.negotiated(protocol, protocol, "TLS_AES_128_GCM_SHA256",
+          Duration.ofMillis(1));
+    }
+    return TLSHandshake.failed(protocol, "handshake_failure", Duration.ofMillis(1));
+  };
+
+  @BeforeMethod
+  public void setUp() {
+    clock.set(0);
+    handshakes.clear();
+    offeredProtocols.clear();
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  private TLSCapabilities probe(TLSProbe tlsProbe, String host, int port) {
+    return tlsProbe.probe(host, port, 1).join();
+  }
+
+  @Test
+  public void testProbe_EachProtocolHandshaked() {
+    offeredProtocols.put("rdap.example", Set.of("TLSv1.2", "TLSv1.3"));
+    TLSProbe tlsProbe = new TLSProbe(handshaker, executor, clock::get);
+
+    TLSCapabilities capabilities = probe(tlsProbe, "rdap.example", 443);
+
+    assertThat(handshakes).hasSize(TLSProbe.PROTOCOLS.size());
+    assertThat(capabilities.isReachable()).isTrue();
+    assertThat(capabilities.offers("TLSv1.3")).isTrue();
+    assertThat(capabilities.offers("TLSv1.2")).isTrue();
+    assertThat(capabilities.offers("SSLv3")).isFalse();
+    assertThat(capabilities.getHandshakes())
+        .extracting(TLSHandshake::getRequestedProtocol)
+        .containsExactlyElementsOf(TLSProbe.PROTOCOLS);
+  }
+
+  @Test
+  public void testProbe_HandshakesAreConcurrent() {
+    CountDownLatch allStarted = new CountDownLatch(TLSProbe.PROTOCOLS.size());
+    TLSProbe tlsProbe = new TLSProbe((host, port, protocol, timeoutMillis) -> {
+      allStarted.countDown();
+      try {
+        assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return TLSHandshake.negotiated(protocol, protocol, "cipher", Duration.ZERO);
+    }, executor, clock::get);
+
+    assertThat(probe(tlsProbe, "rdap.example", 443).isReachable()).isTrue();
+  }
+
+  @Test
+  public void testProbe_CachedPerHostAndPort() {
+    offeredProtocols.put("rdap.example", Set.of("TLSv1.2"));
+    TLSProbe tlsProbe = new TLSProbe(handshaker, executor, clock::get);
+
+    probe(tlsProbe, "rdap.example", 443);
+    probe(tlsProbe, "rdap.example", 443);
+    assertThat(handshakes).hasSize(TLSProbe.PROTOCOLS.size());
+
+    probe(tlsProbe, "rdap.example", 8443);
+    assertThat(handshakes).hasSize(2 * TLSProbe.PROTOCOLS.size());
+
+    clock.addAndGet(TLSProbe.CACHE_TTL.toNanos());
+    probe(tlsProbe, "rdap.example", 443);
+    assertThat(handshakes).hasSize(3 * TLSProbe.PROTOCOLS.size());
+  }
+
+  @Test
+  public void testProbe_UnreachableNotCached() {
+    TLSProbe tlsProbe = new TLSProbe(handshaker, executor, clock::get);
+
+    assertThat(probe(tlsProbe, "down.example", 443).isReachable()).isFalse();
+    probe(tlsProbe, "down.example", 443);
+    assertThat(handshakes).hasSize(2 * TLSProbe.PROTOCOLS.size());
+  }
+
+  @Test
+  public void testProbe_HandshakerExceptionIsAFailedHandshake() {
+    TLSProbe tlsProbe = new TLSProbe((host, port, protocol, timeoutMillis) -> {
+      throw new IllegalStateException("broken");
+    }, executor, clock::get);
+
+    assertThat(probe(tlsProbe, "rdap.example", 443).getHandshakes())
+        .allMatch(h -> !h.isNegotiated());
+  }
+}